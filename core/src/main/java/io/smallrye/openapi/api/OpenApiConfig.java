@@ -25,6 +25,7 @@ public interface OpenApiConfig {
 
     DuplicateOperationIdBehavior DUPLICATE_OPERATION_ID_BEHAVIOR_DEFAULT = DuplicateOperationIdBehavior.WARN;
     Integer MAXIMUM_STATIC_FILE_SIZE_DEFAULT = 3 * 1024 * 1024;
+    Integer DEDUPLICATE_SCHEMAS_MINIMUM_SIZE_DEFAULT = 3;
 
     default String modelReader() {
         return null;
@@ -179,6 +180,18 @@ public interface OpenApiConfig {
         return false;
     }
 
+    default boolean deduplicateSchemas() {
+        return false;
+    }
+
+    default Integer getDeduplicateSchemasMinimumSize() {
+        return DEDUPLICATE_SCHEMAS_MINIMUM_SIZE_DEFAULT;
+    }
+
+    default boolean parallelSchemaScan() {
+        return false;
+    }
+
     default void doAllowNakedPathParameter() {
     }
 
@@ -58,6 +58,9 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     private Set<String> scanProfiles;
     private Set<String> scanExcludeProfiles;
     private Boolean removeUnusedSchemas;
+    private Boolean deduplicateSchemas;
+    private Integer deduplicateSchemasMinimumSize;
+    private Boolean parallelSchemaScan;
     private Optional<String[]> defaultProduces = UNSET;
     private Optional<String[]> defaultConsumes = UNSET;
     private Optional<Boolean> allowNakedPathParameter = Optional.empty();
@@ -484,6 +487,36 @@ public class OpenApiConfigImpl implements OpenApiConfig {
         return removeUnusedSchemas;
     }
 
+    @Override
+    public boolean deduplicateSchemas() {
+        if (deduplicateSchemas == null) {
+            deduplicateSchemas = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_DEDUPLICATE_SCHEMAS, Boolean.class)
+                    .orElse(OpenApiConfig.super.deduplicateSchemas());
+        }
+        return deduplicateSchemas;
+    }
+
+    @Override
+    public Integer getDeduplicateSchemasMinimumSize() {
+        if (deduplicateSchemasMinimumSize == null) {
+            deduplicateSchemasMinimumSize = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_DEDUPLICATE_SCHEMAS_MINIMUM_SIZE, Integer.class)
+                    .orElse(OpenApiConfig.super.getDeduplicateSchemasMinimumSize());
+        }
+        return deduplicateSchemasMinimumSize;
+    }
+
+    @Override
+    public boolean parallelSchemaScan() {
+        if (parallelSchemaScan == null) {
+            parallelSchemaScan = getConfig()
+                    .getOptionalValue(OpenApiConstants.SMALLRYE_PARALLEL_SCHEMA_SCAN, Boolean.class)
+                    .orElse(OpenApiConfig.super.parallelSchemaScan());
+        }
+        return parallelSchemaScan;
+    }
+
     @Override
     public Integer getMaximumStaticFileSize() {
         if (maximumStaticFileSize == null) {
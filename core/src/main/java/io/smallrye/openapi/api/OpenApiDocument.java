@@ -1,6 +1,9 @@
 package io.smallrye.openapi.api;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.OASFilter;
@@ -13,6 +16,8 @@ import io.smallrye.openapi.api.models.info.InfoImpl;
 import io.smallrye.openapi.api.util.ConfigUtil;
 import io.smallrye.openapi.api.util.FilterUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.api.util.OpenApiIndex;
+import io.smallrye.openapi.api.util.SchemaDeduplicator;
 import io.smallrye.openapi.api.util.UnusedSchemaFilter;
 
 /**
@@ -32,12 +37,13 @@ public class OpenApiDocument {
     private transient OpenApiConfig config;
     private transient OpenAPI annotationsModel;
     private transient OpenAPI readerModel;
-    private transient OpenAPI staticFileModel;
+    private transient List<OpenAPI> staticFileModels = Collections.emptyList();
     private transient Map<String, OASFilter> filters = new HashMap<>();
     private transient String archiveName;
     private transient String version;
 
     private transient OpenAPI model;
+    private transient OpenApiIndex index;
 
     private OpenApiDocument() {
     }
@@ -65,6 +71,19 @@ public class OpenApiDocument {
      */
     public synchronized void set(OpenAPI model) {
         this.model = model;
+        this.index = null;
+    }
+
+    /**
+     *
+     * @return an index of the final OpenAPI document, used to render parts of the document
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public synchronized OpenApiIndex index() {
+        if (index == null) {
+            index = OpenApiIndex.of(get());
+        }
+        return index;
     }
 
     /**
@@ -72,6 +91,7 @@ public class OpenApiDocument {
      */
     public synchronized void reset() {
         model = null;
+        index = null;
         clear();
     }
 
@@ -95,7 +115,18 @@ public class OpenApiDocument {
     }
 
     public void modelFromStaticFile(OpenAPI model) {
-        set(() -> this.staticFileModel = model);
+        set(() -> this.staticFileModels = model != null ? Collections.singletonList(model) : Collections.emptyList());
+    }
+
+    /**
+     * Set the models of several static files, e.g. one fragment per module of the application.
+     * They are merged in the order of the list, the later models overriding the values of the
+     * earlier ones, and the result is merged with the other models as a single static model.
+     *
+     * @param models the models of the static files
+     */
+    public void modelFromStaticFiles(List<OpenAPI> models) {
+        set(() -> this.staticFileModels = new ArrayList<>(models));
     }
 
     public void filter(OASFilter filter) {
@@ -124,7 +155,11 @@ public class OpenApiDocument {
         // Phase 1: Use OASModelReader
         OpenAPI merged = readerModel;
 
-        // Phase 2: Merge any static OpenAPI file packaged in the app
+        // Phase 2: Merge any static OpenAPI files packaged in the app
+        OpenAPI staticFileModel = null;
+        for (OpenAPI staticFile : staticFileModels) {
+            staticFileModel = MergeUtil.mergeObjects(staticFileModel, staticFile);
+        }
         merged = MergeUtil.mergeObjects(merged, staticFileModel);
 
         // Phase 3: Merge annotations
@@ -139,7 +174,12 @@ public class OpenApiDocument {
             merged.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
         }
 
-        // Phase 6: Provide missing required elements using defaults
+        // Phase 6: Replace duplicated inline schemas with references to #/components/schemas
+        if (config.deduplicateSchemas()) {
+            SchemaDeduplicator.deduplicate(merged, config.getDeduplicateSchemasMinimumSize());
+        }
+
+        // Phase 7: Provide missing required elements using defaults
         if (merged.getPaths() == null) {
             merged.setPaths(new PathsImpl());
         }
@@ -153,7 +193,7 @@ public class OpenApiDocument {
             merged.getInfo().setVersion((version == null ? "1.0" : version));
         }
 
-        // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        // Phase 8: Use Config values to add Servers (global, pathItem, operation)
         ConfigUtil.applyConfig(config, merged);
 
         model = merged;
@@ -194,7 +234,7 @@ public class OpenApiDocument {
         config = null;
         annotationsModel = null;
         readerModel = null;
-        staticFileModel = null;
+        staticFileModels = Collections.emptyList();
         filters.clear();
         archiveName = null;
     }
@@ -26,6 +26,9 @@ public final class OpenApiConstants {
     public static final String SUFFIX_PROPERTY_NAMING_STRATEGY = "property-naming-strategy";
     public static final String SUFFIX_SORTED_PROPERTIES_ENABLE = "sorted-properties.enable";
     public static final String SUFFIX_REMOVE_UNUSED_SCHEMAS_ENABLE = "remove-unused-schemas.enable";
+    public static final String SUFFIX_DEDUPLICATE_SCHEMAS_ENABLE = "deduplicate-schemas.enable";
+    public static final String SUFFIX_DEDUPLICATE_SCHEMAS_MINIMUM_SIZE = "deduplicate-schemas.minimum-size";
+    public static final String SUFFIX_PARALLEL_SCHEMA_SCAN_ENABLE = "parallel-schema-scan.enable";
 
     public static final String SCAN_DEPENDENCIES_DISABLE = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_DISABLE;
     public static final String SCAN_DEPENDENCIES_JARS = OASConfig.EXTENSIONS_PREFIX + SUFFIX_SCAN_DEPENDENCIES_JARS;
@@ -44,6 +47,10 @@ public final class OpenApiConstants {
     public static final String SMALLRYE_PROPERTY_NAMING_STRATEGY = SMALLRYE_PREFIX + SUFFIX_PROPERTY_NAMING_STRATEGY;
     public static final String SMALLRYE_SORTED_PROPERTIES_ENABLE = SMALLRYE_PREFIX + SUFFIX_SORTED_PROPERTIES_ENABLE;
     public static final String SMALLRYE_REMOVE_UNUSED_SCHEMAS = SMALLRYE_PREFIX + SUFFIX_REMOVE_UNUSED_SCHEMAS_ENABLE;
+    public static final String SMALLRYE_DEDUPLICATE_SCHEMAS = SMALLRYE_PREFIX + SUFFIX_DEDUPLICATE_SCHEMAS_ENABLE;
+    public static final String SMALLRYE_DEDUPLICATE_SCHEMAS_MINIMUM_SIZE = SMALLRYE_PREFIX
+            + SUFFIX_DEDUPLICATE_SCHEMAS_MINIMUM_SIZE;
+    public static final String SMALLRYE_PARALLEL_SCHEMA_SCAN = SMALLRYE_PREFIX + SUFFIX_PARALLEL_SCHEMA_SCAN_ENABLE;
     public static final String SCAN_PROFILES = SMALLRYE_PREFIX + "scan.profiles";
     public static final String SCAN_EXCLUDE_PROFILES = SMALLRYE_PREFIX + "scan.exclude.profiles";
 
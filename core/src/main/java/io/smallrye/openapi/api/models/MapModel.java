@@ -1,12 +1,13 @@
 package io.smallrye.openapi.api.models;
 
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.smallrye.openapi.runtime.util.CompactMap;
+
 public interface MapModel<V> extends Map<String, V> {
 
     Map<String, V> getMap();
@@ -16,7 +17,7 @@ public interface MapModel<V> extends Map<String, V> {
     default <T> T invokeFunction(Function<Map<String, V>, T> function) {
         Map<String, V> map = getMap();
         if (map == null) {
-            map = new LinkedHashMap<>();
+            map = new CompactMap<>();
             setMap(map);
         }
         return function.apply(map);
@@ -25,7 +26,7 @@ public interface MapModel<V> extends Map<String, V> {
     default void invoke(Consumer<Map<String, V>> function) {
         Map<String, V> map = getMap();
         if (map == null) {
-            map = new LinkedHashMap<>();
+            map = new CompactMap<>();
             setMap(map);
         }
         function.accept(map);
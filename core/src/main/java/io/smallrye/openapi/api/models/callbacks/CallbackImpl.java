@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.callbacks;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.PathItem;
@@ -10,6 +9,7 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -54,7 +54,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public Callback addPathItem(String name, PathItem item) {
-        this.pathItems = ModelUtil.add(name, item, this.pathItems, LinkedHashMap<String, PathItem>::new);
+        this.pathItems = ModelUtil.add(name, item, this.pathItems, CompactMap<String, PathItem>::new);
         return this;
     }
 
@@ -79,7 +79,7 @@ public class CallbackImpl extends ExtensibleImpl<Callback> implements Callback,
      */
     @Override
     public void setPathItems(Map<String, PathItem> items) {
-        this.pathItems = ModelUtil.replace(items, LinkedHashMap<String, PathItem>::new);
+        this.pathItems = ModelUtil.replace(items, CompactMap<String, PathItem>::new);
     }
 
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.headers;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.examples.Example;
@@ -11,6 +10,7 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -174,7 +174,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public void setExamples(Map<String, Example> examples) {
-        this.examples = ModelUtil.replace(examples, LinkedHashMap<String, Example>::new);
+        this.examples = ModelUtil.replace(examples, CompactMap<String, Example>::new);
     }
 
     /**
@@ -183,7 +183,7 @@ public class HeaderImpl extends ExtensibleImpl<Header> implements Header, ModelI
      */
     @Override
     public Header addExample(String key, Example example) {
-        this.examples = ModelUtil.add(key, example, this.examples, LinkedHashMap<String, Example>::new);
+        this.examples = ModelUtil.add(key, example, this.examples, CompactMap<String, Example>::new);
         return this;
     }
 
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.links;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.links.Link;
@@ -9,6 +8,7 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -120,7 +120,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public void setParameters(Map<String, Object> parameters) {
-        this.parameters = ModelUtil.replace(parameters, LinkedHashMap<String, Object>::new);
+        this.parameters = ModelUtil.replace(parameters, CompactMap<String, Object>::new);
     }
 
     /**
@@ -128,7 +128,7 @@ public class LinkImpl extends ExtensibleImpl<Link> implements Link, ModelImpl {
      */
     @Override
     public Link addParameter(String name, Object parameter) {
-        this.parameters = ModelUtil.add(name, parameter, this.parameters, LinkedHashMap<String, Object>::new);
+        this.parameters = ModelUtil.add(name, parameter, this.parameters, CompactMap<String, Object>::new);
         return this;
     }
 
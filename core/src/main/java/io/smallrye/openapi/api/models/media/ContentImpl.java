@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Content;
@@ -8,6 +7,7 @@ import org.eclipse.microprofile.openapi.models.media.MediaType;
 
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -23,7 +23,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public Content addMediaType(String name, MediaType mediaType) {
-        this.mediaTypes = ModelUtil.add(name, mediaType, this.mediaTypes, LinkedHashMap<String, MediaType>::new);
+        this.mediaTypes = ModelUtil.add(name, mediaType, this.mediaTypes, CompactMap<String, MediaType>::new);
         return this;
     }
 
@@ -48,7 +48,7 @@ public class ContentImpl implements Content, ModelImpl, MapModel<MediaType> {
      */
     @Override
     public void setMediaTypes(Map<String, MediaType> mediaTypes) {
-        this.mediaTypes = ModelUtil.replace(mediaTypes, LinkedHashMap<String, MediaType>::new);
+        this.mediaTypes = ModelUtil.replace(mediaTypes, CompactMap<String, MediaType>::new);
     }
 
     // Begin Methods to support implementation of Map for MicroProfile OpenAPI 1.1
@@ -1,11 +1,11 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -37,7 +37,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public Discriminator addMapping(String name, String value) {
-        this.mapping = ModelUtil.add(name, value, this.mapping, LinkedHashMap<String, String>::new);
+        this.mapping = ModelUtil.add(name, value, this.mapping, CompactMap<String, String>::new);
         return this;
     }
 
@@ -62,7 +62,7 @@ public class DiscriminatorImpl implements Discriminator, ModelImpl {
      */
     @Override
     public void setMapping(Map<String, String> mapping) {
-        this.mapping = ModelUtil.replace(mapping, LinkedHashMap<String, String>::new);
+        this.mapping = ModelUtil.replace(mapping, CompactMap<String, String>::new);
     }
 
 }
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.media;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
@@ -8,6 +7,7 @@ import org.eclipse.microprofile.openapi.models.media.Encoding;
 
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -43,7 +43,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public Encoding addHeader(String key, Header header) {
-        this.headers = ModelUtil.add(key, header, this.headers, LinkedHashMap<String, Header>::new);
+        this.headers = ModelUtil.add(key, header, this.headers, CompactMap<String, Header>::new);
         return this;
     }
 
@@ -68,7 +68,7 @@ public class EncodingImpl extends ExtensibleImpl<Encoding> implements Encoding,
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
-        this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
+        this.headers = ModelUtil.replace(headers, CompactMap<String, Header>::new);
     }
 
     /**
@@ -2,11 +2,8 @@ package io.smallrye.openapi.api.models.media;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
@@ -18,6 +15,7 @@ import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ExternalDocumentationImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -25,48 +23,77 @@ import io.smallrye.openapi.runtime.util.ModelUtil;
  */
 public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelImpl {
 
-    private String ref;
-    private String format;
+    /*
+     * Storage slots for the (sparse) schema attributes. Only attributes with a
+     * non-null value occupy a position in `values`, ordered by slot number.
+     * The `present` bit mask records which slots have a value. A typical
+     * property schema sets two or three attributes, so this avoids retaining
+     * several dozen null references per schema in large models.
+     */
+    private static final int REF = 0;
+    private static final int FORMAT = 1;
+    private static final int TITLE = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int DEFAULT_VALUE = 4;
+    private static final int MULTIPLE_OF = 5;
+    private static final int MAXIMUM = 6;
+    private static final int EXCLUSIVE_MAXIMUM = 7;
+    private static final int MINIMUM = 8;
+    private static final int EXCLUSIVE_MINIMUM = 9;
+    private static final int MAX_LENGTH = 10;
+    private static final int MIN_LENGTH = 11;
+    private static final int PATTERN = 12;
+    private static final int MAX_ITEMS = 13;
+    private static final int MIN_ITEMS = 14;
+    private static final int UNIQUE_ITEMS = 15;
+    private static final int MAX_PROPERTIES = 16;
+    private static final int MIN_PROPERTIES = 17;
+    private static final int REQUIRED = 18;
+    private static final int ENUMERATION = 19;
+    private static final int TYPE = 20;
+    private static final int ITEMS = 21;
+    private static final int ALL_OF = 22;
+    private static final int PROPERTIES = 23;
+    private static final int ADDITIONAL_PROPERTIES_SCHEMA = 24;
+    private static final int ADDITIONAL_PROPERTIES_BOOLEAN = 25;
+    private static final int READ_ONLY = 26;
+    private static final int XML_OBJECT = 27;
+    private static final int EXTERNAL_DOCS = 28;
+    private static final int EXAMPLE = 29;
+    private static final int ONE_OF = 30;
+    private static final int ANY_OF = 31;
+    private static final int NOT = 32;
+    private static final int DISCRIMINATOR = 33;
+    private static final int NULLABLE = 34;
+    private static final int WRITE_ONLY = 35;
+    private static final int DEPRECATED = 36;
+    // Non-standard
+    private static final int TYPE_OBSERVERS = 37;
+
+    private static final Object[] NO_VALUES = {};
+
+    /*
+     * Slots holding a mutable list or map, or nested model objects, replaced
+     * by copies in a copy made by `copyOf`.
+     */
+    private static final long COPIED_SLOTS = 1L << REQUIRED
+            | 1L << ENUMERATION
+            | 1L << ITEMS
+            | 1L << ALL_OF
+            | 1L << PROPERTIES
+            | 1L << ADDITIONAL_PROPERTIES_SCHEMA
+            | 1L << XML_OBJECT
+            | 1L << EXTERNAL_DOCS
+            | 1L << ONE_OF
+            | 1L << ANY_OF
+            | 1L << NOT;
+
     private final String name;
-    private String title;
-    private String description;
-    private Object defaultValue;
-    private BigDecimal multipleOf;
-    private BigDecimal maximum;
-    private Boolean exclusiveMaximum;
-    private BigDecimal minimum;
-    private Boolean exclusiveMinimum;
-    private Integer maxLength;
-    private Integer minLength;
-    private String pattern;
-    private Integer maxItems;
-    private Integer minItems;
-    private Boolean uniqueItems;
-    private Integer maxProperties;
-    private Integer minProperties;
-    private List<String> required;
-    private List<Object> enumeration;
-    private SchemaType type;
-    private Schema items;
-    private List<Schema> allOf;
-    private Map<String, Schema> properties;
-    private Schema additionalPropertiesSchema;
-    private Boolean additionalPropertiesBoolean;
-    private Boolean readOnly;
-    private XML xml;
-    private ExternalDocumentation externalDocs;
-    private Object example;
-    private List<Schema> oneOf;
-    private List<Schema> anyOf;
-    private Schema not;
-    private Discriminator discriminator;
-    private Boolean nullable;
-    private Boolean writeOnly;
-    private Boolean deprecated;
+    private long present;
+    private Object[] values = NO_VALUES;
 
     // Non-standard
     private int modCount;
-    private List<Schema> typeObservers;
 
     public static boolean isNamed(Schema schema) {
         return schema instanceof SchemaImpl && ((SchemaImpl) schema).name != null;
@@ -79,60 +106,165 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     public static void addTypeObserver(Schema observable, Schema observer) {
         if (observable instanceof SchemaImpl) {
             SchemaImpl obs = (SchemaImpl) observable;
-            obs.typeObservers = ModelUtil.add(observer, obs.typeObservers, ArrayList<Schema>::new);
+            obs.set(TYPE_OBSERVERS, ModelUtil.add(observer, obs.get(TYPE_OBSERVERS), ArrayList<Schema>::new));
         }
 
         observer.setType(observable.getType());
     }
 
+    /**
+     * Copy the given schema, including its nested schemas. The slots of a
+     * {@link SchemaImpl} are copied directly, other implementations are copied
+     * through the {@link Schema} interface. The original is only read, and the
+     * copy and the original can be modified independently of each other.
+     * Type observers remain registered with the original only.
+     *
+     * @param other the schema to copy
+     * @return the copy
+     */
     public static SchemaImpl copyOf(Schema other) {
-        SchemaImpl clone = (SchemaImpl) MergeUtil.mergeObjects(new SchemaImpl(), other);
-        clone.required = copy(clone.required, () -> new ArrayList<>(clone.required));
-        clone.enumeration = copy(clone.enumeration, () -> new ArrayList<>(clone.enumeration));
-        clone.items = copy(clone.items, () -> copyOf(clone.items));
-
-        clone.allOf = copy(clone.allOf, () -> clone.allOf
-                .stream()
-                .map(SchemaImpl::copyOf)
-                .collect(Collectors.toList()));
-
-        clone.properties = copy(clone.properties, () -> clone.properties.entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> copyOf(e.getValue()),
-                        (u, v) -> {
-                            throw new IllegalStateException(String.format("Duplicate key %s", u));
-                        },
-                        LinkedHashMap::new)));
-
-        clone.additionalPropertiesSchema = copy(clone.additionalPropertiesSchema,
-                () -> copyOf(clone.additionalPropertiesSchema));
-
-        clone.xml = copy(clone.xml, () -> MergeUtil.mergeObjects(new XMLImpl(), clone.xml));
-        clone.externalDocs = copy(clone.externalDocs,
-                () -> MergeUtil.mergeObjects(new ExternalDocumentationImpl(), clone.externalDocs));
-
-        clone.oneOf = copy(clone.oneOf, () -> clone.oneOf
-                .stream()
-                .map(SchemaImpl::copyOf)
-                .collect(Collectors.toList()));
-
-        clone.anyOf = copy(clone.anyOf, () -> clone.anyOf
-                .stream()
-                .map(SchemaImpl::copyOf)
-                .collect(Collectors.toList()));
-
-        clone.not = copy(clone.not, () -> copyOf(clone.not));
+        SchemaImpl clone;
+
+        if (other == null) {
+            return new SchemaImpl();
+        } else if (other instanceof SchemaImpl) {
+            SchemaImpl source = (SchemaImpl) other;
+            clone = new SchemaImpl();
+            clone.present = source.present;
+            clone.values = source.values.clone();
+            clone.set(TYPE_OBSERVERS, null);
+            clone.setExtensions(source.getExtensions());
+        } else {
+            clone = copyAttributes(other);
+        }
+
+        long slots = clone.present & COPIED_SLOTS;
+
+        while (slots != 0) {
+            int slot = Long.numberOfTrailingZeros(slots);
+            int position = clone.position(slot);
+            clone.values[position] = copySlot(slot, clone.values[position]);
+            slots &= slots - 1;
+        }
 
         return clone;
     }
 
-    private static <T> T copy(T property, Supplier<T> copySupplier) {
-        if (property != null) {
-            return copySupplier.get();
+    /**
+     * Copy the attributes of a schema not implemented by this class, the nested
+     * schemas are copied afterwards by {@link #copyOf(Schema)}.
+     */
+    private static SchemaImpl copyAttributes(Schema other) {
+        SchemaImpl clone = new SchemaImpl();
+        clone.setRef(other.getRef());
+        clone.setFormat(other.getFormat());
+        clone.setTitle(other.getTitle());
+        clone.setDescription(other.getDescription());
+        clone.setDefaultValue(other.getDefaultValue());
+        clone.setMultipleOf(other.getMultipleOf());
+        clone.setMaximum(other.getMaximum());
+        clone.setExclusiveMaximum(other.getExclusiveMaximum());
+        clone.setMinimum(other.getMinimum());
+        clone.setExclusiveMinimum(other.getExclusiveMinimum());
+        clone.setMaxLength(other.getMaxLength());
+        clone.setMinLength(other.getMinLength());
+        clone.setPattern(other.getPattern());
+        clone.setMaxItems(other.getMaxItems());
+        clone.setMinItems(other.getMinItems());
+        clone.setUniqueItems(other.getUniqueItems());
+        clone.setMaxProperties(other.getMaxProperties());
+        clone.setMinProperties(other.getMinProperties());
+        clone.setRequired(other.getRequired());
+        clone.setEnumeration(other.getEnumeration());
+        clone.setType(other.getType());
+        clone.setItems(other.getItems());
+        clone.setAllOf(other.getAllOf());
+        clone.setProperties(other.getProperties());
+        clone.setAdditionalPropertiesSchema(other.getAdditionalPropertiesSchema());
+        clone.setAdditionalPropertiesBoolean(other.getAdditionalPropertiesBoolean());
+        clone.setReadOnly(other.getReadOnly());
+        clone.setXml(other.getXml());
+        clone.setExternalDocs(other.getExternalDocs());
+        clone.setExample(other.getExample());
+        clone.setOneOf(other.getOneOf());
+        clone.setAnyOf(other.getAnyOf());
+        clone.setNot(other.getNot());
+        clone.setDiscriminator(other.getDiscriminator());
+        clone.setNullable(other.getNullable());
+        clone.setWriteOnly(other.getWriteOnly());
+        clone.setDeprecated(other.getDeprecated());
+        clone.setExtensions(other.getExtensions());
+        clone.modCount = 0;
+        return clone;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copySlot(int slot, Object value) {
+        switch (slot) {
+            case REQUIRED:
+            case ENUMERATION:
+                return new ArrayList<>((List<Object>) value);
+            case XML_OBJECT:
+                return MergeUtil.mergeObjects(new XMLImpl(), (XML) value);
+            case EXTERNAL_DOCS:
+                return MergeUtil.mergeObjects(new ExternalDocumentationImpl(), (ExternalDocumentation) value);
+            case ALL_OF:
+            case ONE_OF:
+            case ANY_OF:
+                List<Schema> schemas = (List<Schema>) value;
+                List<Schema> schemasCopy = new ArrayList<>(schemas.size());
+                for (Schema schema : schemas) {
+                    schemasCopy.add(copyOf(schema));
+                }
+                return schemasCopy;
+            case PROPERTIES:
+                Map<String, Schema> properties = (Map<String, Schema>) value;
+                Map<String, Schema> propertiesCopy = new CompactMap<>();
+                for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+                    propertiesCopy.put(entry.getKey(), copyOf(entry.getValue()));
+                }
+                return propertiesCopy;
+            default:
+                return copyOf((Schema) value);
+        }
+    }
+
+    private int position(int slot) {
+        return Long.bitCount(present & ((1L << slot) - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(int slot) {
+        if ((present & (1L << slot)) == 0) {
+            return null;
+        }
+        return (T) values[position(slot)];
+    }
+
+    private void set(int slot, Object value) {
+        final long bit = 1L << slot;
+        final int position = position(slot);
+
+        if ((present & bit) != 0) {
+            if (value != null) {
+                values[position] = value;
+            } else {
+                int count = Long.bitCount(present);
+                Object[] reduced = count == 1 ? NO_VALUES : new Object[count - 1];
+                System.arraycopy(values, 0, reduced, 0, position);
+                System.arraycopy(values, position + 1, reduced, position, count - position - 1);
+                values = reduced;
+                present &= ~bit;
+            }
+        } else if (value != null) {
+            int count = Long.bitCount(present);
+            Object[] expanded = new Object[count + 1];
+            System.arraycopy(values, 0, expanded, 0, position);
+            expanded[position] = value;
+            System.arraycopy(values, position, expanded, position + 1, count - position);
+            values = expanded;
+            present |= bit;
         }
-        return null;
     }
 
     public SchemaImpl(String name) {
@@ -156,7 +288,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getRef() {
-        return this.ref;
+        return get(REF);
     }
 
     /**
@@ -168,7 +300,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
             ref = OpenApiConstants.REF_PREFIX_SCHEMA + ref;
         }
         incrementModCount();
-        this.ref = ref;
+        set(REF, ref);
     }
 
     /**
@@ -176,7 +308,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Discriminator getDiscriminator() {
-        return this.discriminator;
+        return get(DISCRIMINATOR);
     }
 
     /**
@@ -185,7 +317,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setDiscriminator(Discriminator discriminator) {
         incrementModCount();
-        this.discriminator = discriminator;
+        set(DISCRIMINATOR, discriminator);
     }
 
     /**
@@ -193,7 +325,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getTitle() {
-        return this.title;
+        return get(TITLE);
     }
 
     /**
@@ -202,7 +334,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setTitle(String title) {
         incrementModCount();
-        this.title = title;
+        set(TITLE, title);
     }
 
     /**
@@ -210,7 +342,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getDefaultValue() {
-        return this.defaultValue;
+        return get(DEFAULT_VALUE);
     }
 
     /**
@@ -219,7 +351,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setDefaultValue(Object defaultValue) {
         incrementModCount();
-        this.defaultValue = defaultValue;
+        set(DEFAULT_VALUE, defaultValue);
     }
 
     /**
@@ -227,7 +359,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Object> getEnumeration() {
-        return ModelUtil.unmodifiableList(this.enumeration);
+        return ModelUtil.unmodifiableList(get(ENUMERATION));
     }
 
     /**
@@ -236,7 +368,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setEnumeration(List<Object> enumeration) {
         incrementModCount();
-        this.enumeration = ModelUtil.replace(enumeration, ArrayList<Object>::new);
+        set(ENUMERATION, ModelUtil.replace(enumeration, ArrayList<Object>::new));
     }
 
     /**
@@ -245,7 +377,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addEnumeration(Object enumeration) {
         incrementModCount();
-        this.enumeration = ModelUtil.add(enumeration, this.enumeration, ArrayList<Object>::new);
+        set(ENUMERATION, ModelUtil.add(enumeration, get(ENUMERATION), ArrayList<Object>::new));
         return this;
     }
 
@@ -255,7 +387,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeEnumeration(Object enumeration) {
         incrementModCount();
-        ModelUtil.remove(this.enumeration, enumeration);
+        ModelUtil.remove(this.<List<Object>> get(ENUMERATION), enumeration);
     }
 
     /**
@@ -263,7 +395,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMultipleOf() {
-        return this.multipleOf;
+        return get(MULTIPLE_OF);
     }
 
     /**
@@ -272,7 +404,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMultipleOf(BigDecimal multipleOf) {
         incrementModCount();
-        this.multipleOf = multipleOf;
+        set(MULTIPLE_OF, multipleOf);
     }
 
     /**
@@ -280,7 +412,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMaximum() {
-        return this.maximum;
+        return get(MAXIMUM);
     }
 
     /**
@@ -289,7 +421,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMaximum(BigDecimal maximum) {
         incrementModCount();
-        this.maximum = maximum;
+        set(MAXIMUM, maximum);
     }
 
     /**
@@ -297,7 +429,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMaximum() {
-        return this.exclusiveMaximum;
+        return get(EXCLUSIVE_MAXIMUM);
     }
 
     /**
@@ -306,7 +438,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setExclusiveMaximum(Boolean exclusiveMaximum) {
         incrementModCount();
-        this.exclusiveMaximum = exclusiveMaximum;
+        set(EXCLUSIVE_MAXIMUM, exclusiveMaximum);
     }
 
     /**
@@ -314,7 +446,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public BigDecimal getMinimum() {
-        return this.minimum;
+        return get(MINIMUM);
     }
 
     /**
@@ -323,7 +455,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMinimum(BigDecimal minimum) {
         incrementModCount();
-        this.minimum = minimum;
+        set(MINIMUM, minimum);
     }
 
     /**
@@ -331,7 +463,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getExclusiveMinimum() {
-        return this.exclusiveMinimum;
+        return get(EXCLUSIVE_MINIMUM);
     }
 
     /**
@@ -340,7 +472,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setExclusiveMinimum(Boolean exclusiveMinimum) {
         incrementModCount();
-        this.exclusiveMinimum = exclusiveMinimum;
+        set(EXCLUSIVE_MINIMUM, exclusiveMinimum);
     }
 
     /**
@@ -348,7 +480,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxLength() {
-        return this.maxLength;
+        return get(MAX_LENGTH);
     }
 
     /**
@@ -357,7 +489,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMaxLength(Integer maxLength) {
         incrementModCount();
-        this.maxLength = maxLength;
+        set(MAX_LENGTH, maxLength);
     }
 
     /**
@@ -365,7 +497,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinLength() {
-        return this.minLength;
+        return get(MIN_LENGTH);
     }
 
     /**
@@ -374,7 +506,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMinLength(Integer minLength) {
         incrementModCount();
-        this.minLength = minLength;
+        set(MIN_LENGTH, minLength);
     }
 
     /**
@@ -382,7 +514,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getPattern() {
-        return this.pattern;
+        return get(PATTERN);
     }
 
     /**
@@ -391,7 +523,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setPattern(String pattern) {
         incrementModCount();
-        this.pattern = pattern;
+        set(PATTERN, pattern);
     }
 
     /**
@@ -399,7 +531,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxItems() {
-        return this.maxItems;
+        return get(MAX_ITEMS);
     }
 
     /**
@@ -408,7 +540,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMaxItems(Integer maxItems) {
         incrementModCount();
-        this.maxItems = maxItems;
+        set(MAX_ITEMS, maxItems);
     }
 
     /**
@@ -416,7 +548,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinItems() {
-        return this.minItems;
+        return get(MIN_ITEMS);
     }
 
     /**
@@ -425,7 +557,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMinItems(Integer minItems) {
         incrementModCount();
-        this.minItems = minItems;
+        set(MIN_ITEMS, minItems);
     }
 
     /**
@@ -433,7 +565,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getUniqueItems() {
-        return this.uniqueItems;
+        return get(UNIQUE_ITEMS);
     }
 
     /**
@@ -442,7 +574,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setUniqueItems(Boolean uniqueItems) {
         incrementModCount();
-        this.uniqueItems = uniqueItems;
+        set(UNIQUE_ITEMS, uniqueItems);
     }
 
     /**
@@ -450,7 +582,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMaxProperties() {
-        return this.maxProperties;
+        return get(MAX_PROPERTIES);
     }
 
     /**
@@ -459,7 +591,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMaxProperties(Integer maxProperties) {
         incrementModCount();
-        this.maxProperties = maxProperties;
+        set(MAX_PROPERTIES, maxProperties);
     }
 
     /**
@@ -467,7 +599,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Integer getMinProperties() {
-        return this.minProperties;
+        return get(MIN_PROPERTIES);
     }
 
     /**
@@ -476,7 +608,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setMinProperties(Integer minProperties) {
         incrementModCount();
-        this.minProperties = minProperties;
+        set(MIN_PROPERTIES, minProperties);
     }
 
     /**
@@ -484,7 +616,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<String> getRequired() {
-        return ModelUtil.unmodifiableList(this.required);
+        return ModelUtil.unmodifiableList(get(REQUIRED));
     }
 
     /**
@@ -493,7 +625,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setRequired(List<String> required) {
         incrementModCount();
-        this.required = ModelUtil.replace(required, ArrayList<String>::new);
+        set(REQUIRED, ModelUtil.replace(required, ArrayList<String>::new));
     }
 
     /**
@@ -502,7 +634,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addRequired(String required) {
         incrementModCount();
-        this.required = ModelUtil.add(required, this.required, ArrayList<String>::new);
+        set(REQUIRED, ModelUtil.add(required, get(REQUIRED), ArrayList<String>::new));
         return this;
     }
 
@@ -512,7 +644,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeRequired(String required) {
         incrementModCount();
-        ModelUtil.remove(this.required, required);
+        ModelUtil.remove(this.<List<String>> get(REQUIRED), required);
     }
 
     /**
@@ -520,7 +652,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public SchemaType getType() {
-        return this.type;
+        return get(TYPE);
     }
 
     /**
@@ -529,7 +661,9 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setType(SchemaType type) {
         incrementModCount();
-        this.type = type;
+        set(TYPE, type);
+
+        List<Schema> typeObservers = get(TYPE_OBSERVERS);
 
         if (typeObservers != null) {
             typeObservers.forEach(o -> o.setType(type));
@@ -541,7 +675,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getNot() {
-        return this.not;
+        return get(NOT);
     }
 
     /**
@@ -550,7 +684,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setNot(Schema not) {
         incrementModCount();
-        this.not = not;
+        set(NOT, not);
     }
 
     /**
@@ -558,7 +692,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Map<String, Schema> getProperties() {
-        return ModelUtil.unmodifiableMap(this.properties);
+        return ModelUtil.unmodifiableMap(get(PROPERTIES));
     }
 
     /**
@@ -567,7 +701,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setProperties(Map<String, Schema> properties) {
         incrementModCount();
-        this.properties = ModelUtil.replace(properties, LinkedHashMap<String, Schema>::new);
+        set(PROPERTIES, ModelUtil.replace(properties, CompactMap<String, Schema>::new));
     }
 
     /**
@@ -577,7 +711,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addProperty(String key, Schema propertySchema) {
         incrementModCount();
-        this.properties = ModelUtil.add(key, propertySchema, this.properties, LinkedHashMap<String, Schema>::new);
+        set(PROPERTIES, ModelUtil.add(key, propertySchema, get(PROPERTIES), CompactMap<String, Schema>::new));
         return this;
     }
 
@@ -587,17 +721,17 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeProperty(String key) {
         incrementModCount();
-        ModelUtil.remove(this.properties, key);
+        ModelUtil.remove(this.<Map<String, Schema>> get(PROPERTIES), key);
     }
 
     @Override
     public Schema getAdditionalPropertiesSchema() {
-        return this.additionalPropertiesSchema;
+        return get(ADDITIONAL_PROPERTIES_SCHEMA);
     }
 
     @Override
     public Boolean getAdditionalPropertiesBoolean() {
-        return this.additionalPropertiesBoolean;
+        return get(ADDITIONAL_PROPERTIES_BOOLEAN);
     }
 
     /**
@@ -606,8 +740,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setAdditionalPropertiesSchema(Schema additionalProperties) {
         incrementModCount();
-        this.additionalPropertiesBoolean = null;
-        this.additionalPropertiesSchema = additionalProperties;
+        set(ADDITIONAL_PROPERTIES_BOOLEAN, null);
+        set(ADDITIONAL_PROPERTIES_SCHEMA, additionalProperties);
     }
 
     /**
@@ -616,8 +750,8 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setAdditionalPropertiesBoolean(Boolean additionalProperties) {
         incrementModCount();
-        this.additionalPropertiesSchema = null;
-        this.additionalPropertiesBoolean = additionalProperties;
+        set(ADDITIONAL_PROPERTIES_SCHEMA, null);
+        set(ADDITIONAL_PROPERTIES_BOOLEAN, additionalProperties);
     }
 
     /**
@@ -625,7 +759,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getDescription() {
-        return this.description;
+        return get(DESCRIPTION);
     }
 
     /**
@@ -634,7 +768,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setDescription(String description) {
         incrementModCount();
-        this.description = description;
+        set(DESCRIPTION, description);
     }
 
     /**
@@ -642,7 +776,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public String getFormat() {
-        return this.format;
+        return get(FORMAT);
     }
 
     /**
@@ -651,7 +785,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setFormat(String format) {
         incrementModCount();
-        this.format = format;
+        set(FORMAT, format);
     }
 
     /**
@@ -659,7 +793,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getNullable() {
-        return this.nullable;
+        return get(NULLABLE);
     }
 
     /**
@@ -668,7 +802,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setNullable(Boolean nullable) {
         incrementModCount();
-        this.nullable = nullable;
+        set(NULLABLE, nullable);
     }
 
     /**
@@ -676,7 +810,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getReadOnly() {
-        return this.readOnly;
+        return get(READ_ONLY);
     }
 
     /**
@@ -685,7 +819,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setReadOnly(Boolean readOnly) {
         incrementModCount();
-        this.readOnly = readOnly;
+        set(READ_ONLY, readOnly);
     }
 
     /**
@@ -693,7 +827,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getWriteOnly() {
-        return this.writeOnly;
+        return get(WRITE_ONLY);
     }
 
     /**
@@ -702,7 +836,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setWriteOnly(Boolean writeOnly) {
         incrementModCount();
-        this.writeOnly = writeOnly;
+        set(WRITE_ONLY, writeOnly);
     }
 
     /**
@@ -710,7 +844,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Object getExample() {
-        return this.example;
+        return get(EXAMPLE);
     }
 
     /**
@@ -719,7 +853,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setExample(Object example) {
         incrementModCount();
-        this.example = example;
+        set(EXAMPLE, example);
     }
 
     /**
@@ -727,7 +861,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public ExternalDocumentation getExternalDocs() {
-        return this.externalDocs;
+        return get(EXTERNAL_DOCS);
     }
 
     /**
@@ -736,7 +870,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setExternalDocs(ExternalDocumentation externalDocs) {
         incrementModCount();
-        this.externalDocs = externalDocs;
+        set(EXTERNAL_DOCS, externalDocs);
     }
 
     /**
@@ -744,7 +878,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Boolean getDeprecated() {
-        return this.deprecated;
+        return get(DEPRECATED);
     }
 
     /**
@@ -753,7 +887,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setDeprecated(Boolean deprecated) {
         incrementModCount();
-        this.deprecated = deprecated;
+        set(DEPRECATED, deprecated);
     }
 
     /**
@@ -761,7 +895,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public XML getXml() {
-        return this.xml;
+        return get(XML_OBJECT);
     }
 
     /**
@@ -770,7 +904,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setXml(XML xml) {
         incrementModCount();
-        this.xml = xml;
+        set(XML_OBJECT, xml);
     }
 
     /**
@@ -778,7 +912,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public Schema getItems() {
-        return this.items;
+        return get(ITEMS);
     }
 
     /**
@@ -787,7 +921,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setItems(Schema items) {
         incrementModCount();
-        this.items = items;
+        set(ITEMS, items);
     }
 
     /**
@@ -795,7 +929,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAllOf() {
-        return ModelUtil.unmodifiableList(this.allOf);
+        return ModelUtil.unmodifiableList(get(ALL_OF));
     }
 
     /**
@@ -804,7 +938,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setAllOf(List<Schema> allOf) {
         incrementModCount();
-        this.allOf = ModelUtil.replace(allOf, ArrayList<Schema>::new);
+        set(ALL_OF, ModelUtil.replace(allOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -813,7 +947,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addAllOf(Schema allOf) {
         incrementModCount();
-        this.allOf = ModelUtil.add(allOf, this.allOf, ArrayList<Schema>::new);
+        set(ALL_OF, ModelUtil.add(allOf, get(ALL_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -823,7 +957,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeAllOf(Schema allOf) {
         incrementModCount();
-        ModelUtil.remove(this.allOf, allOf);
+        ModelUtil.remove(this.<List<Schema>> get(ALL_OF), allOf);
     }
 
     /**
@@ -831,7 +965,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getAnyOf() {
-        return ModelUtil.unmodifiableList(this.anyOf);
+        return ModelUtil.unmodifiableList(get(ANY_OF));
     }
 
     /**
@@ -840,7 +974,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setAnyOf(List<Schema> anyOf) {
         incrementModCount();
-        this.anyOf = ModelUtil.replace(anyOf, ArrayList<Schema>::new);
+        set(ANY_OF, ModelUtil.replace(anyOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -849,7 +983,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addAnyOf(Schema anyOf) {
         incrementModCount();
-        this.anyOf = ModelUtil.add(anyOf, this.anyOf, ArrayList<Schema>::new);
+        set(ANY_OF, ModelUtil.add(anyOf, get(ANY_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -859,7 +993,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeAnyOf(Schema anyOf) {
         incrementModCount();
-        ModelUtil.remove(this.anyOf, anyOf);
+        ModelUtil.remove(this.<List<Schema>> get(ANY_OF), anyOf);
     }
 
     /**
@@ -867,7 +1001,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
      */
     @Override
     public List<Schema> getOneOf() {
-        return ModelUtil.unmodifiableList(this.oneOf);
+        return ModelUtil.unmodifiableList(get(ONE_OF));
     }
 
     /**
@@ -876,7 +1010,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void setOneOf(List<Schema> oneOf) {
         incrementModCount();
-        this.oneOf = ModelUtil.replace(oneOf, ArrayList<Schema>::new);
+        set(ONE_OF, ModelUtil.replace(oneOf, ArrayList<Schema>::new));
     }
 
     /**
@@ -885,7 +1019,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public Schema addOneOf(Schema oneOf) {
         incrementModCount();
-        this.oneOf = ModelUtil.add(oneOf, this.oneOf, ArrayList<Schema>::new);
+        set(ONE_OF, ModelUtil.add(oneOf, get(ONE_OF), ArrayList<Schema>::new));
         return this;
     }
 
@@ -895,7 +1029,7 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
     @Override
     public void removeOneOf(Schema oneOf) {
         incrementModCount();
-        ModelUtil.remove(this.oneOf, oneOf);
+        ModelUtil.remove(this.<List<Schema>> get(ONE_OF), oneOf);
     }
 
 }
@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.responses;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.headers.Header;
@@ -11,6 +10,7 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -73,7 +73,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setHeaders(Map<String, Header> headers) {
-        this.headers = ModelUtil.replace(headers, LinkedHashMap<String, Header>::new);
+        this.headers = ModelUtil.replace(headers, CompactMap<String, Header>::new);
     }
 
     /**
@@ -82,7 +82,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addHeader(String name, Header header) {
-        this.headers = ModelUtil.add(name, header, this.headers, LinkedHashMap<String, Header>::new);
+        this.headers = ModelUtil.add(name, header, this.headers, CompactMap<String, Header>::new);
         return this;
     }
 
@@ -123,7 +123,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public void setLinks(Map<String, Link> links) {
-        this.links = ModelUtil.replace(links, LinkedHashMap<String, Link>::new);
+        this.links = ModelUtil.replace(links, CompactMap<String, Link>::new);
     }
 
     /**
@@ -132,7 +132,7 @@ public class APIResponseImpl extends ExtensibleImpl<APIResponse> implements APIR
      */
     @Override
     public APIResponse addLink(String name, Link link) {
-        this.links = ModelUtil.add(name, link, this.links, LinkedHashMap<String, Link>::new);
+        this.links = ModelUtil.add(name, link, this.links, CompactMap<String, Link>::new);
         return this;
     }
 
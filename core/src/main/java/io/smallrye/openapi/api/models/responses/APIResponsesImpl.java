@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.responses;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
@@ -9,6 +8,7 @@ import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.MapModel;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -24,7 +24,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
      */
     @Override
     public APIResponses addAPIResponse(String name, APIResponse apiResponse) {
-        this.apiResponses = ModelUtil.add(name, apiResponse, this.apiResponses, LinkedHashMap<String, APIResponse>::new);
+        this.apiResponses = ModelUtil.add(name, apiResponse, this.apiResponses, CompactMap<String, APIResponse>::new);
         return this;
     }
 
@@ -43,7 +43,7 @@ public class APIResponsesImpl extends ExtensibleImpl<APIResponses> implements AP
 
     @Override
     public void setAPIResponses(Map<String, APIResponse> items) {
-        this.apiResponses = ModelUtil.replace(items, LinkedHashMap<String, APIResponse>::new);
+        this.apiResponses = ModelUtil.replace(items, CompactMap<String, APIResponse>::new);
     }
 
     /**
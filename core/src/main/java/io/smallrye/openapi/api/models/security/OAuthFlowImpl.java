@@ -1,12 +1,12 @@
 package io.smallrye.openapi.api.models.security;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -80,7 +80,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public void setScopes(Map<String, String> scopes) {
-        this.scopes = ModelUtil.replace(scopes, LinkedHashMap<String, String>::new);
+        this.scopes = ModelUtil.replace(scopes, CompactMap<String, String>::new);
     }
 
     /*
@@ -88,7 +88,7 @@ public class OAuthFlowImpl extends ExtensibleImpl<OAuthFlow> implements OAuthFlo
      */
     @Override
     public OAuthFlow addScope(String scope, String description) {
-        this.scopes = ModelUtil.add(scope, description, this.scopes, LinkedHashMap<String, String>::new);
+        this.scopes = ModelUtil.add(scope, description, this.scopes, CompactMap<String, String>::new);
         return this;
     }
 
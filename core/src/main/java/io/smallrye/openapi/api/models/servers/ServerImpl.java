@@ -1,6 +1,5 @@
 package io.smallrye.openapi.api.models.servers;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.servers.Server;
@@ -8,6 +7,7 @@ import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 
 import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.runtime.util.CompactMap;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -64,7 +64,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public void setVariables(Map<String, ServerVariable> variables) {
-        this.variables = ModelUtil.replace(variables, LinkedHashMap<String, ServerVariable>::new);
+        this.variables = ModelUtil.replace(variables, CompactMap<String, ServerVariable>::new);
     }
 
     /*
@@ -72,7 +72,7 @@ public class ServerImpl extends ExtensibleImpl<Server> implements Server, ModelI
      */
     @Override
     public Server addVariable(String variableName, ServerVariable variable) {
-        this.variables = ModelUtil.add(variableName, variable, this.variables, LinkedHashMap<String, ServerVariable>::new);
+        this.variables = ModelUtil.add(variableName, variable, this.variables, CompactMap<String, ServerVariable>::new);
         return this;
     }
 
@@ -0,0 +1,661 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Structural difference between two versions of an OpenAPI document, classifying each
+ * change and telling whether it breaks existing clients.
+ * <p>
+ * Both documents are first reduced to trees of {@link StructuralHash structural hashes},
+ * subtrees having the same hash in both versions are skipped without being visited, so
+ * that the cost of a comparison depends on the size of the changes rather than on the size
+ * of the documents.
+ *
+ * <pre>
+ * ModelDiff diff = ModelDiff.compare(previous, current);
+ * if (diff.isBreaking()) {
+ *     diff.getBreakingChanges().forEach(System.out::println);
+ * }
+ * </pre>
+ */
+public class ModelDiff {
+
+    public enum Kind {
+        OPERATION_ADDED,
+        OPERATION_REMOVED,
+        OPERATION_CHANGED,
+        PARAMETER_ADDED,
+        PARAMETER_REMOVED,
+        PARAMETER_REQUIRED,
+        PARAMETER_OPTIONAL,
+        REQUEST_BODY_ADDED,
+        REQUEST_BODY_REMOVED,
+        REQUEST_BODY_REQUIRED,
+        REQUEST_BODY_OPTIONAL,
+        MEDIA_TYPE_ADDED,
+        MEDIA_TYPE_REMOVED,
+        RESPONSE_ADDED,
+        RESPONSE_REMOVED,
+        SCHEMA_ADDED,
+        SCHEMA_REMOVED,
+        SCHEMA_CHANGED,
+        TYPE_CHANGED,
+        PROPERTY_ADDED,
+        PROPERTY_REMOVED,
+        PROPERTY_REQUIRED,
+        PROPERTY_OPTIONAL,
+        ENUM_VALUE_ADDED,
+        ENUM_VALUE_REMOVED,
+        COMPONENT_ADDED,
+        COMPONENT_REMOVED,
+        COMPONENT_CHANGED,
+        DOCUMENT_CHANGED
+    }
+
+    /**
+     * A change between the two documents.
+     */
+    public static final class Change {
+        private final Kind kind;
+        private final String pointer;
+        private final boolean breaking;
+
+        Change(Kind kind, String pointer, boolean breaking) {
+            this.kind = kind;
+            this.pointer = pointer;
+            this.breaking = breaking;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return JSON pointer to the changed node, in the revised document if the node
+         *         exists there, in the base document otherwise
+         */
+        public String getPointer() {
+            return pointer;
+        }
+
+        /**
+         * @return true if the change may break clients written against the base document
+         */
+        public boolean isBreaking() {
+            return breaking;
+        }
+
+        @Override
+        public String toString() {
+            return (breaking ? "[breaking] " : "") + kind + " " + pointer;
+        }
+    }
+
+    /**
+     * Direction in which the data described by a schema flows, deciding which changes of
+     * the schema are breaking: e.g. a property becoming required breaks clients sending
+     * it, while a property being removed breaks clients receiving it.
+     */
+    private enum Direction {
+        REQUEST,
+        RESPONSE,
+        BOTH
+    }
+
+    private static final StructuralHash EMPTY = StructuralHash.of(JsonNodeFactory.instance.objectNode());
+
+    private final List<Change> changes = new ArrayList<>();
+
+    private ModelDiff() {
+    }
+
+    /**
+     * Compare two documents.
+     *
+     * @param base the previous version of the document
+     * @param revision the new version of the document
+     * @return the changes from base to revision
+     */
+    public static ModelDiff compare(OpenAPI base, OpenAPI revision) {
+        return compare(StructuralHash.of(base), StructuralHash.of(revision));
+    }
+
+    /**
+     * Compare two documents, given the structural hashes of their roots.
+     *
+     * @param base the previous version of the document
+     * @param revision the new version of the document
+     * @return the changes from base to revision
+     */
+    public static ModelDiff compare(StructuralHash base, StructuralHash revision) {
+        ModelDiff diff = new ModelDiff();
+
+        if (!base.sameAs(revision)) {
+            diff.compareDocuments(base, revision);
+        }
+
+        return diff;
+    }
+
+    /**
+     * @return all changes, in document order
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * @return the changes that may break clients written against the base document
+     */
+    public List<Change> getBreakingChanges() {
+        return changes.stream().filter(Change::isBreaking).collect(Collectors.toList());
+    }
+
+    /**
+     * @return true if any change may break clients written against the base document
+     */
+    public boolean isBreaking() {
+        return changes.stream().anyMatch(Change::isBreaking);
+    }
+
+    /**
+     * @return true if the documents are structurally identical
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    private void compareDocuments(StructuralHash base, StructuralHash revision) {
+        for (String name : union(base, revision)) {
+            StructuralHash baseField = base.get(name);
+            StructuralHash revisionField = revision.get(name);
+
+            if (baseField != null && baseField.sameAs(revisionField)) {
+                continue;
+            }
+
+            switch (name) {
+                case "paths":
+                    comparePaths("/paths", orEmpty(baseField), orEmpty(revisionField));
+                    break;
+                case "components":
+                    compareComponents("/components", orEmpty(baseField), orEmpty(revisionField));
+                    break;
+                default:
+                    add(Kind.DOCUMENT_CHANGED, pointer("", name), false);
+                    break;
+            }
+        }
+    }
+
+    private void comparePaths(String pointer, StructuralHash base, StructuralHash revision) {
+        for (String path : union(base, revision)) {
+            StructuralHash basePath = base.get(path);
+            StructuralHash revisionPath = revision.get(path);
+            String pathPointer = pointer(pointer, path);
+
+            if (basePath != null && basePath.sameAs(revisionPath)) {
+                continue;
+            }
+
+            StructuralHash baseItem = orEmpty(basePath);
+            StructuralHash revisionItem = orEmpty(revisionPath);
+            int before = changes.size();
+
+            for (String method : union(baseItem, revisionItem)) {
+                if (!isOperation(method)) {
+                    continue;
+                }
+
+                StructuralHash baseOperation = baseItem.get(method);
+                StructuralHash revisionOperation = revisionItem.get(method);
+                String operationPointer = pointer(pathPointer, method);
+
+                if (baseOperation == null) {
+                    add(Kind.OPERATION_ADDED, operationPointer, false);
+                } else if (revisionOperation == null) {
+                    add(Kind.OPERATION_REMOVED, operationPointer, true);
+                } else {
+                    compareOperations(operationPointer, pathPointer, baseItem, baseOperation, revisionItem,
+                            revisionOperation);
+                }
+            }
+
+            if (changes.size() == before) {
+                // Only the summary, description, servers, ... of the path changed
+                add(Kind.OPERATION_CHANGED, pathPointer, false);
+            }
+        }
+    }
+
+    private static boolean isOperation(String name) {
+        switch (name) {
+            case "get":
+            case "put":
+            case "post":
+            case "delete":
+            case "options":
+            case "head":
+            case "patch":
+            case "trace":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void compareOperations(String pointer, String pathPointer,
+            StructuralHash basePath, StructuralHash base,
+            StructuralHash revisionPath, StructuralHash revision) {
+        StructuralHash basePathParameters = basePath.get("parameters");
+        StructuralHash revisionPathParameters = revisionPath.get("parameters");
+
+        if (base.sameAs(revision) && sameOrAbsent(basePathParameters, revisionPathParameters)) {
+            return;
+        }
+
+        int before = changes.size();
+
+        compareParameters(
+                parameters(pathPointer, basePathParameters, pointer, base.get("parameters")),
+                parameters(pathPointer, revisionPathParameters, pointer, revision.get("parameters")));
+        compareRequestBodies(pointer(pointer, "requestBody"), base.get("requestBody"), revision.get("requestBody"));
+        compareResponses(pointer(pointer, "responses"), orEmpty(base.get("responses")),
+                orEmpty(revision.get("responses")));
+
+        if (changes.size() == before && !base.sameAs(revision)) {
+            add(Kind.OPERATION_CHANGED, pointer, false);
+        }
+    }
+
+    /**
+     * Collect the parameters of an operation, keyed by location and name (or reference),
+     * the parameters of the operation overriding the ones of its path.
+     */
+    private static Map<String, Located> parameters(String pathPointer, StructuralHash pathParameters,
+            String operationPointer, StructuralHash operationParameters) {
+        Map<String, Located> parameters = new LinkedHashMap<>();
+        collectParameters(parameters, pointer(pathPointer, "parameters"), pathParameters);
+        collectParameters(parameters, pointer(operationPointer, "parameters"), operationParameters);
+        return parameters;
+    }
+
+    private static void collectParameters(Map<String, Located> parameters, String pointer, StructuralHash list) {
+        if (list == null) {
+            return;
+        }
+
+        for (int i = 0, m = list.size(); i < m; i++) {
+            StructuralHash parameter = list.get(i);
+            String ref = text(parameter, "$ref");
+            String key = ref != null ? ref : text(parameter, "in") + ':' + text(parameter, "name");
+            parameters.put(key, new Located(pointer(pointer, Integer.toString(i)), parameter));
+        }
+    }
+
+    private void compareParameters(Map<String, Located> base, Map<String, Located> revision) {
+        for (Map.Entry<String, Located> entry : base.entrySet()) {
+            if (!revision.containsKey(entry.getKey())) {
+                add(Kind.PARAMETER_REMOVED, entry.getValue().pointer, false);
+            }
+        }
+
+        for (Map.Entry<String, Located> entry : revision.entrySet()) {
+            Located revisionParameter = entry.getValue();
+            Located baseParameter = base.get(entry.getKey());
+
+            if (baseParameter == null) {
+                add(Kind.PARAMETER_ADDED, revisionParameter.pointer, isRequired(revisionParameter.hash));
+            } else if (!baseParameter.hash.sameAs(revisionParameter.hash)) {
+                int before = changes.size();
+                boolean wasRequired = isRequired(baseParameter.hash);
+                boolean isRequired = isRequired(revisionParameter.hash);
+
+                if (!wasRequired && isRequired) {
+                    add(Kind.PARAMETER_REQUIRED, revisionParameter.pointer, true);
+                } else if (wasRequired && !isRequired) {
+                    add(Kind.PARAMETER_OPTIONAL, revisionParameter.pointer, false);
+                }
+
+                compareSchemas(pointer(revisionParameter.pointer, "schema"), baseParameter.hash.get("schema"),
+                        revisionParameter.hash.get("schema"), Direction.REQUEST);
+                compareContents(pointer(revisionParameter.pointer, "content"), baseParameter.hash.get("content"),
+                        revisionParameter.hash.get("content"), Direction.REQUEST);
+
+                if (changes.size() == before) {
+                    add(Kind.OPERATION_CHANGED, revisionParameter.pointer, false);
+                }
+            }
+        }
+    }
+
+    private void compareRequestBodies(String pointer, StructuralHash base, StructuralHash revision) {
+        if (base == null && revision == null || base != null && base.sameAs(revision)) {
+            return;
+        }
+        if (base == null) {
+            add(Kind.REQUEST_BODY_ADDED, pointer, isRequired(revision));
+            return;
+        }
+        if (revision == null) {
+            add(Kind.REQUEST_BODY_REMOVED, pointer, true);
+            return;
+        }
+
+        int before = changes.size();
+        boolean wasRequired = isRequired(base);
+        boolean isRequired = isRequired(revision);
+
+        if (!wasRequired && isRequired) {
+            add(Kind.REQUEST_BODY_REQUIRED, pointer, true);
+        } else if (wasRequired && !isRequired) {
+            add(Kind.REQUEST_BODY_OPTIONAL, pointer, false);
+        }
+
+        compareContents(pointer(pointer, "content"), base.get("content"), revision.get("content"), Direction.REQUEST);
+
+        if (changes.size() == before) {
+            add(Kind.OPERATION_CHANGED, pointer, false);
+        }
+    }
+
+    private void compareResponses(String pointer, StructuralHash base, StructuralHash revision) {
+        for (String code : union(base, revision)) {
+            StructuralHash baseResponse = base.get(code);
+            StructuralHash revisionResponse = revision.get(code);
+            String responsePointer = pointer(pointer, code);
+
+            if (baseResponse == null) {
+                add(Kind.RESPONSE_ADDED, responsePointer, false);
+            } else if (revisionResponse == null) {
+                add(Kind.RESPONSE_REMOVED, responsePointer, true);
+            } else if (!baseResponse.sameAs(revisionResponse)) {
+                int before = changes.size();
+
+                compareContents(pointer(responsePointer, "content"), baseResponse.get("content"),
+                        revisionResponse.get("content"), Direction.RESPONSE);
+
+                if (changes.size() == before) {
+                    add(Kind.OPERATION_CHANGED, responsePointer, false);
+                }
+            }
+        }
+    }
+
+    private void compareContents(String pointer, StructuralHash base, StructuralHash revision, Direction direction) {
+        if (base == null && revision == null || base != null && base.sameAs(revision)) {
+            return;
+        }
+
+        StructuralHash baseContent = orEmpty(base);
+        StructuralHash revisionContent = orEmpty(revision);
+
+        for (String mediaType : union(baseContent, revisionContent)) {
+            StructuralHash baseMediaType = baseContent.get(mediaType);
+            StructuralHash revisionMediaType = revisionContent.get(mediaType);
+            String mediaTypePointer = pointer(pointer, mediaType);
+
+            if (baseMediaType == null) {
+                add(Kind.MEDIA_TYPE_ADDED, mediaTypePointer, false);
+            } else if (revisionMediaType == null) {
+                add(Kind.MEDIA_TYPE_REMOVED, mediaTypePointer, true);
+            } else if (!baseMediaType.sameAs(revisionMediaType)) {
+                int before = changes.size();
+
+                compareSchemas(pointer(mediaTypePointer, "schema"), baseMediaType.get("schema"),
+                        revisionMediaType.get("schema"), direction);
+
+                if (changes.size() == before) {
+                    add(Kind.OPERATION_CHANGED, mediaTypePointer, false);
+                }
+            }
+        }
+    }
+
+    private void compareComponents(String pointer, StructuralHash base, StructuralHash revision) {
+        for (String type : union(base, revision)) {
+            StructuralHash baseType = orEmpty(base.get(type));
+            StructuralHash revisionType = orEmpty(revision.get(type));
+            String typePointer = pointer(pointer, type);
+
+            if (baseType.sameAs(revisionType)) {
+                continue;
+            }
+
+            boolean schemas = "schemas".equals(type);
+
+            for (String name : union(baseType, revisionType)) {
+                StructuralHash baseComponent = baseType.get(name);
+                StructuralHash revisionComponent = revisionType.get(name);
+                String componentPointer = pointer(typePointer, name);
+
+                if (baseComponent == null) {
+                    add(schemas ? Kind.SCHEMA_ADDED : Kind.COMPONENT_ADDED, componentPointer, false);
+                } else if (revisionComponent == null) {
+                    add(schemas ? Kind.SCHEMA_REMOVED : Kind.COMPONENT_REMOVED, componentPointer, true);
+                } else if (schemas) {
+                    // Component schemas may be used by requests and responses alike
+                    compareSchemas(componentPointer, baseComponent, revisionComponent, Direction.BOTH);
+                } else if (!baseComponent.sameAs(revisionComponent)) {
+                    add(Kind.COMPONENT_CHANGED, componentPointer, false);
+                }
+            }
+        }
+    }
+
+    private void compareSchemas(String pointer, StructuralHash base, StructuralHash revision, Direction direction) {
+        if (base == null && revision == null || base != null && base.sameAs(revision)) {
+            return;
+        }
+        if (base == null || revision == null) {
+            // The schema appeared or disappeared, any value was previously valid or is valid now
+            add(Kind.SCHEMA_CHANGED, pointer, base == null);
+            return;
+        }
+
+        int before = changes.size();
+
+        if (!Objects.equals(text(base, "$ref"), text(revision, "$ref"))
+                || !Objects.equals(text(base, "type"), text(revision, "type"))
+                || !Objects.equals(text(base, "format"), text(revision, "format"))) {
+            add(Kind.TYPE_CHANGED, pointer, true);
+            return;
+        }
+
+        compareEnumerations(pointer(pointer, "enum"), base.get("enum"), revision.get("enum"), direction);
+        compareProperties(pointer, base, revision, direction);
+        compareSchemas(pointer(pointer, "items"), base.get("items"), revision.get("items"), direction);
+        compareSchemas(pointer(pointer, "not"), base.get("not"), revision.get("not"), direction);
+
+        StructuralHash baseAdditional = base.get("additionalProperties");
+        StructuralHash revisionAdditional = revision.get("additionalProperties");
+
+        if (isSchema(baseAdditional) && isSchema(revisionAdditional)) {
+            compareSchemas(pointer(pointer, "additionalProperties"), baseAdditional, revisionAdditional, direction);
+        } else if (!sameOrAbsent(baseAdditional, revisionAdditional)) {
+            add(Kind.SCHEMA_CHANGED, pointer(pointer, "additionalProperties"), true);
+        }
+
+        compareCompositions(pointer(pointer, "allOf"), base.get("allOf"), revision.get("allOf"), direction);
+        compareCompositions(pointer(pointer, "anyOf"), base.get("anyOf"), revision.get("anyOf"), direction);
+        compareCompositions(pointer(pointer, "oneOf"), base.get("oneOf"), revision.get("oneOf"), direction);
+
+        if (changes.size() == before) {
+            // Description, example, constraints, ...
+            add(Kind.SCHEMA_CHANGED, pointer, false);
+        }
+    }
+
+    private void compareEnumerations(String pointer, StructuralHash base, StructuralHash revision, Direction direction) {
+        if (base == null && revision == null || base != null && base.sameAs(revision)) {
+            return;
+        }
+
+        Set<StructuralHash> baseValues = elements(base);
+        Set<StructuralHash> revisionValues = elements(revision);
+
+        for (StructuralHash value : baseValues) {
+            if (!revisionValues.contains(value) && !revisionValues.isEmpty()) {
+                // Clients may still send the value
+                add(Kind.ENUM_VALUE_REMOVED, pointer, direction != Direction.RESPONSE);
+            }
+        }
+        for (StructuralHash value : revisionValues) {
+            if (!baseValues.contains(value) && !baseValues.isEmpty()) {
+                // Clients may not expect the value
+                add(Kind.ENUM_VALUE_ADDED, pointer, direction != Direction.REQUEST);
+            }
+        }
+        if (baseValues.isEmpty() != revisionValues.isEmpty()) {
+            // The enumeration was added (restricting the values) or removed (widening them)
+            add(baseValues.isEmpty() ? Kind.ENUM_VALUE_REMOVED : Kind.ENUM_VALUE_ADDED, pointer,
+                    baseValues.isEmpty() ? direction != Direction.RESPONSE : direction != Direction.REQUEST);
+        }
+    }
+
+    private void compareProperties(String pointer, StructuralHash base, StructuralHash revision, Direction direction) {
+        StructuralHash baseProperties = orEmpty(base.get("properties"));
+        StructuralHash revisionProperties = orEmpty(revision.get("properties"));
+        Set<String> baseRequired = strings(base.get("required"));
+        Set<String> revisionRequired = strings(revision.get("required"));
+
+        if (baseProperties.sameAs(revisionProperties) && baseRequired.equals(revisionRequired)) {
+            return;
+        }
+
+        for (String name : union(baseProperties, revisionProperties)) {
+            StructuralHash baseProperty = baseProperties.get(name);
+            StructuralHash revisionProperty = revisionProperties.get(name);
+            String propertyPointer = pointer(pointer, "properties", name);
+            boolean wasRequired = baseRequired.contains(name);
+            boolean isRequired = revisionRequired.contains(name);
+
+            if (baseProperty == null) {
+                // Clients sending the object do not know about the new required property
+                add(Kind.PROPERTY_ADDED, propertyPointer, isRequired && direction != Direction.RESPONSE);
+                continue;
+            }
+            if (revisionProperty == null) {
+                // Clients receiving the object may expect the property
+                add(Kind.PROPERTY_REMOVED, propertyPointer, direction != Direction.REQUEST);
+                continue;
+            }
+
+            if (!wasRequired && isRequired) {
+                add(Kind.PROPERTY_REQUIRED, propertyPointer, direction != Direction.RESPONSE);
+            } else if (wasRequired && !isRequired) {
+                add(Kind.PROPERTY_OPTIONAL, propertyPointer, direction != Direction.REQUEST);
+            }
+
+            compareSchemas(propertyPointer, baseProperty, revisionProperty, direction);
+        }
+    }
+
+    private void compareCompositions(String pointer, StructuralHash base, StructuralHash revision, Direction direction) {
+        if (base == null && revision == null || base != null && base.sameAs(revision)) {
+            return;
+        }
+
+        int baseSize = base != null ? base.size() : 0;
+        int revisionSize = revision != null ? revision.size() : 0;
+
+        for (int i = 0, m = Math.min(baseSize, revisionSize); i < m; i++) {
+            compareSchemas(pointer(pointer, Integer.toString(i)), base.get(i), revision.get(i), direction);
+        }
+        if (baseSize != revisionSize) {
+            add(Kind.SCHEMA_CHANGED, pointer, true);
+        }
+    }
+
+    private void add(Kind kind, String pointer, boolean breaking) {
+        changes.add(new Change(kind, pointer, breaking));
+    }
+
+    private static StructuralHash orEmpty(StructuralHash hash) {
+        return hash != null ? hash : EMPTY;
+    }
+
+    private static boolean sameOrAbsent(StructuralHash base, StructuralHash revision) {
+        return base == null ? revision == null : base.sameAs(revision);
+    }
+
+    private static boolean isSchema(StructuralHash hash) {
+        return hash != null && hash.node().isObject();
+    }
+
+    private static boolean isRequired(StructuralHash hash) {
+        StructuralHash required = hash.get("required");
+        return required != null && required.node().asBoolean();
+    }
+
+    private static String text(StructuralHash hash, String field) {
+        StructuralHash value = hash.get(field);
+        return value != null && value.node().isValueNode() ? value.node().asText() : null;
+    }
+
+    private static Set<StructuralHash> elements(StructuralHash array) {
+        if (array == null) {
+            return Collections.emptySet();
+        }
+        Set<StructuralHash> elements = new HashSet<>();
+        for (int i = 0, m = array.size(); i < m; i++) {
+            elements.add(array.get(i));
+        }
+        return elements;
+    }
+
+    private static Set<String> strings(StructuralHash array) {
+        if (array == null) {
+            return Collections.emptySet();
+        }
+        Set<String> strings = new HashSet<>();
+        for (JsonNode element : array.node()) {
+            strings.add(element.asText());
+        }
+        return strings;
+    }
+
+    /**
+     * Field names of both objects, the ones of the base first, in document order.
+     */
+    private static Set<String> union(StructuralHash base, StructuralHash revision) {
+        Set<String> names = new LinkedHashSet<>(base.fields().keySet());
+        names.addAll(revision.fields().keySet());
+        return names;
+    }
+
+    private static String pointer(String parent, String... tokens) {
+        StringBuilder pointer = new StringBuilder(parent);
+        for (String token : tokens) {
+            pointer.append('/').append(token.replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+    /**
+     * A node and its location in the document.
+     */
+    private static final class Located {
+        final String pointer;
+        final StructuralHash hash;
+
+        Located(String pointer, StructuralHash hash) {
+            this.pointer = pointer;
+            this.hash = hash;
+        }
+    }
+}
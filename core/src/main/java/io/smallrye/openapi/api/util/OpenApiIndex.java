@@ -0,0 +1,685 @@
+package io.smallrye.openapi.api.util;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Read-only index over a finalized OpenAPI model, used to render self-contained
+ * subsets of the document (e.g. the operations belonging to a tag) without copying
+ * or filtering the complete model.
+ *
+ * The index holds:
+ * <ul>
+ * <li>operations by tag and by operationId</li>
+ * <li>a trie of path segments, used to find path items by path prefix</li>
+ * <li>the references made by each operation and each entry in {@code #/components},
+ * along with the reverse graph of component references</li>
+ * </ul>
+ *
+ * Subset documents share the model instances of the indexed document. Only the
+ * containers (paths, path items holding a subset of their operations, components)
+ * are created. The indexed model must therefore not be modified while the index or
+ * any subset built from it is in use.
+ */
+public class OpenApiIndex {
+
+    /**
+     * An operation present in the indexed model, with the path and method where it is found.
+     */
+    public static class OperationEntry {
+        private final String path;
+        private final PathItem.HttpMethod method;
+        private final Operation operation;
+        final Set<String> references;
+
+        OperationEntry(String path, PathItem.HttpMethod method, Operation operation, Set<String> references) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+            this.references = references;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public PathItem.HttpMethod getMethod() {
+            return method;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+    }
+
+    /**
+     * Node of the path segment trie, holding the paths terminating at the node.
+     */
+    static class PathNode {
+        final Map<String, PathNode> children = new HashMap<>();
+        final List<String> paths = new ArrayList<>(1);
+    }
+
+    private final OpenAPI model;
+    private final Map<String, Integer> pathOrder = new HashMap<>();
+    private final List<OperationEntry> operations = new ArrayList<>();
+    private final Map<String, List<OperationEntry>> operationsByTag = new LinkedHashMap<>();
+    private final Map<String, OperationEntry> operationsById = new HashMap<>();
+    private final Map<String, Set<String>> pathReferences = new HashMap<>();
+    private final PathNode pathTrie = new PathNode();
+    private final Map<String, Set<String>> componentReferences = new HashMap<>();
+    private final Map<String, Set<String>> componentReferrers = new HashMap<>();
+
+    private OpenApiIndex(OpenAPI model) {
+        this.model = model;
+    }
+
+    /**
+     * Create an index of the given model.
+     *
+     * @param model finalized OpenAPI model
+     * @return the index
+     */
+    public static OpenApiIndex of(OpenAPI model) {
+        OpenApiIndex index = new OpenApiIndex(model);
+        index.indexComponents();
+        index.indexPaths();
+        return index;
+    }
+
+    /**
+     * @return the indexed model
+     */
+    public OpenAPI getModel() {
+        return model;
+    }
+
+    /**
+     * @return the names of tags used by at least one operation, in document order
+     */
+    public Set<String> getTags() {
+        return Collections.unmodifiableSet(operationsByTag.keySet());
+    }
+
+    /**
+     * @param tag tag name
+     * @return the operations with the given tag, in document order
+     */
+    public List<OperationEntry> getOperationsByTag(String tag) {
+        return Collections.unmodifiableList(operationsByTag.getOrDefault(tag, Collections.emptyList()));
+    }
+
+    /**
+     * @param operationId operationId to find
+     * @return the operation, or null if no operation has the given operationId
+     */
+    public OperationEntry getOperation(String operationId) {
+        return operationsById.get(operationId);
+    }
+
+    /**
+     * Find the paths equal to or nested below the given prefix. The prefix is matched by
+     * whole path segments, i.e. prefix {@code /users} matches {@code /users/{id}} but not
+     * {@code /usersettings}.
+     *
+     * @param prefix path prefix
+     * @return matching paths, in document order
+     */
+    public List<String> getPaths(String prefix) {
+        PathNode node = pathTrie;
+
+        for (String segment : segments(prefix)) {
+            node = node.children.get(segment);
+
+            if (node == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<String> paths = new ArrayList<>();
+        Deque<PathNode> pending = new ArrayDeque<>();
+        pending.push(node);
+
+        while (!pending.isEmpty()) {
+            PathNode current = pending.pop();
+
+            paths.addAll(current.paths);
+            current.children.values().forEach(pending::push);
+        }
+
+        paths.sort((p1, p2) -> Integer.compare(pathOrder.get(p1), pathOrder.get(p2)));
+        return paths;
+    }
+
+    /**
+     * Retrieve the names of schemas in {@code #/components/schemas} that directly refer
+     * to the named schema.
+     *
+     * @param name name of a schema in {@code #/components/schemas}
+     * @return names of schemas referring to the schema
+     */
+    public Set<String> getSchemaReferrers(String name) {
+        return componentReferrers.getOrDefault(OpenApiConstants.REF_PREFIX_SCHEMA + name, Collections.emptySet())
+                .stream()
+                .filter(ref -> ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA))
+                .map(ModelUtil::nameFromRef)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Retrieve the operations that use the named schema, either directly or by way of other
+     * components.
+     *
+     * @param name name of a schema in {@code #/components/schemas}
+     * @return the operations using the schema, in document order
+     */
+    public List<OperationEntry> getOperationsUsingSchema(String name) {
+        Set<String> users = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+
+        while (!pending.isEmpty()) {
+            String ref = pending.pop();
+
+            if (users.add(ref)) {
+                pending.addAll(componentReferrers.getOrDefault(ref, Collections.emptySet()));
+            }
+        }
+
+        return operations.stream()
+                .filter(entry -> entry.references.stream().anyMatch(users::contains)
+                        || pathReferences.get(entry.path).stream().anyMatch(users::contains))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Build a document holding only the operations having at least one of the given tags.
+     *
+     * @param tags tag names
+     * @return self-contained subset of the indexed model
+     */
+    public OpenAPI subsetByTags(Collection<String> tags) {
+        Set<OperationEntry> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        tags.forEach(tag -> selected.addAll(operationsByTag.getOrDefault(tag, Collections.emptyList())));
+        return subset(selected::contains);
+    }
+
+    /**
+     * Build a document holding only the operations with the given operationIds.
+     *
+     * @param operationIds operationIds of the operations to include
+     * @return self-contained subset of the indexed model
+     */
+    public OpenAPI subsetByOperationIds(Collection<String> operationIds) {
+        Set<OperationEntry> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        operationIds.stream().map(operationsById::get).filter(e -> e != null).forEach(selected::add);
+        return subset(selected::contains);
+    }
+
+    /**
+     * Build a document holding only the paths equal to or nested below the given prefix.
+     *
+     * @param prefix path prefix
+     * @return self-contained subset of the indexed model
+     * @see #getPaths(String)
+     */
+    public OpenAPI subsetByPathPrefix(String prefix) {
+        Set<String> paths = new LinkedHashSet<>(getPaths(prefix));
+        return subset(entry -> paths.contains(entry.path), paths);
+    }
+
+    /**
+     * Render the subset of the model with the given tags.
+     *
+     * @param format output format
+     * @param tags tag names
+     * @return the serialized subset document
+     * @throws IOException Errors serializing the document
+     */
+    public String renderByTags(Format format, Collection<String> tags) throws IOException {
+        return OpenApiSerializer.serialize(subsetByTags(tags), format);
+    }
+
+    /**
+     * Render the subset of the model with the given operationIds.
+     *
+     * @param format output format
+     * @param operationIds operationIds of the operations to include
+     * @return the serialized subset document
+     * @throws IOException Errors serializing the document
+     */
+    public String renderByOperationIds(Format format, Collection<String> operationIds) throws IOException {
+        return OpenApiSerializer.serialize(subsetByOperationIds(operationIds), format);
+    }
+
+    /**
+     * Render the subset of the model with paths equal to or nested below the given prefix.
+     *
+     * @param format output format
+     * @param prefix path prefix
+     * @return the serialized subset document
+     * @throws IOException Errors serializing the document
+     */
+    public String renderByPathPrefix(Format format, String prefix) throws IOException {
+        return OpenApiSerializer.serialize(subsetByPathPrefix(prefix), format);
+    }
+
+    /************************************************************************/
+
+    OpenAPI subset(Predicate<OperationEntry> filter) {
+        return subset(filter, Collections.emptySet());
+    }
+
+    /**
+     * Build the subset document from the operations matching the filter. Paths in
+     * {@code wholePaths} are included even if they do not hold any operation.
+     */
+    OpenAPI subset(Predicate<OperationEntry> filter, Set<String> wholePaths) {
+        Map<String, List<OperationEntry>> selected = new LinkedHashMap<>();
+        wholePaths.forEach(path -> selected.put(path, new ArrayList<>()));
+
+        for (OperationEntry entry : operations) {
+            if (filter.test(entry)) {
+                selected.computeIfAbsent(entry.path, k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        OpenAPI result = new OpenAPIImpl();
+        result.setOpenapi(model.getOpenapi());
+        result.setInfo(model.getInfo());
+        result.setExternalDocs(model.getExternalDocs());
+        result.setServers(model.getServers());
+        result.setSecurity(model.getSecurity());
+        result.setExtensions(model.getExtensions());
+
+        PathsImpl paths = new PathsImpl();
+        Set<String> references = new LinkedHashSet<>();
+        Set<String> tags = new LinkedHashSet<>();
+        Set<String> securitySchemes = new LinkedHashSet<>();
+        addSecuritySchemes(model.getSecurity(), securitySchemes);
+
+        if (model.getPaths() != null) {
+            paths.setExtensions(model.getPaths().getExtensions());
+        }
+
+        selected.forEach((path, entries) -> {
+            PathItem pathItem = model.getPaths().getPathItem(path);
+            paths.addPathItem(path, subset(pathItem, entries));
+            references.addAll(pathReferences.get(path));
+
+            for (OperationEntry entry : entries) {
+                references.addAll(entry.references);
+                addSecuritySchemes(entry.operation.getSecurity(), securitySchemes);
+
+                if (entry.operation.getTags() != null) {
+                    tags.addAll(entry.operation.getTags());
+                }
+            }
+        });
+
+        result.setPaths(paths);
+
+        if (model.getTags() != null) {
+            result.setTags(model.getTags()
+                    .stream()
+                    .filter(tag -> tags.contains(tag.getName()))
+                    .collect(Collectors.toList()));
+        }
+
+        result.setComponents(subsetComponents(closure(references), securitySchemes));
+
+        return result;
+    }
+
+    static PathItem subset(PathItem pathItem, List<OperationEntry> entries) {
+        if (entries.size() == pathItem.getOperations().size()) {
+            return pathItem;
+        }
+
+        PathItem result = new PathItemImpl();
+        result.setRef(pathItem.getRef());
+        result.setSummary(pathItem.getSummary());
+        result.setDescription(pathItem.getDescription());
+        result.setServers(pathItem.getServers());
+        result.setParameters(pathItem.getParameters());
+        result.setExtensions(pathItem.getExtensions());
+        entries.forEach(entry -> result.setOperation(entry.method, entry.operation));
+        return result;
+    }
+
+    static void addSecuritySchemes(List<SecurityRequirement> requirements, Set<String> names) {
+        if (requirements != null) {
+            requirements.stream()
+                    .map(SecurityRequirement::getSchemes)
+                    .filter(schemes -> schemes != null)
+                    .forEach(schemes -> names.addAll(schemes.keySet()));
+        }
+    }
+
+    Set<String> closure(Set<String> references) {
+        Set<String> result = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>(references);
+
+        while (!pending.isEmpty()) {
+            String ref = pending.pop();
+
+            if (result.add(ref)) {
+                pending.addAll(componentReferences.getOrDefault(ref, Collections.emptySet()));
+            }
+        }
+
+        return result;
+    }
+
+    Components subsetComponents(Set<String> references, Set<String> securitySchemes) {
+        Components source = model.getComponents();
+
+        if (source == null) {
+            return null;
+        }
+
+        Components result = new ComponentsImpl();
+        result.setExtensions(source.getExtensions());
+
+        subset(source.getSchemas(), OpenApiConstants.REF_PREFIX_SCHEMA, references, result::addSchema);
+        subset(source.getResponses(), OpenApiConstants.REF_PREFIX_API_RESPONSE, references, result::addResponse);
+        subset(source.getParameters(), OpenApiConstants.REF_PREFIX_PARAMETER, references, result::addParameter);
+        subset(source.getExamples(), OpenApiConstants.REF_PREFIX_EXAMPLE, references, result::addExample);
+        subset(source.getRequestBodies(), OpenApiConstants.REF_PREFIX_REQUEST_BODY, references, result::addRequestBody);
+        subset(source.getHeaders(), OpenApiConstants.REF_PREFIX_HEADER, references, result::addHeader);
+        subset(source.getLinks(), OpenApiConstants.REF_PREFIX_LINK, references, result::addLink);
+        subset(source.getCallbacks(), OpenApiConstants.REF_PREFIX_CALLBACK, references, result::addCallback);
+
+        if (source.getSecuritySchemes() != null) {
+            source.getSecuritySchemes()
+                    .entrySet()
+                    .stream()
+                    .filter(e -> securitySchemes.contains(e.getKey()))
+                    .forEach(e -> result.addSecurityScheme(e.getKey(), e.getValue()));
+        }
+
+        return result;
+    }
+
+    static <T> void subset(Map<String, T> source, String prefix, Set<String> references, BiConsumer<String, T> target) {
+        if (source != null) {
+            source.entrySet()
+                    .stream()
+                    .filter(e -> references.contains(prefix + e.getKey()))
+                    .forEach(e -> target.accept(e.getKey(), e.getValue()));
+        }
+    }
+
+    /************************************************************************/
+
+    private void indexComponents() {
+        Components components = model.getComponents();
+
+        if (components != null) {
+            indexComponents(components.getSchemas(), OpenApiConstants.REF_PREFIX_SCHEMA, this::collect);
+            indexComponents(components.getResponses(), OpenApiConstants.REF_PREFIX_API_RESPONSE, this::collect);
+            indexComponents(components.getParameters(), OpenApiConstants.REF_PREFIX_PARAMETER, this::collect);
+            indexComponents(components.getExamples(), OpenApiConstants.REF_PREFIX_EXAMPLE, this::collect);
+            indexComponents(components.getRequestBodies(), OpenApiConstants.REF_PREFIX_REQUEST_BODY, this::collect);
+            indexComponents(components.getHeaders(), OpenApiConstants.REF_PREFIX_HEADER, this::collect);
+            indexComponents(components.getLinks(), OpenApiConstants.REF_PREFIX_LINK, this::collect);
+            indexComponents(components.getCallbacks(), OpenApiConstants.REF_PREFIX_CALLBACK, this::collect);
+        }
+
+        componentReferences.forEach((source, targets) -> targets
+                .forEach(target -> componentReferrers.computeIfAbsent(target, k -> new TreeSet<>()).add(source)));
+    }
+
+    private <T> void indexComponents(Map<String, T> models, String prefix, BiConsumer<T, ReferenceCollector> collector) {
+        if (models != null) {
+            models.forEach((name, model) -> {
+                ReferenceCollector references = new ReferenceCollector();
+                collector.accept(model, references);
+                componentReferences.put(prefix + name, references.references);
+            });
+        }
+    }
+
+    private void indexPaths() {
+        if (model.getPaths() == null || model.getPaths().getPathItems() == null) {
+            return;
+        }
+
+        model.getPaths().getPathItems().forEach((path, pathItem) -> {
+            pathOrder.put(path, pathOrder.size());
+            addPath(path);
+
+            ReferenceCollector pathCollector = new ReferenceCollector();
+            pathCollector.add(pathItem);
+            each(pathItem.getParameters(), p -> collect(p, pathCollector));
+            pathReferences.put(path, pathCollector.references);
+
+            pathItem.getOperations().forEach((method, operation) -> {
+                ReferenceCollector collector = new ReferenceCollector();
+                collect(operation, collector);
+
+                OperationEntry entry = new OperationEntry(path, method, operation, collector.references);
+                operations.add(entry);
+
+                if (operation.getOperationId() != null) {
+                    operationsById.putIfAbsent(operation.getOperationId(), entry);
+                }
+
+                if (operation.getTags() != null) {
+                    operation.getTags()
+                            .forEach(tag -> operationsByTag.computeIfAbsent(tag, k -> new ArrayList<>()).add(entry));
+                }
+            });
+        });
+    }
+
+    private void addPath(String path) {
+        PathNode node = pathTrie;
+
+        for (String segment : segments(path)) {
+            node = node.children.computeIfAbsent(segment, k -> new PathNode());
+        }
+
+        node.paths.add(path);
+    }
+
+    static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+
+        return segments;
+    }
+
+    /************************************************************************/
+
+    /**
+     * Accumulates the local component references ({@code #/components/...}) found
+     * while walking a part of the model.
+     */
+    static class ReferenceCollector {
+        final Set<String> references = new LinkedHashSet<>();
+        final Map<Object, Object> visited = new IdentityHashMap<>();
+
+        /**
+         * Record the model's reference, if any.
+         *
+         * @return true if the model has not been visited before and its content should be walked
+         */
+        boolean add(Object model) {
+            if (model == null || visited.put(model, model) != null) {
+                return false;
+            }
+
+            if (model instanceof Reference) {
+                String ref = ((Reference<?>) model).getRef();
+
+                if (ref != null && ref.startsWith("#/components/")) {
+                    references.add(ref);
+                }
+            }
+
+            return true;
+        }
+    }
+
+    static <T> void each(Collection<T> models, Consumer<T> action) {
+        if (models != null) {
+            models.forEach(action);
+        }
+    }
+
+    static <T> void each(Map<?, T> models, Consumer<T> action) {
+        if (models != null) {
+            models.values().forEach(action);
+        }
+    }
+
+    private void collect(Operation model, ReferenceCollector collector) {
+        if (!collector.add(model)) {
+            return;
+        }
+
+        each(model.getParameters(), p -> collect(p, collector));
+        collect(model.getRequestBody(), collector);
+
+        APIResponses responses = model.getResponses();
+
+        if (responses != null) {
+            each(responses.getAPIResponses(), r -> collect(r, collector));
+            collect(responses.getDefaultValue(), collector);
+        }
+
+        each(model.getCallbacks(), c -> collect(c, collector));
+    }
+
+    private void collect(Callback model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            each(model.getPathItems(), pathItem -> {
+                if (collector.add(pathItem)) {
+                    each(pathItem.getParameters(), p -> collect(p, collector));
+                    each(pathItem.getOperations(), o -> collect(o, collector));
+                }
+            });
+        }
+    }
+
+    private void collect(Parameter model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            collect(model.getSchema(), collector);
+            collect(model.getContent(), collector);
+            each(model.getExamples(), e -> collect(e, collector));
+        }
+    }
+
+    private void collect(RequestBody model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            collect(model.getContent(), collector);
+        }
+    }
+
+    private void collect(APIResponse model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            each(model.getHeaders(), h -> collect(h, collector));
+            collect(model.getContent(), collector);
+            each(model.getLinks(), l -> collect(l, collector));
+        }
+    }
+
+    private void collect(Header model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            collect(model.getSchema(), collector);
+            collect(model.getContent(), collector);
+            each(model.getExamples(), e -> collect(e, collector));
+        }
+    }
+
+    private void collect(Link model, ReferenceCollector collector) {
+        collector.add(model);
+    }
+
+    private void collect(Example model, ReferenceCollector collector) {
+        collector.add(model);
+    }
+
+    private void collect(Content model, ReferenceCollector collector) {
+        if (model != null) {
+            each(model.getMediaTypes(), m -> collect(m, collector));
+        }
+    }
+
+    private void collect(MediaType model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            collect(model.getSchema(), collector);
+            each(model.getExamples(), e -> collect(e, collector));
+
+            if (model.getEncoding() != null) {
+                model.getEncoding()
+                        .values()
+                        .stream()
+                        .map(Encoding::getHeaders)
+                        .forEach(headers -> each(headers, h -> collect(h, collector)));
+            }
+        }
+    }
+
+    private void collect(Schema model, ReferenceCollector collector) {
+        if (collector.add(model)) {
+            collect(model.getItems(), collector);
+            collect(model.getNot(), collector);
+            collect(model.getAdditionalPropertiesSchema(), collector);
+            each(model.getAllOf(), s -> collect(s, collector));
+            each(model.getAnyOf(), s -> collect(s, collector));
+            each(model.getOneOf(), s -> collect(s, collector));
+            each(model.getProperties(), s -> collect(s, collector));
+        }
+    }
+}
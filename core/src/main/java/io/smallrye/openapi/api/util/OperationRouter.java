@@ -0,0 +1,565 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * Maps requests (HTTP method and concrete path) to the operations of a finalized OpenAPI
+ * model, e.g. to find the <code>operationId</code> of a request for metrics or authorization.
+ *
+ * The paths of the model are compiled into a trie of path segments. A segment is either
+ * literal, a single path parameter (<code>{id}</code>), or a template combining literal text
+ * and parameters (<code>v{version}</code>, <code>{name}.{ext}</code>). A <code>pattern</code>
+ * given by the schema of a path parameter (e.g. from a JAX-RS <code>@Path("{id: \\d+}")</code>)
+ * restricts the values matched by the parameter. When several segments match, literal
+ * segments are preferred to templates, templates to parameters with a pattern, and those to
+ * parameters without a pattern. A parameter with a pattern in the last segment of a path may
+ * match the remainder of the request path, including <code>/</code>, e.g. <code>{path: .*}</code>.
+ *
+ * Looking up a request does not create any objects once the {@link Match} passed to
+ * {@link #match(PathItem.HttpMethod, CharSequence, Match)} has been used for a lookup:
+ * parameter values are captured as offsets into the request path and only extracted when
+ * requested. Values are not percent-decoded. A trailing <code>/</code> in the request path
+ * is ignored.
+ *
+ * The router must be rebuilt when the model changes. A router may be used by concurrent threads,
+ * but each {@link Match} only by one thread at a time.
+ */
+public class OperationRouter {
+
+    /**
+     * The result of a successful lookup, reusable for subsequent lookups.
+     */
+    public static final class Match {
+        private final OperationRouter router;
+        private final Matcher[] matchers;
+        private final int[] starts;
+        private final int[] ends;
+        private CharSequence path;
+        private Route route;
+
+        Match(OperationRouter router) {
+            this.router = router;
+            this.matchers = new Matcher[router.patterns.size()];
+            this.starts = new int[router.maxParameters];
+            this.ends = new int[router.maxParameters];
+        }
+
+        Matcher matcher(int pattern, CharSequence input, int start, int end) {
+            Matcher matcher = matchers[pattern];
+
+            if (matcher == null) {
+                matcher = matchers[pattern] = router.patterns.get(pattern).matcher(input);
+            } else {
+                matcher.reset(input);
+            }
+
+            return matcher.region(start, end);
+        }
+
+        void capture(int index, int start, int end) {
+            starts[index] = start;
+            ends[index] = end;
+        }
+
+        /**
+         * @return the path of the matched operation, as given in the model (e.g. <code>/pets/{id}</code>)
+         */
+        public String getPath() {
+            return route.path;
+        }
+
+        /**
+         * @return the HTTP method of the matched operation
+         */
+        public PathItem.HttpMethod getMethod() {
+            return route.method;
+        }
+
+        /**
+         * @return the matched operation
+         */
+        public Operation getOperation() {
+            return route.operation;
+        }
+
+        /**
+         * @return the operationId of the matched operation, may be null
+         */
+        public String getOperationId() {
+            return route.operation.getOperationId();
+        }
+
+        /**
+         * @return the number of path parameters captured
+         */
+        public int getParameterCount() {
+            return route.parameters.length;
+        }
+
+        /**
+         * @param index index of the parameter, in the order the parameters appear in the path
+         * @return the name of the parameter
+         */
+        public String getParameterName(int index) {
+            return route.parameters[index];
+        }
+
+        /**
+         * @param index index of the parameter, in the order the parameters appear in the path
+         * @return the value of the parameter in the request path
+         */
+        public String getParameterValue(int index) {
+            if (index < 0 || index >= route.parameters.length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return path.subSequence(starts[index], ends[index]).toString();
+        }
+
+        /**
+         * @param name name of the parameter
+         * @return the value of the parameter in the request path, or null if the path has no such parameter
+         */
+        public String getParameter(String name) {
+            for (int i = 0; i < route.parameters.length; i++) {
+                if (route.parameters[i].equals(name)) {
+                    return getParameterValue(i);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return the parameters captured, by name
+         */
+        public Map<String, String> getParameters() {
+            Map<String, String> result = new HashMap<>(route.parameters.length);
+
+            for (int i = 0; i < route.parameters.length; i++) {
+                result.put(route.parameters[i], getParameterValue(i));
+            }
+
+            return result;
+        }
+    }
+
+    static final class Route {
+        final String path;
+        final PathItem.HttpMethod method;
+        final Operation operation;
+        final String[] parameters;
+
+        Route(String path, PathItem.HttpMethod method, Operation operation, String[] parameters) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+            this.parameters = parameters;
+        }
+    }
+
+    /**
+     * An edge to a child node, matching a segment (or the remainder of the path)
+     * other than a literal segment.
+     */
+    abstract static class Edge {
+        final String key;
+        final int rank;
+        final Node target = new Node();
+
+        Edge(String key, int rank) {
+            this.key = key;
+            this.rank = rank;
+        }
+
+        /**
+         * Match the segment and continue with the target node.
+         */
+        abstract boolean match(OperationRouter router, CharSequence path, int start, int end, PathItem.HttpMethod method,
+                Match match, int captures);
+    }
+
+    static final class ParameterEdge extends Edge {
+        final int pattern;
+
+        ParameterEdge(String key, int pattern) {
+            super(key, pattern < 0 ? 2 : 1);
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean match(OperationRouter router, CharSequence path, int start, int end, PathItem.HttpMethod method,
+                Match match, int captures) {
+            if (end > start && (pattern < 0 || match.matcher(pattern, path, start, end).matches())) {
+                match.capture(captures, start, end);
+
+                if (router.match(target, path, next(path, end), method, match, captures + 1)) {
+                    return true;
+                }
+            }
+
+            int length = path.length();
+
+            if (pattern >= 0 && end < length && target.isLeaf() && match.matcher(pattern, path, start, length).matches()) {
+                // Remainder of the path, e.g. {path: .*}
+                match.capture(captures, start, length);
+                return router.match(target, path, length, method, match, captures + 1);
+            }
+
+            return false;
+        }
+    }
+
+    static final class TemplateEdge extends Edge {
+        final int pattern;
+        final String[] groups;
+
+        TemplateEdge(String key, int pattern, String[] groups) {
+            super(key, 0);
+            this.pattern = pattern;
+            this.groups = groups;
+        }
+
+        @Override
+        boolean match(OperationRouter router, CharSequence path, int start, int end, PathItem.HttpMethod method,
+                Match match, int captures) {
+            Matcher matcher = match.matcher(pattern, path, start, end);
+
+            if (!matcher.matches()) {
+                return false;
+            }
+
+            for (int i = 0; i < groups.length; i++) {
+                match.capture(captures + i, matcher.start(groups[i]), matcher.end(groups[i]));
+            }
+
+            return router.match(target, path, next(path, end), method, match, captures + groups.length);
+        }
+    }
+
+    static final class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        final List<Edge> edges = new ArrayList<>(0);
+        final Map<PathItem.HttpMethod, Route> routes = new EnumMap<>(PathItem.HttpMethod.class);
+        LiteralTable literalTable;
+
+        boolean isLeaf() {
+            return literals.isEmpty() && edges.isEmpty();
+        }
+
+        void freeze() {
+            literalTable = literals.isEmpty() ? null : new LiteralTable(literals);
+            edges.sort(Comparator.comparingInt((Edge e) -> e.rank));
+            literals.values().forEach(Node::freeze);
+            edges.forEach(e -> e.target.freeze());
+        }
+    }
+
+    /**
+     * Open addressing table of literal segments, looked up by a region of the
+     * request path without creating a substring.
+     */
+    static final class LiteralTable {
+        final String[] keys;
+        final Node[] nodes;
+        final int mask;
+
+        LiteralTable(Map<String, Node> literals) {
+            int capacity = Integer.highestOneBit(Math.max(2, literals.size() * 2 - 1)) << 1;
+            keys = new String[capacity];
+            nodes = new Node[capacity];
+            mask = capacity - 1;
+
+            literals.forEach((key, node) -> {
+                int slot = spread(key.hashCode()) & mask;
+
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+
+                keys[slot] = key;
+                nodes[slot] = node;
+            });
+        }
+
+        static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        Node get(CharSequence path, int start, int end) {
+            int hash = 0;
+
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+
+            for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (regionEquals(keys[slot], path, start, end)) {
+                    return nodes[slot];
+                }
+            }
+
+            return null;
+        }
+
+        static boolean regionEquals(String key, CharSequence path, int start, int end) {
+            if (key.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != path.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final Pattern TEMPLATE_PARAMETER = Pattern.compile("\\{([^}]+)\\}");
+    private static final String DEFAULT_PARAMETER_PATTERN = "[^/]+";
+
+    private final Node root = new Node();
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final Map<String, Integer> patternIndexes = new HashMap<>();
+    private int maxParameters;
+
+    private OperationRouter() {
+    }
+
+    /**
+     * Create a router for the paths of the model.
+     *
+     * @param model finalized OpenAPI model
+     * @return the router
+     */
+    public static OperationRouter of(OpenAPI model) {
+        return of(model.getPaths());
+    }
+
+    /**
+     * Create a router for the given paths.
+     *
+     * @param paths paths of a finalized OpenAPI model, may be null
+     * @return the router
+     */
+    public static OperationRouter of(Paths paths) {
+        OperationRouter router = new OperationRouter();
+
+        if (paths != null && paths.getPathItems() != null) {
+            paths.getPathItems().forEach((path, pathItem) -> {
+                if (pathItem.getOperations() != null) {
+                    pathItem.getOperations().forEach((method, operation) -> router.add(path, pathItem, method, operation));
+                }
+            });
+        }
+
+        router.root.freeze();
+        return router;
+    }
+
+    /**
+     * Create a {@link Match} for use with {@link #match(PathItem.HttpMethod, CharSequence, Match)}.
+     *
+     * @return a new match
+     */
+    public Match newMatch() {
+        return new Match(this);
+    }
+
+    /**
+     * Find the operation for a request.
+     *
+     * @param method the HTTP method of the request
+     * @param path the path of the request, relative to the server URL and without query string
+     * @return the match, or null if no operation matches the request
+     */
+    public Match match(PathItem.HttpMethod method, CharSequence path) {
+        Match match = newMatch();
+        return match(method, path, match) ? match : null;
+    }
+
+    /**
+     * Find the operation for a request, without creating any objects when the match
+     * has been used before.
+     *
+     * @param method the HTTP method of the request
+     * @param path the path of the request, relative to the server URL and without query string
+     * @param match receives the operation and path parameters
+     * @return true if an operation matches the request, otherwise false and the content of the
+     *         match is unspecified
+     */
+    public boolean match(PathItem.HttpMethod method, CharSequence path, Match match) {
+        int start = path.length() > 0 && path.charAt(0) == '/' ? 1 : 0;
+        match.path = path;
+        return match(root, path, start, method, match, 0);
+    }
+
+    boolean match(Node node, CharSequence path, int start, PathItem.HttpMethod method, Match match, int captures) {
+        int length = path.length();
+
+        if (start >= length) {
+            Route route = node.routes.get(method);
+
+            if (route != null) {
+                match.route = route;
+                return true;
+            }
+
+            return false;
+        }
+
+        int end = start;
+
+        while (end < length && path.charAt(end) != '/') {
+            end++;
+        }
+
+        if (node.literalTable != null) {
+            Node literal = node.literalTable.get(path, start, end);
+
+            if (literal != null && match(literal, path, next(path, end), method, match, captures)) {
+                return true;
+            }
+        }
+
+        for (Edge edge : node.edges) {
+            if (edge.match(this, path, start, end, method, match, captures)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static int next(CharSequence path, int end) {
+        return end < path.length() ? end + 1 : end;
+    }
+
+    void add(String path, PathItem pathItem, PathItem.HttpMethod method, Operation operation) {
+        Map<String, String> parameterPatterns = parameterPatterns(pathItem.getParameters());
+        parameterPatterns.putAll(parameterPatterns(operation.getParameters()));
+
+        List<String> parameters = new ArrayList<>();
+        Node node = root;
+
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            Matcher template = TEMPLATE_PARAMETER.matcher(segment);
+
+            if (!template.find()) {
+                node = node.literals.computeIfAbsent(segment, k -> new Node());
+            } else if (template.start() == 0 && template.end() == segment.length()) {
+                String name = template.group(1).trim();
+                String pattern = parameterPatterns.get(name);
+                parameters.add(name);
+                node = edge(node, '{' + name + ':' + pattern + '}',
+                        key -> new ParameterEdge(key, pattern != null ? pattern(pattern) : -1));
+            } else {
+                node = templateEdge(node, segment, parameterPatterns, parameters);
+            }
+        }
+
+        maxParameters = Math.max(maxParameters, parameters.size());
+        node.routes.putIfAbsent(method, new Route(path, method, operation, parameters.toArray(new String[0])));
+    }
+
+    private Node templateEdge(Node node, String segment, Map<String, String> parameterPatterns, List<String> parameters) {
+        StringBuilder regex = new StringBuilder();
+        List<String> groups = new ArrayList<>();
+        Matcher template = TEMPLATE_PARAMETER.matcher(segment);
+        int literalStart = 0;
+
+        while (template.find()) {
+            String name = template.group(1).trim();
+            String pattern = parameterPatterns.getOrDefault(name, DEFAULT_PARAMETER_PATTERN);
+            String group = "p" + groups.size();
+
+            if (template.start() > literalStart) {
+                regex.append(Pattern.quote(segment.substring(literalStart, template.start())));
+            }
+
+            regex.append("(?<").append(group).append('>').append(pattern).append(')');
+            groups.add(group);
+            parameters.add(name);
+            literalStart = template.end();
+        }
+
+        if (literalStart < segment.length()) {
+            regex.append(Pattern.quote(segment.substring(literalStart)));
+        }
+
+        String expression = regex.toString();
+        return edge(node, expression, key -> new TemplateEdge(key, pattern(expression), groups.toArray(new String[0])));
+    }
+
+    private static Node edge(Node node, String key, Function<String, Edge> factory) {
+        for (Edge edge : node.edges) {
+            if (edge.key.equals(key)) {
+                return edge.target;
+            }
+        }
+
+        Edge edge = factory.apply(key);
+        node.edges.add(edge);
+        return edge.target;
+    }
+
+    private int pattern(String expression) {
+        return patternIndexes.computeIfAbsent(expression, e -> {
+            patterns.add(Pattern.compile(e));
+            return patterns.size() - 1;
+        });
+    }
+
+    private static Map<String, String> parameterPatterns(List<Parameter> parameters) {
+        if (parameters == null) {
+            return new HashMap<>();
+        }
+
+        Map<String, String> result = new HashMap<>();
+
+        for (Parameter parameter : parameters) {
+            if (parameter.getIn() == Parameter.In.PATH && parameter.getSchema() != null
+                    && parameter.getSchema().getPattern() != null) {
+                result.put(parameter.getName(), parameter.getSchema().getPattern());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the number of operations known to the router
+     */
+    public int size() {
+        return size(root);
+    }
+
+    private static int size(Node node) {
+        int size = node.routes.size();
+
+        for (Node literal : node.literals.values()) {
+            size += size(literal);
+        }
+        for (Edge edge : node.edges) {
+            size += size(edge.target);
+        }
+
+        return size;
+    }
+}
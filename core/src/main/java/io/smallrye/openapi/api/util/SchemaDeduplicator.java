@@ -0,0 +1,517 @@
+package io.smallrye.openapi.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.schema.SchemaWriter;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Replaces structurally identical inline schemas found in an OpenAPI model with
+ * a reference to a single copy held in {@code #/components/schemas}.
+ *
+ * A structural hash is computed for every schema in the document, bottom-up. Schemas
+ * sharing a hash (and whose serialized forms are equal) are grouped, and each group with
+ * more than one occurrence and a size (number of schema nodes in the subtree) of at least
+ * the configured minimum is hoisted. When an existing component schema is identical to a
+ * group, the existing component is referenced rather than creating a new one. Larger
+ * schemas are processed first so that duplicates nested within a hoisted schema are only
+ * counted once.
+ */
+public class SchemaDeduplicator {
+
+    private static final String DEFAULT_NAME = "Schema";
+
+    /**
+     * The result of deduplicating a model.
+     */
+    public static class Result {
+        private final int hoistedCount;
+        private final int replacedCount;
+        private final long bytesSaved;
+
+        Result(int hoistedCount, int replacedCount, long bytesSaved) {
+            this.hoistedCount = hoistedCount;
+            this.replacedCount = replacedCount;
+            this.bytesSaved = bytesSaved;
+        }
+
+        /**
+         * @return number of schemas added to {@code #/components/schemas}
+         */
+        public int getHoistedCount() {
+            return hoistedCount;
+        }
+
+        /**
+         * @return number of inline schemas replaced by a reference
+         */
+        public int getReplacedCount() {
+            return replacedCount;
+        }
+
+        /**
+         * @return approximate reduction of the document's compact JSON size, in bytes
+         */
+        public long getBytesSaved() {
+            return bytesSaved;
+        }
+    }
+
+    /**
+     * A single position in the model where a schema is found.
+     */
+    static class Occurrence {
+        final Schema schema;
+        final Occurrence parent;
+        final String name;
+        final Consumer<Schema> replacer;
+        final boolean component;
+        int hash;
+        int size;
+        boolean replaced;
+
+        Occurrence(Schema schema, Occurrence parent, String name, Consumer<Schema> replacer, boolean component) {
+            this.schema = schema;
+            this.parent = parent;
+            this.name = name;
+            this.replacer = replacer;
+            this.component = component;
+        }
+
+        boolean removed() {
+            for (Occurrence o = this; o != null; o = o.parent) {
+                if (o.replaced) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final int minimumSize;
+    private final List<Occurrence> occurrences = new ArrayList<>();
+    private final Map<Schema, Boolean> visiting = new IdentityHashMap<>();
+
+    private SchemaDeduplicator(int minimumSize) {
+        this.minimumSize = Math.max(minimumSize, 1);
+    }
+
+    /**
+     * Hoist duplicated inline schemas in the model into {@code #/components/schemas}.
+     *
+     * @param model the model to update
+     * @param minimumSize minimum number of schema nodes a schema must contain to be hoisted
+     * @return summary of the changes made
+     */
+    public static Result deduplicate(OpenAPI model, int minimumSize) {
+        Result result = new SchemaDeduplicator(minimumSize).process(model);
+
+        if (result.getReplacedCount() > 0) {
+            UtilLogging.logger.duplicateSchemasHoisted(result.getReplacedCount(), result.getHoistedCount(),
+                    result.getBytesSaved());
+        }
+
+        return result;
+    }
+
+    Result process(OpenAPI model) {
+        collect(model);
+
+        Map<Integer, List<Occurrence>> candidates = occurrences.stream()
+                .filter(o -> o.size >= minimumSize || o.component)
+                .filter(o -> o.schema.getRef() == null)
+                .collect(Collectors.groupingBy(o -> o.hash, LinkedHashMap::new, Collectors.toList()));
+
+        List<List<Occurrence>> groups = candidates.values()
+                .stream()
+                .filter(g -> g.size() > 1)
+                .flatMap(g -> partition(g).stream())
+                .filter(g -> g.size() > 1)
+                .filter(g -> g.stream().anyMatch(o -> !o.component))
+                .sorted(Comparator.comparingInt((List<Occurrence> g) -> g.get(0).size).reversed())
+                .collect(Collectors.toList());
+
+        int hoisted = 0;
+        int replaced = 0;
+        long bytesSaved = 0;
+
+        for (List<Occurrence> group : groups) {
+            List<Occurrence> live = group.stream().filter(o -> !o.removed()).collect(Collectors.toList());
+            Occurrence target = live.stream().filter(o -> o.component).findFirst().orElse(null);
+            List<Occurrence> inline = live.stream().filter(o -> !o.component).collect(Collectors.toList());
+
+            if (target == null && inline.size() < 2 || inline.isEmpty() || live.get(0).size < minimumSize) {
+                continue;
+            }
+
+            String name;
+
+            if (target != null) {
+                name = target.name;
+            } else {
+                name = newComponentName(model, inline);
+                ModelUtil.components(model).addSchema(name, SchemaImpl.copyOf(inline.get(0).schema));
+                hoisted++;
+            }
+
+            String ref = OpenApiConstants.REF_PREFIX_SCHEMA + name;
+            long schemaBytes = serializedSize(inline.get(0).schema);
+            long refBytes = serializedSize(new SchemaImpl().ref(ref));
+
+            for (Occurrence o : inline) {
+                o.replacer.accept(new SchemaImpl().ref(ref));
+                o.replaced = true;
+                replaced++;
+            }
+
+            bytesSaved += inline.size() * (schemaBytes - refBytes);
+
+            if (target == null) {
+                // Account for the copy now present in the components
+                bytesSaved -= schemaBytes + name.length() + 3L;
+            }
+        }
+
+        return new Result(hoisted, replaced, bytesSaved);
+    }
+
+    /**
+     * Split a group of occurrences with the same hash into groups that are
+     * actually equal, based on their serialized form.
+     */
+    static Collection<List<Occurrence>> partition(List<Occurrence> group) {
+        Map<JsonNode, List<Occurrence>> partitions = new LinkedHashMap<>();
+
+        for (Occurrence o : group) {
+            partitions.computeIfAbsent(serialize(o.schema), k -> new ArrayList<>()).add(o);
+        }
+
+        return partitions.values();
+    }
+
+    static JsonNode serialize(Schema schema) {
+        ObjectNode node = JsonUtil.objectNode();
+        SchemaWriter.writeSchema(node, schema, DEFAULT_NAME);
+        return node.get(DEFAULT_NAME);
+    }
+
+    static long serializedSize(Schema schema) {
+        return serialize(schema).toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    String newComponentName(OpenAPI model, List<Occurrence> group) {
+        Map<String, Schema> schemas = ModelUtil.components(model).getSchemas();
+        Set<String> existing = schemas != null ? schemas.keySet() : Collections.emptySet();
+
+        String base = group.stream()
+                .map(o -> o.schema.getTitle() != null ? o.schema.getTitle() : o.name)
+                .filter(Objects::nonNull)
+                .map(n -> n.replaceAll("[^a-zA-Z0-9\\.\\-_]", ""))
+                .filter(n -> !n.isEmpty())
+                .map(n -> Character.toUpperCase(n.charAt(0)) + n.substring(1))
+                .findFirst()
+                .orElse(DEFAULT_NAME);
+
+        String name = base;
+        int idx = 1;
+
+        while (existing.contains(name)) {
+            name = base + idx++;
+        }
+
+        return name;
+    }
+
+    /************************************************************************/
+
+    private void collect(OpenAPI model) {
+        Components components = model.getComponents();
+
+        if (components != null) {
+            if (components.getSchemas() != null) {
+                components.getSchemas()
+                        .forEach((name, schema) -> visit(schema, null, name, null, true));
+            }
+            each(components.getResponses(), this::visitResponse);
+            each(components.getParameters(), this::visitParameter);
+            each(components.getRequestBodies(), this::visitRequestBody);
+            each(components.getHeaders(), this::visitHeader);
+            each(components.getCallbacks(), this::visitCallback);
+        }
+
+        if (model.getPaths() != null) {
+            each(model.getPaths().getPathItems(), this::visitPathItem);
+        }
+    }
+
+    private static <T> void each(Map<String, T> models, Consumer<T> visitor) {
+        if (models != null) {
+            models.values().forEach(visitor);
+        }
+    }
+
+    private static <T> void each(List<T> models, Consumer<T> visitor) {
+        if (models != null) {
+            models.forEach(visitor);
+        }
+    }
+
+    private void visitPathItem(PathItem pathItem) {
+        each(pathItem.getParameters(), this::visitParameter);
+        pathItem.getOperations().values().forEach(this::visitOperation);
+    }
+
+    private void visitOperation(Operation operation) {
+        each(operation.getParameters(), this::visitParameter);
+
+        if (operation.getRequestBody() != null) {
+            visitRequestBody(operation.getRequestBody());
+        }
+
+        APIResponses responses = operation.getResponses();
+
+        if (responses != null) {
+            each(responses.getAPIResponses(), this::visitResponse);
+
+            if (responses.getDefaultValue() != null) {
+                visitResponse(responses.getDefaultValue());
+            }
+        }
+
+        each(operation.getCallbacks(), this::visitCallback);
+    }
+
+    private void visitCallback(Callback callback) {
+        each(callback.getPathItems(), this::visitPathItem);
+    }
+
+    private void visitRequestBody(RequestBody requestBody) {
+        visitContent(requestBody.getContent());
+    }
+
+    private void visitResponse(APIResponse response) {
+        each(response.getHeaders(), this::visitHeader);
+        visitContent(response.getContent());
+    }
+
+    private void visitParameter(Parameter parameter) {
+        visit(parameter.getSchema(), null, parameter.getName(), parameter::setSchema, false);
+        visitContent(parameter.getContent());
+    }
+
+    private void visitHeader(Header header) {
+        visit(header.getSchema(), null, null, header::setSchema, false);
+        visitContent(header.getContent());
+    }
+
+    private void visitContent(Content content) {
+        if (content != null) {
+            each(content.getMediaTypes(), this::visitMediaType);
+        }
+    }
+
+    private void visitMediaType(MediaType mediaType) {
+        visit(mediaType.getSchema(), null, null, mediaType::setSchema, false);
+
+        if (mediaType.getEncoding() != null) {
+            mediaType.getEncoding().values().stream().map(Encoding::getHeaders).forEach(h -> each(h, this::visitHeader));
+        }
+    }
+
+    /**
+     * Record the schema and its nested schemas as occurrences and compute its
+     * structural hash and size from those of its children.
+     */
+    private Occurrence visit(Schema schema, Occurrence parent, String name, Consumer<Schema> replacer, boolean component) {
+        if (schema == null || visiting.containsKey(schema)) {
+            return null;
+        }
+
+        visiting.put(schema, Boolean.TRUE);
+
+        Occurrence occurrence = new Occurrence(schema, parent, name, replacer, component);
+        int hash = attributeHash(schema);
+        int size = 1;
+
+        Occurrence child = visit(schema.getItems(), occurrence, name, schema::setItems, false);
+        hash = 31 * hash + childHash(child);
+        size += childSize(child);
+
+        child = visit(schema.getNot(), occurrence, name, schema::setNot, false);
+        hash = 31 * hash + childHash(child);
+        size += childSize(child);
+
+        child = visit(schema.getAdditionalPropertiesSchema(), occurrence, name, schema::setAdditionalPropertiesSchema, false);
+        hash = 31 * hash + childHash(child);
+        size += childSize(child);
+
+        if (schema.getProperties() != null) {
+            for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                String propertyName = entry.getKey();
+                child = visit(entry.getValue(), occurrence, propertyName,
+                        s -> schema.addProperty(propertyName, s), false);
+                hash = 31 * hash + propertyName.hashCode();
+                hash = 31 * hash + childHash(child);
+                size += childSize(child);
+            }
+        }
+
+        for (List<Schema> composition : compositions(schema)) {
+            hash = 31 * hash + composition.size();
+
+            for (int i = 0, m = composition.size(); i < m; i++) {
+                final int index = i;
+                child = visit(composition.get(i), occurrence, name, s -> composition.set(index, s), false);
+                hash = 31 * hash + childHash(child);
+                size += childSize(child);
+            }
+        }
+
+        occurrence.hash = hash;
+        occurrence.size = size;
+        occurrences.add(occurrence);
+        visiting.remove(schema);
+
+        return occurrence;
+    }
+
+    /**
+     * The allOf/anyOf/oneOf lists of the schema, wrapped so that replacing an entry
+     * writes an updated list back to the schema.
+     */
+    private static List<List<Schema>> compositions(Schema schema) {
+        return Arrays.asList(compositionView(schema.getAllOf(), schema::setAllOf),
+                compositionView(schema.getAnyOf(), schema::setAnyOf),
+                compositionView(schema.getOneOf(), schema::setOneOf));
+    }
+
+    private static List<Schema> compositionView(List<Schema> source, Consumer<List<Schema>> writer) {
+        return source != null ? new SchemaListView(source, writer) : Collections.emptyList();
+    }
+
+    /**
+     * List view used to replace an element of a composition list, writing the
+     * updated list back to the owning schema.
+     */
+    static class SchemaListView extends AbstractList<Schema> {
+        private final List<Schema> source;
+        private final Consumer<List<Schema>> writer;
+
+        SchemaListView(List<Schema> source, Consumer<List<Schema>> writer) {
+            this.source = new ArrayList<>(source);
+            this.writer = writer;
+        }
+
+        @Override
+        public Schema get(int index) {
+            return source.get(index);
+        }
+
+        @Override
+        public Schema set(int index, Schema element) {
+            Schema previous = source.set(index, element);
+            writer.accept(new ArrayList<>(source));
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
+    private static int childHash(Occurrence child) {
+        return child != null ? child.hash : 0;
+    }
+
+    private static int childSize(Occurrence child) {
+        return child != null ? child.size : 0;
+    }
+
+    static int attributeHash(Schema schema) {
+        int hash = Objects.hash(schema.getRef(),
+                schema.getType(),
+                schema.getFormat(),
+                schema.getTitle(),
+                schema.getDescription(),
+                schema.getDefaultValue(),
+                schema.getMultipleOf(),
+                schema.getMaximum(),
+                schema.getExclusiveMaximum(),
+                schema.getMinimum(),
+                schema.getExclusiveMinimum(),
+                schema.getMaxLength(),
+                schema.getMinLength(),
+                schema.getPattern(),
+                schema.getMaxItems(),
+                schema.getMinItems(),
+                schema.getUniqueItems(),
+                schema.getMaxProperties(),
+                schema.getMinProperties(),
+                schema.getRequired(),
+                schema.getEnumeration(),
+                schema.getAdditionalPropertiesBoolean(),
+                schema.getReadOnly(),
+                schema.getWriteOnly(),
+                schema.getNullable(),
+                schema.getDeprecated(),
+                schema.getExample(),
+                schema.getExtensions());
+
+        Discriminator discriminator = schema.getDiscriminator();
+
+        if (discriminator != null) {
+            hash = 31 * hash + Objects.hash(discriminator.getPropertyName(), discriminator.getMapping());
+        }
+
+        XML xml = schema.getXml();
+
+        if (xml != null) {
+            hash = 31 * hash + Objects.hash(xml.getName(), xml.getNamespace(), xml.getPrefix(), xml.getAttribute(),
+                    xml.getWrapped());
+        }
+
+        if (schema.getExternalDocs() != null) {
+            hash = 31 * hash + Objects.hashCode(schema.getExternalDocs().getUrl());
+        }
+
+        return hash;
+    }
+}
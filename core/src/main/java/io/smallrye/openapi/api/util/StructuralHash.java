@@ -0,0 +1,240 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
+
+/**
+ * Tree of structural hashes of the nodes of a document, computed bottom-up so that the
+ * hash of each node covers its whole subtree (a Merkle tree). Two subtrees with the same
+ * hash are considered identical, allowing comparisons to skip them without visiting them.
+ * <p>
+ * The hash of an object does not depend on the order of its fields, the hash of an array
+ * does depend on the order of its elements. Hashes are 64 bits wide, collisions are
+ * considered sufficiently improbable to be ignored.
+ */
+public final class StructuralHash {
+
+    private static final long NULL = 0x6a09e667f3bcc908L;
+    private static final long TRUE = 0xbb67ae8584caa73bL;
+    private static final long FALSE = 0x3c6ef372fe94f82bL;
+    private static final long STRING = 0xa54ff53a5f1d36f1L;
+    private static final long NUMBER = 0x510e527fade682d1L;
+    private static final long ARRAY = 0x9b05688c2b3e6c1fL;
+    private static final long OBJECT = 0x1f83d9abfb41bd6bL;
+
+    private static final StructuralHash[] NO_ELEMENTS = {};
+
+    private final JsonNode node;
+    private final long value;
+    private final Map<String, StructuralHash> fields;
+    private final StructuralHash[] elements;
+
+    private StructuralHash(JsonNode node) {
+        this.node = node;
+
+        if (node.isObject()) {
+            Map<String, StructuralHash> children = new LinkedHashMap<>(node.size() * 4 / 3 + 1);
+            long hash = 0;
+
+            for (Iterator<Map.Entry<String, JsonNode>> i = node.fields(); i.hasNext();) {
+                Map.Entry<String, JsonNode> field = i.next();
+                StructuralHash child = new StructuralHash(field.getValue());
+                children.put(field.getKey(), child);
+                // Summed, so that the hash is independent of the order of the fields
+                hash += mix(hash(field.getKey()) * 31 + child.value);
+            }
+
+            this.fields = children;
+            this.elements = NO_ELEMENTS;
+            this.value = mix(OBJECT + 31 * hash + children.size());
+        } else if (node.isArray()) {
+            StructuralHash[] children = new StructuralHash[node.size()];
+            long hash = ARRAY;
+
+            for (int i = 0; i < children.length; i++) {
+                children[i] = new StructuralHash(node.get(i));
+                hash = mix(hash * 31 + children[i].value);
+            }
+
+            this.fields = Collections.emptyMap();
+            this.elements = children;
+            this.value = hash;
+        } else {
+            this.fields = Collections.emptyMap();
+            this.elements = NO_ELEMENTS;
+            this.value = leafHash(node);
+        }
+    }
+
+    /**
+     * Compute the structural hashes of a model.
+     *
+     * @param model the model
+     * @return hash of the document's root
+     */
+    public static StructuralHash of(OpenAPI model) {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, model);
+        return of(tree);
+    }
+
+    /**
+     * Compute the structural hashes of a JSON tree.
+     *
+     * @param node the root of the tree
+     * @return hash of the root
+     */
+    public static StructuralHash of(JsonNode node) {
+        return new StructuralHash(node);
+    }
+
+    private static long leafHash(JsonNode node) {
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL;
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue() ? TRUE : FALSE;
+        }
+        if (node.isNumber()) {
+            return mix(NUMBER + hash(node.asText()));
+        }
+        return mix(STRING + hash(node.asText()));
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the characters of a string.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0, m = value.length(); i < m; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Finalizer of the SplitMix64 generator, spreading the bits of the value.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return the hash of this node's subtree
+     */
+    public long value() {
+        return value;
+    }
+
+    /**
+     * @return the JSON node
+     */
+    public JsonNode node() {
+        return node;
+    }
+
+    /**
+     * @param name name of a field of this (object) node
+     * @return hash of the field's value, or null when there is no such field
+     */
+    public StructuralHash get(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * @param index index of an element of this (array) node
+     * @return hash of the element, or null when there is no such element
+     */
+    public StructuralHash get(int index) {
+        return index >= 0 && index < elements.length ? elements[index] : null;
+    }
+
+    /**
+     * @return the fields of this (object) node, in document order
+     */
+    public Map<String, StructuralHash> fields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * @return the number of fields or elements of this node
+     */
+    public int size() {
+        return node.isArray() ? elements.length : fields.size();
+    }
+
+    /**
+     * Find a node using a JSON pointer, e.g. <code>/paths/~1pets/get</code>.
+     *
+     * @param pointer the JSON pointer
+     * @return hash of the node, or null when there is no such node
+     */
+    public StructuralHash at(String pointer) {
+        StructuralHash current = this;
+        int start = pointer.startsWith("/") ? 1 : 0;
+
+        while (current != null && start <= pointer.length() && !pointer.isEmpty()) {
+            int end = pointer.indexOf('/', start);
+            if (end < 0) {
+                end = pointer.length();
+            }
+            String token = pointer.substring(start, end).replace("~1", "/").replace("~0", "~");
+
+            if (current.node.isArray()) {
+                try {
+                    current = current.get(Integer.parseInt(token));
+                } catch (NumberFormatException e) {
+                    current = null;
+                }
+            } else {
+                current = current.get(token);
+            }
+
+            if (end == pointer.length()) {
+                break;
+            }
+            start = end + 1;
+        }
+
+        return current;
+    }
+
+    /**
+     * @param other another hash, may be null
+     * @return true if the other subtree has the same structure as this one
+     */
+    public boolean sameAs(StructuralHash other) {
+        return other != null && other.value == value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof StructuralHash && ((StructuralHash) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toHexString(value);
+    }
+}
@@ -23,4 +23,9 @@ interface UtilLogging extends BasicLogger {
     @Message(id = 1002, value = "Cyclic object reference detected in OpenAPI model, skipping current node")
     void cylicReferenceDetected();
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1003, value = "Replaced %d duplicate inline schemas with references to %d new entries in #/components/schemas, "
+            + "saving approximately %d bytes")
+    void duplicateSchemasHoisted(int replaced, int hoisted, long bytesSaved);
+
 }
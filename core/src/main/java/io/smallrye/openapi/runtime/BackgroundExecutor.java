@@ -0,0 +1,53 @@
+package io.smallrye.openapi.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs each task on a new thread: a virtual thread when the JVM supports them,
+ * otherwise a daemon platform thread.
+ */
+class BackgroundExecutor implements Executor {
+
+    static final BackgroundExecutor INSTANCE = new BackgroundExecutor();
+
+    private static final String THREAD_NAME = "smallrye-openapi-bootstrap";
+
+    private final MethodHandle startVirtualThread;
+
+    private BackgroundExecutor() {
+        MethodHandle handle;
+
+        try {
+            handle = MethodHandles.publicLookup()
+                    .findStatic(Thread.class, "startVirtualThread", MethodType.methodType(Thread.class, Runnable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            handle = null;
+        }
+
+        startVirtualThread = handle;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (startVirtualThread != null) {
+            try {
+                Thread thread = (Thread) startVirtualThread.invokeExact(command);
+                thread.setName(THREAD_NAME);
+                return;
+            } catch (UnsupportedOperationException e) {
+                // Virtual threads disabled (preview feature not enabled), fall through
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        Thread thread = new Thread(command, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,407 @@
+package io.smallrye.openapi.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.util.FilterUtil;
+import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.api.util.SchemaDeduplicator;
+import io.smallrye.openapi.api.util.UnusedSchemaFilter;
+import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.ScanProvenance;
+
+/**
+ * Produces an OpenAPI document in the same way as {@link OpenApiProcessor#bootstrap},
+ * and then keeps it up to date as classes of the deployment change (e.g. for
+ * development-mode hot reload).
+ *
+ * While scanning, the operations and schemas contributed by each class are recorded.
+ * When classes change, {@link #update(IndexView, Collection, Collection)} removes
+ * the contributions of those classes from the document, scans only the changed classes,
+ * applies the configured filters to the result and merges it back into the document.
+ *
+ * The scan of the changed classes keeps the names of the schemas already in the document,
+ * and the paths and components merged back are ordered as in a complete scan.
+ *
+ * Operations reached only by way of a sub-resource locator are recorded under the
+ * sub-resource class and are re-created only when the class declaring the locator
+ * is also part of the update.
+ */
+public class OpenApiDeltaProcessor {
+
+    private final OpenApiConfig config;
+    private final ClassLoader classLoader;
+    private final List<AnnotationScannerExtension> extensions;
+    private final ScanProvenance provenance = new ScanProvenance();
+    private final List<OASFilter> filters = new ArrayList<>();
+    /*
+     * Keys of the paths and of each kind of component defined by the model reader and
+     * static files. They precede the (sorted) keys found by scanning, see sortMaps.
+     */
+    private final Map<String, Set<String>> staticKeys = new HashMap<>();
+    private OpenAPI model;
+
+    public OpenApiDeltaProcessor(OpenApiConfig config, ClassLoader classLoader) {
+        this(config, classLoader, Collections.singletonList(new AnnotationScannerExtension() {
+        }));
+    }
+
+    public OpenApiDeltaProcessor(OpenApiConfig config, ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions) {
+        this.config = config;
+        this.classLoader = classLoader;
+        this.extensions = extensions;
+    }
+
+    /**
+     * Create the initial document from the model reader, static files, annotations
+     * and filters.
+     *
+     * @param index IndexView of the deployment
+     * @param staticFiles static files to merge, may be empty
+     * @return the complete OpenAPI document
+     */
+    public synchronized OpenAPI bootstrap(IndexView index, OpenApiStaticFile... staticFiles) {
+        OpenApiDocument document = OpenApiDocument.newInstance();
+        document.config(config);
+        OpenAPI readerModel = OpenApiProcessor.modelFromReader(config, classLoader);
+        List<OpenAPI> staticModels = OpenApiProcessor.modelsFromStaticFiles(config, staticFiles);
+        recordStaticKeys(readerModel);
+        staticModels.forEach(this::recordStaticKeys);
+
+        document.modelFromReader(readerModel);
+        document.modelFromStaticFiles(staticModels);
+
+        if (!config.scanDisable()) {
+            OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, classLoader, index, extensions);
+            document.modelFromAnnotations(scanner.scan());
+            provenance.merge(scanner.getProvenance(), name -> true);
+        }
+
+        OASFilter filter = OpenApiProcessor.getFilter(config, classLoader);
+
+        if (filter != null) {
+            filters.add(filter);
+            document.filter(filter);
+        }
+
+        document.initialize();
+        model = document.get();
+
+        return model;
+    }
+
+    /**
+     * Update the document for a set of changed and removed classes. The operations and
+     * schemas previously contributed by the classes are removed, then the changed classes
+     * are scanned again using the given (updated) index.
+     *
+     * @param index IndexView of the deployment, including changes to the classes
+     * @param changed classes that have been added or modified
+     * @param removed classes that have been removed from the deployment
+     * @return the updated OpenAPI document
+     * @throws IllegalStateException if the document has not been created by {@link #bootstrap}
+     */
+    public synchronized OpenAPI update(IndexView index, Collection<ClassInfo> changed, Collection<ClassInfo> removed) {
+        if (model == null) {
+            throw RuntimeMessages.msg.notBootstrapped();
+        }
+
+        long start = System.nanoTime();
+
+        Set<DotName> changedNames = names(changed);
+        Set<DotName> removedNames = names(removed);
+
+        for (ClassInfo classInfo : changed) {
+            // Resources inheriting resource methods from a changed class
+            index.getAllKnownSubclasses(classInfo.name()).stream().map(ClassInfo::name).forEach(changedNames::add);
+            index.getAllKnownImplementors(classInfo.name()).stream().map(ClassInfo::name).forEach(changedNames::add);
+        }
+
+        Set<DotName> modified = new LinkedHashSet<>(changedNames);
+        modified.addAll(removedNames);
+
+        Set<DotName> resources = provenance.getAffectedResources(modified);
+        Set<String> removedOperations = provenance.removeOperations(resources);
+        removeOperations(removedOperations);
+        Map<String, ScanProvenance.SchemaSource> removedSchemas = provenance.removeSchemas(modified);
+        removeSchemas(removedSchemas.keySet());
+
+        Set<DotName> rescan = new LinkedHashSet<>(changedNames);
+        rescan.addAll(resources);
+        rescan.removeAll(removedNames);
+
+        if (!config.scanDisable() && !rescan.isEmpty()) {
+            merge(scan(index, rescan, removedSchemas.values()
+                    .stream()
+                    .filter(source -> !removedNames.contains(source.getType().name()))
+                    .collect(Collectors.toList())));
+        }
+
+        if (config.removeUnusedSchemas()) {
+            model = FilterUtil.applyFilter(new UnusedSchemaFilter(), model);
+        }
+
+        if (config.deduplicateSchemas()) {
+            SchemaDeduplicator.deduplicate(model, config.getDeduplicateSchemasMinimumSize());
+        }
+
+        RuntimeLogging.logger.documentUpdated(changed.size(), removed.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), removedOperations.size());
+
+        return model;
+    }
+
+    /**
+     * @return the current document, or null if not yet bootstrapped
+     */
+    public synchronized OpenAPI getModel() {
+        return model;
+    }
+
+    private static Set<DotName> names(Collection<ClassInfo> classes) {
+        return classes.stream().map(ClassInfo::name).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void removeOperations(Set<String> methodRefs) {
+        if (methodRefs.isEmpty() || model.getPaths() == null || model.getPaths().getPathItems() == null) {
+            return;
+        }
+
+        for (Map.Entry<String, PathItem> entry : new ArrayList<>(model.getPaths().getPathItems().entrySet())) {
+            PathItem pathItem = entry.getValue();
+            Map<PathItem.HttpMethod, Operation> operations = pathItem.getOperations();
+
+            if (operations.isEmpty()) {
+                continue;
+            }
+
+            operations.forEach((method, operation) -> {
+                if (methodRefs.contains(OperationImpl.getMethodRef(operation))) {
+                    pathItem.setOperation(method, null);
+                }
+            });
+
+            if (pathItem.getOperations().isEmpty()) {
+                model.getPaths().removePathItem(entry.getKey());
+            }
+        }
+    }
+
+    private void removeSchemas(Set<String> names) {
+        if (model.getComponents() != null && model.getComponents().getSchemas() != null) {
+            names.forEach(model.getComponents()::removeSchema);
+        }
+    }
+
+    /**
+     * Scan the given classes, filtering the result with the configured filters.
+     */
+    private OpenAPI scan(IndexView index, Set<DotName> classes, Collection<ScanProvenance.SchemaSource> schemaSources) {
+        // Classes that contributed nothing earlier (e.g. application classes) are visible to the scan
+        Predicate<DotName> visible = name -> classes.contains(name) || !provenance.isContributor(name);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, classLoader,
+                new ClassSubsetIndexView(index, config, visible), extensions);
+        scanner.addSchemaSources(schemaSources);
+
+        Map<String, Schema> existing = model.getComponents() != null ? model.getComponents().getSchemas() : null;
+
+        if (existing != null) {
+            // Unchanged types refer to their schemas, and new schemas get the names a complete scan gives them
+            scanner.addExistingSchemas(existing, provenance.getSchemaSources());
+        }
+
+        OpenAPI scanned = scanner.scan();
+
+        if (existing != null && scanned.getComponents() != null && scanned.getComponents().getSchemas() != null) {
+            // Schemas for unchanged types are re-generated by the scan, keep those already present
+            existing.keySet().forEach(scanned.getComponents()::removeSchema);
+        }
+
+        Set<String> added = scanned.getComponents() != null && scanned.getComponents().getSchemas() != null
+                ? new LinkedHashSet<>(scanned.getComponents().getSchemas().keySet())
+                : Collections.emptySet();
+
+        provenance.merge(scanner.getProvenance(), added::contains);
+
+        for (OASFilter filter : filters) {
+            scanned = FilterUtil.applyFilter(filter, scanned);
+        }
+
+        return scanned;
+    }
+
+    private void merge(OpenAPI scanned) {
+        model = MergeUtil.merge(model, scanned);
+        sortMaps(model);
+    }
+
+    private void recordStaticKeys(OpenAPI staticModel) {
+        if (staticModel != null) {
+            forEachMap(staticModel, (kind, map) -> staticKeys.computeIfAbsent(kind, k -> new HashSet<>()).addAll(map.keySet()));
+        }
+    }
+
+    /**
+     * Order the paths and components as {@link OpenApiAnnotationScanner#scan(String...)} and the
+     * merge of the document's models do: the keys defined by the model reader and static files
+     * first, followed by those found by scanning sorted by key.
+     */
+    private void sortMaps(OpenAPI oai) {
+        sort(oai.getPaths(), Paths::getPathItems, Paths::setPathItems, "paths");
+
+        final Components components = oai.getComponents();
+
+        sort(components, Components::getCallbacks, Components::setCallbacks, "callbacks");
+        sort(components, Components::getExamples, Components::setExamples, "examples");
+        sort(components, Components::getHeaders, Components::setHeaders, "headers");
+        sort(components, Components::getLinks, Components::setLinks, "links");
+        sort(components, Components::getParameters, Components::setParameters, "parameters");
+        sort(components, Components::getRequestBodies, Components::setRequestBodies, "requestBodies");
+        sort(components, Components::getResponses, Components::setResponses, "responses");
+        sort(components, Components::getSchemas, Components::setSchemas, "schemas");
+        sort(components, Components::getSecuritySchemes, Components::setSecuritySchemes, "securitySchemes");
+    }
+
+    private void forEachMap(OpenAPI oai, BiConsumer<String, Map<String, ?>> action) {
+        if (oai.getPaths() != null && oai.getPaths().getPathItems() != null) {
+            action.accept("paths", oai.getPaths().getPathItems());
+        }
+
+        final Components components = oai.getComponents();
+
+        if (components != null) {
+            Map<String, Map<String, ?>> maps = new LinkedHashMap<>();
+            maps.put("callbacks", components.getCallbacks());
+            maps.put("examples", components.getExamples());
+            maps.put("headers", components.getHeaders());
+            maps.put("links", components.getLinks());
+            maps.put("parameters", components.getParameters());
+            maps.put("requestBodies", components.getRequestBodies());
+            maps.put("responses", components.getResponses());
+            maps.put("schemas", components.getSchemas());
+            maps.put("securitySchemes", components.getSecuritySchemes());
+            maps.forEach((kind, map) -> {
+                if (map != null) {
+                    action.accept(kind, map);
+                }
+            });
+        }
+    }
+
+    private <P, V> void sort(P parent, Function<P, Map<String, V>> source, BiConsumer<P, Map<String, V>> target,
+            String kind) {
+        if (parent == null) {
+            return;
+        }
+
+        final Map<String, V> unsorted = source.apply(parent);
+
+        if (unsorted == null || unsorted.isEmpty()) {
+            return;
+        }
+
+        final Set<String> fixed = staticKeys.getOrDefault(kind, Collections.emptySet());
+        final Map<String, V> sorted = new LinkedHashMap<>();
+
+        unsorted.forEach((key, value) -> {
+            if (fixed.contains(key)) {
+                sorted.put(key, value);
+            }
+        });
+
+        unsorted.entrySet()
+                .stream()
+                .filter(entry -> !fixed.contains(entry.getKey()))
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+
+        target.accept(parent, sorted);
+    }
+
+    /**
+     * Index view limiting the annotations visible to scanners to those declared by
+     * a subset of the classes, while all classes remain available by name, e.g. for
+     * generating schemas.
+     */
+    static class ClassSubsetIndexView extends FilteredIndexView {
+        private final Predicate<DotName> visible;
+
+        ClassSubsetIndexView(IndexView delegate, OpenApiConfig config, Predicate<DotName> visible) {
+            super(delegate, config);
+            this.visible = visible;
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+            return filter(super.getAnnotations(annotationName));
+        }
+
+        @Override
+        public Collection<AnnotationInstance> getAnnotationsWithRepeatable(DotName annotationName,
+                IndexView annotationIndex) {
+            return filter(super.getAnnotationsWithRepeatable(annotationName, annotationIndex));
+        }
+
+        private Collection<AnnotationInstance> filter(Collection<AnnotationInstance> annotations) {
+            if (annotations == null || annotations.isEmpty()) {
+                return annotations;
+            }
+            return annotations.stream()
+                    .filter(annotation -> {
+                        DotName className = declaringClass(annotation.target());
+                        return className == null || visible.test(className);
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        private static DotName declaringClass(AnnotationTarget target) {
+            if (target == null) {
+                return null;
+            }
+            switch (target.kind()) {
+                case CLASS:
+                    return target.asClass().name();
+                case FIELD:
+                    return target.asField().declaringClass().name();
+                case METHOD:
+                    return target.asMethod().declaringClass().name();
+                case METHOD_PARAMETER:
+                    return target.asMethodParameter().method().declaringClass().name();
+                default:
+                    return null;
+            }
+        }
+    }
+}
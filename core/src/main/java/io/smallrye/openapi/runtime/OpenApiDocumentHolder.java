@@ -0,0 +1,166 @@
+package io.smallrye.openapi.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Holds the OpenAPI document produced by {@link OpenApiProcessor#bootstrapAsync}, so that
+ * the endpoints serving the document (and the UI) may be available before the document is.
+ * Until the document is ready the endpoints respond with the {@link #getHttpStatus() status}
+ * 503 (Service Unavailable) and a {@code Retry-After} header of {@link #getRetryAfterSeconds()}
+ * seconds, and with 500 (Internal Server Error) if the document could not be produced.
+ *
+ * <pre>
+ * OpenApiDocumentHolder holder = new OpenApiDocumentHolder(OpenApiProcessor.bootstrapAsync(config, index));
+ * ...
+ * if (holder.isReady()) {
+ *     respond(200, OpenApiSerializer.serialize(holder.get(), format));
+ * } else {
+ *     respond(holder.getHttpStatus(), "Retry-After", holder.getRetryAfterSeconds());
+ * }
+ * </pre>
+ */
+public class OpenApiDocumentHolder {
+
+    /**
+     * Default number of seconds after which clients should retry while the document is not ready.
+     */
+    public static final int DEFAULT_RETRY_AFTER_SECONDS = 5;
+
+    public enum Status {
+        /**
+         * The document is still being produced.
+         */
+        PENDING(503),
+        /**
+         * The document is available.
+         */
+        READY(200),
+        /**
+         * The document could not be produced.
+         */
+        FAILED(500);
+
+        private final int httpStatus;
+
+        Status(int httpStatus) {
+            this.httpStatus = httpStatus;
+        }
+
+        public int getHttpStatus() {
+            return httpStatus;
+        }
+    }
+
+    private final CompletableFuture<OpenAPI> document;
+    private final int retryAfterSeconds;
+
+    public OpenApiDocumentHolder(CompletionStage<OpenAPI> document) {
+        this(document, DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    public OpenApiDocumentHolder(CompletionStage<OpenAPI> document, int retryAfterSeconds) {
+        this.document = document.toCompletableFuture();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.document.whenComplete((model, failure) -> {
+            if (failure != null) {
+                RuntimeLogging.logger.documentFailed(unwrap(failure));
+            }
+        });
+    }
+
+    /**
+     * Create a holder of a document that is available already.
+     *
+     * @param document the document
+     * @return ready holder
+     */
+    public static OpenApiDocumentHolder of(OpenAPI document) {
+        return new OpenApiDocumentHolder(CompletableFuture.completedFuture(document));
+    }
+
+    public Status getStatus() {
+        if (!document.isDone()) {
+            return Status.PENDING;
+        }
+        return document.isCompletedExceptionally() ? Status.FAILED : Status.READY;
+    }
+
+    public boolean isReady() {
+        return getStatus() == Status.READY;
+    }
+
+    /**
+     * @return the HTTP status an endpoint serving the document responds with
+     */
+    public int getHttpStatus() {
+        return getStatus().getHttpStatus();
+    }
+
+    /**
+     * @return the value of the {@code Retry-After} header to respond with while the
+     *         document is pending, 0 once it is ready or failed
+     */
+    public int getRetryAfterSeconds() {
+        return getStatus() == Status.PENDING ? retryAfterSeconds : 0;
+    }
+
+    /**
+     * Get the document without waiting.
+     *
+     * @return the document
+     * @throws IllegalStateException if the document is not ready yet
+     * @throws OpenApiRuntimeException if the document could not be produced
+     */
+    public OpenAPI get() {
+        if (!document.isDone()) {
+            throw RuntimeMessages.msg.documentNotReady();
+        }
+        try {
+            return document.join();
+        } catch (CompletionException e) {
+            throw RuntimeMessages.msg.documentFailed(unwrap(e));
+        }
+    }
+
+    /**
+     * Wait for the document.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return the document
+     * @throws IllegalStateException if the document is not ready within the timeout
+     * @throws OpenApiRuntimeException if the document could not be produced
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public OpenAPI await(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            return document.get(timeout, unit);
+        } catch (TimeoutException e) {
+            throw RuntimeMessages.msg.documentNotReady();
+        } catch (ExecutionException e) {
+            throw RuntimeMessages.msg.documentFailed(unwrap(e));
+        }
+    }
+
+    /**
+     * @return the stage completed with the document
+     */
+    public CompletionStage<OpenAPI> getDocument() {
+        return document;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -4,7 +4,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -17,6 +25,7 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiConfigImpl;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.BinaryFormat;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
@@ -49,40 +58,119 @@ public class OpenApiProcessor {
 
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader) {
         List<OpenApiStaticFile> staticfiles = loadOpenApiStaticFiles(classLoader);
-        return bootstrap(config, index, classLoader, staticfiles.toArray(new OpenApiStaticFile[] {}));
+        try {
+            return bootstrap(config, index, classLoader, staticfiles.toArray(new OpenApiStaticFile[] {}));
+        } finally {
+            close(staticfiles);
+        }
     }
 
     public static OpenAPI bootstrap(OpenApiConfig config, IndexView index, ClassLoader classLoader,
             OpenApiStaticFile... staticFiles) {
         OpenApiDocument.INSTANCE.reset();
+        OpenAPI openAPI = bootstrap(OpenApiDocument.INSTANCE, config, index, classLoader, staticFiles);
+        OpenApiDocument.INSTANCE.reset();
+
+        return openAPI;
+    }
+
+    /**
+     * Produce the OpenAPI document in the background, on a new (virtual, when supported
+     * by the JVM) thread. Static files are loaded with the default class loader of the
+     * calling thread.
+     *
+     * @param config the configuration
+     * @param index index of the deployment's classes
+     * @return stage completed with the document, or with the exception preventing its creation
+     * @see #bootstrapAsync(OpenApiConfig, IndexView, ClassLoader, Executor)
+     */
+    public static CompletionStage<OpenAPI> bootstrapAsync(OpenApiConfig config, IndexView index) {
+        return bootstrapAsync(config, index, ClassLoaderUtil.getDefaultClassLoader(), BackgroundExecutor.INSTANCE);
+    }
+
+    /**
+     * Produce the OpenAPI document in the background using the given executor. Static files
+     * are loaded with the default class loader of the calling thread.
+     *
+     * @param config the configuration
+     * @param index index of the deployment's classes
+     * @param executor executor running the bootstrap
+     * @return stage completed with the document, or with the exception preventing its creation
+     * @see #bootstrapAsync(OpenApiConfig, IndexView, ClassLoader, Executor)
+     */
+    public static CompletionStage<OpenAPI> bootstrapAsync(OpenApiConfig config, IndexView index, Executor executor) {
+        return bootstrapAsync(config, index, ClassLoaderUtil.getDefaultClassLoader(), executor);
+    }
+
+    /**
+     * Produce the OpenAPI document in the background using the given executor, so that the
+     * deployment does not wait for the scan, merge and filter of the document. The static
+     * files are loaded (and closed) by the background task. Unlike the synchronous
+     * {@code bootstrap} methods, the task uses its own {@link OpenApiDocument}, so it may run
+     * concurrently with other bootstraps. The class loader is set as the context class loader
+     * of the thread running the task for its duration.
+     * <p>
+     * Use an {@link OpenApiDocumentHolder} to serve the document, and a "not ready" response
+     * until it is available.
+     *
+     * @param config the configuration
+     * @param index index of the deployment's classes
+     * @param classLoader class loader of the deployment
+     * @param executor executor running the bootstrap
+     * @return stage completed with the document, or with the exception preventing its creation
+     */
+    public static CompletionStage<OpenAPI> bootstrapAsync(OpenApiConfig config, IndexView index, ClassLoader classLoader,
+            Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader contextClassLoader = thread.getContextClassLoader();
+            List<OpenApiStaticFile> staticFiles = Collections.emptyList();
+
+            try {
+                thread.setContextClassLoader(classLoader);
+                staticFiles = loadOpenApiStaticFiles(classLoader);
+                return bootstrap(OpenApiDocument.newInstance(), config, index, classLoader,
+                        staticFiles.toArray(new OpenApiStaticFile[0]));
+            } finally {
+                close(staticFiles);
+                thread.setContextClassLoader(contextClassLoader);
+            }
+        }, executor);
+    }
+
+    private static void close(List<OpenApiStaticFile> staticFiles) {
+        for (OpenApiStaticFile staticFile : staticFiles) {
+            try {
+                staticFile.close();
+            } catch (IOException e) {
+                RuntimeLogging.logger.staticFileNotClosed(e);
+            }
+        }
+    }
 
+    private static OpenAPI bootstrap(OpenApiDocument document, OpenApiConfig config, IndexView index,
+            ClassLoader classLoader, OpenApiStaticFile... staticFiles) {
         // Set the config
         if (config != null) {
-            OpenApiDocument.INSTANCE.config(config);
+            document.config(config);
         }
         // Load all static files
         if (staticFiles != null && staticFiles.length > 0) {
-            for (OpenApiStaticFile staticFile : staticFiles) {
-                OpenApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(config, staticFile));
-            }
+            document.modelFromStaticFiles(modelsFromStaticFiles(config, staticFiles));
         }
         // Scan annotations
         if (config != null && index != null) {
-            OpenApiDocument.INSTANCE.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
+            document.modelFromAnnotations(modelFromAnnotations(config, classLoader, index));
         }
         // Filter and model
         if (config != null && classLoader != null) {
-            OpenApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            OpenApiDocument.INSTANCE.filter(getFilter(config, classLoader));
+            document.modelFromReader(modelFromReader(config, classLoader));
+            document.filter(getFilter(config, classLoader));
         }
 
-        OpenApiDocument.INSTANCE.initialize();
-
-        OpenAPI openAPI = OpenApiDocument.INSTANCE.get();
-
-        OpenApiDocument.INSTANCE.reset();
+        document.initialize();
 
-        return openAPI;
+        return document.get();
     }
 
     /**
@@ -98,12 +186,37 @@ public class OpenApiProcessor {
             return null;
         }
         try {
+            if (staticFile.getBinaryFormat() != null) {
+                return OpenApiParser.parse(staticFile.getContent(), staticFile.getBinaryFormat());
+            }
             return OpenApiParser.parse(staticFile.getContent(), staticFile.getFormat(), config.getMaximumStaticFileSize());
         } catch (IOException e) {
             throw new OpenApiRuntimeException(e);
         }
     }
 
+    /**
+     * Parse the contents of several static files, concurrently when there are more than one.
+     * Note that this method does NOT close the resources in the static files. The caller is
+     * responsible for that.
+     *
+     * @param config OpenApiConfig
+     * @param staticFiles OpenApiStaticFiles to be parsed
+     * @return the models, in the order of the static files
+     */
+    public static List<OpenAPI> modelsFromStaticFiles(OpenApiConfig config, OpenApiStaticFile... staticFiles) {
+        Stream<OpenApiStaticFile> files = Arrays.stream(staticFiles);
+
+        if (staticFiles.length > 1) {
+            files = files.parallel();
+        }
+
+        // The encounter order is kept by the parallel stream
+        return files.map(staticFile -> modelFromStaticFile(config, staticFile))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Create an {@link OpenAPI} model by scanning the deployment for relevant JAX-RS and
      * OpenAPI annotations. If scanning is disabled, this method returns null. If scanning
@@ -190,6 +303,12 @@ public class OpenApiProcessor {
         loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/openapi.yml", Format.YAML);
         loadOpenApiStaticFile(apiStaticFiles, classLoader, "/META-INF/openapi.json", Format.JSON);
         loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/openapi.json", Format.JSON);
+        for (BinaryFormat format : BinaryFormat.values()) {
+            String name = "META-INF/openapi." + format.getExtension();
+            loadOpenApiStaticFile(apiStaticFiles, classLoader, "/" + name, format);
+            loadOpenApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/" + name, format);
+        }
+        apiStaticFiles.addAll(StaticFragments.load(classLoader));
 
         return apiStaticFiles;
     }
@@ -202,4 +321,13 @@ public class OpenApiProcessor {
         }
         return apiStaticFiles;
     }
+
+    private static List<OpenApiStaticFile> loadOpenApiStaticFile(List<OpenApiStaticFile> apiStaticFiles,
+            ClassLoader classLoader, String path, BinaryFormat format) {
+        InputStream staticStream = classLoader.getResourceAsStream(path);
+        if (staticStream != null) {
+            apiStaticFiles.add(new OpenApiStaticFile(staticStream, format));
+        }
+        return apiStaticFiles;
+    }
 }
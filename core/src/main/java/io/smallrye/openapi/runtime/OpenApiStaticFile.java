@@ -4,6 +4,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 
+import io.smallrye.openapi.runtime.io.BinaryFormat;
 import io.smallrye.openapi.runtime.io.Format;
 
 /**
@@ -12,6 +13,7 @@ import io.smallrye.openapi.runtime.io.Format;
 public class OpenApiStaticFile implements Closeable {
 
     private Format format;
+    private BinaryFormat binaryFormat;
     private InputStream content;
 
     /**
@@ -25,6 +27,11 @@ public class OpenApiStaticFile implements Closeable {
         this.format = format;
     }
 
+    public OpenApiStaticFile(InputStream content, BinaryFormat binaryFormat) {
+        this.content = content;
+        this.binaryFormat = binaryFormat;
+    }
+
     /**
      * @see java.io.Closeable#close()
      */
@@ -49,6 +56,20 @@ public class OpenApiStaticFile implements Closeable {
         this.format = format;
     }
 
+    /**
+     * @return the binary format, or null if the content is in a text {@link #getFormat() format}
+     */
+    public BinaryFormat getBinaryFormat() {
+        return binaryFormat;
+    }
+
+    /**
+     * @param binaryFormat the binary format to set
+     */
+    public void setBinaryFormat(BinaryFormat binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     /**
      * @return the content
      */
@@ -0,0 +1,32 @@
+package io.smallrye.openapi.runtime;
+
+import java.net.URL;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SROAP", length = 5)
+interface RuntimeLogging extends BasicLogger {
+    RuntimeLogging logger = Logger.getMessageLogger(RuntimeLogging.class, RuntimeLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 15000, value = "Updated OpenAPI document for %d changed and %d removed classes in %d ms, "
+            + "%d existing operations replaced or removed")
+    void documentUpdated(int changed, int removed, long elapsedMillis, int operations);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 15001, value = "Failed to close static file")
+    void staticFileNotClosed(@Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 15002, value = "Failed to produce the OpenAPI document")
+    void documentFailed(@Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 15003, value = "Static OpenAPI fragments can not be listed in %s")
+    void staticFragmentsNotListed(URL directory);
+}
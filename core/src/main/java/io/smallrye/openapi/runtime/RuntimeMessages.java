@@ -0,0 +1,20 @@
+package io.smallrye.openapi.runtime;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "SROAP", length = 5)
+interface RuntimeMessages {
+    RuntimeMessages msg = Messages.getBundle(RuntimeMessages.class);
+
+    @Message(id = 16000, value = "OpenAPI document must be bootstrapped before it is updated")
+    IllegalStateException notBootstrapped();
+
+    @Message(id = 16001, value = "OpenAPI document is not ready yet")
+    IllegalStateException documentNotReady();
+
+    @Message(id = 16002, value = "OpenAPI document could not be produced")
+    OpenApiRuntimeException documentFailed(@Cause Throwable cause);
+}
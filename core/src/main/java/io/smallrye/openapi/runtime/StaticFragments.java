@@ -0,0 +1,146 @@
+package io.smallrye.openapi.runtime;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import io.smallrye.openapi.runtime.io.BinaryFormat;
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Locates the static OpenAPI fragments in the {@value #DIRECTORY} directories of the
+ * class path (in directories or jars), e.g. one fragment per module of an application.
+ * <p>
+ * Fragments are ordered by file name, then by URL, so that the merged document does not
+ * depend on the order of the class path. The directory must be listed in the jars, which
+ * is the default for jars built by Maven and Gradle.
+ */
+class StaticFragments {
+
+    static final String DIRECTORY = "META-INF/openapi/";
+
+    private StaticFragments() {
+    }
+
+    static List<OpenApiStaticFile> load(ClassLoader classLoader) {
+        Map<String, URL> fragments = new TreeMap<>();
+
+        try {
+            Enumeration<URL> directories = classLoader.getResources(DIRECTORY);
+
+            while (directories.hasMoreElements()) {
+                URL directory = directories.nextElement();
+
+                for (String name : list(directory)) {
+                    if (format(name) != null || binaryFormat(name) != null) {
+                        URL fragment = new URL(directory, name);
+                        fragments.put(name + '\0' + fragment, fragment);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+
+        List<OpenApiStaticFile> staticFiles = new ArrayList<>(fragments.size());
+
+        try {
+            for (URL fragment : fragments.values()) {
+                String name = fragment.getPath();
+                Format format = format(name);
+                staticFiles.add(format != null ? new OpenApiStaticFile(fragment.openStream(), format)
+                        : new OpenApiStaticFile(fragment.openStream(), binaryFormat(name)));
+            }
+        } catch (IOException e) {
+            for (OpenApiStaticFile staticFile : staticFiles) {
+                try {
+                    staticFile.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new OpenApiRuntimeException(e);
+        }
+
+        return staticFiles;
+    }
+
+    /**
+     * Names of the files of a directory of the class path, or no names if the directory can
+     * not be listed (neither a file system directory nor a jar directory).
+     */
+    private static List<String> list(URL directory) throws IOException {
+        List<String> names = new ArrayList<>();
+
+        if ("file".equals(directory.getProtocol())) {
+            Path path;
+
+            try {
+                path = Paths.get(directory.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+
+            try (Stream<Path> files = Files.list(path)) {
+                files.filter(Files::isRegularFile).forEach(file -> names.add(file.getFileName().toString()));
+            }
+        } else {
+            URLConnection connection = directory.openConnection();
+
+            if (connection instanceof JarURLConnection) {
+                JarURLConnection jarConnection = (JarURLConnection) connection;
+                jarConnection.setUseCaches(false);
+                String prefix = jarConnection.getEntryName();
+
+                try (JarFile jar = jarConnection.getJarFile()) {
+                    for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                        String name = entries.nextElement().getName();
+
+                        if (name.length() > prefix.length() && name.startsWith(prefix)
+                                && name.indexOf('/', prefix.length()) < 0) {
+                            names.add(name.substring(prefix.length()));
+                        }
+                    }
+                }
+            } else {
+                RuntimeLogging.logger.staticFragmentsNotListed(directory);
+            }
+        }
+
+        return names;
+    }
+
+    private static Format format(String name) {
+        switch (extension(name)) {
+            case "yaml":
+            case "yml":
+                return Format.YAML;
+            case "json":
+                return Format.JSON;
+            default:
+                return null;
+        }
+    }
+
+    private static BinaryFormat binaryFormat(String name) {
+        return BinaryFormat.fromExtension(extension(name));
+    }
+
+    private static String extension(String name) {
+        int extension = name.lastIndexOf('.');
+        return extension < 0 ? "" : name.substring(extension + 1);
+    }
+}
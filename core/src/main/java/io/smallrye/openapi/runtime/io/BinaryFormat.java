@@ -0,0 +1,97 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Binary encodings of the JSON form of an OpenAPI document. Unlike the text {@link Format}s,
+ * documents in these formats can only be read from and written to streams.
+ * <p>
+ * The Jackson data format modules implementing the encodings are optional dependencies,
+ * use {@link #isAvailable()} to check whether a format can be used.
+ */
+public enum BinaryFormat {
+    /**
+     * Concise Binary Object Representation (RFC 8949) of the JSON document
+     */
+    CBOR("application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+            "com.fasterxml.jackson.dataformat:jackson-dataformat-cbor"),
+    /**
+     * Jackson's Smile binary encoding of the JSON document
+     */
+    SMILE("application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory",
+            "com.fasterxml.jackson.dataformat:jackson-dataformat-smile");
+
+    private final String mimeType;
+    private final String factoryClassName;
+    private final String artifact;
+    private volatile ObjectMapper mapper;
+
+    BinaryFormat(String mimeType, String factoryClassName, String artifact) {
+        this.mimeType = mimeType;
+        this.factoryClassName = factoryClassName;
+        this.artifact = artifact;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * @return the file extension of documents in this format, without the dot
+     */
+    public String getExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return true if the Jackson data format module of this format is on the class path
+     */
+    public boolean isAvailable() {
+        try {
+            Class.forName(factoryClassName, false, BinaryFormat.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param extension a file extension, without the dot
+     * @return the binary format using the extension, or null if none does
+     */
+    public static BinaryFormat fromExtension(String extension) {
+        for (BinaryFormat format : values()) {
+            if (format.getExtension().equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The mapper of this format, created on first use.
+     *
+     * @throws IllegalStateException if the data format module is not on the class path
+     */
+    ObjectMapper mapper() {
+        ObjectMapper result = mapper;
+
+        if (result == null) {
+            try {
+                JsonFactory factory = (JsonFactory) Class.forName(factoryClassName, true, BinaryFormat.class.getClassLoader())
+                        .getDeclaredConstructor()
+                        .newInstance();
+                result = new ObjectMapper(factory);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw IoMessages.msg.binaryFormatNotAvailable(this, artifact, e);
+            }
+            // Racing threads create equivalent mappers, any of them may be kept
+            mapper = result;
+        }
+
+        return result;
+    }
+}
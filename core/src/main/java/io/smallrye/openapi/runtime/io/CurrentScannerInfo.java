@@ -42,6 +42,10 @@ public class CurrentScannerInfo {
         current.remove();
     }
 
+    public static boolean isRegistered() {
+        return current.get() != null;
+    }
+
     public static boolean isWrapperType(Type type) {
         AnnotationScanner scanner = getCurrentAnnotationScanner();
         return scanner != null && scanner.isWrapperType(type);
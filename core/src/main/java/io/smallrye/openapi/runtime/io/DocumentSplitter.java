@@ -0,0 +1,232 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Splits a serialized document into a root file, one file of paths per tag and one file
+ * per component schema, linked by relative external references.
+ * <p>
+ * A path item is written to the file of the first tag of its operations, or to the file
+ * of the {@value #DEFAULT_TAG} tag when none of its operations is tagged. References to
+ * component schemas are replaced by references to their files, all other local references
+ * of a fragment are resolved against the root file.
+ */
+class DocumentSplitter {
+
+    static final String PATHS_DIRECTORY = "paths/";
+    static final String SCHEMAS_DIRECTORY = "schemas/";
+    static final String DEFAULT_TAG = "default";
+
+    private static final String REF = "$ref";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final String rootFile;
+    private final String extension;
+    private final Map<String, ObjectNode> files = new LinkedHashMap<>();
+    private final Map<String, String> tagFiles = new LinkedHashMap<>();
+    private final Map<String, String> schemaFiles = new LinkedHashMap<>();
+    private final Set<String> fileNames = new HashSet<>();
+
+    DocumentSplitter(String rootName, Format format) {
+        this.extension = '.' + format.name().toLowerCase(Locale.ROOT);
+        this.rootFile = rootName + extension;
+    }
+
+    /**
+     * Split the document. The document is modified, it becomes the root file.
+     *
+     * @param document the serialized document
+     * @return the contents of the files, by name relative to the root file's directory,
+     *         starting with the root file
+     */
+    Map<String, ObjectNode> split(ObjectNode document) {
+        files.put(rootFile, document);
+        fileNames.add(rootFile.toLowerCase(Locale.ROOT));
+
+        splitSchemas(document);
+        splitPaths(document);
+
+        for (Map.Entry<String, ObjectNode> file : files.entrySet()) {
+            rewriteReferences(file.getKey(), file.getValue());
+        }
+
+        return files;
+    }
+
+    String getRootFile() {
+        return rootFile;
+    }
+
+    /**
+     * @return the files of the paths, by tag
+     */
+    Map<String, String> getTagFiles() {
+        return tagFiles;
+    }
+
+    /**
+     * @return the files of the component schemas, by name
+     */
+    Map<String, String> getSchemaFiles() {
+        return schemaFiles;
+    }
+
+    private void splitSchemas(ObjectNode document) {
+        JsonNode schemas = document.path("components").path("schemas");
+
+        if (!schemas.isObject()) {
+            return;
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = schemas.fields(); i.hasNext();) {
+            Map.Entry<String, JsonNode> entry = i.next();
+
+            if (!entry.getValue().isObject()) {
+                continue;
+            }
+
+            String file = fileName(SCHEMAS_DIRECTORY, entry.getKey());
+            files.put(file, (ObjectNode) entry.getValue());
+            schemaFiles.put(entry.getKey(), file);
+            entry.setValue(reference(file));
+        }
+    }
+
+    private void splitPaths(ObjectNode document) {
+        JsonNode paths = document.path("paths");
+
+        if (!paths.isObject()) {
+            return;
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = paths.fields(); i.hasNext();) {
+            Map.Entry<String, JsonNode> entry = i.next();
+
+            if (!entry.getValue().isObject() || entry.getKey().startsWith("x-")) {
+                continue;
+            }
+
+            String tag = tag(entry.getValue());
+            String file = tagFiles.computeIfAbsent(tag, t -> fileName(PATHS_DIRECTORY, t));
+            files.computeIfAbsent(file, f -> JsonUtil.objectNode()).set(entry.getKey(), entry.getValue());
+            entry.setValue(reference(file + '#' + encodeFragment('/' + escapePointer(entry.getKey()))));
+        }
+    }
+
+    private static String tag(JsonNode pathItem) {
+        for (JsonNode operation : pathItem) {
+            JsonNode tags = operation.path("tags");
+
+            if (tags.isArray() && tags.size() > 0) {
+                return tags.get(0).asText();
+            }
+        }
+
+        return DEFAULT_TAG;
+    }
+
+    /**
+     * Name of a file for the given component or tag, unique even on case insensitive file systems.
+     */
+    private String fileName(String directory, String name) {
+        StringBuilder safe = new StringBuilder(name.length());
+
+        for (int i = 0, m = name.length(); i < m; i++) {
+            char c = name.charAt(i);
+            safe.append(c < 128 && (Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.') ? c : '_');
+        }
+
+        String base = directory + safe;
+        String file = base + extension;
+
+        for (int suffix = 2; !fileNames.add(file.toLowerCase(Locale.ROOT)); suffix++) {
+            file = base + '_' + suffix + extension;
+        }
+
+        return file;
+    }
+
+    private ObjectNode reference(String target) {
+        ObjectNode reference = JsonUtil.objectNode();
+        reference.put(REF, target);
+        return reference;
+    }
+
+    private void rewriteReferences(String file, JsonNode node) {
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF);
+
+            if (ref != null && ref.isTextual() && ref.asText().startsWith("#/")) {
+                ((ObjectNode) node).put(REF, rewrite(file, ref.asText()));
+            }
+        }
+
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                rewriteReferences(file, child);
+            }
+        }
+    }
+
+    private String rewrite(String file, String ref) {
+        if (ref.startsWith(SCHEMA_REF_PREFIX)) {
+            String schemaFile = schemaFiles.get(ref.substring(SCHEMA_REF_PREFIX.length()));
+
+            if (schemaFile != null) {
+                return relativize(file, schemaFile);
+            }
+        }
+
+        return file.equals(rootFile) ? ref : relativize(file, rootFile) + ref;
+    }
+
+    /**
+     * Reference to a file from another file, both being either in the root directory or in
+     * one of its sub-directories.
+     */
+    private static String relativize(String from, String to) {
+        int fromDirectory = from.lastIndexOf('/');
+
+        if (fromDirectory < 0) {
+            return to;
+        }
+        if (to.lastIndexOf('/') == fromDirectory && to.regionMatches(0, from, 0, fromDirectory)) {
+            return to.substring(fromDirectory + 1);
+        }
+        return "../" + to;
+    }
+
+    private static String escapePointer(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Percent-encode the characters not allowed in the fragment of a URI (RFC 3986), e.g. the
+     * braces of path parameters.
+     */
+    private static String encodeFragment(String fragment) {
+        StringBuilder encoded = new StringBuilder(fragment.length() + 8);
+
+        for (byte b : fragment.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+
+            if (c < 128 && (Character.isLetterOrDigit(c) || "-._~!$&'()*+,;=:@/?".indexOf(c) >= 0)) {
+                encoded.append(c);
+            } else {
+                encoded.append('%').append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xf, 16)));
+            }
+        }
+
+        return encoded.toString();
+    }
+}
@@ -1,5 +1,8 @@
 package io.smallrye.openapi.runtime.io;
 
+/**
+ * Text formats of an OpenAPI document. See {@link BinaryFormat} for the binary encodings.
+ */
 public enum Format {
     JSON("application/json"),
     YAML("application/yaml");
@@ -3,6 +3,7 @@ package io.smallrye.openapi.runtime.io;
 import java.io.IOException;
 
 import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
 
@@ -16,6 +17,9 @@ interface IoMessages {
     @Message(id = 3001, value = "Invalid file name for URL: %s")
     IOException invalidFileName(String url);
 
-    @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, or yml): %s")
+    @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, yml, cbor, or smile): %s")
     IOException invalidFileExtension(String url);
+
+    @Message(id = 3003, value = "Format %s requires %s on the class path")
+    IllegalStateException binaryFormatNotAvailable(BinaryFormat format, String artifact, @Cause Throwable cause);
 }
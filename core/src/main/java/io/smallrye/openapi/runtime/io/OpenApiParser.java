@@ -19,15 +19,19 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaReader;
 
 /**
- * A class used to parse an OpenAPI document (either YAML or JSON) into a Microprofile OpenAPI model tree.
+ * A class used to parse an OpenAPI document (YAML, JSON, CBOR, or Smile) into a Microprofile OpenAPI model tree.
  * 
  * @author eric.wittmann@gmail.com
  */
 public class OpenApiParser {
 
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(
+            new YAMLFactoryBuilder(new YAMLFactory()).loaderOptions(new LoaderOptions()).build());
+
     /**
      * Parses the resource found at the given URL. This method accepts resources
-     * either in JSON or YAML format. It will parse the input and, assuming it is
+     * in JSON, YAML, CBOR, or Smile format. It will parse the input and, assuming it is
      * valid, return an instance of {@link OpenAPI}.
      * 
      * @param url URL to OpenAPI document
@@ -45,14 +49,18 @@ public class OpenApiParser {
                 throw IoMessages.msg.invalidFileName(url.toURI().toString());
             }
             String ext = fname.substring(lidx + 1);
-            boolean isJson = ext.equalsIgnoreCase("json");
-            boolean isYaml = ext.equalsIgnoreCase("yaml") || ext.equalsIgnoreCase("yml");
-            if (!isJson && !isYaml) {
+            Format format = null;
+            BinaryFormat binaryFormat = null;
+            if (ext.equalsIgnoreCase("json")) {
+                format = Format.JSON;
+            } else if (ext.equalsIgnoreCase("yaml") || ext.equalsIgnoreCase("yml")) {
+                format = Format.YAML;
+            } else if ((binaryFormat = BinaryFormat.fromExtension(ext)) == null) {
                 throw IoMessages.msg.invalidFileExtension(url.toURI().toString());
             }
 
             try (InputStream stream = url.openStream()) {
-                return parse(stream, isJson ? Format.JSON : Format.YAML);
+                return format != null ? parse(stream, format) : parse(stream, binaryFormat);
             }
         } catch (URISyntaxException e) {
             throw new IOException(e);
@@ -71,17 +79,18 @@ public class OpenApiParser {
      */
     public static final OpenAPI parse(InputStream stream, Format format, final Integer maximumStaticFileSize)
             throws IOException {
-        ObjectMapper mapper;
+        JsonNode tree;
         if (format == Format.JSON) {
-            mapper = new ObjectMapper();
+            tree = JSON_MAPPER.readTree(stream);
+        } else if (maximumStaticFileSize == null) {
+            tree = YAML_MAPPER.readTree(stream);
         } else {
             LoaderOptions loaderOptions = new LoaderOptions();
-            if (maximumStaticFileSize != null) {
-                loaderOptions.setCodePointLimit(maximumStaticFileSize);
-            }
-            mapper = new ObjectMapper(new YAMLFactoryBuilder(new YAMLFactory()).loaderOptions(loaderOptions).build());
+            loaderOptions.setCodePointLimit(maximumStaticFileSize);
+            ObjectMapper mapper = new ObjectMapper(
+                    new YAMLFactoryBuilder(new YAMLFactory()).loaderOptions(loaderOptions).build());
+            tree = mapper.readTree(stream);
         }
-        JsonNode tree = mapper.readTree(stream);
 
         OpenApiParser parser = new OpenApiParser(tree);
         return parser.parse();
@@ -91,6 +100,20 @@ public class OpenApiParser {
         return parse(stream, format, null);
     }
 
+    /**
+     * Parses the binary encoded document found at the given stream.
+     *
+     * @param stream InputStream containing an OpenAPI document
+     * @param format BinaryFormat of the stream
+     * @return OpenAPIImpl parsed from the stream
+     * @throws IOException Errors in reading the stream
+     * @throws IllegalStateException if the data format module of the format is not on the class path
+     */
+    public static final OpenAPI parse(InputStream stream, BinaryFormat format) throws IOException {
+        OpenApiParser parser = new OpenApiParser(format.mapper().readTree(stream));
+        return parser.parse();
+    }
+
     /**
      * Parses the schema in the provided String. The format of the stream must
      * be JSON.
@@ -100,8 +123,7 @@ public class OpenApiParser {
      * @throws IOException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode tree = mapper.readTree(schemaJson);
+        JsonNode tree = JSON_MAPPER.readTree(schemaJson);
         return SchemaReader.readSchema(tree);
     }
 
@@ -1,11 +1,20 @@
 package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
@@ -19,6 +28,15 @@ import io.smallrye.openapi.runtime.io.definition.DefinitionWriter;
  */
 public class OpenApiSerializer {
 
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper()
+            .writerWithDefaultPrettyPrinter()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter YAML_WRITER = new ObjectMapper(new YAMLFactory()
+            .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+            .enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS))
+            .writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     private OpenApiSerializer() {
     }
 
@@ -31,25 +49,129 @@ public class OpenApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(OpenAPI openApi, Format format) throws IOException {
-
         try {
             ObjectNode tree = JsonUtil.objectNode();
             DefinitionWriter.writeOpenAPI(tree, openApi);
 
-            ObjectMapper mapper;
             if (format == Format.JSON) {
-                mapper = new ObjectMapper();
-                return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(tree);
+                return JSON_WRITER.writeValueAsString(tree);
             } else {
-                YAMLFactory factory = new YAMLFactory();
-                factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
-                factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-                mapper = new ObjectMapper(factory);
-                return mapper.writer().writeValueAsString(tree);
+                return YAML_WRITER.writeValueAsString(tree);
             }
         } catch (JsonProcessingException e) {
             throw new IOException(e);
         }
     }
 
+    /**
+     * Serializes the given OpenAPI object into either JSON or YAML to a stream, in UTF-8.
+     * The stream is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param stream the stream receiving the serialized document
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     */
+    public static final void serialize(OpenAPI openApi, Format format, OutputStream stream) throws IOException {
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, openApi);
+
+        if (format == Format.JSON) {
+            JSON_WRITER.writeValue(stream, tree);
+        } else {
+            YAML_WRITER.writeValue(stream, tree);
+        }
+    }
+
+    /**
+     * Serializes the given OpenAPI object in a binary format to a stream. The stream is not closed.
+     *
+     * @param openApi the OpenAPI object
+     * @param format the binary serialization format
+     * @param stream the stream receiving the serialized document
+     * @throws IOException Errors in processing the JSON or writing to the stream
+     * @throws IllegalStateException if the data format module of the format is not on the class path
+     */
+    public static final void serialize(OpenAPI openApi, BinaryFormat format, OutputStream stream) throws IOException {
+        ObjectWriter writer = format.mapper()
+                .writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, openApi);
+        writer.writeValue(stream, tree);
+    }
+
+    /**
+     * Serializes the given OpenAPI object into several documents of either JSON or YAML: a root
+     * document, one document of paths per tag and one document per component schema, linked by
+     * relative external references (e.g. <code>schemas/Pet.json</code>), so that clients may
+     * load only the parts they need. A manifest lists the documents with the SHA-256 digest and
+     * size of their UTF-8 encoded contents, and maps the tags and the component schemas to their
+     * documents:
+     *
+     * <pre>
+     * {
+     *   "root" : "openapi.json",
+     *   "tags" : { "pets" : "paths/pets.json" },
+     *   "schemas" : { "Pet" : "schemas/Pet.json" },
+     *   "files" : { "openapi.json" : { "sha256" : "...", "size" : 1234 }, ... }
+     * }
+     * </pre>
+     *
+     * @param openApi the OpenAPI object
+     * @param format the serialization format
+     * @param rootName name of the root document and of the manifest, without extension
+     * @return the contents of the documents by path relative to the root document, the root
+     *         document first and the manifest (named <code>&lt;rootName&gt;-manifest.json</code>
+     *         or <code>.yaml</code>) last
+     * @throws IOException Errors in processing the JSON
+     */
+    public static final Map<String, String> serializeSplit(OpenAPI openApi, Format format, String rootName)
+            throws IOException {
+        ObjectWriter writer = format == Format.JSON ? JSON_WRITER : YAML_WRITER;
+        ObjectNode tree = JsonUtil.objectNode();
+        DefinitionWriter.writeOpenAPI(tree, openApi);
+
+        DocumentSplitter splitter = new DocumentSplitter(rootName, format);
+        Map<String, String> documents = new LinkedHashMap<>();
+        ObjectNode manifest = JsonUtil.objectNode();
+        manifest.put("root", splitter.getRootFile());
+        ObjectNode tags = manifest.putObject("tags");
+        ObjectNode schemas = manifest.putObject("schemas");
+        ObjectNode files = manifest.putObject("files");
+
+        try {
+            for (Map.Entry<String, ObjectNode> file : splitter.split(tree).entrySet()) {
+                String contents = writer.writeValueAsString(file.getValue());
+                byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+                documents.put(file.getKey(), contents);
+                files.putObject(file.getKey())
+                        .put("sha256", sha256(bytes))
+                        .put("size", bytes.length);
+            }
+
+            splitter.getTagFiles().forEach(tags::put);
+            splitter.getSchemaFiles().forEach(schemas::put);
+            documents.put(rootName + "-manifest." + format.name().toLowerCase(Locale.ROOT),
+                    writer.writeValueAsString(manifest));
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+
+        return documents;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
 }
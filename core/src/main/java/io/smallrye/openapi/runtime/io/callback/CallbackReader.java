@@ -105,7 +105,7 @@ public class CallbackReader {
         }
         IoLogging.logger.singleAnnotation("@Callback");
         Callback callback = new CallbackImpl();
-        callback.setRef(JandexUtil.refValue(annotation, JandexUtil.RefType.CALLBACK));
+        callback.setRef(JandexUtil.refValue(context, annotation, JandexUtil.RefType.CALLBACK));
         String expression = JandexUtil.stringValue(annotation, CallbackConstant.PROP_CALLBACK_URL_EXPRESSION);
         callback.addPathItem(expression,
                 PathsReader.readPathItem(context, annotation.value(CallbackConstant.PROP_OPERATIONS), null));
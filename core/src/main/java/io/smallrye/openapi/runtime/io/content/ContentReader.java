@@ -53,10 +53,10 @@ public class ContentReader {
             MediaType mediaTypeModel = MediaTypeReader.readMediaType(context, nested);
             if (contentType == null) {
                 for (String mimeType : getDefaultMimeTypes(direction)) {
-                    content.addMediaType(mimeType, mediaTypeModel);
+                    content.addMediaType(context.getStringPool().intern(mimeType), mediaTypeModel);
                 }
             } else {
-                content.addMediaType(contentType, mediaTypeModel);
+                content.addMediaType(context.getStringPool().intern(contentType), mediaTypeModel);
             }
         }
         return content;
@@ -95,7 +95,7 @@ public class ExampleReader {
         }
         IoLogging.logger.singleAnnotation("@ExampleObject");
         Example example = new ExampleImpl();
-        example.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.EXAMPLE));
+        example.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.EXAMPLE));
         example.setSummary(JandexUtil.stringValue(annotationInstance, ExampleConstant.PROP_SUMMARY));
         example.setDescription(JandexUtil.stringValue(annotationInstance, ExampleConstant.PROP_DESCRIPTION));
         example.setValue(parseValue(context, JandexUtil.stringValue(annotationInstance, ExampleConstant.PROP_VALUE)));
@@ -59,7 +59,7 @@ public class HeaderReader {
                 name = JandexUtil.nameFromRef(nested);
             }
             if (name != null) {
-                headers.put(name, readHeader(context, nested));
+                headers.put(context.getStringPool().intern(name), readHeader(context, nested));
             }
         }
         return headers;
@@ -98,7 +98,7 @@ public class HeaderReader {
         }
         IoLogging.logger.singleAnnotation("@Header");
         Header header = new HeaderImpl();
-        header.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.HEADER));
+        header.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.HEADER));
         header.setDescription(JandexUtil.stringValue(annotationInstance, Parameterizable.PROP_DESCRIPTION));
         header.setSchema(SchemaFactory.readSchema(context, annotationInstance.value(Parameterizable.PROP_SCHEMA)));
         header.setRequired(JandexUtil.booleanValue(annotationInstance, Parameterizable.PROP_REQUIRED).orElse(null));
@@ -98,7 +98,7 @@ public class LinkReader {
         link.setDescription(JandexUtil.stringValue(annotationInstance, LinkConstant.PROP_DESCRIPTION));
         link.setRequestBody(JandexUtil.stringValue(annotationInstance, LinkConstant.PROP_REQUEST_BODY));
         link.setServer(ServerReader.readServer(context, annotationInstance.value(LinkConstant.PROP_SERVER)));
-        link.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.LINK));
+        link.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.LINK));
         link.setExtensions(ExtensionReader.readExtensions(context, annotationInstance));
         return link;
     }
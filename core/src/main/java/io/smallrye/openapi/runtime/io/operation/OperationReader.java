@@ -18,6 +18,7 @@ import io.smallrye.openapi.runtime.io.requestbody.RequestBodyReader;
 import io.smallrye.openapi.runtime.io.response.ResponseReader;
 import io.smallrye.openapi.runtime.io.securityrequirement.SecurityRequirementReader;
 import io.smallrye.openapi.runtime.io.server.ServerReader;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 
@@ -44,6 +45,13 @@ public class OperationReader {
     public static Operation readOperation(final AnnotationScannerContext context,
             final AnnotationInstance annotationInstance,
             final MethodInfo methodInfo) {
+        return context.getAnnotationReadCache().read(Kind.OPERATION, annotationInstance,
+                () -> readOperationModel(context, annotationInstance, methodInfo));
+    }
+
+    private static Operation readOperationModel(final AnnotationScannerContext context,
+            final AnnotationInstance annotationInstance,
+            final MethodInfo methodInfo) {
 
         if (annotationInstance != null) {
             IoLogging.logger.singleAnnotation("@Operation");
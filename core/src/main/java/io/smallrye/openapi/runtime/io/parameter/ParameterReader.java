@@ -28,6 +28,7 @@ import io.smallrye.openapi.runtime.io.example.ExampleReader;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.io.schema.SchemaReader;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 
@@ -148,6 +149,12 @@ public class ParameterReader {
      */
     public static Parameter readParameter(final AnnotationScannerContext context,
             final AnnotationInstance annotationInstance) {
+        return context.getAnnotationReadCache().read(Kind.PARAMETER, annotationInstance,
+                () -> readParameterModel(context, annotationInstance));
+    }
+
+    private static Parameter readParameterModel(final AnnotationScannerContext context,
+            final AnnotationInstance annotationInstance) {
 
         if (annotationInstance == null) {
             return null;
@@ -183,7 +190,7 @@ public class ParameterReader {
         parameter.setExamples(ExampleReader.readExamples(context, annotationInstance.value(Parameterizable.PROP_EXAMPLES)));
         parameter.setExample(
                 ExampleReader.parseValue(context, JandexUtil.stringValue(annotationInstance, Parameterizable.PROP_EXAMPLE)));
-        parameter.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.PARAMETER));
+        parameter.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.PARAMETER));
 
         if (annotationInstance.target() != null) {
             switch (annotationInstance.target().kind()) {
@@ -25,6 +25,7 @@ import io.smallrye.openapi.runtime.io.Referenceable;
 import io.smallrye.openapi.runtime.io.content.ContentReader;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.TypeUtil;
@@ -114,6 +115,12 @@ public class RequestBodyReader {
      */
     public static RequestBody readRequestBody(final AnnotationScannerContext context,
             final AnnotationInstance annotationInstance) {
+        return context.getAnnotationReadCache().read(Kind.REQUEST_BODY, annotationInstance,
+                () -> readRequestBodyModel(context, annotationInstance));
+    }
+
+    private static RequestBody readRequestBodyModel(final AnnotationScannerContext context,
+            final AnnotationInstance annotationInstance) {
         if (annotationInstance == null) {
             return null;
         }
@@ -125,7 +132,7 @@ public class RequestBodyReader {
                         annotationInstance.value(RequestBodyConstant.PROP_CONTENT),
                         ContentDirection.INPUT));
         requestBody.setRequired(JandexUtil.booleanValue(annotationInstance, RequestBodyConstant.PROP_REQUIRED).orElse(null));
-        requestBody.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.REQUEST_BODY));
+        requestBody.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.REQUEST_BODY));
         requestBody.setExtensions(ExtensionReader.readExtensions(context, annotationInstance));
         return requestBody;
     }
@@ -152,7 +159,7 @@ public class RequestBodyReader {
                     JandexUtil.value(annotation, RequestBodyConstant.PROP_VALUE),
                     null,
                     context.getExtensions()));
-            content.addMediaType(mediaType, type);
+            content.addMediaType(context.getStringPool().intern(mediaType), type);
         }
 
         RequestBody requestBody = new RequestBodyImpl();
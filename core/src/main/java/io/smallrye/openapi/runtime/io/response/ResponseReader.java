@@ -32,6 +32,7 @@ import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.header.HeaderReader;
 import io.smallrye.openapi.runtime.io.link.LinkReader;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.util.JandexUtil;
 import io.smallrye.openapi.runtime.util.TypeUtil;
@@ -175,6 +176,12 @@ public class ResponseReader {
      */
     public static APIResponse readResponse(final AnnotationScannerContext context,
             final AnnotationInstance annotationInstance) {
+        return context.getAnnotationReadCache().read(Kind.RESPONSE, annotationInstance,
+                () -> readResponseModel(context, annotationInstance));
+    }
+
+    private static APIResponse readResponseModel(final AnnotationScannerContext context,
+            final AnnotationInstance annotationInstance) {
         if (annotationInstance == null) {
             return null;
         }
@@ -187,7 +194,7 @@ public class ResponseReader {
         response.setContent(
                 ContentReader.readContent(context, annotationInstance.value(ResponseConstant.PROP_CONTENT),
                         ContentDirection.OUTPUT));
-        response.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.RESPONSE));
+        response.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.RESPONSE));
         response.setExtensions(ExtensionReader.readExtensions(context, annotationInstance));
         response.setResponseCode(JandexUtil.value(annotationInstance, ResponseConstant.PROP_RESPONSE_CODE));
         return response;
@@ -222,7 +229,7 @@ public class ResponseReader {
                     context.getExtensions());
 
             for (String mediaType : CurrentScannerInfo.getCurrentProduces()) {
-                content.addMediaType(mediaType, new MediaTypeImpl().schema(responseSchema));
+                content.addMediaType(context.getStringPool().intern(mediaType), new MediaTypeImpl().schema(responseSchema));
             }
 
             response.setContent(content);
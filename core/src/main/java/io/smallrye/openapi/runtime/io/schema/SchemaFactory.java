@@ -21,6 +21,7 @@ import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ArrayType;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
@@ -37,6 +38,7 @@ import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.extension.ExtensionReader;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsConstant;
 import io.smallrye.openapi.runtime.io.externaldocs.ExternalDocsReader;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.OpenApiDataObjectScanner;
 import io.smallrye.openapi.runtime.scanner.SchemaRegistry;
@@ -80,7 +82,8 @@ public class SchemaFactory {
             return null;
         }
 
-        return readSchema(context, new SchemaImpl(), schemaAnnotation, Collections.emptyMap());
+        return context.getAnnotationReadCache().read(Kind.SCHEMA, schemaAnnotation,
+                () -> readSchema(context, new SchemaImpl(), schemaAnnotation, Collections.emptyMap()));
     }
 
     /**
@@ -172,7 +175,7 @@ public class SchemaFactory {
         schema.setRequired(readAttr(annotation, SchemaConstant.PROP_REQUIRED_PROPERTIES, defaults));
         schema.setDescription(readAttr(annotation, SchemaConstant.PROP_DESCRIPTION, defaults));
         schema.setFormat(readAttr(annotation, SchemaConstant.PROP_FORMAT, defaults));
-        schema.setRef(readAttr(annotation, OpenApiConstants.REF, defaults));
+        schema.setRef(context.getStringPool().intern(readAttr(annotation, OpenApiConstants.REF, defaults)));
         schema.setNullable(readAttr(annotation, SchemaConstant.PROP_NULLABLE, defaults));
         schema.setReadOnly(readAttr(annotation, SchemaConstant.PROP_READ_ONLY, defaults));
         schema.setWriteOnly(readAttr(annotation, SchemaConstant.PROP_WRITE_ONLY, defaults));
@@ -531,6 +534,8 @@ public class SchemaFactory {
      * constant names listed in the ClassInfo.
      * 
      * The given type must be found in the index.
+     * 
+     * The schema of each enum is only read once per scan, each call returns a copy.
      *
      * @param context scanning context
      * @param enumType type containing Java Enum constants
@@ -539,6 +544,30 @@ public class SchemaFactory {
      * @see java.lang.reflect.Field#isEnumConstant()
      */
     public static Schema enumToSchema(final AnnotationScannerContext context, Type enumType) {
+        DotName enumName = TypeUtil.getName(enumType);
+        Map<DotName, Schema> enumSchemas = context.getEnumSchemas();
+        Schema enumSchema = enumSchemas.get(enumName);
+
+        if (enumSchema == null) {
+            // The schema read may have been registered, cache a copy
+            enumSchema = readEnumSchema(context, enumType);
+            enumSchemas.put(enumName, SchemaImpl.copyOf(enumSchema));
+            return enumSchema;
+        }
+
+        enumSchema = SchemaImpl.copyOf(enumSchema);
+        ClassInfo enumKlazz = context.getIndex().getClassByName(enumName);
+
+        if (!isAnnotationMissingOrHidden(enumKlazz.classAnnotation(SchemaConstant.DOTNAME_SCHEMA),
+                Collections.emptyMap())) {
+            // Registered the same way as when read, the registration may depend on the JSON views
+            schemaRegistration(context, Type.create(enumName, Type.Kind.CLASS), enumSchema);
+        }
+
+        return enumSchema;
+    }
+
+    private static Schema readEnumSchema(final AnnotationScannerContext context, Type enumType) {
         IoLogging.logger.enumProcessing(enumType);
         final int ENUM = 0x00004000; // see java.lang.reflect.Modifier#ENUM
         ClassInfo enumKlazz = context.getIndex().getClassByName(TypeUtil.getName(enumType));
@@ -112,7 +112,7 @@ public class SecuritySchemeReader {
         securityScheme
                 .setOpenIdConnectUrl(
                         JandexUtil.stringValue(annotationInstance, SecuritySchemeConstant.PROP_OPEN_ID_CONNECT_URL));
-        securityScheme.setRef(JandexUtil.refValue(annotationInstance, JandexUtil.RefType.SECURITY_SCHEME));
+        securityScheme.setRef(JandexUtil.refValue(context, annotationInstance, JandexUtil.RefType.SECURITY_SCHEME));
         securityScheme.setExtensions(ExtensionReader.readExtensions(context, annotationInstance));
         return securityScheme;
     }
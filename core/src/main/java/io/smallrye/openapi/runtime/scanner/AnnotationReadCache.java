@@ -0,0 +1,241 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.CompactMap;
+
+/**
+ * Scan-scoped cache of the models read from annotations, e.g. the {@code @Operation},
+ * {@code @Parameter} or {@code @APIResponse} annotations of an interface or abstract base
+ * resource that are encountered again for every implementing resource class.
+ *
+ * Results are cached by the identity of the annotation instance together with the state
+ * of the scan the readers depend on (the current scanner, media types and JSON views). The
+ * cached model is never handed out, each read returns a copy that the caller may modify
+ * freely. Schemas are copied, including their nested schemas, with
+ * {@link SchemaImpl#copyOf(Schema)}.
+ */
+public class AnnotationReadCache {
+
+    /**
+     * The kinds of models read from annotations.
+     */
+    public enum Kind {
+        OPERATION,
+        PARAMETER,
+        REQUEST_BODY,
+        RESPONSE,
+        SCHEMA
+    }
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private final AnnotationScannerContext context;
+    private final Map<Key, Object> models = new HashMap<>();
+    private final Map<Kind, long[]> statistics = new EnumMap<>(Kind.class);
+
+    public AnnotationReadCache(AnnotationScannerContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Retrieve a copy of the model read from the annotation, reading it on first use.
+     *
+     * @param <T> type of the model
+     * @param kind the kind of model read from the annotation
+     * @param annotation the annotation, may be null
+     * @param reader reads the model from the annotation
+     * @return a copy of the model, or null if the annotation is null or the reader returns null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(Kind kind, AnnotationInstance annotation, Supplier<T> reader) {
+        if (annotation == null) {
+            return reader.get();
+        }
+
+        long[] counts = statistics.computeIfAbsent(kind, k -> new long[2]);
+        Key key = new Key(kind, annotation, context);
+        Object model = models.get(key);
+
+        counts[0]++;
+
+        if (model != null) {
+            counts[1]++;
+        } else {
+            // Not computeIfAbsent, reading an annotation reads its nested annotations through the cache
+            model = reader.get();
+
+            if (model == null) {
+                return null;
+            }
+
+            models.put(key, model);
+        }
+
+        try {
+            return (T) copy(model);
+        } catch (ReflectiveOperationException e) {
+            models.remove(key);
+            return reader.get();
+        }
+    }
+
+    /**
+     * @param kind the kind of model
+     * @return the number of reads of the given kind
+     */
+    public long getLookupCount(Kind kind) {
+        long[] counts = statistics.get(kind);
+        return counts != null ? counts[0] : 0;
+    }
+
+    /**
+     * @param kind the kind of model
+     * @return the number of reads of the given kind answered by a cached model
+     */
+    public long getHitCount(Kind kind) {
+        long[] counts = statistics.get(kind);
+        return counts != null ? counts[1] : 0;
+    }
+
+    /**
+     * @return the number of cached models
+     */
+    public int size() {
+        return models.size();
+    }
+
+    /**
+     * Release the cached models, the statistics remain available.
+     */
+    public void clear() {
+        models.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object copy(Object value) throws ReflectiveOperationException {
+        if (value instanceof SchemaImpl) {
+            return SchemaImpl.copyOf((Schema) value);
+        }
+        if (value instanceof ModelImpl) {
+            // Before Map, map models are copied with their other fields
+            Object copy = value.getClass().getDeclaredConstructor().newInstance();
+
+            for (Field field : FIELDS.get(value.getClass())) {
+                field.set(copy, copy(field.get(value)));
+            }
+
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> source = (Map<Object, Object>) value;
+            Map<Object, Object> copy = value instanceof CompactMap ? new CompactMap<>() : new LinkedHashMap<>();
+
+            for (Map.Entry<Object, Object> entry : source.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            }
+
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> source = (List<Object>) value;
+            List<Object> copy = new ArrayList<>(source.size());
+
+            for (Object element : source) {
+                copy.add(copy(element));
+            }
+
+            return copy;
+        }
+
+        return value;
+    }
+
+    /**
+     * The annotation instance (by identity) and the state of the scan affecting how it is read.
+     */
+    private static final class Key {
+        private final Kind kind;
+        private final AnnotationInstance annotation;
+        private final Object scanner;
+        private final String[] consumes;
+        private final String[] produces;
+        private final Type[] views;
+        private final int hashCode;
+
+        Key(Kind kind, AnnotationInstance annotation, AnnotationScannerContext context) {
+            this.kind = kind;
+            this.annotation = annotation;
+
+            if (CurrentScannerInfo.isRegistered()) {
+                this.scanner = CurrentScannerInfo.getCurrentAnnotationScanner();
+                this.consumes = CurrentScannerInfo.getCurrentConsumes();
+                this.produces = CurrentScannerInfo.getCurrentProduces();
+            } else {
+                this.scanner = null;
+                this.consumes = null;
+                this.produces = null;
+            }
+
+            this.views = context.getJsonViews().toArray(new Type[0]);
+            this.hashCode = Objects.hash(kind, System.identityHashCode(annotation), System.identityHashCode(scanner),
+                    Arrays.hashCode(consumes), Arrays.hashCode(produces), Arrays.hashCode(views));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return kind == other.kind
+                    && annotation == other.annotation
+                    && scanner == other.scanner
+                    && Arrays.equals(consumes, other.consumes)
+                    && Arrays.equals(produces, other.produces)
+                    && Arrays.equals(views, other.views);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.schema.SchemaWriter;
+import io.smallrye.openapi.runtime.scanner.ScanProvenance.SchemaSource;
+
+/**
+ * On-disk cache of the schemas generated for the types of dependency artifacts (e.g. shared
+ * domain model jars) that rarely change.
+ *
+ * Each artifact is identified by a hash of its content (see {@link #hash(Path)}). Cache files are
+ * keyed by that hash and the configuration settings that influence the generated schemas. Each
+ * cached schema also records the hashes of the other artifacts its class depends on: those of its
+ * super classes and interfaces and of the classes of the schemas it references. A cached schema is
+ * only {@link #load loaded} while all of these artifacts are unchanged, so updating one dependency
+ * only invalidates the schemas of the types that use it.
+ *
+ * After a scan, {@link #store} writes the schemas registered for the classes of an artifact, keeping
+ * the schemas cached earlier. In a later scan, the cached schema of a class is used instead of
+ * introspecting the class (see {@link SchemaRegistry#readCachedSchema}). The schema names are
+ * derived by that scan, so the result is the same as that of a scan without the cache.
+ *
+ * Only schemas registered for a class (not a parameterized type) without any active JSON views,
+ * and only referencing such schemas, are cached.
+ */
+public class DependencySchemaCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PROP_SCHEMAS = "schemas";
+    private static final String PROP_CLASS = "class";
+    private static final String PROP_NAME = "name";
+    private static final String PROP_SCHEMA = "schema";
+    private static final String PROP_REFERENCES = "references";
+    private static final String PROP_ARTIFACTS = "artifacts";
+    private static final String PROP_REF = "$ref";
+    private static final String FILE_SUFFIX = ".json";
+
+    /**
+     * A cached schema
+     */
+    static final class Entry {
+        final String className;
+        final String name;
+        final JsonNode schema;
+        /*
+         * Names of the schemas referenced by the schema, mapped to their class
+         */
+        final Map<String, String> references;
+        /*
+         * Hashes of the other artifacts the class depends on
+         */
+        final Set<String> artifacts;
+
+        Entry(String className, String name, JsonNode schema, Map<String, String> references, Set<String> artifacts) {
+            this.className = className;
+            this.name = name;
+            this.schema = schema;
+            this.references = references;
+            this.artifacts = artifacts;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return className.equals(other.className) && name.equals(other.name) && schema.equals(other.schema)
+                    && references.equals(other.references) && artifacts.equals(other.artifacts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(className, name, schema);
+        }
+    }
+
+    private final Path directory;
+    private final String configKey;
+    private final Map<String, IndexView> artifacts;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Set<String> conflicts = new HashSet<>();
+    private final Map<String, Map<String, Entry>> loadedByArtifact = new HashMap<>();
+    private final Set<String> outdated = new HashSet<>();
+
+    /**
+     * @param directory directory holding the cache files
+     * @param config configuration of the scan
+     * @param artifacts indexes of the classes of all artifacts scanned together, by the
+     *        {@link #hash(Path) hash} of the artifact
+     */
+    public DependencySchemaCache(Path directory, OpenApiConfig config, Map<String, IndexView> artifacts) {
+        this.directory = directory;
+        this.configKey = configKey(config);
+        this.artifacts = new LinkedHashMap<>(artifacts);
+    }
+
+    /**
+     * Compute the hash of an artifact's content, suitable to be passed to {@link #load}
+     * and {@link #store}.
+     *
+     * @param artifact path of the artifact, e.g. a jar file
+     * @return the hash of the file's content
+     * @throws IOException if the file cannot be read
+     */
+    public static String hash(Path artifact) throws IOException {
+        MessageDigest digest = digest();
+        byte[] buffer = new byte[8192];
+
+        try (InputStream stream = Files.newInputStream(artifact)) {
+            int count;
+            while ((count = stream.read(buffer)) > 0) {
+                digest.update(buffer, 0, count);
+            }
+        }
+
+        return hex(digest.digest());
+    }
+
+    static String configKey(OpenApiConfig config) {
+        StringBuilder key = new StringBuilder();
+        key.append(OpenApiConstants.class.getPackage().getImplementationVersion());
+        key.append(";naming=").append(config.propertyNamingStrategy());
+        key.append(";private=").append(config.privatePropertiesEnable());
+        key.append(";sorted=").append(config.sortedPropertiesEnable());
+        key.append(";beanValidation=").append(config.scanBeanValidation());
+        key.append(";arrayReferences=").append(config.arrayReferencesEnable());
+        key.append(";schemas=").append(new TreeMap<>(config.getSchemas()));
+        return key.toString();
+    }
+
+    private Path file(String artifactHash) {
+        MessageDigest digest = digest();
+        digest.update(artifactHash.getBytes(StandardCharsets.UTF_8));
+        digest.update(configKey.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(hex(digest.digest()) + FILE_SUFFIX);
+    }
+
+    /**
+     * Load the schemas cached for an artifact, except those depending on an artifact that is
+     * not scanned (e.g. another version of it).
+     *
+     * @param artifactHash hash of the artifact
+     * @return true if schemas were cached for the artifact (and the current configuration), otherwise false
+     */
+    public boolean load(String artifactHash) {
+        Path file = file(artifactHash);
+
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        Map<String, Entry> loaded = new LinkedHashMap<>();
+        boolean dropped = false;
+
+        try (InputStream stream = Files.newInputStream(file)) {
+            for (JsonNode node : MAPPER.readTree(stream).path(PROP_SCHEMAS)) {
+                Map<String, String> references = new LinkedHashMap<>();
+                node.path(PROP_REFERENCES).fields()
+                        .forEachRemaining(reference -> references.put(reference.getKey(), reference.getValue().asText()));
+                Set<String> dependencies = new TreeSet<>();
+                node.path(PROP_ARTIFACTS).forEach(hash -> dependencies.add(hash.asText()));
+
+                if (artifacts.keySet().containsAll(dependencies)) {
+                    Entry entry = new Entry(node.get(PROP_CLASS).asText(), node.get(PROP_NAME).asText(),
+                            node.get(PROP_SCHEMA), references, dependencies);
+                    loaded.put(entry.className, entry);
+                } else {
+                    dropped = true;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            ScannerLogging.logger.errorReadingSchemaCache(file, e);
+            return false;
+        }
+
+        loadedByArtifact.put(artifactHash, loaded);
+
+        if (dropped) {
+            outdated.add(artifactHash);
+        }
+
+        loaded.values().forEach(entry -> {
+            if (conflicts.contains(entry.className)) {
+                return;
+            }
+            if (entries.containsKey(entry.className)) {
+                // Same class in different artifacts, neither may be used
+                entries.remove(entry.className);
+                conflicts.add(entry.className);
+            } else {
+                entries.put(entry.className, entry);
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Store the schemas generated for the classes of an artifact. Schemas {@link #load loaded} for
+     * the artifact that were not used by the scan remain cached. The cache file is not written when
+     * the cached schemas did not change.
+     *
+     * @param artifactHash hash of the artifact
+     * @param model the result of the annotation scan, before any filters are applied
+     * @param provenance record of the schemas registered by the scan
+     * @return true if the cache file was written, false if the cached schemas were up to date
+     * @throws IOException if the cache file cannot be written
+     */
+    public boolean store(String artifactHash, OpenAPI model, ScanProvenance provenance) throws IOException {
+        Map<String, Schema> schemas = model.getComponents() != null && model.getComponents().getSchemas() != null
+                ? model.getComponents().getSchemas()
+                : Collections.emptyMap();
+        Map<String, SchemaSource> sources = provenance.getSchemaSources();
+        Map<String, String> classNames = new HashMap<>();
+
+        for (ClassInfo clazz : artifacts.get(artifactHash).getKnownClasses()) {
+            String name = provenance.getSchemaName(clazz.name());
+
+            if (name != null) {
+                classNames.put(name, clazz.name().toString());
+            }
+        }
+
+        Map<String, Entry> stored = new LinkedHashMap<>();
+
+        // Preserve the order of the schemas in the model
+        schemas.forEach((name, schema) -> {
+            String className = classNames.get(name);
+
+            if (className != null) {
+                ObjectNode parent = JsonUtil.objectNode();
+                SchemaWriter.writeSchema(parent, schema, name);
+                Entry entry = entry(artifactHash, className, name, parent.get(name), sources);
+
+                if (entry != null) {
+                    stored.put(className, entry);
+                }
+            }
+        });
+
+        Map<String, Entry> loaded = loadedByArtifact.getOrDefault(artifactHash, Collections.emptyMap());
+
+        loaded.values().forEach(entry -> stored.putIfAbsent(entry.className, entry));
+
+        if (stored.equals(loaded) && !outdated.contains(artifactHash)) {
+            return false;
+        }
+
+        ArrayNode cached = JsonUtil.arrayNode();
+
+        stored.values().forEach(entry -> {
+            ObjectNode node = cached.addObject()
+                    .put(PROP_CLASS, entry.className)
+                    .put(PROP_NAME, entry.name);
+            node.set(PROP_SCHEMA, entry.schema);
+            ObjectNode references = node.putObject(PROP_REFERENCES);
+            entry.references.forEach(references::put);
+            ArrayNode dependencies = node.putArray(PROP_ARTIFACTS);
+            entry.artifacts.forEach(dependencies::add);
+        });
+
+        ObjectNode root = JsonUtil.objectNode();
+        root.set(PROP_SCHEMAS, cached);
+
+        Path file = file(artifactHash);
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "schemas", FILE_SUFFIX);
+
+        try {
+            MAPPER.writeValue(temp.toFile(), root);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        ScannerLogging.logger.schemaCacheStored(cached.size(), file);
+        loadedByArtifact.put(artifactHash, stored);
+        outdated.remove(artifactHash);
+        return true;
+    }
+
+    /**
+     * Create the entry of a schema of a class of the artifact, or null if the schema references
+     * a schema not registered for a class.
+     */
+    private Entry entry(String artifactHash, String className, String name, JsonNode schema,
+            Map<String, SchemaSource> sources) {
+        Map<String, String> references = new LinkedHashMap<>();
+        Set<DotName> dependencies = new HashSet<>();
+
+        for (String reference : collectReferences(schema, new LinkedHashSet<>())) {
+            SchemaSource source = sources.get(reference);
+
+            if (source == null || !source.getViews().isEmpty() || source.getType().kind() != Type.Kind.CLASS) {
+                return null;
+            }
+
+            references.put(reference, source.getType().name().toString());
+            dependencies.add(source.getType().name());
+        }
+
+        collectSuperTypes(DotName.createSimple(className), dependencies);
+
+        Set<String> artifactHashes = new TreeSet<>();
+
+        for (DotName dependency : dependencies) {
+            artifacts.forEach((hash, index) -> {
+                if (!hash.equals(artifactHash) && index.getClassByName(dependency) != null) {
+                    artifactHashes.add(hash);
+                }
+            });
+        }
+
+        return new Entry(className, name, schema, references, artifactHashes);
+    }
+
+    /**
+     * Collect the names of the super classes and interfaces of a class found in the artifacts
+     */
+    private void collectSuperTypes(DotName className, Set<DotName> names) {
+        for (IndexView index : artifacts.values()) {
+            ClassInfo clazz = index.getClassByName(className);
+
+            if (clazz != null) {
+                if (clazz.superName() != null && names.add(clazz.superName())) {
+                    collectSuperTypes(clazz.superName(), names);
+                }
+                for (DotName interfaceName : clazz.interfaceNames()) {
+                    if (names.add(interfaceName)) {
+                        collectSuperTypes(interfaceName, names);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param className name of a class
+     * @return the loaded schema of the class, or null if none was loaded
+     */
+    Entry getEntry(String className) {
+        return entries.get(className);
+    }
+
+    /**
+     * @return all loaded schemas, in the order they were loaded
+     */
+    Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    /**
+     * Collect the names of the schemas referenced by a schema, i.e.
+     * <code>$ref</code> values of the form <code>#/components/schemas/Name</code>.
+     */
+    static Set<String> collectReferences(JsonNode node, Set<String> references) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+
+                if (PROP_REF.equals(field.getKey()) && field.getValue().isTextual()) {
+                    String ref = field.getValue().asText();
+
+                    if (ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA)) {
+                        references.add(ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length()));
+                    }
+                } else {
+                    collectReferences(field.getValue(), references);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(element -> collectReferences(element, references));
+        }
+
+        return references;
+    }
+
+    /**
+     * Replace the names of the referenced schemas, i.e. the <code>$ref</code> values of the form
+     * <code>#/components/schemas/Name</code>, by the given references.
+     *
+     * @param node a schema
+     * @param references the new <code>$ref</code> values by the referenced name
+     */
+    static void renameReferences(JsonNode node, Map<String, String> references) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+
+                if (PROP_REF.equals(field.getKey()) && field.getValue().isTextual()) {
+                    String ref = field.getValue().asText();
+
+                    if (ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA)) {
+                        String name = ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length());
+                        ((ObjectNode) node).put(PROP_REF, references.getOrDefault(name, ref));
+                    }
+                } else {
+                    renameReferences(field.getValue(), references);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(element -> renameReferences(element, references));
+        }
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16));
+            result.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return result.toString();
+    }
+}
@@ -2,12 +2,15 @@ package io.smallrye.openapi.runtime.scanner;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -15,6 +18,7 @@ import java.util.stream.Collectors;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -34,6 +38,7 @@ import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for OpenAPI annotations.
@@ -49,6 +54,7 @@ public class OpenApiAnnotationScanner {
 
     private final AnnotationScannerContext annotationScannerContext;
     private final AnnotationScannerFactory annotationScannerFactory;
+    private final Set<ScanProvenance.SchemaSource> schemaSources = new LinkedHashSet<>();
 
     /**
      * Constructor.
@@ -106,6 +112,56 @@ public class OpenApiAnnotationScanner {
         this.annotationScannerFactory = new AnnotationScannerFactory(loader);
     }
 
+    /**
+     * Add types for which a schema is generated during the scan, in addition to those
+     * referenced by the scanned classes or annotated with {@code @Schema}.
+     *
+     * @param types types to generate schemas for
+     */
+    public void addSchemaTypes(Collection<Type> types) {
+        types.forEach(type -> schemaSources.add(new ScanProvenance.SchemaSource(type, Collections.emptySet())));
+    }
+
+    /**
+     * Add types for which a schema is generated during the scan with the given JSON views
+     * active, e.g. schemas to re-create after their types changed.
+     *
+     * @param sources types and JSON views to generate schemas for
+     */
+    public void addSchemaSources(Collection<ScanProvenance.SchemaSource> sources) {
+        schemaSources.addAll(sources);
+    }
+
+    /**
+     * Add the schemas of a document the result of the scan will be merged into. Their
+     * names are not used for other schemas, and the types they were generated for refer
+     * to them instead of being scanned again.
+     *
+     * @param schemas existing schemas by name
+     * @param sources types and JSON views of the existing schemas by name
+     */
+    public void addExistingSchemas(Map<String, Schema> schemas, Map<String, ScanProvenance.SchemaSource> sources) {
+        annotationScannerContext.getExistingSchemas().putAll(schemas);
+        annotationScannerContext.getExistingSchemaSources().putAll(sources);
+    }
+
+    /**
+     * Use the schemas loaded into the given cache for the types of dependency artifacts,
+     * rather than introspecting the types.
+     *
+     * @param schemaCache cache of dependency schemas, or null to disable
+     */
+    public void setSchemaCache(DependencySchemaCache schemaCache) {
+        annotationScannerContext.setSchemaCache(schemaCache);
+    }
+
+    /**
+     * @return record of the classes contributing the operations and schemas found by the scan
+     */
+    public ScanProvenance getProvenance() {
+        return annotationScannerContext.getProvenance();
+    }
+
     /**
      * Scan the deployment for relevant annotations. Returns an OpenAPI data model that was
      * built from those found annotations.
@@ -114,8 +170,14 @@ public class OpenApiAnnotationScanner {
      * @return OpenAPI generated from scanning annotations
      */
     public OpenAPI scan(String... filter) {
+        try (ScanScope scope = ScanScope.open(annotationScannerContext)) {
+            return scan(scope, filter);
+        }
+    }
+
+    private OpenAPI scan(ScanScope scope, String... filter) {
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
-        OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
+        OpenAPI openApi = scanMicroProfileOpenApiAnnotations(scope.getSchemaRegistry());
 
         // Now load all entry points with SPI and scan those
         List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
@@ -131,18 +193,26 @@ public class OpenApiAnnotationScanner {
         sortTags(annotationScannerContext, openApi);
         sortMaps(openApi);
 
+        StringPool stringPool = annotationScannerContext.getStringPool();
+        ScannerLogging.logger.stringPoolStatistics(stringPool.getInternedCount(), stringPool.getUniqueCount());
+
+        AnnotationReadCache readCache = annotationScannerContext.getAnnotationReadCache();
+        for (AnnotationReadCache.Kind kind : AnnotationReadCache.Kind.values()) {
+            if (readCache.getLookupCount(kind) > 0) {
+                ScannerLogging.logger.annotationReadCacheStatistics(readCache.getHitCount(kind),
+                        readCache.getLookupCount(kind), kind);
+            }
+        }
+
         return openApi;
     }
 
-    private OpenAPI scanMicroProfileOpenApiAnnotations() {
+    private OpenAPI scanMicroProfileOpenApiAnnotations(SchemaRegistry schemaRegistry) {
 
         // Initialize a new OAI document.  Even if nothing is found, this will be returned.
         OpenAPI openApi = this.annotationScannerContext.getOpenApi();
         openApi.setOpenapi(OpenApiConstants.OPEN_API_VERSION);
 
-        // Creating a new instance of a registry which will be set on the thread context.
-        SchemaRegistry schemaRegistry = SchemaRegistry.newInstance(annotationScannerContext);
-
         // Register custom schemas if available
         getCustomSchemaRegistry(annotationScannerContext.getConfig()).registerCustomSchemas(schemaRegistry);
 
@@ -206,6 +276,12 @@ public class OpenApiAnnotationScanner {
                 .filter(this::annotatedClasses)
                 .map(annotation -> Type.create(annotation.target().asClass().name(), Type.Kind.CLASS))
                 .forEach(type -> SchemaFactory.typeToSchema(context, type, null, context.getExtensions()));
+
+        for (ScanProvenance.SchemaSource source : schemaSources) {
+            context.getJsonViews().addAll(source.getViews());
+            SchemaFactory.typeToSchema(context, source.getType(), null, context.getExtensions());
+            context.getJsonViews().clear();
+        }
     }
 
     private boolean annotatedClasses(AnnotationInstance annotation) {
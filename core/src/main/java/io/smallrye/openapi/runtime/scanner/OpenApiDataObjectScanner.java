@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
@@ -28,6 +29,7 @@ import io.smallrye.openapi.api.models.media.XMLImpl;
 import io.smallrye.openapi.runtime.io.schema.SchemaFactory;
 import io.smallrye.openapi.runtime.scanner.dataobject.AnnotationTargetProcessor;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
+import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectGraph;
 import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectDeque;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
@@ -127,6 +129,7 @@ public class OpenApiDataObjectScanner {
     private final AnnotationScannerContext context;
     private final AugmentedIndexView index;
     private final DataObjectDeque objectStack;
+    private DataObjectGraph graph;
 
     /**
      * Constructor for data object scanner.
@@ -214,10 +217,27 @@ public class OpenApiDataObjectScanner {
             objectStack.push(root);
         }
 
+        if (context.getConfig().parallelSchemaScan()) {
+            // Resolve the properties of all reachable types up front, concurrently
+            graph = DataObjectGraph.discover(context, objectStack.entries());
+        }
+
         depthFirstGraphSearch();
+
+        if (graph != null) {
+            ScannerLogging.logger.resolvedPropertiesUsed(graph.getHitCount(), graph.getLookupCount());
+        }
+
         return rootSchema;
     }
 
+    /**
+     * @return the graph of types resolved ahead of the schema creation, or null if not used
+     */
+    DataObjectGraph getGraph() {
+        return graph;
+    }
+
     // Scan depth first.
     private void depthFirstGraphSearch() {
         while (!objectStack.isEmpty()) {
@@ -246,7 +266,7 @@ public class OpenApiDataObjectScanner {
                 SchemaFactory.schemaRegistration(context, currentType, currentSchema);
             }
 
-            if (currentSchema.getType() == Schema.SchemaType.OBJECT) {
+            if (currentSchema.getType() == Schema.SchemaType.OBJECT && !readCachedSchema(currentPathEntry)) {
                 // Only 'object' type schemas should have properties of their own
                 ScannerLogging.logger.gettingFields(currentType, currentClass);
 
@@ -254,9 +274,7 @@ public class OpenApiDataObjectScanner {
                 AnnotationTarget reference = currentPathEntry.getAnnotationTarget();
 
                 // Get all fields *including* inherited.
-                Map<String, TypeResolver> properties = TypeResolver.getAllFields(context, currentType,
-                        currentClass,
-                        reference);
+                Map<String, TypeResolver> properties = getAllFields(currentType, currentClass, reference);
 
                 processClassAnnotations(currentSchema, currentClass);
 
@@ -272,6 +290,53 @@ public class OpenApiDataObjectScanner {
         }
     }
 
+    /**
+     * Use the schema cached for the type of the entry instead of introspecting its properties, see
+     * {@link SchemaRegistry#readCachedSchema}. The types of the referenced schemas are registered and
+     * pushed like the types of properties, so that their schemas are named as without the cache.
+     *
+     * @return true if the cached schema is used
+     */
+    private boolean readCachedSchema(DataObjectDeque.PathEntry currentPathEntry) {
+        SchemaRegistry registry = SchemaRegistry.currentInstance();
+
+        if (registry == null) {
+            return false;
+        }
+
+        Type currentType = currentPathEntry.getClazzType();
+        Set<Type> views = context.getJsonViews();
+        Schema cachedSchema = registry.readCachedSchema(currentType, views, type -> {
+            Schema typeSchema = new SchemaImpl().type(SchemaType.OBJECT);
+            objectStack.push(null, currentPathEntry, type, typeSchema);
+            return SchemaRegistry.registerReference(type, views, null, typeSchema);
+        });
+
+        if (cachedSchema == null) {
+            return false;
+        }
+
+        currentPathEntry.setSchema(cachedSchema);
+
+        if (rootClassType.equals(currentType)) {
+            this.rootSchema = cachedSchema;
+        }
+
+        if (SchemaRegistry.hasSchema(currentType, views, null)) {
+            // Replace the schema registered before the properties would have been added
+            registry.register(currentType, views, cachedSchema);
+        }
+
+        return true;
+    }
+
+    private Map<String, TypeResolver> getAllFields(Type type, ClassInfo classInfo, AnnotationTarget reference) {
+        if (graph != null) {
+            return graph.getAllFields(type, classInfo, reference);
+        }
+        return TypeResolver.getAllFields(context, type, classInfo, reference);
+    }
+
     private void processClassAnnotations(Schema schema, ClassInfo classInfo) {
         String xmlElementName = TypeUtil.getAnnotationValue(classInfo, XML_ROOTELEMENT, PROP_NAME);
 
@@ -0,0 +1,227 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+
+/**
+ * Records which classes contributed the operations and schemas of a scanned model,
+ * allowing the contributions of individual classes to be replaced later without
+ * scanning the complete deployment again.
+ *
+ * Operations are recorded by their unique method reference (see
+ * {@link io.smallrye.openapi.api.models.OperationImpl#getMethodRef()}) under both the
+ * resource class and the class declaring the resource method. Schemas are recorded
+ * by name under each class present in the registered type, including type arguments,
+ * together with the type and JSON views the schema was generated for.
+ */
+public class ScanProvenance {
+
+    private final Map<DotName, Set<String>> operations = new HashMap<>();
+    private final Map<DotName, Set<DotName>> resources = new HashMap<>();
+    private final Map<DotName, Map<String, SchemaSource>> schemas = new HashMap<>();
+
+    /**
+     * Record an operation created for a resource method.
+     *
+     * @param resourceClass the concrete resource class
+     * @param method the resource method, possibly declared by a super class or interface
+     * @param methodRef unique reference of the method set on the operation
+     */
+    public void operationCreated(ClassInfo resourceClass, MethodInfo method, String methodRef) {
+        DotName resourceName = resourceClass.name();
+        DotName declaringName = method.declaringClass().name();
+
+        operations.computeIfAbsent(resourceName, k -> new LinkedHashSet<>()).add(methodRef);
+        resources.computeIfAbsent(resourceName, k -> new LinkedHashSet<>()).add(resourceName);
+        resources.computeIfAbsent(declaringName, k -> new LinkedHashSet<>()).add(resourceName);
+    }
+
+    /**
+     * Record a schema added to {@code #/components/schemas}.
+     *
+     * @param type the type the schema was generated for
+     * @param views the JSON views active when the schema was generated
+     * @param name name of the schema
+     */
+    public void schemaRegistered(Type type, Set<Type> views, String name) {
+        SchemaSource source = new SchemaSource(type, views);
+        collectNames(type, new LinkedHashSet<>())
+                .forEach(className -> schemas.computeIfAbsent(className, k -> new LinkedHashMap<>()).put(name, source));
+    }
+
+    static Set<DotName> collectNames(Type type, Set<DotName> names) {
+        names.add(type.name());
+
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            ParameterizedType parameterized = type.asParameterizedType();
+            parameterized.arguments().forEach(arg -> collectNames(arg, names));
+        } else if (type.kind() == Type.Kind.ARRAY) {
+            collectNames(type.asArrayType().component(), names);
+        }
+
+        return names;
+    }
+
+    /**
+     * @param className name of a class
+     * @return the name of the schema registered for the class itself (i.e. not a parameterized
+     *         type and without any JSON views), or null if no such schema was registered
+     */
+    public String getSchemaName(DotName className) {
+        return schemas.getOrDefault(className, Collections.emptyMap())
+                .entrySet()
+                .stream()
+                .filter(e -> e.getValue().getViews().isEmpty())
+                .filter(e -> e.getValue().getType().kind() == Type.Kind.CLASS
+                        && e.getValue().getType().name().equals(className))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * @return the names of all recorded schemas, mapped to the type and views they were
+     *         generated for
+     */
+    public Map<String, SchemaSource> getSchemaSources() {
+        Map<String, SchemaSource> sources = new LinkedHashMap<>();
+        schemas.values().forEach(sources::putAll);
+        return sources;
+    }
+
+    /**
+     * @param className name of a class
+     * @return true if the class contributed at least one operation or schema
+     */
+    public boolean isContributor(DotName className) {
+        return resources.containsKey(className) || schemas.containsKey(className);
+    }
+
+    /**
+     * Find the resource classes whose operations must be re-created when the given
+     * classes change, i.e. the classes themselves when they are resources and any
+     * resource class inheriting a resource method from them.
+     *
+     * @param classNames names of the changed classes
+     * @return names of the resource classes affected by the change
+     */
+    public Set<DotName> getAffectedResources(Collection<DotName> classNames) {
+        Set<DotName> result = new LinkedHashSet<>();
+        classNames.forEach(name -> result.addAll(resources.getOrDefault(name, Collections.emptySet())));
+        return result;
+    }
+
+    /**
+     * Remove the operations recorded for the given resource classes.
+     *
+     * @param resourceNames names of resource classes
+     * @return the method references of the removed operations
+     */
+    public Set<String> removeOperations(Collection<DotName> resourceNames) {
+        Set<String> removed = new LinkedHashSet<>();
+
+        for (DotName name : resourceNames) {
+            Set<String> methodRefs = operations.remove(name);
+
+            if (methodRefs != null) {
+                removed.addAll(methodRefs);
+            }
+        }
+
+        resources.values().forEach(names -> names.removeAll(resourceNames));
+        resources.values().removeIf(Set::isEmpty);
+
+        return removed;
+    }
+
+    /**
+     * Remove the schemas recorded for the given classes.
+     *
+     * @param classNames names of classes
+     * @return the names of the removed schemas, mapped to the type and views that the schema
+     *         may be re-created from
+     */
+    public Map<String, SchemaSource> removeSchemas(Collection<DotName> classNames) {
+        Map<String, SchemaSource> removed = new LinkedHashMap<>();
+
+        for (DotName name : classNames) {
+            Map<String, SchemaSource> classSchemas = schemas.remove(name);
+
+            if (classSchemas != null) {
+                removed.putAll(classSchemas);
+            }
+        }
+
+        schemas.values().forEach(classSchemas -> classSchemas.keySet().removeAll(removed.keySet()));
+        schemas.values().removeIf(Map::isEmpty);
+
+        return removed;
+    }
+
+    /**
+     * Add the operations and schemas recorded by another scan.
+     *
+     * @param other provenance recorded while scanning a subset of the deployment
+     * @param schemaFilter predicate to select which of the other scan's schemas are retained
+     */
+    public void merge(ScanProvenance other, Predicate<String> schemaFilter) {
+        other.operations.forEach((name, refs) -> operations.computeIfAbsent(name, k -> new LinkedHashSet<>()).addAll(refs));
+        other.resources.forEach((name, refs) -> resources.computeIfAbsent(name, k -> new LinkedHashSet<>()).addAll(refs));
+        other.schemas.forEach((name, classSchemas) -> classSchemas.forEach((schemaName, type) -> {
+            if (schemaFilter.test(schemaName)) {
+                schemas.computeIfAbsent(name, k -> new LinkedHashMap<>()).put(schemaName, type);
+            }
+        }));
+    }
+
+    /**
+     * The type and JSON views a schema was generated for, sufficient to generate the schema again.
+     */
+    public static final class SchemaSource {
+        private final Type type;
+        private final Set<Type> views;
+
+        SchemaSource(Type type, Set<Type> views) {
+            this.type = type;
+            this.views = views.isEmpty() ? Collections.emptySet()
+                    : Collections.unmodifiableSet(new LinkedHashSet<>(views));
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Set<Type> getViews() {
+            return views;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SchemaSource other = (SchemaSource) o;
+            return type.equals(other.type) && views.equals(other.views);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + views.hashCode();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * The state of an annotation scan that is bound to the scanning thread: the {@link SchemaRegistry},
+ * the {@link CurrentScannerInfo current scanner} and the {@link JavaSecurityProcessor}. Each of these
+ * references the scanner context, and through it the index of the deployment.
+ *
+ * Opening a scope creates the schema registry for the scan. Closing the scope removes all
+ * thread-bound state and releases the scan-scoped state of the context, so that nothing from
+ * the scan is retained by a (pooled) thread once the scan is complete.
+ *
+ * <pre>
+ * try (ScanScope scope = ScanScope.open(context)) {
+ *     // scan
+ * }
+ * </pre>
+ */
+public final class ScanScope implements AutoCloseable {
+
+    private final AnnotationScannerContext context;
+    private final SchemaRegistry schemaRegistry;
+    private boolean closed;
+
+    private ScanScope(AnnotationScannerContext context) {
+        this.context = context;
+        this.schemaRegistry = SchemaRegistry.newInstance(context);
+    }
+
+    /**
+     * Open a scope for a scan on the current thread, creating a new {@link SchemaRegistry}.
+     *
+     * @param context scanning context
+     * @return the scope, to be closed when the scan is complete
+     */
+    public static ScanScope open(AnnotationScannerContext context) {
+        return new ScanScope(context);
+    }
+
+    /**
+     * Check whether state of a scan is bound to the current thread, e.g. a scan is in
+     * progress or the state of a scan performed outside of a scope was not removed.
+     *
+     * @return true if any scan state is bound to the current thread
+     */
+    public static boolean isThreadStateRetained() {
+        return SchemaRegistry.currentInstance() != null
+                || CurrentScannerInfo.isRegistered()
+                || JavaSecurityProcessor.isRegistered();
+    }
+
+    /**
+     * @return the schema registry created for the scope
+     */
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry;
+    }
+
+    /**
+     * Remove the state of the scan from the current thread. Closing a scope more than
+     * once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        SchemaRegistry.remove();
+        CurrentScannerInfo.remove();
+        JavaSecurityProcessor.remove();
+        context.clearScanState();
+
+        ScannerLogging.logger.scanScopeClosed(schemaRegistry.size(), context.getStringPool().getUniqueCount());
+    }
+}
@@ -5,6 +5,7 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.Type;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -37,4 +38,32 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4005, value = "Could not find schema class in index: %s")
     void schemaTypeNotFound(DotName className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "String pool: %d values interned, %d unique")
+    void stringPoolStatistics(long interned, int unique);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4007, value = "Cached schemas could not be read from %s")
+    void errorReadingSchemaCache(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4008, value = "Stored %d schemas in %s")
+    void schemaCacheStored(int count, Object file);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4009, value = "Cached schema %s could not be used, the type will be scanned")
+    void schemaCacheEntryUnused(String name);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4010, value = "Scan scope closed: %d schema types registered, %d pooled strings")
+    void scanScopeClosed(int schemaTypes, int pooledStrings);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4011, value = "Annotation read cache: %d of %d %s reads answered by a cached model")
+    void annotationReadCacheStatistics(long hits, long lookups, AnnotationReadCache.Kind kind);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4012, value = "Properties of %d of %d data object types resolved ahead of schema creation")
+    void resolvedPropertiesUsed(int hits, int lookups);
+
 }
@@ -2,13 +2,16 @@ package io.smallrye.openapi.runtime.scanner;
 
 import static io.smallrye.openapi.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -16,6 +19,7 @@ import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.ParameterizedType;
@@ -23,6 +27,8 @@ import org.jboss.jandex.Type;
 import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.WildcardType;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
@@ -77,6 +83,13 @@ public class SchemaRegistry {
         current.remove();
     }
 
+    /**
+     * @return the number of types registered
+     */
+    int size() {
+        return registry.size();
+    }
+
     /**
      * Check if the entityType is eligible for registration using the
      * typeResolver. The eligible kinds of types are
@@ -108,7 +121,7 @@ public class SchemaRegistry {
      *         to the schema registered for the given Type
      */
     public static Schema checkRegistration(Type type, Set<Type> views, TypeResolver resolver, Schema schema) {
-        return register(type, views, resolver, schema, (registry, key) -> registry.register(key, schema, null));
+        return register(type, views, resolver, schema, (registry, key) -> registry.register(key, schema, null, null));
     }
 
     /**
@@ -223,11 +236,14 @@ public class SchemaRegistry {
     private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
     private final Set<String> names = new LinkedHashSet<>();
 
+    private final DependencySchemaCache schemaCache;
+
     private SchemaRegistry(AnnotationScannerContext context) {
         this.context = context;
         this.config = context.getConfig();
         this.oai = context.getOpenApi();
         this.index = context.getAugmentedIndex();
+        this.schemaCache = context.getSchemaCache();
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -242,6 +258,21 @@ public class SchemaRegistry {
             }
         }
 
+        /*
+         * Schemas of a document the scan is merged into keep their names, and
+         * their types refer to them.
+         */
+        this.names.addAll(context.getExistingSchemas().keySet());
+
+        context.getExistingSchemaSources().forEach((name, source) -> {
+            Schema schema = context.getExistingSchemas().get(name);
+
+            if (schema != null) {
+                TypeKey key = new TypeKey(source.getType(), source.getViews());
+                registry.put(key, new GeneratedSchemaInfo(name, schema, createReference(name, null)));
+            }
+        });
+
         config.getSchemas().entrySet().forEach(entry -> {
             String className = entry.getKey();
             String jsonSchema = entry.getValue();
@@ -255,11 +286,74 @@ public class SchemaRegistry {
             }
 
             Type type = Type.create(DotName.createSimple(className), Type.Kind.CLASS);
-            this.register(new TypeKey(type, Collections.emptySet()), schema, ((SchemaImpl) schema).getName());
+            this.register(new TypeKey(type, Collections.emptySet()), schema, ((SchemaImpl) schema).getName(), null);
             ScannerLogging.logger.configSchemaRegistered(className);
         });
     }
 
+    /**
+     * Read the schema cached for a class of a dependency (see {@link DependencySchemaCache}), to be
+     * used instead of introspecting the class. Nothing is registered for the class itself. The
+     * classes of the schemas it references are passed to the given function, in the order of the
+     * cached schema, which must register them like the types of the properties found when
+     * introspecting the class and return the reference to their schema. The references of the
+     * cached schema are updated to the names registered by this scan.
+     *
+     * @param type the type to be introspected
+     * @param views the active JSON views
+     * @param registerReference registration of the classes of referenced schemas
+     * @return the cached schema, or null if there is none or it can not be used
+     */
+    public Schema readCachedSchema(Type type, Set<Type> views, Function<Type, Schema> registerReference) {
+        if (schemaCache == null || !views.isEmpty() || type.kind() != Type.Kind.CLASS) {
+            return null;
+        }
+
+        DependencySchemaCache.Entry entry = schemaCache.getEntry(type.name().toString());
+
+        if (entry == null) {
+            return null;
+        }
+
+        Map<String, Type> referenceTypes = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> reference : entry.references.entrySet()) {
+            ClassInfo referenceClass = index.getClassByName(DotName.createSimple(reference.getValue()));
+
+            if (referenceClass == null) {
+                ScannerLogging.logger.schemaCacheEntryUnused(entry.name);
+                return null;
+            }
+
+            // The name from the index distinguishes nested classes
+            referenceTypes.put(reference.getKey(), Type.create(referenceClass.name(), Type.Kind.CLASS));
+        }
+
+        Map<String, String> refs = new HashMap<>();
+
+        for (Map.Entry<String, Type> reference : referenceTypes.entrySet()) {
+            String ref = registerReference.apply(reference.getValue()).getRef();
+
+            if (ref == null) {
+                // Not registered as it was when the schema was cached
+                ScannerLogging.logger.schemaCacheEntryUnused(entry.name);
+                return null;
+            }
+
+            refs.put(reference.getKey(), ref);
+        }
+
+        JsonNode schema = entry.schema.deepCopy();
+        DependencySchemaCache.renameReferences(schema, refs);
+
+        try {
+            return OpenApiParser.parseSchema(schema.toString());
+        } catch (IOException e) {
+            ScannerLogging.logger.errorParsingSchema(entry.className);
+            return null;
+        }
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -275,19 +369,19 @@ public class SchemaRegistry {
      */
     public Schema register(Type entityType, Set<Type> views, Schema schema) {
         TypeKey key = new TypeKey(entityType, views);
+        GeneratedSchemaInfo replaced = null;
 
         if (hasRef(key)) {
             // This is a replacement registration
-            remove(key);
+            replaced = remove(key);
         }
 
-        return register(key, schema, null);
+        return register(key, schema, null, replaced);
     }
 
     private Schema registerReference(TypeKey key) {
         String name = deriveName(key, null);
-        Schema schemaRef = new SchemaImpl();
-        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        Schema schemaRef = createReference(name, null);
 
         registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
         names.add(name);
@@ -295,6 +389,22 @@ public class SchemaRegistry {
         return schemaRef;
     }
 
+    /**
+     * Create the single reference schema shared by all usages of the schema
+     * registered with the given name. When the registration replaces an earlier
+     * one with the same name, the earlier reference is re-used so that any usages
+     * already present in the model and new usages share the same instance.
+     */
+    private Schema createReference(String name, GeneratedSchemaInfo replaced) {
+        if (replaced != null && replaced.name.equals(name)) {
+            return replaced.schemaRef;
+        }
+
+        Schema schemaRef = new SchemaImpl();
+        schemaRef.setRef(context.getStringPool().intern(OpenApiConstants.REF_PREFIX_SCHEMA + name));
+        return schemaRef;
+    }
+
     /**
      * Derive the schema's display name and add to both the registry and the
      * OpenAPI document's schema map, contained in components. If a type is
@@ -309,17 +419,22 @@ public class SchemaRegistry {
      *        a value to be used for referencing the schema in the registry
      * @param schema
      *        {@link Schema} to add to the registry
+     * @param schemaName
+     *        name to use for the schema, or null to derive it from the key
+     * @param replaced
+     *        information about an earlier registration for the key being
+     *        replaced, or null
      * @return a reference to the newly registered {@link Schema}
      */
-    private Schema register(TypeKey key, Schema schema, String schemaName) {
+    private Schema register(TypeKey key, Schema schema, String schemaName, GeneratedSchemaInfo replaced) {
         String name = deriveName(key, schemaName);
-        Schema schemaRef = new SchemaImpl();
-        schemaRef.setRef(OpenApiConstants.REF_PREFIX_SCHEMA + name);
+        Schema schemaRef = createReference(name, replaced);
 
         registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
         names.add(name);
 
         ModelUtil.components(oai).addSchema(name, schema);
+        context.getProvenance().schemaRegistered(key.type, key.views, name);
 
         return schemaRef;
     }
@@ -402,9 +517,10 @@ public class SchemaRegistry {
         return registry.containsKey(key) && registry.get(key).schema != null;
     }
 
-    private void remove(TypeKey key) {
+    private GeneratedSchemaInfo remove(TypeKey key) {
         GeneratedSchemaInfo info = this.registry.remove(key);
         this.names.remove(info.name);
+        return info;
     }
 
     /************************************************************************/
@@ -1,12 +1,19 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 
@@ -20,6 +27,15 @@ public class DataObjectDeque {
     private final Deque<PathEntry> path = new ArrayDeque<>();
     private final AugmentedIndexView index;
 
+    /*
+     * The parent of the last entry created by cycle detection and its enclosing entries,
+     * indexed by class. Entries are explored depth first, so the path changes by a few
+     * entries only between two parents and checking for a cycle does not walk the path.
+     */
+    private final Deque<PathEntry> currentPath = new ArrayDeque<>();
+    private final Set<PathEntry> currentPathEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<DotName, List<PathEntry>> currentPathClasses = new HashMap<>();
+
     public DataObjectDeque(AugmentedIndexView index) {
         this.index = index;
     }
@@ -40,6 +56,13 @@ public class DataObjectDeque {
         return path.isEmpty();
     }
 
+    /**
+     * @return a copy of the entries in this Deque, top of stack first
+     */
+    public List<PathEntry> entries() {
+        return new ArrayList<>(path);
+    }
+
     /**
      * Look at top of stack, but don't remove.
      *
@@ -86,7 +109,7 @@ public class DataObjectDeque {
         validateInput(parentPathEntry, type, schema);
         PathEntry entry = leafNode(parentPathEntry, annotationTarget, type, schema);
         ClassInfo klazzInfo = entry.getClazz();
-        if (parentPathEntry.hasParent(entry)) {
+        if (isCycle(parentPathEntry, entry)) {
             // Cycle detected, don't push path.
             DataObjectLogging.logger.possibleCycle(klazzInfo);
             DataObjectLogging.logger.path(entry.toStringWithGraph());
@@ -100,6 +123,60 @@ public class DataObjectDeque {
         }
     }
 
+    /**
+     * Equivalent to {@code parentPathEntry.hasParent(entry)}, without walking the enclosing
+     * entries of the parent.
+     */
+    private boolean isCycle(PathEntry parentPathEntry, PathEntry entry) {
+        followPath(parentPathEntry);
+        List<PathEntry> sameClass = currentPathClasses.get(entry.clazz.name());
+
+        if (sameClass != null) {
+            for (PathEntry enclosing : sameClass) {
+                if (entry.equals(enclosing)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Make the current path the given parent and its enclosing entries, leaving the entries
+     * that do not enclose the parent.
+     */
+    private void followPath(PathEntry parentPathEntry) {
+        if (currentPath.peek() == parentPathEntry) {
+            return;
+        }
+
+        Deque<PathEntry> entering = new ArrayDeque<>();
+        PathEntry common = parentPathEntry;
+
+        while (common != null && !currentPathEntries.contains(common)) {
+            entering.push(common);
+            common = common.enclosing;
+        }
+
+        while (!currentPath.isEmpty() && currentPath.peek() != common) {
+            PathEntry leaving = currentPath.pop();
+            currentPathEntries.remove(leaving);
+            List<PathEntry> sameClass = currentPathClasses.get(leaving.clazz.name());
+            sameClass.remove(sameClass.size() - 1);
+            if (sameClass.isEmpty()) {
+                currentPathClasses.remove(leaving.clazz.name());
+            }
+        }
+
+        while (!entering.isEmpty()) {
+            PathEntry enclosing = entering.pop();
+            currentPath.push(enclosing);
+            currentPathEntries.add(enclosing);
+            currentPathClasses.computeIfAbsent(enclosing.clazz.name(), k -> new ArrayList<>(1)).add(enclosing);
+        }
+    }
+
     /**
      * Create a root node (first entry in graph).
      *
@@ -0,0 +1,218 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Type;
+
+import io.smallrye.openapi.runtime.scanner.SchemaRegistry;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.TypeUtil;
+
+/**
+ * The graph of data object types reachable from the entries of a {@link DataObjectDeque}, with
+ * the properties of each type (see {@link TypeResolver#getAllFields}) resolved ahead of the
+ * depth first search that creates the schemas.
+ * <p>
+ * The graph is discovered one level at a time. The properties of all types in a level are
+ * resolved concurrently, and the types of the properties found make up the next level. Types
+ * that already have a schema in the {@link SchemaRegistry} are not visited.
+ * <p>
+ * The properties are resolved on the threads of the common fork-join pool, where the state
+ * bound to the scanning thread (the current {@link SchemaRegistry} and
+ * {@link io.smallrye.openapi.runtime.scanner.spi.CurrentScannerInfo CurrentScannerInfo}) is not
+ * available. {@link TypeResolver#getAllFields} and everything it calls may therefore only read
+ * the index, the configuration and the active JSON views, and use the thread-safe
+ * {@link IgnoreResolver} and property naming strategies of the context. The other per-scan
+ * caches of the context (e.g. the annotation read cache and the enum schemas) are not thread
+ * safe and must not be used on this path.
+ * <p>
+ * This prefetches the properties of the types reachable from one root at a time. The schemas
+ * themselves are not built concurrently.
+ * <p>
+ * Creating and registering the schemas remains sequential, so the names and order of the
+ * schemas registered are the same as without the graph. Properties for a type referenced in a
+ * way not anticipated by the discovery are simply resolved on demand.
+ */
+public class DataObjectGraph {
+
+    /**
+     * Maximum number of levels to discover. Deeper types (e.g. nested generic types growing with
+     * each level) are resolved on demand.
+     */
+    static final int MAX_DEPTH = 32;
+
+    private final AnnotationScannerContext context;
+    private final Map<Node, Map<String, TypeResolver>> properties = new HashMap<>();
+    private int lookupCount;
+    private int hitCount;
+
+    private DataObjectGraph(AnnotationScannerContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Discover the types reachable from the entries currently on the stack and resolve their
+     * properties.
+     *
+     * @param context scanning context
+     * @param entries entries of the object stack to begin the discovery
+     * @return the graph of types reachable from the entries
+     */
+    public static DataObjectGraph discover(AnnotationScannerContext context, List<DataObjectDeque.PathEntry> entries) {
+        DataObjectGraph graph = new DataObjectGraph(context);
+        List<Node> level = new ArrayList<>();
+        Set<Node> visited = new HashSet<>();
+
+        for (DataObjectDeque.PathEntry entry : entries) {
+            graph.addNode(level, visited, entry.getClazzType(), entry.getAnnotationTarget());
+        }
+
+        int depth = 0;
+
+        while (!level.isEmpty() && depth++ < MAX_DEPTH) {
+            List<Map<String, TypeResolver>> resolved = level.parallelStream()
+                    .map(node -> TypeResolver.getAllFields(context, node.type, node.clazz, node.reference))
+                    .collect(Collectors.toList());
+
+            List<Node> next = new ArrayList<>();
+
+            for (int i = 0, m = level.size(); i < m; i++) {
+                Map<String, TypeResolver> nodeProperties = resolved.get(i);
+                graph.properties.put(level.get(i), nodeProperties);
+
+                for (TypeResolver resolver : nodeProperties.values()) {
+                    if (!resolver.isIgnored()) {
+                        graph.addNode(next, visited, resolver.resolve(resolver.getUnresolvedType()),
+                                resolver.getAnnotationTarget());
+                    }
+                }
+            }
+
+            level = next;
+        }
+
+        DataObjectLogging.logger.resolvedProperties(graph.properties.size(), depth);
+        return graph;
+    }
+
+    /**
+     * Add the type to the level if its properties will be needed, or else the arguments/components
+     * of collections, maps, arrays, and other generic types not in the index.
+     */
+    private void addNode(List<Node> level, Set<Node> visited, Type type, AnnotationTarget reference) {
+        if (type == null) {
+            return;
+        }
+
+        switch (type.kind()) {
+            case ARRAY:
+                addNode(level, visited, type.asArrayType().component(), reference);
+                return;
+            case WILDCARD_TYPE:
+                addNode(level, visited, type.asWildcardType().extendsBound(), reference);
+                return;
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+                break;
+            default:
+                return;
+        }
+
+        if (TypeUtil.isTerminalType(type)) {
+            return;
+        }
+
+        ClassInfo clazz = context.getAugmentedIndex().getClass(type);
+
+        if (clazz == null || TypeUtil.knownJavaType(type.name()) || clazz.isEnum()) {
+            if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                type.asParameterizedType().arguments().forEach(arg -> addNode(level, visited, arg, reference));
+            }
+            return;
+        }
+
+        if (SchemaRegistry.hasSchema(type, context.getJsonViews(), null)) {
+            return;
+        }
+
+        Node node = new Node(type, clazz, reference);
+
+        if (visited.add(node)) {
+            level.add(node);
+        }
+    }
+
+    /**
+     * Retrieve the properties of the type when referenced by the given target. The properties
+     * are removed from the graph, a later request for the same type and reference resolves them again.
+     *
+     * @param type the type
+     * @param clazz the class of the type
+     * @param reference the field or method referencing the type, may be null
+     * @return all properties of the type, including inherited properties
+     */
+    public Map<String, TypeResolver> getAllFields(Type type, ClassInfo clazz, AnnotationTarget reference) {
+        Map<String, TypeResolver> result = properties.remove(new Node(type, clazz, reference));
+        lookupCount++;
+
+        if (result != null) {
+            hitCount++;
+        } else {
+            result = TypeResolver.getAllFields(context, type, clazz, reference);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the number of times properties have been retrieved from the graph
+     */
+    public int getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * @return the number of times the properties retrieved had been resolved ahead
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    static final class Node {
+        final Type type;
+        final ClassInfo clazz;
+        final AnnotationTarget reference;
+
+        Node(Type type, ClassInfo clazz, AnnotationTarget reference) {
+            this.type = type;
+            this.clazz = clazz;
+            this.reference = reference;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            Node other = (Node) o;
+            return type.equals(other.type) && clazz.equals(other.clazz) && Objects.equals(reference, other.reference);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, clazz.name(), reference);
+        }
+    }
+}
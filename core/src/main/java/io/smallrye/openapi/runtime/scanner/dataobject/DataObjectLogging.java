@@ -86,4 +86,8 @@ interface DataObjectLogging extends BasicLogger {
     @Message(id = 31016, value = "Unanticipated mismatch between type arguments and type variables \n" +
             "Args: %s\n Vars:%s")
     void classNotAvailable(List<TypeVariable> typeVariables, List<Type> arguments);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 31017, value = "Resolved properties of %d types in %d levels ahead of schema creation")
+    void resolvedProperties(int types, int levels);
 }
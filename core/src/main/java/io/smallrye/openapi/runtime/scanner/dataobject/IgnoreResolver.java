@@ -2,10 +2,10 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -246,7 +246,8 @@ public class IgnoreResolver {
      * Handler for <code>com.fasterxml.jackson.annotation.JsonIgnoreType</code>
      */
     private final class JsonIgnoreTypeHandler implements IgnoreAnnotationHandler {
-        private final Set<DotName> ignoredTypes = new LinkedHashSet<>();
+        // May be used concurrently, see DataObjectGraph
+        private final Set<DotName> ignoredTypes = ConcurrentHashMap.newKeySet();
 
         @Override
         public Visibility shouldIgnore(AnnotationTarget target, AnnotationTarget reference) {
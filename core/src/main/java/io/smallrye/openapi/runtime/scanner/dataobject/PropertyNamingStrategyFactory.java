@@ -1,7 +1,11 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,13 +19,31 @@ public class PropertyNamingStrategyFactory {
     private static final String JSONB_TRANSLATE_NAME = "translateName";
     private static final String JACKSON_TRANSLATE = "translate";
     private static final List<String> knownMethods = Arrays.asList(JSONB_TRANSLATE_NAME, JACKSON_TRANSLATE);
-    private static final Map<String, UnaryOperator<String>> STRATEGY_CACHE = new ConcurrentHashMap<>();
+
+    /*
+     * The strategies defined by JSON-B do not depend on the class loader and are shared
+     * by all scans. Custom strategies are remembered by the scan, see
+     * AnnotationScannerContext#getPropertyNamingStrategy.
+     */
+    private static final Map<String, UnaryOperator<String>> BUILT_IN_STRATEGIES = new HashMap<>();
+
+    static {
+        for (String name : Arrays.asList(JsonbConstants.IDENTITY,
+                JsonbConstants.LOWER_CASE_WITH_DASHES,
+                JsonbConstants.LOWER_CASE_WITH_UNDERSCORES,
+                JsonbConstants.UPPER_CAMEL_CASE,
+                JsonbConstants.UPPER_CAMEL_CASE_WITH_SPACES,
+                JsonbConstants.CASE_INSENSITIVE)) {
+            BUILT_IN_STRATEGIES.put(name, create(name, null));
+        }
+    }
 
     private PropertyNamingStrategyFactory() {
     }
 
     public static UnaryOperator<String> getStrategy(String configValue, ClassLoader loader) {
-        return STRATEGY_CACHE.computeIfAbsent(configValue, key -> create(configValue, loader));
+        UnaryOperator<String> strategy = BUILT_IN_STRATEGIES.get(configValue);
+        return strategy != null ? strategy : create(configValue, loader);
     }
 
     private static UnaryOperator<String> create(String configValue, ClassLoader loader) {
@@ -29,15 +51,15 @@ public class PropertyNamingStrategyFactory {
             case JsonbConstants.IDENTITY:
                 return propertyName -> propertyName;
             case JsonbConstants.LOWER_CASE_WITH_DASHES:
-                return new ConfigurableNamingStrategy(Character::toLowerCase, '-');
+                return new MemoizingNamingStrategy(new ConfigurableNamingStrategy(Character::toLowerCase, '-'));
             case JsonbConstants.LOWER_CASE_WITH_UNDERSCORES:
-                return new ConfigurableNamingStrategy(Character::toLowerCase, '_');
+                return new MemoizingNamingStrategy(new ConfigurableNamingStrategy(Character::toLowerCase, '_'));
             case JsonbConstants.UPPER_CAMEL_CASE:
-                return camelCaseStrategy();
+                return new MemoizingNamingStrategy(camelCaseStrategy());
             case JsonbConstants.UPPER_CAMEL_CASE_WITH_SPACES:
                 final UnaryOperator<String> camelCase = camelCaseStrategy();
                 final UnaryOperator<String> space = new ConfigurableNamingStrategy(UnaryOperator.identity(), ' ');
-                return propertyName -> camelCase.apply(space.apply(propertyName));
+                return new MemoizingNamingStrategy(propertyName -> camelCase.apply(space.apply(propertyName)));
             case JsonbConstants.CASE_INSENSITIVE:
                 return propertyName -> propertyName;
             default:
@@ -54,18 +76,44 @@ public class PropertyNamingStrategyFactory {
                 return Arrays.stream(strategyType.getMethods())
                         .filter(PropertyNamingStrategyFactory::isStringUnaryOperator)
                         .filter(method -> knownMethods.contains(method.getName()))
-                        .map(method -> (UnaryOperator<String>) propertyName -> {
-                            try {
-                                return (String) method.invoke(strategy, propertyName);
-                            } catch (Exception e) {
-                                throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, e);
-                            }
-                        })
+                        .map(method -> new MemoizingNamingStrategy(translator(configValue, strategy, method)))
                         .findFirst()
                         .orElseThrow(() -> DataObjectMessages.msg.invalidPropertyNamingStrategy(configValue));
         }
     }
 
+    /**
+     * Bind the translation method of a custom strategy to a method handle, falling back to
+     * reflection when the method is not accessible to a public lookup, e.g. when it is declared
+     * by a non-public class.
+     */
+    private static UnaryOperator<String> translator(String configValue, Object strategy, Method method) {
+        final MethodHandle handle;
+
+        try {
+            handle = MethodHandles.publicLookup()
+                    .unreflect(method)
+                    .bindTo(strategy)
+                    .asType(MethodType.methodType(String.class, String.class));
+        } catch (IllegalAccessException e) {
+            return propertyName -> {
+                try {
+                    return (String) method.invoke(strategy, propertyName);
+                } catch (Exception ex) {
+                    throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, ex);
+                }
+            };
+        }
+
+        return propertyName -> {
+            try {
+                return (String) handle.invokeExact(propertyName);
+            } catch (Throwable t) {
+                throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, t);
+            }
+        };
+    }
+
     private static boolean isStringUnaryOperator(Method method) {
         if (!String.class.equals(method.getReturnType())) {
             return false;
@@ -82,6 +130,42 @@ public class PropertyNamingStrategyFactory {
                 + (propertyName.length() > 1 ? propertyName.substring(1) : "");
     }
 
+    /**
+     * Remembers the translations of a strategy. The same property names recur in many
+     * classes, so translating each of them once saves repeating the work of the strategy.
+     * The number of translations remembered is bounded, further names are translated on
+     * every call.
+     */
+    private static class MemoizingNamingStrategy implements UnaryOperator<String> {
+        private static final int MAXIMUM_SIZE = 4096;
+
+        private final UnaryOperator<String> delegate;
+        private final Map<String, String> translations = new ConcurrentHashMap<>();
+
+        MemoizingNamingStrategy(UnaryOperator<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String apply(String propertyName) {
+            if (propertyName == null) {
+                return delegate.apply(null);
+            }
+
+            String translation = translations.get(propertyName);
+
+            if (translation == null) {
+                translation = delegate.apply(propertyName);
+
+                if (translation != null && translations.size() < MAXIMUM_SIZE) {
+                    translations.put(propertyName, translation);
+                }
+            }
+
+            return translation;
+        }
+    }
+
     private static class ConfigurableNamingStrategy implements UnaryOperator<String> {
         private final Function<Character, Character> converter;
         private final char separator;
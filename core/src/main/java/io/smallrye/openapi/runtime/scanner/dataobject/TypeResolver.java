@@ -476,6 +476,18 @@ public class TypeResolver {
         return new TypeResolver(getPropertyNameTranslator(context, clazz), null, null, stack);
     }
 
+    /**
+     * Resolve the properties of a type, including inherited properties.
+     * <p>
+     * May be called concurrently by {@link DataObjectGraph}, so it must not use the state bound
+     * to the scanning thread or the per-scan state of the context that is not thread safe.
+     *
+     * @param context current scanner context
+     * @param leaf the type where referenced
+     * @param leafKlazz the class of the type
+     * @param reference the field or method referencing the type, may be null
+     * @return the properties of the type by name
+     */
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
@@ -983,10 +995,10 @@ public class TypeResolver {
             Type namingClass = JandexUtil.value(jacksonNaming, JacksonConstants.PROP_VALUE);
 
             if (namingClass != null) {
-                translator = PropertyNamingStrategyFactory.getStrategy(namingClass.name().toString(), context.getClassLoader());
+                translator = context.getPropertyNamingStrategy(namingClass.name().toString());
             } else {
                 // Per Jackson @JsonNaming JavaDoc
-                translator = PropertyNamingStrategyFactory.getStrategy(JsonbConstants.IDENTITY, context.getClassLoader());
+                translator = context.getPropertyNamingStrategy(JsonbConstants.IDENTITY);
             }
         } else {
             translator = context.getPropertyNameTranslator();
@@ -49,6 +49,10 @@ public class JavaSecurityProcessor {
         current.remove();
     }
 
+    public static boolean isRegistered() {
+        return current.get() != null;
+    }
+
     private String currentSecurityScheme;
     private List<OAuthFlow> currentFlows;
     private String[] resourceRolesAllowed;
@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.Encoding;
@@ -767,7 +768,7 @@ public abstract class AbstractParameterProcessor {
                         mediaType.setEncoding(encodings);
                     }
 
-                    content.addMediaType(mediaTypeName, mediaType);
+                    content.addMediaType(scannerContext.getStringPool().intern(mediaTypeName), mediaType);
                 });
 
         return content;
@@ -1481,24 +1482,85 @@ public abstract class AbstractParameterProcessor {
      */
     protected void readParametersInherited(ClassInfo clazz, AnnotationInstance beanParamAnnotation,
             boolean overriddenParametersOnly) {
-        AugmentedIndexView augmentedIndex = AugmentedIndexView.augment(index);
-        List<ClassInfo> ancestors = new ArrayList<>(JandexUtil.inheritanceChain(index, clazz, null).keySet());
-        /*
-         * Process parent class(es) before the resource method class to allow for overridden parameter attributes.
-         */
-        Collections.reverse(ancestors);
+        for (ParameterTemplate.Entry entry : parameterTemplate(clazz).use()) {
+            if (entry.isResolved()) {
+                readParameter(entry.key,
+                        null,
+                        entry.frameworkParam,
+                        entry.defaultValue,
+                        entry.annotation.target(),
+                        overriddenParametersOnly);
+            } else {
+                readAnnotatedType(entry.annotation, beanParamAnnotation, overriddenParametersOnly);
+            }
+        }
+    }
 
-        ancestors.forEach(c -> {
-            c.interfaceTypes()
-                    .stream()
-                    .map(augmentedIndex::getClass)
-                    .filter(Objects::nonNull)
-                    .forEach(iface -> readParameters(iface, beanParamAnnotation, overriddenParametersOnly));
+    /**
+     * Obtain the parameters of the given class and its ancestors (including their
+     * interfaces), in the order they are to be read. Parent class(es) come before the class
+     * itself to allow for overridden parameter attributes.
+     *
+     * The template depends only on the class, so it is created once per scan and shared by
+     * all resource methods using the class, e.g. as a bean parameter. Plain framework parameters
+     * are resolved when the template is created, see {@link #plainFrameworkParameter(AnnotationInstance)}.
+     *
+     * @param clazz the class to be scanned for parameters.
+     * @return the parameter template of the class
+     */
+    ParameterTemplate parameterTemplate(ClassInfo clazz) {
+        return scannerContext.getParameterTemplates(getClass()).computeIfAbsent(clazz.name(), k -> {
+            AugmentedIndexView augmentedIndex = AugmentedIndexView.augment(index);
+            List<ClassInfo> ancestors = new ArrayList<>(JandexUtil.inheritanceChain(index, clazz, null).keySet());
+            List<AnnotationInstance> annotations = new ArrayList<>();
+            Collections.reverse(ancestors);
+
+            ancestors.forEach(c -> {
+                c.interfaceTypes()
+                        .stream()
+                        .map(augmentedIndex::getClass)
+                        .filter(Objects::nonNull)
+                        .forEach(iface -> parameterAnnotations(iface).forEach(annotations::add));
+
+                parameterAnnotations(c).forEach(annotations::add);
+            });
+
+            List<ParameterTemplate.Entry> entries = new ArrayList<>(annotations.size());
+
+            for (AnnotationInstance annotation : annotations) {
+                FrameworkParameter frameworkParam = plainFrameworkParameter(annotation);
+
+                if (frameworkParam != null) {
+                    entries.add(new ParameterTemplate.Entry(annotation,
+                            new ParameterContextKey(paramName(annotation), frameworkParam.location,
+                                    frameworkParam.defaultStyle),
+                            frameworkParam,
+                            getDefaultValue(annotation.target())));
+                } else {
+                    entries.add(new ParameterTemplate.Entry(annotation));
+                }
+            }
 
-            readParameters(c, beanParamAnnotation, overriddenParametersOnly);
+            return new ParameterTemplate(entries);
         });
     }
 
+    /**
+     * Obtain the framework parameter of an annotation that
+     * {@link #readAnnotatedType(AnnotationInstance, AnnotationInstance, boolean)}
+     * reads as a plain parameter, i.e. only with
+     * {@link #readFrameworkParameter(AnnotationInstance, FrameworkParameter, boolean)}.
+     * Such parameters do not depend on the resource method and are resolved once in the
+     * {@link #parameterTemplate(ClassInfo) parameter template} of their class.
+     *
+     * @param annotation a parameter annotation
+     * @return the framework parameter, or null if the annotation must be read by readAnnotatedType for
+     *         each resource method
+     */
+    protected FrameworkParameter plainFrameworkParameter(AnnotationInstance annotation) {
+        return null;
+    }
+
     /**
      * Scans for class level parameters. This method is used for both resource class
      * annotation scanning and framework-specific 'bean' parameter type target type scanning.
@@ -1508,13 +1570,17 @@ public abstract class AbstractParameterProcessor {
      * @param overriddenParametersOnly true if only parameters already known to the scanner are considered, false otherwise
      */
     protected void readParameters(ClassInfo clazz, AnnotationInstance beanParamAnnotation, boolean overriddenParametersOnly) {
-        clazz.annotationsMap()
+        parameterAnnotations(clazz)
+                .forEach(annotation -> readAnnotatedType(annotation, beanParamAnnotation, overriddenParametersOnly));
+    }
+
+    private Stream<AnnotationInstance> parameterAnnotations(ClassInfo clazz) {
+        return clazz.annotationsMap()
                 .entrySet()
                 .stream()
                 .filter(e -> ParameterConstant.DOTNAME_PARAMETER.equals(e.getKey()) || isParameter(e.getKey()))
                 .flatMap(a -> a.getValue().stream())
-                .filter(this::isBeanPropertyParam)
-                .forEach(annotation -> readAnnotatedType(annotation, beanParamAnnotation, overriddenParametersOnly));
+                .filter(this::isBeanPropertyParam);
     }
 
     /**
@@ -240,13 +240,13 @@ public interface AnnotationScanner {
 
         for (AnnotationInstance ta : tagAnnos) {
             if (JandexUtil.isRef(ta)) {
-                tags.add(JandexUtil.value(ta, OpenApiConstants.REF));
+                tags.add(context.getStringPool().intern(JandexUtil.value(ta, OpenApiConstants.REF)));
             } else {
                 Tag tag = TagReader.readTag(context, ta);
 
                 if (tag.getName() != null) {
                     ModelUtil.addTag(openApi, tag);
-                    tags.add(tag.getName());
+                    tags.add(context.getStringPool().intern(tag.getName()));
                 }
             }
         }
@@ -255,7 +255,7 @@ public interface AnnotationScanner {
                 OpenApiConstants.REFS);
 
         if (refs != null) {
-            Arrays.stream(refs).forEach(tags::add);
+            Arrays.stream(refs).map(context.getStringPool()::intern).forEach(tags::add);
         }
 
         return tags;
@@ -313,6 +313,7 @@ public interface AnnotationScanner {
         }
 
         operation.setMethodRef(JandexUtil.createUniqueMethodReference(resourceClass, method));
+        context.getProvenance().operationCreated(resourceClass, method, operation.getMethodRef());
 
         // @Deprecrated may be on either the method or the class
         TypeUtil.mapDeprecated(method, operation::getDeprecated, operation::setDeprecated);
@@ -506,7 +507,7 @@ public interface AnnotationScanner {
                 for (String producesType : produces) {
                     MediaType mt = new MediaTypeImpl();
                     mt.setSchema(schema);
-                    content.addMediaType(producesType, mt);
+                    content.addMediaType(context.getStringPool().intern(producesType), mt);
                 }
 
                 response.setContent(content);
@@ -4,27 +4,35 @@ import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.openapi.runtime.scanner.DependencySchemaCache;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
+import io.smallrye.openapi.runtime.scanner.ScanProvenance;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.dataobject.BeanValidationScanner;
 import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
 import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.openapi.runtime.util.StringPool;
 
 /**
  * Context for scanners.
@@ -40,12 +48,21 @@ public class AnnotationScannerContext {
     private final UnaryOperator<String> propertyNameTranslator;
     private final ClassLoader classLoader;
     private final OpenAPI openApi;
-    private final Deque<Type> scanStack = new ArrayDeque<>();
+    private final Deque<Type> scanStack = new ScanStack();
     private Deque<TypeResolver> resolverStack = new ArrayDeque<>();
     private final Optional<BeanValidationScanner> beanValidationScanner;
     private final Set<Type> jsonViews = new LinkedHashSet<>();
+    private final StringPool stringPool = new StringPool();
+    private final ScanProvenance provenance = new ScanProvenance();
+    private final AnnotationReadCache annotationReadCache = new AnnotationReadCache(this);
+    private DependencySchemaCache schemaCache;
+    private final Map<String, Schema> existingSchemas = new LinkedHashMap<>();
+    private final Map<String, ScanProvenance.SchemaSource> existingSchemaSources = new LinkedHashMap<>();
 
     private final Map<String, MethodInfo> operationIdMap = new HashMap<>();
+    private final Map<Class<?>, Map<DotName, ParameterTemplate>> parameterTemplates = new HashMap<>();
+    private final Map<DotName, Schema> enumSchemas = new HashMap<>();
+    private final Map<String, UnaryOperator<String>> namingStrategies = new ConcurrentHashMap<>();
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
@@ -58,7 +75,7 @@ public class AnnotationScannerContext {
         this.extensions = extensions;
         this.config = config;
         this.openApi = openApi;
-        this.propertyNameTranslator = PropertyNamingStrategyFactory.getStrategy(config.propertyNamingStrategy(), classLoader);
+        this.propertyNameTranslator = getPropertyNamingStrategy(config.propertyNamingStrategy());
         this.beanValidationScanner = config.scanBeanValidation() ? Optional.of(BeanValidationScanner.INSTANCE)
                 : Optional.empty();
     }
@@ -92,6 +109,19 @@ public class AnnotationScannerContext {
         return propertyNameTranslator;
     }
 
+    /**
+     * Get the property naming strategy with the given name, a JSON-B strategy constant or
+     * the name of a custom strategy class loaded with the class loader of the scan. Custom
+     * strategies are created once per scan, so that they are released with the scan. May be
+     * called concurrently, see {@link io.smallrye.openapi.runtime.scanner.dataobject.DataObjectGraph}.
+     *
+     * @param name name of the strategy
+     * @return the strategy translating property names
+     */
+    public UnaryOperator<String> getPropertyNamingStrategy(String name) {
+        return namingStrategies.computeIfAbsent(name, n -> PropertyNamingStrategyFactory.getStrategy(n, classLoader));
+    }
+
     public ClassLoader getClassLoader() {
         return classLoader;
     }
@@ -123,4 +153,86 @@ public class AnnotationScannerContext {
     public Map<String, MethodInfo> getOperationIdMap() {
         return operationIdMap;
     }
+
+    /**
+     * Parameters of classes (e.g. bean parameters) resolved once for the scan, see
+     * {@link AbstractParameterProcessor#parameterTemplate(org.jboss.jandex.ClassInfo)}
+     *
+     * @param processorType type of the parameter processor reading the parameters
+     * @return map of class names to the class's parameter template
+     */
+    public Map<DotName, ParameterTemplate> getParameterTemplates(Class<?> processorType) {
+        return parameterTemplates.computeIfAbsent(processorType, k -> new HashMap<>());
+    }
+
+    /**
+     * Schemas of enum types cached for the scan, see
+     * {@link io.smallrye.openapi.runtime.io.schema.SchemaFactory#enumToSchema(AnnotationScannerContext, Type)}.
+     * Only used on the scanning thread, it is not thread safe.
+     *
+     * @return map of enum names to their schemas
+     */
+    public Map<DotName, Schema> getEnumSchemas() {
+        return enumSchemas;
+    }
+
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Models read from annotations cached for the scan, see {@link AnnotationReadCache}.
+     * Only used on the scanning thread, it is not thread safe.
+     *
+     * @return the cache of models read from annotations
+     */
+    public AnnotationReadCache getAnnotationReadCache() {
+        return annotationReadCache;
+    }
+
+    public ScanProvenance getProvenance() {
+        return provenance;
+    }
+
+    public DependencySchemaCache getSchemaCache() {
+        return schemaCache;
+    }
+
+    public void setSchemaCache(DependencySchemaCache schemaCache) {
+        this.schemaCache = schemaCache;
+    }
+
+    /**
+     * Schemas of a document the scan is merged into (e.g. by a delta update), their names
+     * are not given to other schemas, see {@link #getExistingSchemaSources()}.
+     *
+     * @return map of schema names to the schemas
+     */
+    public Map<String, Schema> getExistingSchemas() {
+        return existingSchemas;
+    }
+
+    /**
+     * Types and JSON views of the {@link #getExistingSchemas() existing schemas}. The
+     * scan refers to the existing schema of such a type rather than generating it again.
+     *
+     * @return map of schema names to the type and views the schema was generated for
+     */
+    public Map<String, ScanProvenance.SchemaSource> getExistingSchemaSources() {
+        return existingSchemaSources;
+    }
+
+    /**
+     * Release the state only needed while a scan is in progress. The provenance
+     * of the scan remains available.
+     */
+    public void clearScanState() {
+        scanStack.clear();
+        resolverStack.clear();
+        jsonViews.clear();
+        operationIdMap.clear();
+        parameterTemplates.clear();
+        enumSchemas.clear();
+        annotationReadCache.clear();
+    }
 }
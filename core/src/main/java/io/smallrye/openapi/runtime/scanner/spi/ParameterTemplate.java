@@ -0,0 +1,79 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.List;
+
+import org.jboss.jandex.AnnotationInstance;
+
+import io.smallrye.openapi.runtime.scanner.spi.AbstractParameterProcessor.ParameterContextKey;
+
+/**
+ * The parameters declared by a class and its ancestors (including their interfaces), in the
+ * order they are to be read, resolved once per scan and shared by all resource methods using
+ * the class, e.g. as a bean parameter.
+ *
+ * Plain framework parameters (e.g. a query or header parameter) are fully resolved: their key,
+ * framework parameter and default value do not depend on the resource method. The remaining
+ * parameter annotations ({@code @Parameter}, form and matrix parameters, nested bean parameters)
+ * are read again for each method, since path derivation and the media types of the method
+ * affect them.
+ *
+ * @see AbstractParameterProcessor#parameterTemplate(org.jboss.jandex.ClassInfo)
+ */
+public final class ParameterTemplate {
+
+    static final class Entry {
+        final AnnotationInstance annotation;
+        final ParameterContextKey key;
+        final FrameworkParameter frameworkParam;
+        final Object defaultValue;
+
+        Entry(AnnotationInstance annotation) {
+            this(annotation, null, null, null);
+        }
+
+        Entry(AnnotationInstance annotation, ParameterContextKey key, FrameworkParameter frameworkParam,
+                Object defaultValue) {
+            this.annotation = annotation;
+            this.key = key;
+            this.frameworkParam = frameworkParam;
+            this.defaultValue = defaultValue;
+        }
+
+        boolean isResolved() {
+            return frameworkParam != null;
+        }
+    }
+
+    private final List<Entry> entries;
+    private int useCount;
+
+    ParameterTemplate(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    List<Entry> use() {
+        useCount++;
+        return entries;
+    }
+
+    /**
+     * @return the number of parameter annotations of the class and its ancestors
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of parameters resolved when the template was created
+     */
+    public int getResolvedCount() {
+        return (int) entries.stream().filter(Entry::isResolved).count();
+    }
+
+    /**
+     * @return the number of times the parameters were read from the template
+     */
+    public int getUseCount() {
+        return useCount;
+    }
+}
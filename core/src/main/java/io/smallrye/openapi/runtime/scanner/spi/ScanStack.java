@@ -0,0 +1,153 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.Type;
+
+/**
+ * Stack of the types being scanned, checked for every introspected class to protect against
+ * infinite recursion. The number of occurrences of each type in the stack is counted in a
+ * hash map so that {@link #contains(Object)} does not have to compare each element.
+ */
+final class ScanStack extends ArrayDeque<Type> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Type, Integer> occurrences = new HashMap<>();
+
+    @Override
+    public void addFirst(Type type) {
+        super.addFirst(type);
+        added(type);
+    }
+
+    @Override
+    public void addLast(Type type) {
+        super.addLast(type);
+        added(type);
+    }
+
+    @Override
+    public boolean offerFirst(Type type) {
+        addFirst(type);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(Type type) {
+        addLast(type);
+        return true;
+    }
+
+    @Override
+    public Type pollFirst() {
+        return removed(super.pollFirst());
+    }
+
+    @Override
+    public Type pollLast() {
+        return removed(super.pollLast());
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return super.removeFirstOccurrence(o) && removed(o) != null;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return super.removeLastOccurrence(o) && removed(o) != null;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Type> filter) {
+        return recount(super.removeIf(filter));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return recount(super.removeAll(c));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return recount(super.retainAll(c));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        occurrences.clear();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return occurrences.containsKey(o);
+    }
+
+    @Override
+    public Iterator<Type> iterator() {
+        return new CountingIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<Type> descendingIterator() {
+        return new CountingIterator(super.descendingIterator());
+    }
+
+    @Override
+    public ScanStack clone() {
+        ScanStack clone = new ScanStack();
+        clone.addAll(this);
+        return clone;
+    }
+
+    private void added(Type type) {
+        occurrences.merge(type, 1, Integer::sum);
+    }
+
+    private <T> T removed(T element) {
+        if (element != null) {
+            occurrences.computeIfPresent((Type) element, (type, count) -> count > 1 ? count - 1 : null);
+        }
+        return element;
+    }
+
+    private boolean recount(boolean modified) {
+        if (modified) {
+            occurrences.clear();
+            super.iterator().forEachRemaining(this::added);
+        }
+        return modified;
+    }
+
+    private final class CountingIterator implements Iterator<Type> {
+        private final Iterator<Type> delegate;
+        private Type last;
+
+        CountingIterator(Iterator<Type> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Type next() {
+            return last = delegate.next();
+        }
+
+        @Override
+        public void remove() {
+            delegate.remove();
+            removed(last);
+        }
+    }
+}
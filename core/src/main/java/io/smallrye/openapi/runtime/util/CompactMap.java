@@ -0,0 +1,313 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion-ordered {@link Map} specialized for the very small maps that make up
+ * the bulk of a large OpenAPI model (schema properties, extensions). Up to
+ * {@link #INLINE_CAPACITY} entries are held in two parallel arrays and looked up
+ * with a linear scan. Once the map grows beyond that, the entries are moved to a
+ * {@link LinkedHashMap} which is used from then on.
+ *
+ * Iteration order, {@code equals} and {@code hashCode} are those of a
+ * {@link LinkedHashMap} holding the same entries.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    static final int INLINE_CAPACITY = 4;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private int modCount;
+    private Map<K, V> delegate;
+
+    public CompactMap() {
+    }
+
+    public CompactMap(Map<? extends K, ? extends V> source) {
+        if (source.size() > INLINE_CAPACITY) {
+            delegate = new LinkedHashMap<>(source);
+        } else {
+            putAll(source);
+        }
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return delegate != null ? delegate.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate != null ? delegate.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (delegate != null) {
+            return delegate.put(key, value);
+        }
+
+        int index = indexOf(key);
+
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        if (size == INLINE_CAPACITY) {
+            delegate = new LinkedHashMap<>(INLINE_CAPACITY * 4);
+            for (int i = 0; i < size; i++) {
+                delegate.put((K) keys[i], (V) values[i]);
+            }
+            keys = null;
+            values = null;
+            size = 0;
+            modCount++;
+            return delegate.put(key, value);
+        }
+
+        if (keys == null) {
+            keys = new Object[INLINE_CAPACITY];
+            values = new Object[INLINE_CAPACITY];
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (delegate != null) {
+            return delegate.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (delegate != null) {
+            delegate.clear();
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (delegate != null) {
+            return delegate.entrySet();
+        }
+        return new EntrySet();
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            if (delegate != null) {
+                return delegate.entrySet().iterator();
+            }
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            checkForComodification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            current = next++;
+            return new InlineEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(current);
+            next = current;
+            current = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (delegate != null || modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Entry of the inline arrays. Like an entry of a {@link LinkedHashMap}, it follows its key
+     * while the key is in the map, also when other entries are added or removed, and keeps the
+     * last value once the key is removed.
+     */
+    private class InlineEntry implements Entry<K, V> {
+        private final K key;
+        private V value;
+        private int index;
+
+        @SuppressWarnings("unchecked")
+        InlineEntry(int index) {
+            this.key = (K) keys[index];
+            this.value = (V) values[index];
+            this.index = index;
+        }
+
+        /**
+         * The current index of the key in the inline arrays, or -1 if it is not there.
+         */
+        private int locate() {
+            if (delegate != null) {
+                return -1;
+            }
+            if (index < size && keys[index] == key) {
+                return index;
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    index = i;
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            int i = locate();
+            if (i >= 0) {
+                value = (V) values[i];
+            } else if (delegate != null && delegate.containsKey(key)) {
+                value = delegate.get(key);
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = getValue();
+            int i = locate();
+            if (i >= 0) {
+                values[i] = value;
+            } else if (delegate != null && delegate.containsKey(key)) {
+                delegate.put(key, value);
+            }
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -137,6 +137,20 @@ public class JandexUtil {
         return ref;
     }
 
+    /**
+     * Reads a string property named "ref" value from the given annotation and converts it
+     * to a value appropriate for setting on a model's "$ref" property. The result is
+     * interned in the scan's string pool.
+     *
+     * @param context scanning context
+     * @param annotation AnnotationInstance
+     * @param refType RefType
+     * @return String value
+     */
+    public static String refValue(AnnotationScannerContext context, AnnotationInstance annotation, RefType refType) {
+        return context.getStringPool().intern(refValue(annotation, refType));
+    }
+
     public static <T> T value(AnnotationInstance annotation) {
         return annotation != null ? value(annotation, OpenApiConstants.VALUE) : null;
     }
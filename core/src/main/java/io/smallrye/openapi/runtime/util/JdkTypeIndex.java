@@ -0,0 +1,173 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Index of the JDK types with a well-known structure (boxed primitives, collections, etc.),
+ * used by {@link TypeUtil} to recognize and navigate the hierarchy of types that are not
+ * part of the application's index.
+ *
+ * The index is read from a resource generated by the build, <code>jdk-types-&lt;version&gt;.idx</code>,
+ * where the version is the <code>java.specification.version</code> of the JDK the project
+ * was built with (see {@link JdkTypeIndexGenerator}). When no resource exists for the running
+ * JDK, the types are indexed from their class files instead.
+ *
+ * The index is only loaded when first used.
+ */
+public final class JdkTypeIndex {
+
+    static final String RESOURCE_PREFIX = "jdk-types-";
+    static final String RESOURCE_SUFFIX = ".idx";
+
+    static final List<Class<?>> TYPES = Collections.unmodifiableList(Arrays.asList(
+            java.lang.Enum.class,
+            java.lang.Object.class,
+
+            // Common, expected classes
+            java.lang.Boolean.class,
+            java.lang.Byte.class,
+            java.lang.Character.class,
+            java.lang.Double.class,
+            java.lang.Float.class,
+            java.lang.Integer.class,
+            java.lang.Long.class,
+            java.lang.Number.class,
+            java.lang.Short.class,
+            java.lang.String.class,
+            java.lang.Void.class,
+            java.util.UUID.class,
+
+            // Collection Interfaces
+            java.util.Collection.class,
+            java.util.Deque.class,
+            java.util.List.class,
+            java.util.Map.class,
+            java.util.NavigableMap.class,
+            java.util.NavigableSet.class,
+            java.util.Queue.class,
+            java.util.Set.class,
+            java.util.SortedMap.class,
+            java.util.SortedSet.class,
+            java.util.concurrent.BlockingDeque.class,
+            java.util.concurrent.BlockingQueue.class,
+            java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class,
+            java.util.concurrent.TransferQueue.class,
+
+            // Abstract Collections
+            java.util.AbstractCollection.class,
+            java.util.AbstractList.class,
+            java.util.AbstractMap.class,
+            java.util.AbstractQueue.class,
+            java.util.AbstractSequentialList.class,
+            java.util.AbstractSet.class,
+            java.util.EnumSet.class,
+
+            // Collections
+            java.util.ArrayDeque.class,
+            java.util.ArrayList.class,
+            java.util.EnumMap.class,
+            java.util.HashMap.class,
+            java.util.HashSet.class,
+            java.util.Hashtable.class,
+            java.util.IdentityHashMap.class,
+            java.util.LinkedHashMap.class,
+            java.util.LinkedHashSet.class,
+            java.util.LinkedList.class,
+            java.util.PriorityQueue.class,
+            java.util.Properties.class,
+            java.util.Stack.class,
+            java.util.TreeMap.class,
+            java.util.TreeSet.class,
+            java.util.Vector.class,
+            java.util.concurrent.ArrayBlockingQueue.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ConcurrentLinkedDeque.class,
+            java.util.concurrent.ConcurrentLinkedQueue.class,
+            java.util.concurrent.ConcurrentSkipListMap.class,
+            java.util.concurrent.ConcurrentSkipListSet.class,
+            java.util.concurrent.CopyOnWriteArrayList.class,
+            java.util.concurrent.CopyOnWriteArraySet.class,
+            java.util.concurrent.DelayQueue.class,
+            java.util.concurrent.LinkedBlockingDeque.class,
+            java.util.concurrent.LinkedBlockingQueue.class,
+            java.util.concurrent.LinkedTransferQueue.class,
+            java.util.concurrent.PriorityBlockingQueue.class,
+            java.util.concurrent.SynchronousQueue.class,
+
+            // CompletionStage and implementation
+            java.util.concurrent.CompletionStage.class,
+            java.util.concurrent.CompletableFuture.class));
+
+    private static final class Holder {
+        static final IndexView INDEX = load();
+    }
+
+    private JdkTypeIndex() {
+    }
+
+    /**
+     * @return the index of the JDK types, loaded on first use
+     */
+    static IndexView get() {
+        return Holder.INDEX;
+    }
+
+    static String resourceName() {
+        return RESOURCE_PREFIX + System.getProperty("java.specification.version") + RESOURCE_SUFFIX;
+    }
+
+    static IndexView load() {
+        Index index = read();
+
+        if (index == null) {
+            UtilLogging.logger.jdkTypeIndexNotGenerated(System.getProperty("java.specification.version"));
+            return build();
+        }
+
+        return index;
+    }
+
+    /**
+     * Read the pre-generated index for the running JDK.
+     *
+     * @return the index, or null if no index was generated for the running JDK
+     */
+    static Index read() {
+        try (InputStream stream = JdkTypeIndex.class.getResourceAsStream(resourceName())) {
+            return stream != null ? new IndexReader(stream).read() : null;
+        } catch (IOException | IllegalArgumentException e) {
+            // Unreadable (e.g. unsupported version of the index format), index the types instead
+            return null;
+        }
+    }
+
+    /**
+     * Index the types from the class files of the running JDK.
+     *
+     * @return the index of the JDK types
+     */
+    static Index build() {
+        Indexer indexer = new Indexer();
+
+        for (Class<?> klazz : TYPES) {
+            try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        return indexer.complete();
+    }
+}
@@ -0,0 +1,33 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jboss.jandex.IndexWriter;
+
+/**
+ * Generates the {@link JdkTypeIndex} resource for the JDK it runs with. Run by the build
+ * (see the <code>jdk-type-index</code> execution in the pom) with the directory of the
+ * compiled classes of this package, not part of the API.
+ */
+final class JdkTypeIndexGenerator {
+
+    private JdkTypeIndexGenerator() {
+    }
+
+    /**
+     * @param args the directory to write the resource to
+     * @throws IOException if the resource cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args[0]);
+        Files.createDirectories(directory);
+
+        try (OutputStream stream = Files.newOutputStream(directory.resolve(JdkTypeIndex.resourceName()))) {
+            new IndexWriter(stream).write(JdkTypeIndex.build());
+        }
+    }
+}
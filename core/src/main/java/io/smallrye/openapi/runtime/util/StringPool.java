@@ -0,0 +1,50 @@
+package io.smallrye.openapi.runtime.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A scan-scoped pool of canonical string instances. Values that are
+ * repeated many times throughout a generated model (e.g. <code>$ref</code>
+ * values, media types, tag names) are passed through {@link #intern(String)}
+ * so that equal values share a single instance for the life of the model.
+ *
+ * Unlike {@link String#intern()}, the pool is released together with the
+ * scan that owns it.
+ */
+public class StringPool {
+
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Retrieve the canonical instance of the given value, adding it to the
+     * pool when not yet present.
+     *
+     * @param value the string to intern, may be null
+     * @return the pooled instance equal to value, or null if value is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        requests.increment();
+        String existing = pool.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * @return the total number of non-null values passed to {@link #intern(String)}
+     */
+    public long getInternedCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of distinct values held by the pool
+     */
+    public int getUniqueCount() {
+        return pool.size();
+    }
+}
@@ -2,9 +2,6 @@ package io.smallrye.openapi.runtime.util;
 
 import static io.smallrye.openapi.api.constants.JDKConstants.DOTNAME_DEPRECATED;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -34,7 +31,6 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
-import org.jboss.jandex.Indexer;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
@@ -114,7 +110,6 @@ public class TypeUtil {
             .example("13:45.30.123456789").build();
 
     private static final Map<DotName, TypeWithFormat> TYPE_MAP = new LinkedHashMap<>();
-    private static final IndexView jdkIndex;
     private static final Set<DotName> wrapperTypes = new HashSet<>();
 
     // https://github.com/OAI/OpenAPI-Specification/blob/main/versions/3.0.0.md#dataTypeFormat
@@ -188,100 +183,10 @@ public class TypeUtil {
             TYPE_MAP.put(DotName.createSimple(qualifier + "json.JsonString"), STRING_FORMAT);
         }
 
-        Indexer indexer = new Indexer();
-        index(indexer, java.lang.Enum.class);
-        index(indexer, java.lang.Object.class);
-
-        // Common, expected classes
-        index(indexer, java.lang.Boolean.class);
-        index(indexer, java.lang.Byte.class);
-        index(indexer, java.lang.Character.class);
-        index(indexer, java.lang.Double.class);
-        index(indexer, java.lang.Float.class);
-        index(indexer, java.lang.Integer.class);
-        index(indexer, java.lang.Long.class);
-        index(indexer, java.lang.Number.class);
-        index(indexer, java.lang.Short.class);
-        index(indexer, java.lang.String.class);
-        index(indexer, java.lang.Void.class);
-        index(indexer, java.util.UUID.class);
-
-        // Collection Interfaces
-        index(indexer, java.util.Collection.class);
-        index(indexer, java.util.Deque.class);
-        index(indexer, java.util.List.class);
-        index(indexer, java.util.Map.class);
-        index(indexer, java.util.NavigableMap.class);
-        index(indexer, java.util.NavigableSet.class);
-        index(indexer, java.util.Queue.class);
-        index(indexer, java.util.Set.class);
-        index(indexer, java.util.SortedMap.class);
-        index(indexer, java.util.SortedSet.class);
-        index(indexer, java.util.concurrent.BlockingDeque.class);
-        index(indexer, java.util.concurrent.BlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentMap.class);
-        index(indexer, java.util.concurrent.ConcurrentNavigableMap.class);
-        index(indexer, java.util.concurrent.TransferQueue.class);
-
-        // Abstract Collections
-        index(indexer, java.util.AbstractCollection.class);
-        index(indexer, java.util.AbstractList.class);
-        index(indexer, java.util.AbstractMap.class);
-        index(indexer, java.util.AbstractQueue.class);
-        index(indexer, java.util.AbstractSequentialList.class);
-        index(indexer, java.util.AbstractSet.class);
-        index(indexer, java.util.EnumSet.class);
-
-        // Collections
-        index(indexer, java.util.ArrayDeque.class);
-        index(indexer, java.util.ArrayList.class);
-        index(indexer, java.util.EnumMap.class);
-        index(indexer, java.util.HashMap.class);
-        index(indexer, java.util.HashSet.class);
-        index(indexer, java.util.Hashtable.class);
-        index(indexer, java.util.IdentityHashMap.class);
-        index(indexer, java.util.LinkedHashMap.class);
-        index(indexer, java.util.LinkedHashSet.class);
-        index(indexer, java.util.LinkedList.class);
-        index(indexer, java.util.PriorityQueue.class);
-        index(indexer, java.util.Properties.class);
-        index(indexer, java.util.Stack.class);
-        index(indexer, java.util.TreeMap.class);
-        index(indexer, java.util.TreeSet.class);
-        index(indexer, java.util.Vector.class);
-        index(indexer, java.util.concurrent.ArrayBlockingQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentHashMap.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedDeque.class);
-        index(indexer, java.util.concurrent.ConcurrentLinkedQueue.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListMap.class);
-        index(indexer, java.util.concurrent.ConcurrentSkipListSet.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArrayList.class);
-        index(indexer, java.util.concurrent.CopyOnWriteArraySet.class);
-        index(indexer, java.util.concurrent.DelayQueue.class);
-        index(indexer, java.util.concurrent.LinkedBlockingDeque.class);
-        index(indexer, java.util.concurrent.LinkedBlockingQueue.class);
-        index(indexer, java.util.concurrent.LinkedTransferQueue.class);
-        index(indexer, java.util.concurrent.PriorityBlockingQueue.class);
-        index(indexer, java.util.concurrent.SynchronousQueue.class);
-
-        // CompletionStage and implementation
-        index(indexer, java.util.concurrent.CompletionStage.class);
-        index(indexer, java.util.concurrent.CompletableFuture.class);
-
-        jdkIndex = indexer.complete();
-
         wrapperTypes.addAll(JaxbConstants.JAXB_ELEMENT);
         wrapperTypes.add(MutinyConstants.UNI_TYPE.name());
     }
 
-    private static void index(Indexer indexer, Class<?> klazz) {
-        try (InputStream stream = klazz.getResourceAsStream(klazz.getSimpleName() + ".class")) {
-            indexer.index(stream);
-        } catch (IOException ioe) {
-            throw new UncheckedIOException(ioe);
-        }
-    }
-
     private TypeUtil() {
     }
 
@@ -327,7 +232,7 @@ public class TypeUtil {
     }
 
     public static boolean knownJavaType(DotName name) {
-        return jdkIndex.getClassByName(name) != null;
+        return JdkTypeIndex.get().getClassByName(name) != null;
     }
 
     /**
@@ -363,13 +268,7 @@ public class TypeUtil {
      * @param schema a writable schema to be updated with the type's default schema attributes
      */
     public static void applyTypeAttributes(Type classType, Schema schema) {
-        Map<String, Object> properties = getTypeAttributes(classType);
-
-        schema.setType((SchemaType) properties.get(SchemaConstant.PROP_TYPE));
-        schema.setFormat((String) properties.get(SchemaConstant.PROP_FORMAT));
-        schema.setPattern((String) properties.get(SchemaConstant.PROP_PATTERN));
-        schema.setExample(properties.get(SchemaConstant.PROP_EXAMPLE));
-        schema.setExternalDocs((ExternalDocumentation) properties.get(ExternalDocsConstant.PROP_EXTERNAL_DOCS));
+        getTypeFormat(classType).applyTo(schema);
     }
 
     /**
@@ -423,7 +322,7 @@ public class TypeUtil {
     static ClassInfo getClassInfo(IndexView appIndex, DotName className) {
         ClassInfo clazz = appIndex.getClassByName(className);
         if (clazz == null) {
-            clazz = jdkIndex.getClassByName(className);
+            clazz = JdkTypeIndex.get().getClassByName(className);
         }
         return clazz;
     }
@@ -1017,15 +916,40 @@ public class TypeUtil {
 
         private final Map<String, Object> properties;
         private final boolean opaque;
+        // The attributes set on schemas, resolved once from the properties
+        private final SchemaType type;
+        private final String format;
+        private final String pattern;
+        private final Object example;
+        private final ExternalDocumentation externalDocs;
 
         private TypeWithFormat(Map<String, Object> properties, boolean opaque) {
             this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
             this.opaque = opaque;
+            this.type = (SchemaType) properties.get(SchemaConstant.PROP_TYPE);
+            this.format = (String) properties.get(SchemaConstant.PROP_FORMAT);
+            this.pattern = (String) properties.get(SchemaConstant.PROP_PATTERN);
+            this.example = properties.get(SchemaConstant.PROP_EXAMPLE);
+            this.externalDocs = (ExternalDocumentation) properties.get(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
+        }
+
+        void applyTo(Schema schema) {
+            schema.setType(type);
+            schema.setFormat(format);
+            schema.setPattern(pattern);
+            schema.setExample(example);
+            schema.setExternalDocs(externalDocs);
         }
 
         boolean isSchemaType(SchemaType... schemaTypes) {
-            SchemaType type = (SchemaType) properties.get(SchemaConstant.PROP_TYPE);
-            return type != null && Arrays.stream(schemaTypes).anyMatch(type::equals);
+            if (type != null) {
+                for (SchemaType schemaType : schemaTypes) {
+                    if (type == schemaType) {
+                        return true;
+                    }
+                }
+            }
+            return false;
         }
 
         Map<String, Object> getProperties() {
@@ -0,0 +1,17 @@
+package io.smallrye.openapi.runtime.util;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SROAP", length = 5)
+interface UtilLogging extends BasicLogger {
+    UtilLogging logger = Logger.getMessageLogger(UtilLogging.class, UtilLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 8100, value = "No index of JDK types was generated for Java %s, indexing the types from their class files")
+    void jdkTypeIndexNotGenerated(String version);
+
+}
@@ -0,0 +1,174 @@
+package io.smallrye.openapi.api.models.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+class SchemaImplTest {
+
+    @Test
+    void testSparseAttributesSetInAnyOrder() {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setDeprecated(Boolean.TRUE);
+        schema.setRef("MyType");
+        schema.setMaximum(BigDecimal.TEN);
+        schema.setType(Schema.SchemaType.OBJECT);
+        schema.setDescription("desc");
+
+        assertEquals(Boolean.TRUE, schema.getDeprecated());
+        assertEquals("#/components/schemas/MyType", schema.getRef());
+        assertEquals(BigDecimal.TEN, schema.getMaximum());
+        assertEquals(Schema.SchemaType.OBJECT, schema.getType());
+        assertEquals("desc", schema.getDescription());
+        assertNull(schema.getTitle());
+        assertNull(schema.getMinimum());
+
+        schema.setMaximum(null);
+        schema.setRef(null);
+        assertNull(schema.getMaximum());
+        assertNull(schema.getRef());
+        assertEquals(Boolean.TRUE, schema.getDeprecated());
+        assertEquals(Schema.SchemaType.OBJECT, schema.getType());
+        assertEquals("desc", schema.getDescription());
+    }
+
+    @Test
+    void testAdditionalPropertiesExclusive() {
+        SchemaImpl schema = new SchemaImpl();
+        schema.setAdditionalPropertiesBoolean(Boolean.FALSE);
+        schema.setAdditionalPropertiesSchema(new SchemaImpl().type(Schema.SchemaType.STRING));
+        assertNull(schema.getAdditionalPropertiesBoolean());
+        assertEquals(Schema.SchemaType.STRING, schema.getAdditionalPropertiesSchema().getType());
+
+        schema.setAdditionalPropertiesBoolean(Boolean.TRUE);
+        assertNull(schema.getAdditionalPropertiesSchema());
+        assertEquals(Boolean.TRUE, schema.getAdditionalPropertiesBoolean());
+    }
+
+    @Test
+    void testCopyOfIsDeep() {
+        SchemaImpl original = new SchemaImpl();
+        original.setType(Schema.SchemaType.OBJECT);
+        original.addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING));
+        original.addRequired("name");
+        original.setAllOf(Arrays.asList(new SchemaImpl().ref("Base")));
+
+        SchemaImpl copy = SchemaImpl.copyOf(original);
+
+        assertEquals(Schema.SchemaType.OBJECT, copy.getType());
+        assertEquals(Arrays.asList("name"), copy.getRequired());
+        assertNotSame(original.getProperties().get("name"), copy.getProperties().get("name"));
+        assertNotSame(original.getAllOf().get(0), copy.getAllOf().get(0));
+        assertEquals("#/components/schemas/Base", copy.getAllOf().get(0).getRef());
+
+        copy.getProperties().get("name").setType(Schema.SchemaType.INTEGER);
+        copy.addRequired("other");
+        assertEquals(Schema.SchemaType.STRING, original.getProperties().get("name").getType());
+        assertEquals(Arrays.asList("name"), original.getRequired());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        SchemaImpl original = new SchemaImpl();
+        original.setType(Schema.SchemaType.OBJECT);
+        original.addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING));
+        original.addProperty("tags", new SchemaImpl().type(Schema.SchemaType.ARRAY)
+                .items(new SchemaImpl().type(Schema.SchemaType.STRING)));
+        original.addRequired("name");
+        original.setXml(new XMLImpl().name("thing"));
+        original.addExtension("x-origin", "original");
+
+        SchemaImpl copy = SchemaImpl.copyOf(original);
+        SchemaImpl copyOfCopy = SchemaImpl.copyOf(copy);
+
+        original.addRequired("tags");
+        original.setDescription("original");
+        original.removeProperty("name");
+        original.addExtension("x-other", "original");
+
+        assertEquals(Arrays.asList("name"), copy.getRequired());
+        assertNull(copy.getDescription());
+        assertEquals(2, copy.getProperties().size());
+        assertEquals(1, copy.getExtensions().size());
+
+        copy.removeRequired("name");
+        copy.getProperties().get("tags").getItems().setType(Schema.SchemaType.INTEGER);
+        copy.getXml().setName("other");
+        copy.setType(Schema.SchemaType.ARRAY);
+
+        assertEquals(Arrays.asList("name", "tags"), original.getRequired());
+        assertEquals(Schema.SchemaType.OBJECT, original.getType());
+        assertEquals(Schema.SchemaType.STRING, original.getProperties().get("tags").getItems().getType());
+        assertEquals("thing", original.getXml().getName());
+
+        assertEquals(Arrays.asList("name"), copyOfCopy.getRequired());
+        assertEquals(Schema.SchemaType.OBJECT, copyOfCopy.getType());
+        assertEquals(Schema.SchemaType.STRING, copyOfCopy.getProperties().get("tags").getItems().getType());
+        assertEquals("thing", copyOfCopy.getXml().getName());
+        assertNotSame(copy.getProperties().get("tags"), copyOfCopy.getProperties().get("tags"));
+    }
+
+    @Test
+    void testCopyNotAffectedByNestedChanges() {
+        SchemaImpl original = new SchemaImpl();
+        original.setItems(new SchemaImpl().type(Schema.SchemaType.STRING));
+        original.addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING));
+
+        SchemaImpl copy = SchemaImpl.copyOf(original);
+
+        original.getItems().setType(Schema.SchemaType.INTEGER);
+        original.getProperties().get("name").setDescription("changed");
+
+        assertEquals(Schema.SchemaType.STRING, copy.getItems().getType());
+        assertNull(copy.getProperties().get("name").getDescription());
+        assertNotSame(original.getItems(), copy.getItems());
+    }
+
+    @Test
+    void testCopyOfOtherImplementation() {
+        SchemaImpl delegate = new SchemaImpl();
+        delegate.setType(Schema.SchemaType.OBJECT);
+        delegate.setDescription("foreign");
+        delegate.addRequired("name");
+        delegate.addProperty("name", new SchemaImpl().type(Schema.SchemaType.STRING));
+        Schema other = (Schema) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Schema.class },
+                (proxy, method, args) -> method.invoke(delegate, args));
+
+        SchemaImpl copy = SchemaImpl.copyOf(other);
+        delegate.getProperties().get("name").setType(Schema.SchemaType.INTEGER);
+        delegate.addRequired("id");
+
+        assertEquals(Schema.SchemaType.OBJECT, copy.getType());
+        assertEquals("foreign", copy.getDescription());
+        assertEquals(Arrays.asList("name"), copy.getRequired());
+        assertEquals(Schema.SchemaType.STRING, copy.getProperties().get("name").getType());
+    }
+
+    @Test
+    void testCopyDoesNotNotifyObservers() {
+        SchemaImpl observable = new SchemaImpl();
+        SchemaImpl observer = new SchemaImpl();
+        SchemaImpl.addTypeObserver(observable, observer);
+
+        SchemaImpl.copyOf(observable).setType(Schema.SchemaType.STRING);
+        assertNull(observer.getType());
+    }
+
+    @Test
+    void testTypeObserverNotified() {
+        SchemaImpl observable = new SchemaImpl();
+        SchemaImpl observer = new SchemaImpl();
+        SchemaImpl.addTypeObserver(observable, observer);
+        observable.setType(Schema.SchemaType.ARRAY);
+        assertEquals(Schema.SchemaType.ARRAY, observer.getType());
+        assertTrue(SchemaImpl.getModCount(observable) > 0);
+    }
+}
@@ -0,0 +1,142 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponse;
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponses;
+import static org.eclipse.microprofile.openapi.OASFactory.createComponents;
+import static org.eclipse.microprofile.openapi.OASFactory.createContent;
+import static org.eclipse.microprofile.openapi.OASFactory.createInfo;
+import static org.eclipse.microprofile.openapi.OASFactory.createMediaType;
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createParameter;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.util.ModelDiff.Change;
+import io.smallrye.openapi.api.util.ModelDiff.Kind;
+
+class ModelDiffTest {
+
+    static Schema pet() {
+        return createSchema()
+                .type(SchemaType.OBJECT)
+                .addProperty("name", createSchema().type(SchemaType.STRING))
+                .addProperty("status", createSchema().type(SchemaType.STRING).addEnumeration("available")
+                        .addEnumeration("sold"))
+                .addRequired("name");
+    }
+
+    static OpenAPI model(Schema pet, Parameter limit) {
+        return createOpenAPI()
+                .openapi("3.0.3")
+                .info(createInfo().title("Pets").version("1.0"))
+                .paths(createPaths()
+                        .addPathItem("/pets", createPathItem()
+                                .GET(createOperation()
+                                        .addParameter(limit)
+                                        .responses(createAPIResponses()
+                                                .addAPIResponse("200", createAPIResponse()
+                                                        .content(createContent()
+                                                                .addMediaType("application/json", createMediaType()
+                                                                        .schema(createSchema()
+                                                                                .ref("#/components/schemas/Pet")))))))))
+                .components(createComponents().addSchema("Pet", pet));
+    }
+
+    static Parameter limit() {
+        return createParameter().name("limit").in(Parameter.In.QUERY).schema(createSchema().type(SchemaType.INTEGER));
+    }
+
+    static List<String> describe(List<Change> changes) {
+        return changes.stream().map(Change::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    void testStructuralHash() {
+        StructuralHash base = StructuralHash.of(model(pet(), limit()));
+        StructuralHash same = StructuralHash.of(model(pet(), limit()));
+        StructuralHash revision = StructuralHash.of(model(pet().description("A pet"), limit()));
+
+        assertEquals(base.value(), same.value());
+        assertNotEquals(base.value(), revision.value());
+        // Only the changed subtree hashes differ
+        assertTrue(base.get("paths").sameAs(revision.get("paths")));
+        assertTrue(base.at("/components/schemas/Pet/properties").sameAs(revision.at("/components/schemas/Pet/properties")));
+        assertFalse(base.at("/components/schemas/Pet").sameAs(revision.at("/components/schemas/Pet")));
+    }
+
+    @Test
+    void testIdenticalDocuments() {
+        ModelDiff diff = ModelDiff.compare(model(pet(), limit()), model(pet(), limit()));
+
+        assertTrue(diff.isEmpty());
+        assertFalse(diff.isBreaking());
+    }
+
+    @Test
+    void testNonBreakingChanges() {
+        OpenAPI revision = model(pet().description("A pet")
+                .addProperty("age", createSchema().type(SchemaType.INTEGER)), limit());
+        revision.getPaths().addPathItem("/owners", createPathItem().GET(createOperation()));
+        revision.getInfo().version("1.1");
+
+        ModelDiff diff = ModelDiff.compare(model(pet(), limit()), revision);
+
+        assertEquals(Arrays.asList(
+                "DOCUMENT_CHANGED /info",
+                "OPERATION_ADDED /paths/~1owners/get",
+                "PROPERTY_ADDED /components/schemas/Pet/properties/age"),
+                describe(diff.getChanges()));
+        assertFalse(diff.isBreaking());
+    }
+
+    @Test
+    void testBreakingChanges() {
+        Schema pet = pet().addRequired("status");
+        pet.getProperties().get("status").removeEnumeration("sold");
+        OpenAPI revision = model(pet, limit().required(true));
+        revision.getPaths().getPathItem("/pets").getGET().getResponses().removeAPIResponse("200");
+
+        ModelDiff diff = ModelDiff.compare(model(pet(), limit()), revision);
+
+        assertEquals(Arrays.asList(
+                "[breaking] PARAMETER_REQUIRED /paths/~1pets/get/parameters/0",
+                "[breaking] RESPONSE_REMOVED /paths/~1pets/get/responses/200",
+                "[breaking] PROPERTY_REQUIRED /components/schemas/Pet/properties/status",
+                "[breaking] ENUM_VALUE_REMOVED /components/schemas/Pet/properties/status/enum"),
+                describe(diff.getChanges()));
+        assertTrue(diff.isBreaking());
+    }
+
+    @Test
+    void testRemovedOperationAndSchema() {
+        OpenAPI revision = model(pet(), limit());
+        revision.getPaths().getPathItem("/pets").setGET(null);
+        revision.getComponents().removeSchema("Pet");
+        revision.getComponents().addSchema("Animal", pet().type(SchemaType.STRING));
+
+        ModelDiff diff = ModelDiff.compare(model(pet(), limit()), revision);
+
+        assertEquals(Arrays.asList(
+                "[breaking] OPERATION_REMOVED /paths/~1pets/get",
+                "[breaking] SCHEMA_REMOVED /components/schemas/Pet",
+                "SCHEMA_ADDED /components/schemas/Animal"),
+                describe(diff.getChanges()));
+        assertEquals(Kind.OPERATION_REMOVED, diff.getBreakingChanges().get(0).getKind());
+    }
+}
@@ -0,0 +1,143 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponse;
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponses;
+import static org.eclipse.microprofile.openapi.OASFactory.createComponents;
+import static org.eclipse.microprofile.openapi.OASFactory.createContent;
+import static org.eclipse.microprofile.openapi.OASFactory.createInfo;
+import static org.eclipse.microprofile.openapi.OASFactory.createMediaType;
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createParameter;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
+import static org.eclipse.microprofile.openapi.OASFactory.createTag;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.io.Format;
+
+class OpenApiIndexTest {
+
+    OpenAPI model;
+    OpenApiIndex index;
+
+    static Operation operation(String operationId, String tag, String schemaRef) {
+        return createOperation()
+                .operationId(operationId)
+                .addTag(tag)
+                .responses(createAPIResponses()
+                        .addAPIResponse("200", createAPIResponse()
+                                .content(createContent()
+                                        .addMediaType("application/json", createMediaType()
+                                                .schema(createSchema().ref(schemaRef))))));
+    }
+
+    @BeforeEach
+    void setUp() {
+        model = createOpenAPI()
+                .openapi("3.0.3")
+                .info(createInfo().title("Test").version("1.0"))
+                .addTag(createTag().name("users"))
+                .addTag(createTag().name("orders"))
+                .paths(createPaths()
+                        .addPathItem("/users", createPathItem()
+                                .GET(operation("listUsers", "users", "#/components/schemas/User")))
+                        .addPathItem("/users/{id}", createPathItem()
+                                .addParameter(createParameter().ref("#/components/parameters/id"))
+                                .GET(operation("getUser", "users", "#/components/schemas/User"))
+                                .DELETE(operation("deleteUser", "admin", "#/components/schemas/Status")))
+                        .addPathItem("/usersettings", createPathItem()
+                                .GET(operation("getSettings", "users", "#/components/schemas/Settings")))
+                        .addPathItem("/orders", createPathItem()
+                                .GET(operation("listOrders", "orders", "#/components/schemas/Order"))))
+                .components(createComponents()
+                        .addParameter("id", createParameter().name("id").in(In.PATH)
+                                .schema(createSchema().type(SchemaType.STRING)))
+                        .addSchema("User", createSchema().type(SchemaType.OBJECT)
+                                .addProperty("address", createSchema().ref("#/components/schemas/Address")))
+                        .addSchema("Address", createSchema().type(SchemaType.OBJECT))
+                        .addSchema("Order", createSchema().type(SchemaType.OBJECT)
+                                .addProperty("customer", createSchema().ref("#/components/schemas/User")))
+                        .addSchema("Settings", createSchema().type(SchemaType.OBJECT))
+                        .addSchema("Status", createSchema().type(SchemaType.STRING)));
+
+        index = OpenApiIndex.of(model);
+    }
+
+    @Test
+    void testLookups() {
+        assertEquals(Arrays.asList("users", "admin", "orders"), index.getTags().stream().collect(Collectors.toList()));
+        assertEquals(3, index.getOperationsByTag("users").size());
+        assertEquals("/users/{id}", index.getOperation("deleteUser").getPath());
+        assertEquals(PathItem.HttpMethod.DELETE, index.getOperation("deleteUser").getMethod());
+        assertNull(index.getOperation("unknown"));
+        assertEquals(Arrays.asList("/users", "/users/{id}"), index.getPaths("/users"));
+        assertEquals(Arrays.asList("/users", "/users/{id}", "/usersettings", "/orders"), index.getPaths("/"));
+        assertEquals(Collections.emptyList(), index.getPaths("/missing"));
+    }
+
+    @Test
+    void testReverseSchemaReferences() {
+        assertEquals(Collections.singleton("User"), index.getSchemaReferrers("Address"));
+        assertEquals(Arrays.asList("listUsers", "getUser", "listOrders"),
+                index.getOperationsUsingSchema("Address")
+                        .stream()
+                        .map(e -> e.getOperation().getOperationId())
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSubsetByTag() {
+        OpenAPI subset = index.subsetByTags(Collections.singleton("orders"));
+
+        assertEquals(Collections.singleton("/orders"), subset.getPaths().getPathItems().keySet());
+        assertSame(model.getPaths().getPathItem("/orders"), subset.getPaths().getPathItem("/orders"));
+        assertEquals(Arrays.asList("Address", "User", "Order").stream().collect(Collectors.toSet()),
+                subset.getComponents().getSchemas().keySet());
+        assertTrue(subset.getComponents().getParameters() == null
+                || subset.getComponents().getParameters().isEmpty());
+        assertEquals(1, subset.getTags().size());
+        assertEquals("orders", subset.getTags().get(0).getName());
+        assertSame(model.getInfo(), subset.getInfo());
+    }
+
+    @Test
+    void testSubsetByOperationIdSplitsPathItem() {
+        OpenAPI subset = index.subsetByOperationIds(Collections.singleton("getUser"));
+        PathItem pathItem = subset.getPaths().getPathItem("/users/{id}");
+
+        assertEquals(1, subset.getPaths().getPathItems().size());
+        assertEquals(Collections.singleton(PathItem.HttpMethod.GET), pathItem.getOperations().keySet());
+        assertEquals(2, model.getPaths().getPathItem("/users/{id}").getOperations().size());
+        assertEquals(Collections.singleton("id"), subset.getComponents().getParameters().keySet());
+        assertEquals(Arrays.asList("User", "Address").stream().collect(Collectors.toSet()),
+                subset.getComponents().getSchemas().keySet());
+    }
+
+    @Test
+    void testRenderByPathPrefix() throws Exception {
+        String json = index.renderByPathPrefix(Format.JSON, "/users");
+
+        assertTrue(json.contains("\"/users/{id}\""));
+        assertTrue(json.contains("\"Status\""));
+        assertTrue(!json.contains("\"/usersettings\""));
+        assertTrue(!json.contains("\"Order\""));
+        assertTrue(!json.contains("\"Settings\""));
+    }
+}
@@ -0,0 +1,141 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createParameter;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationRouterTest {
+
+    OperationRouter router;
+
+    static Operation operation(String operationId, Parameter... parameters) {
+        Operation operation = createOperation().operationId(operationId);
+        for (Parameter parameter : parameters) {
+            operation.addParameter(parameter);
+        }
+        return operation;
+    }
+
+    static Parameter pathParameter(String name, String pattern) {
+        return createParameter().name(name).in(In.PATH).schema(createSchema().pattern(pattern));
+    }
+
+    @BeforeEach
+    void setUp() {
+        OpenAPI model = createOpenAPI()
+                .paths(createPaths()
+                        .addPathItem("/", createPathItem().GET(operation("root")))
+                        .addPathItem("/pets", createPathItem()
+                                .GET(operation("listPets"))
+                                .POST(operation("createPet")))
+                        .addPathItem("/pets/mine", createPathItem().GET(operation("myPets")))
+                        .addPathItem("/pets/{id}", createPathItem()
+                                .addParameter(pathParameter("id", "[0-9]+"))
+                                .GET(operation("getPet"))
+                                .DELETE(operation("deletePet")))
+                        .addPathItem("/pets/{name}", createPathItem().GET(operation("getPetByName")))
+                        .addPathItem("/pets/{id}/photos/{file}.{ext}", createPathItem()
+                                .GET(operation("getPhoto", pathParameter("id", "[0-9]+"))))
+                        .addPathItem("/api/v{version}/status", createPathItem()
+                                .GET(operation("status", pathParameter("version", "[1-3]"))))
+                        .addPathItem("/files/{path}", createPathItem()
+                                .GET(operation("getFile", pathParameter("path", ".*")))));
+        router = OperationRouter.of(model);
+    }
+
+    static Map<String, String> parameters(String... nameValues) {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            result.put(nameValues[i], nameValues[i + 1]);
+        }
+        return result;
+    }
+
+    void assertMatch(HttpMethod method, String path, String operationId, String template, String... parameters) {
+        OperationRouter.Match match = router.match(method, path);
+        assertEquals(operationId, match != null ? match.getOperationId() : null, path);
+        assertEquals(template, match.getPath());
+        assertEquals(method, match.getMethod());
+        assertEquals(parameters(parameters), match.getParameters());
+    }
+
+    @Test
+    void testLiteralPaths() {
+        assertEquals(10, router.size());
+        assertMatch(HttpMethod.GET, "/", "root", "/");
+        assertMatch(HttpMethod.GET, "", "root", "/");
+        assertMatch(HttpMethod.GET, "/pets", "listPets", "/pets");
+        assertMatch(HttpMethod.POST, "/pets/", "createPet", "/pets");
+        assertMatch(HttpMethod.GET, "pets/mine", "myPets", "/pets/mine");
+        assertNull(router.match(HttpMethod.PUT, "/pets"));
+        assertNull(router.match(HttpMethod.GET, "/cats"));
+        assertNull(router.match(HttpMethod.GET, "/pets/mine/more"));
+    }
+
+    @Test
+    void testParameters() {
+        assertMatch(HttpMethod.GET, "/pets/42", "getPet", "/pets/{id}", "id", "42");
+        assertMatch(HttpMethod.DELETE, "/pets/42", "deletePet", "/pets/{id}", "id", "42");
+        assertMatch(HttpMethod.GET, "/pets/felix", "getPetByName", "/pets/{name}", "name", "felix");
+        assertNull(router.match(HttpMethod.DELETE, "/pets/felix"));
+        assertNull(router.match(HttpMethod.GET, "/pets//"));
+    }
+
+    @Test
+    void testTemplateSegments() {
+        assertMatch(HttpMethod.GET, "/pets/7/photos/front.large.jpg", "getPhoto", "/pets/{id}/photos/{file}.{ext}",
+                "id", "7", "file", "front.large", "ext", "jpg");
+        assertNull(router.match(HttpMethod.GET, "/pets/x/photos/front.jpg"));
+        assertNull(router.match(HttpMethod.GET, "/pets/7/photos/front"));
+        assertMatch(HttpMethod.GET, "/api/v2/status", "status", "/api/v{version}/status", "version", "2");
+        assertNull(router.match(HttpMethod.GET, "/api/v4/status"));
+    }
+
+    @Test
+    void testRemainingPath() {
+        assertMatch(HttpMethod.GET, "/files/a", "getFile", "/files/{path}", "path", "a");
+        assertMatch(HttpMethod.GET, "/files/a/b/c.txt", "getFile", "/files/{path}", "path", "a/b/c.txt");
+    }
+
+    @Test
+    void testMatchReuse() {
+        OperationRouter.Match match = router.newMatch();
+
+        assertTrue(router.match(HttpMethod.GET, "/pets/1/photos/a.png", match));
+        assertEquals(3, match.getParameterCount());
+        assertEquals("ext", match.getParameterName(2));
+        assertEquals("png", match.getParameter("ext"));
+
+        assertTrue(router.match(HttpMethod.GET, new StringBuilder("/pets/2"), match));
+        assertEquals(1, match.getParameterCount());
+        assertEquals("2", match.getParameterValue(0));
+        assertNull(match.getParameter("ext"));
+
+        assertFalse(router.match(HttpMethod.GET, "/unknown", match));
+    }
+
+    @Test
+    void testEmptyModel() {
+        OperationRouter empty = OperationRouter.of(createOpenAPI());
+        assertEquals(0, empty.size());
+        assertNull(empty.match(HttpMethod.GET, "/"));
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponse;
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponses;
+import static org.eclipse.microprofile.openapi.OASFactory.createComponents;
+import static org.eclipse.microprofile.openapi.OASFactory.createContent;
+import static org.eclipse.microprofile.openapi.OASFactory.createMediaType;
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.junit.jupiter.api.Test;
+
+class SchemaDeduplicatorTest {
+
+    static Schema address() {
+        return createSchema()
+                .type(SchemaType.OBJECT)
+                .addProperty("street", createSchema().type(SchemaType.STRING))
+                .addProperty("city", createSchema().type(SchemaType.STRING));
+    }
+
+    static OpenAPI model(Schema getSchema, Schema postSchema) {
+        return createOpenAPI()
+                .paths(createPaths()
+                        .addPathItem("/customers", createPathItem()
+                                .GET(createOperation()
+                                        .responses(createAPIResponses()
+                                                .addAPIResponse("200", createAPIResponse()
+                                                        .content(createContent()
+                                                                .addMediaType("application/json", createMediaType()
+                                                                        .schema(getSchema))))))
+                                .POST(createOperation()
+                                        .responses(createAPIResponses()
+                                                .addAPIResponse("201", createAPIResponse()
+                                                        .content(createContent()
+                                                                .addMediaType("application/json", createMediaType()
+                                                                        .schema(postSchema))))))));
+    }
+
+    static Schema responseSchema(OpenAPI model, String method) {
+        return model.getPaths()
+                .getPathItem("/customers")
+                .getOperations()
+                .entrySet()
+                .stream()
+                .filter(e -> e.getKey().name().equals(method))
+                .findFirst()
+                .get()
+                .getValue()
+                .getResponses()
+                .getAPIResponses()
+                .values()
+                .iterator()
+                .next()
+                .getContent()
+                .getMediaType("application/json")
+                .getSchema();
+    }
+
+    @Test
+    void testDuplicatePropertySchemasHoisted() {
+        OpenAPI model = model(createSchema().type(SchemaType.OBJECT).addProperty("address", address()),
+                createSchema().type(SchemaType.OBJECT)
+                        .addProperty("address", address())
+                        .addProperty("id", createSchema().type(SchemaType.INTEGER)));
+
+        SchemaDeduplicator.Result result = SchemaDeduplicator.deduplicate(model, 3);
+
+        assertEquals(1, result.getHoistedCount());
+        assertEquals(2, result.getReplacedCount());
+        assertEquals(1, model.getComponents().getSchemas().size());
+        assertEquals(SchemaType.OBJECT, model.getComponents().getSchemas().get("Address").getType());
+        assertEquals("#/components/schemas/Address",
+                responseSchema(model, "GET").getProperties().get("address").getRef());
+        assertEquals("#/components/schemas/Address",
+                responseSchema(model, "POST").getProperties().get("address").getRef());
+        assertEquals(SchemaType.INTEGER, responseSchema(model, "POST").getProperties().get("id").getType());
+    }
+
+    @Test
+    void testLargestDuplicateHoistedOnce() {
+        OpenAPI model = model(createSchema().type(SchemaType.OBJECT).addProperty("address", address()),
+                createSchema().type(SchemaType.OBJECT).addProperty("address", address()));
+
+        SchemaDeduplicator.Result result = SchemaDeduplicator.deduplicate(model, 3);
+
+        // Only the outer schema is hoisted, the nested address is not counted again
+        assertEquals(1, result.getHoistedCount());
+        assertEquals(2, result.getReplacedCount());
+        assertEquals(1, model.getComponents().getSchemas().size());
+        assertEquals("#/components/schemas/Schema", responseSchema(model, "GET").getRef());
+        assertEquals("#/components/schemas/Schema", responseSchema(model, "POST").getRef());
+    }
+
+    @Test
+    void testExistingComponentReferenced() {
+        OpenAPI model = model(address(), address());
+        model.components(createComponents().addSchema("Address", address()));
+
+        SchemaDeduplicator.Result result = SchemaDeduplicator.deduplicate(model, 3);
+
+        assertEquals(0, result.getHoistedCount());
+        assertEquals(2, result.getReplacedCount());
+        assertTrue(result.getBytesSaved() > 0);
+        assertEquals(1, model.getComponents().getSchemas().size());
+        assertEquals("#/components/schemas/Address", responseSchema(model, "GET").getRef());
+        assertEquals("#/components/schemas/Address", responseSchema(model, "POST").getRef());
+    }
+
+    @Test
+    void testSchemasBelowMinimumSizeRetained() {
+        OpenAPI model = model(address(), address());
+
+        SchemaDeduplicator.Result result = SchemaDeduplicator.deduplicate(model, 4);
+
+        assertEquals(0, result.getReplacedCount());
+        assertNull(model.getComponents());
+        assertEquals(SchemaType.OBJECT, responseSchema(model, "GET").getType());
+    }
+
+    @Test
+    void testDifferentSchemasRetained() {
+        OpenAPI model = model(address(), address().addProperty("zip", createSchema().type(SchemaType.STRING)));
+
+        SchemaDeduplicator.Result result = SchemaDeduplicator.deduplicate(model, 3);
+
+        assertEquals(0, result.getReplacedCount());
+        assertNull(model.getComponents());
+    }
+}
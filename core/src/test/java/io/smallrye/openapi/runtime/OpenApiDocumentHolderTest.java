@@ -0,0 +1,78 @@
+package io.smallrye.openapi.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class OpenApiDocumentHolderTest {
+
+    @Schema(name = "Pet")
+    static class Pet {
+        String name;
+    }
+
+    @Test
+    void testPendingDocument() {
+        CompletableFuture<OpenAPI> document = new CompletableFuture<>();
+        OpenApiDocumentHolder holder = new OpenApiDocumentHolder(document, 2);
+
+        assertEquals(OpenApiDocumentHolder.Status.PENDING, holder.getStatus());
+        assertEquals(503, holder.getHttpStatus());
+        assertEquals(2, holder.getRetryAfterSeconds());
+        assertThrows(IllegalStateException.class, holder::get);
+        assertThrows(IllegalStateException.class, () -> holder.await(1, TimeUnit.MILLISECONDS));
+
+        document.completeExceptionally(new IllegalArgumentException("broken"));
+
+        assertEquals(OpenApiDocumentHolder.Status.FAILED, holder.getStatus());
+        assertEquals(500, holder.getHttpStatus());
+        assertEquals(0, holder.getRetryAfterSeconds());
+        OpenApiRuntimeException failure = assertThrows(OpenApiRuntimeException.class, holder::get);
+        assertTrue(failure.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testBootstrapAsync() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            OpenApiDocumentHolder holder = new OpenApiDocumentHolder(OpenApiProcessor.bootstrapAsync(
+                    IndexScannerTestBase.dynamicConfig(OpenApiConstants.INFO_TITLE, "Pets"),
+                    IndexScannerTestBase.indexOf(Pet.class),
+                    executor));
+
+            OpenAPI model = holder.await(30, TimeUnit.SECONDS);
+
+            assertTrue(holder.isReady());
+            assertEquals(200, holder.getHttpStatus());
+            assertEquals("Pets", model.getInfo().getTitle());
+            assertNotNull(model.getComponents().getSchemas().get("Pet"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBootstrapAsyncOnBackgroundThread() throws Exception {
+        OpenApiDocumentHolder holder = new OpenApiDocumentHolder(OpenApiProcessor.bootstrapAsync(
+                IndexScannerTestBase.emptyConfig(),
+                IndexScannerTestBase.indexOf(Pet.class)));
+
+        assertNotNull(holder.await(30, TimeUnit.SECONDS).getPaths());
+        assertFalse(holder.getStatus() == OpenApiDocumentHolder.Status.PENDING);
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.openapi.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class StaticFragmentsTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void testFragmentsMerged() throws IOException {
+        Path classes = temp.resolve("classes");
+        Path fragments = Files.createDirectories(classes.resolve(StaticFragments.DIRECTORY));
+        Files.write(fragments.resolve("c-pets.yaml"), Arrays.asList(
+                "openapi: 3.0.3",
+                "info:",
+                "  title: Pets",
+                "paths:",
+                "  /pets:",
+                "    get:",
+                "      responses:",
+                "        '200':",
+                "          description: OK"));
+        Files.write(fragments.resolve("README.txt"), Arrays.asList("Not a fragment"));
+
+        Path jar = temp.resolve("owners.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("META-INF/"));
+            out.putNextEntry(new JarEntry(StaticFragments.DIRECTORY));
+            putEntry(out, StaticFragments.DIRECTORY + "a-owners.json", "{\"openapi\": \"3.0.3\", "
+                    + "\"info\": {\"title\": \"Owners\", \"version\": \"2.0\"}, "
+                    + "\"paths\": {\"/owners\": {\"get\": {\"responses\": {\"200\": {\"description\": \"OK\"}}}}}}");
+            putEntry(out, StaticFragments.DIRECTORY + "b-shared.yaml", "openapi: 3.0.3\n"
+                    + "components:\n  schemas:\n    Name:\n      type: string\n");
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { jar.toUri().toURL(), classes.toUri().toURL() }, null)) {
+            OpenAPI model = OpenApiProcessor.bootstrap(IndexScannerTestBase.emptyConfig(), null, classLoader);
+
+            assertEquals(2, model.getPaths().getPathItems().size());
+            assertNotNull(model.getPaths().getPathItem("/pets"));
+            assertNotNull(model.getPaths().getPathItem("/owners"));
+            assertNotNull(model.getComponents().getSchemas().get("Name"));
+            // Merged in the order of the file names, the later overriding the earlier
+            assertEquals("Pets", model.getInfo().getTitle());
+            assertEquals("2.0", model.getInfo().getVersion());
+        }
+    }
+
+    private static void putEntry(JarOutputStream out, String name, String contents) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(contents.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
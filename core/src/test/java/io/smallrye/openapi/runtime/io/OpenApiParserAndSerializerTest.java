@@ -5,6 +5,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.JacksonYAMLParseException;
 
 import io.smallrye.openapi.api.constants.OpenApiConstants;
@@ -529,6 +532,69 @@ class OpenApiParserAndSerializerTest {
         doTest("_everything.yaml", Format.YAML);
     }
 
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, BinaryFormat, OutputStream)} and
+     * {@link OpenApiParser#parse(InputStream, BinaryFormat)} using the binary CBOR format.
+     */
+    @Test
+    void testEverythingCbor() throws IOException, JSONException {
+        doTestBinary(BinaryFormat.CBOR);
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serialize(OpenAPI, BinaryFormat, OutputStream)} and
+     * {@link OpenApiParser#parse(InputStream, BinaryFormat)} using the binary Smile format.
+     */
+    @Test
+    void testEverythingSmile() throws IOException, JSONException {
+        doTestBinary(BinaryFormat.SMILE);
+    }
+
+    private static void doTestBinary(BinaryFormat format) throws IOException, JSONException {
+        URL testResource = OpenApiParserAndSerializerTest.class.getResource("_everything.json");
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        Assertions.assertTrue(format.isAvailable());
+        OpenApiSerializer.serialize(OpenApiParser.parse(testResource), format, binary);
+
+        Assertions.assertTrue(binary.size() < loadResource(testResource).getBytes(StandardCharsets.UTF_8).length);
+
+        try (InputStream is = new ByteArrayInputStream(binary.toByteArray())) {
+            doTest(testResource, Format.JSON, OpenApiParser.parse(is, format));
+        }
+    }
+
+    /**
+     * Test method for {@link OpenApiSerializer#serializeSplit(OpenAPI, Format, String)}.
+     */
+    @Test
+    void testEverythingSplit() throws IOException {
+        URL testResource = OpenApiParserAndSerializerTest.class.getResource("_everything.json");
+        Map<String, String> documents = OpenApiSerializer.serializeSplit(OpenApiParser.parse(testResource), Format.JSON,
+                "openapi");
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode root = mapper.readTree(documents.get("openapi.json"));
+        JsonNode manifest = mapper.readTree(documents.get("openapi-manifest.json"));
+
+        Assertions.assertEquals("openapi.json", documents.keySet().iterator().next());
+        Assertions.assertEquals("paths/tag-1.json#/~1foo", root.at("/paths/~1foo/$ref").asText());
+        Assertions.assertEquals("paths/default.json#/~1foo~1%7BfooId%7D", root.at("/paths/~1foo~1{fooId}/$ref").asText());
+        Assertions.assertEquals("schemas/Schema-1.json", root.at("/components/schemas/Schema-1/$ref").asText());
+        Assertions.assertTrue(mapper.readTree(documents.get("paths/tag-1.json")).has("/foo"));
+        Assertions.assertTrue(documents.get("paths/tag-1.json").contains("\"../openapi.json#/components/responses/NotFound\""));
+
+        Assertions.assertEquals("paths/tag-1.json", manifest.at("/tags/tag-1").asText());
+        Assertions.assertEquals("schemas/Schema-2.json", manifest.at("/schemas/Schema-2").asText());
+        Assertions.assertEquals(documents.size() - 1, manifest.get("files").size());
+
+        for (Map.Entry<String, String> document : documents.entrySet()) {
+            Assertions.assertFalse(document.getValue().contains("\"#/components/schemas/Schema-"), document.getKey());
+            if (!document.getKey().equals("openapi-manifest.json")) {
+                Assertions.assertEquals(document.getValue().getBytes(StandardCharsets.UTF_8).length,
+                        manifest.at("/files/" + document.getKey().replace("/", "~1") + "/size").asInt());
+            }
+        }
+    }
+
     /**
      * Test method for {@link OpenApiParser#parse(java.net.URL)}.
      *
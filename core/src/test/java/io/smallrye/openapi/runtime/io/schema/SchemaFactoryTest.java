@@ -1,10 +1,14 @@
 package io.smallrye.openapi.runtime.io.schema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.ParameterizedType;
@@ -30,4 +34,31 @@ class SchemaFactoryTest extends IndexScannerTestBase {
         assertEquals(STRING_TYPE, result);
     }
 
+    enum Color {
+        RED,
+        GREEN
+    }
+
+    @Test
+    void testEnumSchemaCopies() {
+        Index index = indexOf(Color.class);
+        Type colorType = Type.create(DotName.createSimple(Color.class.getName()), Type.Kind.CLASS);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+
+        Schema first = SchemaFactory.enumToSchema(context, colorType);
+        first.addEnumeration("BLUE");
+        first.setDescription("Modified");
+        Schema second = SchemaFactory.enumToSchema(context, colorType);
+
+        assertNotSame(first, second);
+        assertEquals(Arrays.asList("RED", "GREEN"), second.getEnumeration());
+        assertEquals(Schema.SchemaType.STRING, second.getType());
+        assertNull(second.getDescription());
+        assertEquals(1, context.getEnumSchemas().size());
+
+        context.clearScanState();
+        assertEquals(0, context.getEnumSchemas().size());
+    }
+
 }
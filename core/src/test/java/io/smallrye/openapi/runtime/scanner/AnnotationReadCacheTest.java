@@ -0,0 +1,67 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.headers.Header;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.media.SchemaProperty;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.io.response.ResponseReader;
+import io.smallrye.openapi.runtime.scanner.AnnotationReadCache.Kind;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class AnnotationReadCacheTest extends IndexScannerTestBase {
+
+    interface Resource {
+        @APIResponse(responseCode = "200", description = "OK", headers = @Header(name = "X-Rate-Limit"), content = @Content(schema = @Schema(type = SchemaType.OBJECT, properties = {
+                @SchemaProperty(name = "id", type = SchemaType.STRING) })))
+        void get();
+    }
+
+    @Test
+    void testReadsAreCachedAndCopied() {
+        Index index = indexOf(Resource.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        AnnotationInstance annotation = index.getAnnotations(DotName.createSimple(APIResponse.class.getName())).get(0);
+
+        try (ScanScope scope = ScanScope.open(context)) {
+            CurrentScannerInfo.register(null);
+            CurrentScannerInfo.setCurrentProduces(new String[] { "application/json" });
+
+            org.eclipse.microprofile.openapi.models.responses.APIResponse first = ResponseReader.readResponse(context,
+                    annotation);
+            first.setDescription("Modified");
+            first.removeHeader("X-Rate-Limit");
+            first.getContent().getMediaType("application/json").getSchema().getProperties().get("id").setType(null);
+
+            org.eclipse.microprofile.openapi.models.responses.APIResponse second = ResponseReader.readResponse(context,
+                    annotation);
+
+            assertNotSame(first, second);
+            assertEquals("OK", second.getDescription());
+            assertEquals(1, second.getHeaders().size());
+            assertEquals("STRING",
+                    second.getContent().getMediaType("application/json").getSchema().getProperties().get("id").getType()
+                            .name());
+
+            AnnotationReadCache cache = context.getAnnotationReadCache();
+            assertEquals(2, cache.getLookupCount(Kind.RESPONSE));
+            assertEquals(1, cache.getHitCount(Kind.RESPONSE));
+            // The nested schema is only read once, by the first read of the response
+            assertEquals(1, cache.getLookupCount(Kind.SCHEMA));
+        }
+
+        assertEquals(0, context.getAnnotationReadCache().size());
+    }
+}
@@ -0,0 +1,229 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+class DependencySchemaCacheTest extends IndexScannerTestBase {
+
+    static final String ARTIFACT_HASH = "0123456789abcdef";
+
+    @Schema
+    static class Customer {
+        public String name;
+        public Address address;
+    }
+
+    static class Address {
+        public String street;
+    }
+
+    @Schema
+    static class Invoice {
+        public Address billing;
+    }
+
+    @Schema(name = "Address")
+    static class Location {
+        public double latitude;
+    }
+
+    @Schema
+    static class Note {
+        public String text;
+    }
+
+    @Schema
+    static class Order {
+        public Customer customer;
+        public Location location;
+        public List<Invoice> invoices;
+    }
+
+    static Map<String, IndexView> artifacts(Index artifactIndex) {
+        return Collections.singletonMap(ARTIFACT_HASH, artifactIndex);
+    }
+
+    static String scan(OpenApiConfig config, Index index, DependencySchemaCache cache, boolean store)
+            throws IOException {
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(config, index);
+        scanner.setSchemaCache(cache);
+        OpenAPI result = scanner.scan();
+
+        if (store) {
+            cache.store(ARTIFACT_HASH, result, scanner.getProvenance());
+        }
+
+        return OpenApiSerializer.serialize(result, Format.JSON);
+    }
+
+    static Path cacheFile(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList()).get(0);
+        }
+    }
+
+    /**
+     * Mark the cached schemas to verify they are used rather than new ones
+     */
+    static void markCachedStreet(Path directory) throws IOException {
+        Path file = cacheFile(directory);
+        String cached = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.write(file, cached.replace("\"street\"", "\"cachedStreet\"").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCachedSchemasUsed(@TempDir Path directory) throws IOException {
+        Index index = indexOf(Customer.class, Address.class);
+        String expected = scan(emptyConfig(), index, null, false);
+
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(index));
+        assertFalse(cache.load(ARTIFACT_HASH));
+        assertEquals(expected, scan(emptyConfig(), index, cache, true));
+
+        markCachedStreet(directory);
+
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(index));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        String result = scan(emptyConfig(), index, cache, false);
+
+        assertEquals(expected.replace("\"street\"", "\"cachedStreet\""), result);
+    }
+
+    @Test
+    void testWarmScanMatchesColdScan(@TempDir Path directory) throws IOException {
+        Index artifactIndex = indexOf(Customer.class, Address.class, Invoice.class);
+        // Location of the project is named "Address" as well
+        Index index = indexOf(Order.class, Location.class, Customer.class, Address.class, Invoice.class);
+
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertFalse(cache.load(ARTIFACT_HASH));
+        String cold = scan(emptyConfig(), index, cache, true);
+        assertEquals(scan(emptyConfig(), index, null, false), cold);
+
+        markCachedStreet(directory);
+
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        String warm = scan(emptyConfig(), index, cache, false);
+
+        assertTrue(warm.contains("\"cachedStreet\""), warm);
+        assertEquals(cold.replace("\"street\"", "\"cachedStreet\""), warm);
+
+        // Cached while Location was named "Address", the schema of Address is no longer renamed
+        cold = scan(emptyConfig(), artifactIndex, null, false);
+        assertTrue(cold.contains("\"#/components/schemas/Address\""), cold);
+
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        assertEquals(cold.replace("\"street\"", "\"cachedStreet\""), scan(emptyConfig(), artifactIndex, cache, false));
+    }
+
+    @Test
+    void testCacheKeyIncludesConfig(@TempDir Path directory) throws IOException {
+        Index index = indexOf(Customer.class, Address.class);
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(index));
+        scan(emptyConfig(), index, cache, true);
+
+        OpenApiConfig config = dynamicConfig(OpenApiConstants.SMALLRYE_PROPERTY_NAMING_STRATEGY, "SNAKE_CASE");
+        assertFalse(new DependencySchemaCache(directory, config, artifacts(index)).load(ARTIFACT_HASH));
+        assertTrue(new DependencySchemaCache(directory, emptyConfig(), artifacts(index)).load(ARTIFACT_HASH));
+    }
+
+    @Test
+    void testCachedSchemaDependsOnReferencedArtifacts(@TempDir Path directory) throws IOException {
+        Index customers = indexOf(Customer.class, Note.class);
+        Index addresses = indexOf(Address.class);
+        Map<String, IndexView> artifacts = new LinkedHashMap<>();
+        artifacts.put(ARTIFACT_HASH, customers);
+        artifacts.put("fedcba", addresses);
+
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts);
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(emptyConfig(),
+                indexOf(Customer.class, Note.class, Address.class));
+        scanner.setSchemaCache(cache);
+        OpenAPI result = scanner.scan();
+        assertTrue(cache.store(ARTIFACT_HASH, result, scanner.getProvenance()));
+        assertTrue(cache.store("fedcba", result, scanner.getProvenance()));
+
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts);
+        assertTrue(cache.load(ARTIFACT_HASH));
+        assertEquals(Arrays.asList(Customer.class.getName(), Note.class.getName()), classNames(cache));
+
+        // Another version of the artifact of Address, only the schema of Customer depends on it
+        artifacts.remove("fedcba");
+        artifacts.put("fedcbb", addresses);
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts);
+        assertTrue(cache.load(ARTIFACT_HASH));
+        assertFalse(cache.load("fedcbb"));
+        assertEquals(Arrays.asList(Note.class.getName()), classNames(cache));
+    }
+
+    static List<String> classNames(DependencySchemaCache cache) {
+        return cache.entries().stream().map(entry -> entry.className).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void testCachedSchemasUpdated(@TempDir Path directory) throws IOException {
+        Index artifactIndex = indexOf(Customer.class, Address.class, Invoice.class);
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        scan(emptyConfig(), indexOf(Customer.class, Address.class), cache, true);
+
+        // Invoice is now used, its schema is added to the existing cache file
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        scan(emptyConfig(), indexOf(Invoice.class, Address.class), cache, true);
+
+        String cached = new String(Files.readAllBytes(cacheFile(directory)), StandardCharsets.UTF_8);
+        assertTrue(cached.contains("\"name\":\"Invoice\""), cached);
+        // Customer was not used by the second scan and remains cached
+        assertTrue(cached.contains("\"name\":\"Customer\""), cached);
+
+        // Nothing changed, the cache file is not written again
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(emptyConfig(), artifactIndex);
+        scanner.setSchemaCache(cache);
+        OpenAPI result = scanner.scan();
+        assertFalse(cache.store(ARTIFACT_HASH, result, scanner.getProvenance()));
+    }
+
+    @Test
+    void testConflictingNameDerivedAgain(@TempDir Path directory) throws IOException {
+        Index artifactIndex = indexOf(Customer.class, Address.class);
+        DependencySchemaCache cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        scan(emptyConfig(), artifactIndex, cache, true);
+
+        // Location is registered as "Address" before Customer is scanned
+        Index index = indexOf(Location.class, Customer.class, Address.class);
+        String expected = scan(emptyConfig(), index, null, false);
+
+        cache = new DependencySchemaCache(directory, emptyConfig(), artifacts(artifactIndex));
+        assertTrue(cache.load(ARTIFACT_HASH));
+        assertEquals(expected, scan(emptyConfig(), index, cache, false));
+    }
+}
@@ -1,6 +1,8 @@
 package io.smallrye.openapi.runtime.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigDecimal;
@@ -8,6 +10,8 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
@@ -22,6 +26,8 @@ import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.constants.JsonbConstants;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 
 class PropertyNamingStrategyTest extends IndexScannerTestBase {
 
@@ -92,6 +98,35 @@ class PropertyNamingStrategyTest extends IndexScannerTestBase {
         assertThrows(OpenApiRuntimeException.class, () -> scanner.scan());
     }
 
+    @Test
+    void testCustomStrategyTranslationsMemoized() {
+        UnaryOperator<String> strategy = PropertyNamingStrategyFactory.getStrategy(CountingStrategy.class.getName(),
+                getClass().getClassLoader());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ID", strategy.apply("id"));
+            assertEquals("CREATEDAT", strategy.apply("createdAt"));
+        }
+
+        assertEquals(2, CountingStrategy.translations.get());
+    }
+
+    @Test
+    void testCustomStrategyRememberedPerScan() {
+        Index index = indexOf(NameStrategyBean3.class);
+        String name = CountingStrategy.class.getName();
+        ClassLoader loader = getClass().getClassLoader();
+        AnnotationScannerContext context1 = new AnnotationScannerContext(index, loader, emptyConfig());
+        AnnotationScannerContext context2 = new AnnotationScannerContext(index, loader, emptyConfig());
+
+        assertSame(context1.getPropertyNamingStrategy(name), context1.getPropertyNamingStrategy(name));
+        assertNotSame(context1.getPropertyNamingStrategy(name), context2.getPropertyNamingStrategy(name));
+        assertNotSame(PropertyNamingStrategyFactory.getStrategy(name, loader),
+                PropertyNamingStrategyFactory.getStrategy(name, loader));
+        assertSame(context1.getPropertyNamingStrategy(JsonbConstants.UPPER_CAMEL_CASE),
+                context2.getPropertyNamingStrategy(JsonbConstants.UPPER_CAMEL_CASE));
+    }
+
     @ParameterizedTest(name = "testJsonbConstantStrategy-{0}")
     @CsvSource({
             JsonbConstants.IDENTITY + ", simpleStringOne|anotherField|Y|z",
@@ -166,6 +201,15 @@ class PropertyNamingStrategyTest extends IndexScannerTestBase {
 
     }
 
+    public static class CountingStrategy {
+        static final AtomicInteger translations = new AtomicInteger();
+
+        public String translateName(String value) {
+            translations.incrementAndGet();
+            return value.toUpperCase();
+        }
+    }
+
     public static class TranslationThrowsException {
         public String translate(String value) {
             throw new IllegalArgumentException("dummy");
@@ -0,0 +1,52 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.CurrentScannerInfo;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class ScanScopeTest extends IndexScannerTestBase {
+
+    @Schema
+    static class Widget {
+        public String name;
+    }
+
+    @Test
+    void testScanReleasesThreadState() {
+        OpenAPI result = new OpenApiAnnotationScanner(emptyConfig(), indexOf(Widget.class)).scan();
+
+        assertEquals(1, result.getComponents().getSchemas().size());
+        assertFalse(ScanScope.isThreadStateRetained());
+        assertNull(SchemaRegistry.currentInstance());
+    }
+
+    @Test
+    void testScopeClosedOnException() {
+        Index index = indexOf(Widget.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (ScanScope scope = ScanScope.open(context)) {
+                assertSame(scope.getSchemaRegistry(), SchemaRegistry.currentInstance());
+                CurrentScannerInfo.register(null);
+                assertTrue(ScanScope.isThreadStateRetained());
+                throw new IllegalStateException();
+            }
+        });
+
+        assertFalse(ScanScope.isThreadStateRetained());
+    }
+}
@@ -0,0 +1,69 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class DataObjectDequeTest extends IndexScannerTestBase {
+
+    static class A {
+    }
+
+    static class B {
+    }
+
+    static class C {
+    }
+
+    @Test
+    void testCycleDetectionFollowsPath() {
+        AugmentedIndexView index = AugmentedIndexView.augment(indexOf(A.class, B.class, C.class));
+        DataObjectDeque deque = new DataObjectDeque(index);
+
+        deque.push(deque.rootNode(null, index.getClass(type(A.class)), type(A.class), new SchemaImpl()));
+
+        // A -> B, A -> C
+        DataObjectDeque.PathEntry a = deque.pop();
+        deque.push(null, a, type(B.class), new SchemaImpl());
+        deque.push(null, a, type(C.class), new SchemaImpl());
+        assertEquals(2, deque.size());
+
+        // A -> C -> B is not a cycle
+        DataObjectDeque.PathEntry c = deque.pop();
+        Schema cToB = new SchemaImpl();
+        deque.push(null, c, type(B.class), cToB);
+        assertEquals(2, deque.size());
+        assertNull(cToB.getDescription());
+
+        // A -> C -> B -> C is a cycle
+        DataObjectDeque.PathEntry b = deque.pop();
+        Schema bToC = new SchemaImpl();
+        deque.push(null, b, type(C.class), bToC);
+        assertEquals(1, deque.size());
+        assertEquals("Cyclic reference to " + C.class.getName(), bToC.getDescription());
+
+        // A -> B -> C, the path of C has been left
+        DataObjectDeque.PathEntry aToB = deque.pop();
+        Schema bToC2 = new SchemaImpl();
+        deque.push(null, aToB, type(C.class), bToC2);
+        assertEquals(1, deque.size());
+        assertNull(bToC2.getDescription());
+
+        // A -> B -> C -> A is a cycle
+        Schema cToA = new SchemaImpl();
+        deque.push(null, deque.pop(), type(A.class), cToA);
+        assertEquals(0, deque.size());
+        assertEquals("Cyclic reference to " + A.class.getName(), cToA.getDescription());
+    }
+
+    static Type type(Class<?> klass) {
+        return Type.create(DotName.createSimple(klass.getName()), Type.Kind.CLASS);
+    }
+}
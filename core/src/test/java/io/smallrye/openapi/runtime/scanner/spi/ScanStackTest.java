@@ -0,0 +1,67 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Deque;
+import java.util.Iterator;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+class ScanStackTest {
+
+    static final Type STRING = Type.create(DotName.createSimple(String.class.getName()), Type.Kind.CLASS);
+    static final Type INTEGER = Type.create(DotName.createSimple(Integer.class.getName()), Type.Kind.CLASS);
+    static final Type LIST_OF_STRING = ParameterizedType.create(DotName.createSimple("java.util.List"),
+            new Type[] { STRING }, null);
+
+    @Test
+    void testStackOperations() {
+        Deque<Type> stack = new ScanStack();
+        stack.push(STRING);
+        stack.push(LIST_OF_STRING);
+        stack.push(STRING);
+
+        assertTrue(stack.contains(STRING));
+        assertTrue(stack.contains(ParameterizedType.create(DotName.createSimple("java.util.List"),
+                new Type[] { STRING }, null)));
+        assertFalse(stack.contains(INTEGER));
+
+        assertEquals(STRING, stack.pop());
+        assertTrue(stack.contains(STRING));
+        assertEquals(LIST_OF_STRING, stack.pop());
+        assertFalse(stack.contains(LIST_OF_STRING));
+        assertEquals(STRING, stack.peek());
+        assertEquals(STRING, stack.pop());
+        assertFalse(stack.contains(STRING));
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testRemovals() {
+        Deque<Type> stack = new ScanStack();
+        stack.push(INTEGER);
+        stack.push(STRING);
+        stack.push(LIST_OF_STRING);
+
+        stack.remove(STRING);
+        assertFalse(stack.contains(STRING));
+
+        Iterator<Type> iterator = stack.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(stack.contains(LIST_OF_STRING));
+
+        stack.removeIf(INTEGER::equals);
+        assertFalse(stack.contains(INTEGER));
+        assertTrue(stack.isEmpty());
+
+        stack.push(STRING);
+        stack.clear();
+        assertFalse(stack.contains(STRING));
+    }
+}
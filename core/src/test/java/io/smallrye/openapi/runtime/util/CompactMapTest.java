@@ -0,0 +1,141 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompactMapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, CompactMap.INLINE_CAPACITY, CompactMap.INLINE_CAPACITY + 1, 20 })
+    void testBehavesLikeLinkedHashMap(int count) {
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        Map<String, Integer> actual = new CompactMap<>();
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(expected.put("k" + i, i), actual.put("k" + i, i));
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+        assertEquals(expected.toString(), actual.toString());
+
+        // Replacing a value retains the insertion order
+        assertEquals(expected.put("k0", -1), actual.put("k0", -1));
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+
+        assertEquals(expected.remove("k0"), actual.remove("k0"));
+        assertEquals(expected.remove("missing"), actual.remove("missing"));
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    void testNullKeyAndValue() {
+        Map<String, String> map = new CompactMap<>();
+        map.put(null, "a");
+        map.put("b", null);
+
+        assertTrue(map.containsKey(null));
+        assertTrue(map.containsKey("b"));
+        assertEquals("a", map.get(null));
+        assertNull(map.get("b"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testIteratorRemove() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Iterator<Map.Entry<String, Integer>> entries = map.entrySet().iterator();
+        assertThrows(IllegalStateException.class, entries::remove);
+
+        while (entries.hasNext()) {
+            if (entries.next().getValue() % 2 == 1) {
+                entries.remove();
+            }
+        }
+
+        assertEquals(1, map.size());
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertFalse(map.containsKey("a"));
+        assertFalse(map.containsKey("c"));
+    }
+
+    @Test
+    void testEntrySetValue() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.entrySet().iterator().next().setValue(5);
+        assertEquals(Integer.valueOf(5), map.get("a"));
+    }
+
+    @Test
+    void testEntryFollowsKeyAfterModification() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Map.Entry<String, Integer> entry = new ArrayList<>(map.entrySet()).get(1);
+
+        map.remove("a");
+        map.put("c", 3);
+        assertEquals("b", entry.getKey());
+        assertEquals(Integer.valueOf(2), entry.getValue());
+
+        map.put("b", 4);
+        assertEquals(Integer.valueOf(4), entry.getValue());
+        entry.setValue(5);
+        assertEquals(Integer.valueOf(5), map.get("b"));
+
+        for (int i = 0; i < 10; i++) {
+            map.put("k" + i, i);
+        }
+        assertEquals(Integer.valueOf(5), entry.getValue());
+        entry.setValue(6);
+        assertEquals(Integer.valueOf(6), map.get("b"));
+
+        map.remove("b");
+        assertEquals("b", entry.getKey());
+        assertEquals(Integer.valueOf(6), entry.getValue());
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    void testConcurrentModificationDetected() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        map.put("c", 3);
+        assertThrows(ConcurrentModificationException.class, keys::next);
+    }
+
+    @Test
+    void testCopyConstructor() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            source.put("k" + i, i);
+            assertEquals(source, new CompactMap<>(source));
+        }
+    }
+}
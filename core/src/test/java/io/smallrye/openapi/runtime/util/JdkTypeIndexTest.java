@@ -0,0 +1,43 @@
+package io.smallrye.openapi.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+class JdkTypeIndexTest {
+
+    static Map<String, String> hierarchy(IndexView index) {
+        Map<String, String> result = new TreeMap<>();
+
+        for (ClassInfo clazz : index.getKnownClasses()) {
+            result.put(clazz.name().toString(), clazz.superName() + " " + clazz.interfaceNames());
+        }
+
+        return result;
+    }
+
+    @Test
+    void testGeneratedIndexMatchesTypes() {
+        IndexView generated = JdkTypeIndex.read();
+        // Generated by the build, which runs the tests with the same JDK
+        assertNotNull(generated);
+
+        assertEquals(hierarchy(JdkTypeIndex.build()), hierarchy(generated));
+    }
+
+    @Test
+    void testKnownJavaType() {
+        assertEquals(JdkTypeIndex.TYPES.size(), JdkTypeIndex.get().getKnownClasses().size());
+        assertTrue(TypeUtil.knownJavaType(DotName.createSimple(java.util.ArrayList.class.getName())));
+        assertFalse(TypeUtil.knownJavaType(DotName.createSimple(JdkTypeIndexTest.class.getName())));
+    }
+}
@@ -179,6 +179,26 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
         }
     }
 
+    @Override
+    protected FrameworkParameter plainFrameworkParameter(AnnotationInstance annotation) {
+        FrameworkParameter frameworkParam = JaxRsParameter.forName(annotation.name());
+
+        if (frameworkParam == null
+                || frameworkParam.style == Style.FORM
+                || frameworkParam.style == Style.MATRIX
+                || frameworkParam.location == null
+                || isPathSegment(frameworkParam, getType(annotation.target()))) {
+            return null;
+        }
+
+        return frameworkParam;
+    }
+
+    private static boolean isPathSegment(FrameworkParameter frameworkParam, Type targetType) {
+        return frameworkParam.location == In.PATH && targetType != null
+                && JaxRsConstants.PATH_SEGMENT.contains(targetType.name());
+    }
+
     private void readJaxRsParameter(AnnotationInstance annotation,
             FrameworkParameter frameworkParam,
             AnnotationInstance beanParamAnnotation,
@@ -199,8 +219,7 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
 
             matrixParams.computeIfAbsent(pathSegment, k -> new HashMap<>())
                     .put(paramName(annotation), annotation);
-        } else if (frameworkParam.location == In.PATH && targetType != null
-                && JaxRsConstants.PATH_SEGMENT.contains(targetType.name())) {
+        } else if (isPathSegment(frameworkParam, targetType)) {
             String pathSegment = JandexUtil.value(annotation, ParameterConstant.PROP_VALUE);
             matrixParams.computeIfAbsent(pathSegment, k -> new HashMap<>());
         } else if (frameworkParam.location != null) {
@@ -0,0 +1,254 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.OpenApiDeltaProcessor;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+
+/**
+ * Test updating a bootstrapped document for changed and removed classes.
+ */
+class DeltaUpdateTest extends IndexScannerTestBase {
+
+    static class Widget {
+        public String name;
+        public int size;
+    }
+
+    static class Gadget {
+        public String label;
+    }
+
+    @Path("/widgets")
+    static class WidgetResource {
+        @GET
+        @Produces("application/json")
+        public Widget get() {
+            return null;
+        }
+    }
+
+    @Path("/gadgets")
+    static class GadgetResource {
+        @GET
+        @Produces("application/json")
+        public Gadget get() {
+            return null;
+        }
+    }
+
+    @Path("/other")
+    static class OtherResource {
+        @GET
+        @Produces("text/plain")
+        public String get() {
+            return null;
+        }
+    }
+
+    static class Views {
+        static class Public {
+        }
+
+        static class Internal {
+        }
+    }
+
+    static class Account {
+        @JsonView(Views.Public.class)
+        public String name;
+        @JsonView(Views.Internal.class)
+        public String secret;
+    }
+
+    @Path("/accounts")
+    static class AccountResource {
+        @GET
+        @Produces("application/json")
+        @JsonView(Views.Public.class)
+        public Account get() {
+            return null;
+        }
+    }
+
+    @Path("/shop")
+    static class ShopResource {
+        @GET
+        @Produces("application/json")
+        public test.io.smallrye.openapi.runtime.scanner.delta.shop.Item get() {
+            return null;
+        }
+    }
+
+    @Path("/warehouse")
+    static class WarehouseResource {
+        @GET
+        @Produces("application/json")
+        public test.io.smallrye.openapi.runtime.scanner.delta.warehouse.Item get() {
+            return null;
+        }
+    }
+
+    static OpenApiDeltaProcessor processor() {
+        return new OpenApiDeltaProcessor(emptyConfig(), ClassLoaderUtil.getDefaultClassLoader());
+    }
+
+    @Test
+    void testRemovedResource() {
+        Index index = indexOf(WidgetResource.class, Widget.class, GadgetResource.class, Gadget.class);
+        OpenApiDeltaProcessor processor = processor();
+        OpenAPI model = processor.bootstrap(index);
+        Operation widgetsGet = model.getPaths().getPathItem("/widgets").getGET();
+
+        assertNotNull(model.getPaths().getPathItem("/gadgets"));
+        assertNotNull(model.getComponents().getSchemas().get("Gadget"));
+
+        Index updated = indexOf(WidgetResource.class, Widget.class, Gadget.class);
+        model = processor.update(updated, Collections.emptyList(),
+                Collections.singletonList(index.getClassByName(GadgetResource.class)));
+
+        assertNull(model.getPaths().getPathItem("/gadgets"));
+        assertSame(widgetsGet, model.getPaths().getPathItem("/widgets").getGET());
+        // Schema of unchanged class remains
+        assertNotNull(model.getComponents().getSchemas().get("Gadget"));
+    }
+
+    @Test
+    void testChangedAndAddedResources() {
+        Index index = indexOf(WidgetResource.class, Widget.class, GadgetResource.class, Gadget.class);
+        OpenApiDeltaProcessor processor = processor();
+        OpenAPI model = processor.bootstrap(index);
+        Operation widgetsGet = model.getPaths().getPathItem("/widgets").getGET();
+        Operation gadgetsGet = model.getPaths().getPathItem("/gadgets").getGET();
+
+        Index updated = indexOf(WidgetResource.class, Widget.class, GadgetResource.class, Gadget.class,
+                OtherResource.class);
+        model = processor.update(updated,
+                Arrays.asList(updated.getClassByName(WidgetResource.class),
+                        updated.getClassByName(OtherResource.class)),
+                Collections.emptyList());
+
+        assertNotSame(widgetsGet, model.getPaths().getPathItem("/widgets").getGET());
+        assertSame(gadgetsGet, model.getPaths().getPathItem("/gadgets").getGET());
+        assertEquals("#/components/schemas/Widget", model.getPaths()
+                .getPathItem("/widgets")
+                .getGET()
+                .getResponses()
+                .getAPIResponse("200")
+                .getContent()
+                .getMediaType("application/json")
+                .getSchema()
+                .getRef());
+        assertNotNull(model.getPaths().getPathItem("/other").getGET());
+        assertEquals(3, model.getPaths().getPathItems().size());
+        assertEquals(2, model.getComponents().getSchemas().size());
+    }
+
+    @Test
+    void testChangedSchemaClass() {
+        Index index = indexOf(WidgetResource.class, Widget.class);
+        OpenApiDeltaProcessor processor = processor();
+        OpenAPI model = processor.bootstrap(index);
+        Operation widgetsGet = model.getPaths().getPathItem("/widgets").getGET();
+        Object widgetSchema = model.getComponents().getSchemas().get("Widget");
+
+        model = processor.update(index, Collections.singletonList(index.getClassByName(Widget.class)),
+                Collections.emptyList());
+
+        // Resource is untouched, the schema of the changed class is re-created
+        assertSame(widgetsGet, model.getPaths().getPathItem("/widgets").getGET());
+        assertNotNull(model.getComponents().getSchemas().get("Widget"));
+        assertNotSame(widgetSchema, model.getComponents().getSchemas().get("Widget"));
+        assertEquals(2, model.getComponents().getSchemas().get("Widget").getProperties().size());
+    }
+
+    @Test
+    void testChangedJsonViewSchemaClass() {
+        Index index = indexOf(AccountResource.class, Account.class, Views.class, Views.Public.class,
+                Views.Internal.class);
+        OpenApiDeltaProcessor processor = processor();
+        OpenAPI model = processor.bootstrap(index);
+        Operation accountsGet = model.getPaths().getPathItem("/accounts").getGET();
+        String ref = accountsGet.getResponses()
+                .getAPIResponse("200")
+                .getContent()
+                .getMediaType("application/json")
+                .getSchema()
+                .getRef();
+        String name = ref.substring("#/components/schemas/".length());
+        Object accountSchema = model.getComponents().getSchemas().get(name);
+        assertNotNull(accountSchema);
+
+        model = processor.update(index, Collections.singletonList(index.getClassByName(Account.class)),
+                Collections.emptyList());
+
+        // The resource is untouched and still references the schema for the view, which is re-created
+        assertSame(accountsGet, model.getPaths().getPathItem("/accounts").getGET());
+        assertNotNull(model.getComponents().getSchemas().get(name));
+        assertNotSame(accountSchema, model.getComponents().getSchemas().get(name));
+        assertEquals(Collections.singleton("name"), model.getComponents().getSchemas().get(name).getProperties().keySet());
+    }
+
+    @Test
+    void testChangedClassesWithSameSimpleName() throws Exception {
+        Index index = indexOf(ShopResource.class, WarehouseResource.class, Widget.class, WidgetResource.class,
+                test.io.smallrye.openapi.runtime.scanner.delta.shop.Item.class,
+                test.io.smallrye.openapi.runtime.scanner.delta.warehouse.Item.class);
+        String expected = OpenApiSerializer.serialize(processor().bootstrap(index), Format.JSON);
+
+        assertEquals("#/components/schemas/Item1", processor().bootstrap(index)
+                .getPaths()
+                .getPathItem("/warehouse")
+                .getGET()
+                .getResponses()
+                .getAPIResponse("200")
+                .getContent()
+                .getMediaType("application/json")
+                .getSchema()
+                .getRef());
+
+        for (Class<?> changed : Arrays.asList(test.io.smallrye.openapi.runtime.scanner.delta.shop.Item.class,
+                test.io.smallrye.openapi.runtime.scanner.delta.warehouse.Item.class,
+                ShopResource.class,
+                WarehouseResource.class)) {
+            OpenApiDeltaProcessor processor = processor();
+            processor.bootstrap(index);
+            ClassInfo changedClass = index.getClassByName(changed);
+
+            OpenAPI model = processor.update(index, Collections.singletonList(changedClass), Collections.emptyList());
+
+            // The update yields the same document as a complete scan
+            assertEquals(expected, OpenApiSerializer.serialize(model, Format.JSON), changed.getName());
+        }
+    }
+
+    @Test
+    void testUpdateBeforeBootstrap() {
+        Index index = indexOf(WidgetResource.class);
+        OpenApiDeltaProcessor processor = processor();
+        assertThrows(IllegalStateException.class,
+                () -> processor.update(index, Collections.emptyList(), Collections.emptyList()));
+    }
+}
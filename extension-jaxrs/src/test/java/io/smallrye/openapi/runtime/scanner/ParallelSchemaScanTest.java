@@ -0,0 +1,141 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.dataobject.DataObjectGraph;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+/**
+ * Test that resolving the properties of data objects ahead of the schema creation
+ * produces the same document as the sequential scan, and that the resolved properties
+ * are actually used.
+ */
+class ParallelSchemaScanTest extends IndexScannerTestBase {
+
+    static class Page<T> {
+        public List<T> items;
+        public int total;
+    }
+
+    static class Customer {
+        public String name;
+        public Address address;
+        public List<Order> orders;
+        public Customer referredBy;
+    }
+
+    static class Address {
+        public String street;
+        public Country country;
+    }
+
+    static class Country {
+        public String code;
+    }
+
+    enum Status {
+        OPEN,
+        CLOSED
+    }
+
+    @Schema(name = "PurchaseOrder")
+    static class Order {
+        public Status status;
+        public Map<String, LineItem> lines;
+        public LineItem[] extras;
+        public Optional<Customer> customer;
+    }
+
+    static class LineItem {
+        public Product product;
+        public ArrayList<? extends Product> alternatives;
+        public int quantity;
+    }
+
+    static class Product {
+        public String sku;
+        public Page<Country> availability;
+    }
+
+    @Path("/customers")
+    static class CustomerResource {
+        @GET
+        @Produces("application/json")
+        public Page<Customer> list() {
+            return null;
+        }
+
+        @POST
+        @Produces("application/json")
+        public Order order(LineItem item) {
+            return null;
+        }
+
+        @GET
+        @Path("/products")
+        @Produces("application/json")
+        public List<Product> products() {
+            return null;
+        }
+    }
+
+    static String scan(OpenApiConfig config, Index index) throws IOException {
+        OpenAPI result = new OpenApiAnnotationScanner(config, index).scan();
+        return OpenApiSerializer.serialize(result, Format.JSON);
+    }
+
+    @Test
+    void testParallelScanMatchesSequentialScan() throws IOException {
+        Index index = indexOf(CustomerResource.class, Page.class, Customer.class, Address.class, Country.class,
+                Status.class, Order.class, LineItem.class, Product.class);
+
+        String sequential = scan(emptyConfig(), index);
+        String parallel = scan(dynamicConfig(OpenApiConstants.SMALLRYE_PARALLEL_SCHEMA_SCAN, Boolean.TRUE), index);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void testParallelScanUsesResolvedProperties() {
+        Index index = indexOf(Page.class, Customer.class, Address.class, Country.class, Status.class, Order.class,
+                LineItem.class, Product.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                dynamicConfig(OpenApiConstants.SMALLRYE_PARALLEL_SCHEMA_SCAN, Boolean.TRUE));
+        SchemaRegistry.newInstance(context);
+
+        OpenApiDataObjectScanner scanner = new OpenApiDataObjectScanner(context,
+                Type.create(DotName.createSimple(Customer.class.getName()), Type.Kind.CLASS));
+        scanner.process();
+
+        DataObjectGraph graph = scanner.getGraph();
+        assertNotNull(graph);
+        // Customer, Address, Country, Order, LineItem, Product
+        assertTrue(graph.getLookupCount() >= 6, () -> "Lookups: " + graph.getLookupCount());
+        assertEquals(graph.getLookupCount(), graph.getHitCount());
+    }
+}
@@ -0,0 +1,110 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.BeanParam;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.smallrye.openapi.api.util.ClassLoaderUtil;
+import io.smallrye.openapi.jaxrs.JaxRsParameterProcessor;
+import io.smallrye.openapi.runtime.io.JsonUtil;
+import io.smallrye.openapi.runtime.io.parameter.ParameterReader;
+import io.smallrye.openapi.runtime.io.parameter.ParameterWriter;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.scanner.spi.ParameterTemplate;
+
+/**
+ * Test that the parameters of a bean parameter class used by several resource methods
+ * are resolved once and produce the same parameters for each method.
+ */
+class ParameterTemplateTest extends IndexScannerTestBase {
+
+    static class BaseParams {
+        @HeaderParam("X-Tenant")
+        String tenant;
+    }
+
+    static class PageParams extends BaseParams {
+        @QueryParam("page")
+        @DefaultValue("1")
+        int page;
+
+        @QueryParam("size")
+        @DefaultValue("20")
+        @Parameter(description = "Number of elements of a page")
+        int size;
+    }
+
+    @Path("/items")
+    static class ItemResource {
+        @GET
+        public String list(@BeanParam PageParams page) {
+            return null;
+        }
+
+        @GET
+        @Path("/archived")
+        public String archived(@BeanParam PageParams page) {
+            return null;
+        }
+
+        @GET
+        @Path("/deleted")
+        public String deleted(@BeanParam PageParams page) {
+            return null;
+        }
+    }
+
+    @Test
+    void testBeanParameterResolvedOnce() {
+        Index index = indexOf(ItemResource.class, PageParams.class, BaseParams.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        ClassInfo resourceClass = index.getClassByName(DotName.createSimple(ItemResource.class.getName()));
+        List<String> parameters = new ArrayList<>();
+
+        for (String methodName : new String[] { "list", "archived", "deleted" }) {
+            MethodInfo method = resourceClass.firstMethod(methodName);
+            ResourceParameters params = JaxRsParameterProcessor.process(context, null, resourceClass, method,
+                    annotation -> ParameterReader.readParameter(context, annotation), context.getExtensions());
+            ObjectNode node = JsonUtil.objectNode();
+            ParameterWriter.writeParameterList(node, params.getOperationParameters());
+            parameters.add(node.toString());
+        }
+
+        ParameterTemplate template = context.getParameterTemplates(JaxRsParameterProcessor.class)
+                .get(DotName.createSimple(PageParams.class.getName()));
+
+        assertNotNull(template);
+        assertEquals(3, template.getUseCount());
+        // page, size and the inherited tenant are resolved, @Parameter is read for each method
+        assertEquals(4, template.size());
+        assertEquals(3, template.getResolvedCount());
+
+        assertEquals(parameters.get(0), parameters.get(1));
+        assertEquals(parameters.get(0), parameters.get(2));
+        assertEquals(
+                "{\"parameters\":[{\"name\":\"page\",\"in\":\"query\",\"schema\":{\"format\":\"int32\",\"default\":1,\"type\":\"integer\"}},"
+                        + "{\"name\":\"size\",\"in\":\"query\",\"description\":\"Number of elements of a page\","
+                        + "\"schema\":{\"format\":\"int32\",\"default\":20,\"type\":\"integer\"}},"
+                        + "{\"name\":\"X-Tenant\",\"in\":\"header\",\"schema\":{\"type\":\"string\"}}]}",
+                parameters.get(0));
+    }
+}
@@ -0,0 +1,6 @@
+package test.io.smallrye.openapi.runtime.scanner.delta.shop;
+
+public class Item {
+    public String name;
+    public double price;
+}
@@ -0,0 +1,6 @@
+package test.io.smallrye.openapi.runtime.scanner.delta.warehouse;
+
+public class Item {
+    public String location;
+    public int quantity;
+}
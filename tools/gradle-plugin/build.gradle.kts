@@ -24,6 +24,8 @@ dependencies {
     implementation("io.smallrye:smallrye-open-api-jaxrs:$version")
     implementation("io.smallrye:smallrye-open-api-spring:$version")
     implementation("io.smallrye:smallrye-open-api-vertx:$version")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:${versionJackson}")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:${versionJackson}")
 
     testImplementation("org.junit.jupiter:junit-jupiter:${versionJunit5}")
     testImplementation(gradleTestKit())
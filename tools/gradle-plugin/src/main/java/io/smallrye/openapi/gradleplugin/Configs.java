@@ -22,7 +22,7 @@ import io.smallrye.openapi.api.constants.OpenApiConstants;
 
 /**
  * Bag for all properties exposed by {@link SmallryeOpenApiExtension} and {@link SmallryeOpenApiTask}, latter takes its defaults
- * from {@link SmallryeOpenApiExtension}.
+ * from {@link SmallryeOpenApiExtension}. {@link SmallryeOpenApiWorkAction} takes the values from its parameters.
  */
 class Configs {
 
@@ -56,6 +56,11 @@ class Configs {
     final SetProperty<String> scanProfiles;
     final SetProperty<String> scanExcludeProfiles;
     final Property<String> encoding;
+    final Property<Boolean> writeCbor;
+    final Property<Boolean> writeSmile;
+    final Property<Boolean> splitOutput;
+    final RegularFileProperty baselineDocument;
+    final Property<Boolean> failOnBreakingChanges;
 
     Configs(ObjectFactory objects) {
         configProperties = objects.fileProperty();
@@ -88,9 +93,14 @@ class Configs {
         scanProfiles = objects.setProperty(String.class);
         scanExcludeProfiles = objects.setProperty(String.class);
         encoding = objects.property(String.class).convention(StandardCharsets.UTF_8.name());
+        writeCbor = objects.property(Boolean.class).convention(false);
+        writeSmile = objects.property(Boolean.class).convention(false);
+        splitOutput = objects.property(Boolean.class).convention(false);
+        baselineDocument = objects.fileProperty();
+        failOnBreakingChanges = objects.property(Boolean.class).convention(false);
     }
 
-    Configs(ObjectFactory objects, SmallryeOpenApiExtension ext) {
+    Configs(ObjectFactory objects, SmallryeOpenApiProperties ext) {
         configProperties = objects.fileProperty().convention(ext.getConfigProperties());
         schemaFilename = objects.property(String.class).convention(ext.getSchemaFilename());
         scanDependenciesDisable = objects.property(Boolean.class).convention(ext.getScanDependenciesDisable());
@@ -117,10 +127,16 @@ class Configs {
         infoLicenseName = objects.property(String.class).convention(ext.getInfoLicenseName());
         infoLicenseUrl = objects.property(String.class).convention(ext.getInfoLicenseUrl());
         operationIdStrategy = objects.property(OperationIdStrategy.class).convention(ext.getOperationIdStrategy());
-        duplicateOperationIdBehavior = objects.property(DuplicateOperationIdBehavior.class);
+        duplicateOperationIdBehavior = objects.property(DuplicateOperationIdBehavior.class)
+                .convention(ext.getDuplicateOperationIdBehavior());
         scanProfiles = objects.setProperty(String.class).convention(ext.getScanProfiles());
-        scanExcludeProfiles = objects.setProperty(String.class).convention(ext.scanExcludeProfiles);
-        encoding = objects.property(String.class).convention(ext.encoding);
+        scanExcludeProfiles = objects.setProperty(String.class).convention(ext.getScanExcludeProfiles());
+        encoding = objects.property(String.class).convention(ext.getEncoding());
+        writeCbor = objects.property(Boolean.class).convention(ext.getWriteCbor());
+        writeSmile = objects.property(Boolean.class).convention(ext.getWriteSmile());
+        splitOutput = objects.property(Boolean.class).convention(ext.getSplitOutput());
+        baselineDocument = objects.fileProperty().convention(ext.getBaselineDocument());
+        failOnBreakingChanges = objects.property(Boolean.class).convention(ext.getFailOnBreakingChanges());
     }
 
     OpenApiConfig asOpenApiConfig() {
@@ -2,6 +2,7 @@ package io.smallrye.openapi.gradleplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -16,8 +17,6 @@ import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.gradle.api.artifacts.ResolvedArtifact;
-import org.gradle.api.file.FileCollection;
 import org.gradle.api.logging.Logger;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -34,32 +33,32 @@ public class GradleDependencyIndexCreator {
         this.logger = logger;
     }
 
-    IndexView createIndex(Set<ResolvedArtifact> dependencies, FileCollection classesDirs)
+    IndexView createIndex(Set<File> dependencies, Set<File> classesDirs)
             throws Exception {
 
-        List<Entry<ResolvedArtifact, Duration>> indexDurations = new ArrayList<>();
+        List<Entry<File, Duration>> indexDurations = new ArrayList<>();
         List<IndexView> indexes = new ArrayList<>();
 
-        for (File f : classesDirs.getFiles()) {
+        for (File f : classesDirs) {
             indexes.add(indexModuleClasses(f));
         }
 
-        for (ResolvedArtifact artifact : dependencies) {
+        for (File artifact : dependencies) {
             try {
-                if (artifact.getFile().isDirectory()) {
+                if (artifact.isDirectory()) {
                     // Don't cache local workspace artifacts. Incremental compilation in IDE's would
                     // otherwise use the cached index instead of new one.
                     // Right now, support for incremental compilation inside eclipse is blocked by:
                     // https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
                     // target/classes
                     indexes.add(indexModuleClasses(artifact));
-                } else if (artifact.getFile().getName().endsWith(".jar")) {
+                } else if (artifact.getName().endsWith(".jar")) {
                     IndexView artifactIndex = logger.isDebugEnabled() ? timedIndex(indexDurations, artifact) : index(artifact);
                     indexes.add(artifactIndex);
                 }
             } catch (IOException | ExecutionException e) {
                 logger.error(
-                        "Can't compute index of {}, skipping", artifact.getFile().getAbsolutePath(),
+                        "Can't compute index of {}, skipping", artifact.getAbsolutePath(),
                         e);
             }
         }
@@ -67,29 +66,27 @@ public class GradleDependencyIndexCreator {
         return CompositeIndex.create(indexes);
     }
 
-    private Index index(ResolvedArtifact artifact) throws IOException {
-        Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(), false,
+    private Index index(File artifact) throws IOException {
+        Result result = JarIndexer.createJarIndex(artifact, new Indexer(), false,
                 false, false);
         return result.getIndex();
     }
 
-    private void printIndexDurations(List<Map.Entry<ResolvedArtifact, Duration>> indexDurations) {
+    private void printIndexDurations(List<Map.Entry<File, Duration>> indexDurations) {
         if (logger.isDebugEnabled()) {
             indexDurations.sort(Map.Entry.comparingByValue());
 
             indexDurations.forEach(e -> {
                 if (e.getValue().toMillis() > 25) {
-                    ResolvedArtifact artifact = e.getKey();
-                    logger.debug("Indexing took {} for {}, {}, {}, {}, {}", e.getValue(), artifact.getName(),
-                            artifact.getExtension(), artifact.getClassifier(), artifact.getType(), artifact.getFile());
+                    logger.debug("Indexing took {} for {}", e.getValue(), e.getKey());
                 }
             });
         }
     }
 
     private IndexView timedIndex(
-            List<Map.Entry<ResolvedArtifact, Duration>> indexDurations,
-            ResolvedArtifact artifact) throws Exception {
+            List<Map.Entry<File, Duration>> indexDurations,
+            File artifact) throws Exception {
         LocalDateTime start = LocalDateTime.now();
         IndexView result = index(artifact);
         LocalDateTime end = LocalDateTime.now();
@@ -98,10 +95,6 @@ public class GradleDependencyIndexCreator {
         return result;
     }
 
-    private Index indexModuleClasses(ResolvedArtifact artifact) throws IOException {
-        return indexModuleClasses(artifact.getFile());
-    }
-
     private Index indexModuleClasses(File file) throws IOException {
         Indexer indexer = new Indexer();
 
@@ -112,7 +105,9 @@ public class GradleDependencyIndexCreator {
                 List<Path> classFiles = stream.filter(path -> path.toString().endsWith(".class")).collect(
                         Collectors.toList());
                 for (Path path : classFiles) {
-                    indexer.index(Files.newInputStream(path));
+                    try (InputStream in = Files.newInputStream(path)) {
+                        indexer.index(in);
+                    }
                 }
             }
         }
@@ -175,4 +175,29 @@ public class SmallryeOpenApiExtension extends Configs implements SmallryeOpenApi
     public Property<String> getEncoding() {
         return encoding;
     }
+
+    @Override
+    public Property<Boolean> getWriteCbor() {
+        return writeCbor;
+    }
+
+    @Override
+    public Property<Boolean> getWriteSmile() {
+        return writeSmile;
+    }
+
+    @Override
+    public Property<Boolean> getSplitOutput() {
+        return splitOutput;
+    }
+
+    @Override
+    public RegularFileProperty getBaselineDocument() {
+        return baselineDocument;
+    }
+
+    @Override
+    public Property<Boolean> getFailOnBreakingChanges() {
+        return failOnBreakingChanges;
+    }
 }
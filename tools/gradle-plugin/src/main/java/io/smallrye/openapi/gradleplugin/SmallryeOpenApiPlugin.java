@@ -7,7 +7,6 @@ import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.internal.jvm.ClassDirectoryBinaryNamingScheme;
 import org.gradle.api.plugins.JavaPluginExtension;
-import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.TaskProvider;
 import org.gradle.jvm.tasks.Jar;
@@ -46,6 +45,10 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
         NamedDomainObjectProvider<Configuration> configProvider = project.getConfigurations()
                 .named(sourceSet.getCompileClasspathConfigurationName());
 
+        ConfigurableFileCollection classpath = project.getObjects()
+                .fileCollection();
+        classpath.from(configProvider);
+
         ConfigurableFileCollection resourcesSrcDirs = project.getObjects()
                 .fileCollection();
         resourcesSrcDirs.from(sourceSet.getResources().getSrcDirs());
@@ -55,7 +58,7 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                         genTaskName,
                         SmallryeOpenApiTask.class,
                         ext,
-                        configProvider,
+                        classpath,
                         resourcesSrcDirs,
                         sourceSet.getOutput().getClassesDirs());
         task
@@ -63,15 +66,11 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                     t.setGroup("build");
                     t.setDescription("Smallrye OpenAPI generator");
                     t.dependsOn(sourceSet.getCompileJavaTaskName());
-                    t.getInputs().files(sourceSet.getAllSource().getSourceDirectories());
-                    t.getInputs().files(sourceSet.getOutput().getDirs()).withPathSensitivity(
-                            PathSensitivity.RELATIVE);
-                    t.getInputs().files(configProvider).withPathSensitivity(PathSensitivity.RELATIVE);
                 });
 
         project.getTasks().named(sourceSet.getJarTaskName(), Jar.class)
                 // Adds the generated YAML + JSON files
-                .configure(t -> t.from(project.getTasks().getByName(genTaskName)));
+                .configure(t -> t.from(task));
 
         project.getConfigurations().create(CONFIG_NAME, c -> {
             c.setCanBeConsumed(true);
@@ -144,4 +144,34 @@ public interface SmallryeOpenApiProperties {
      * Output encoding for openapi document.
      */
     Property<String> getEncoding();
+
+    /**
+     * Also write the schema in the binary CBOR format, which is smaller and faster to load
+     * than the JSON and YAML documents.
+     */
+    Property<Boolean> getWriteCbor();
+
+    /**
+     * Also write the schema in the binary Smile format, the binary form of JSON defined by Jackson.
+     */
+    Property<Boolean> getWriteSmile();
+
+    /**
+     * Also write the schema split into several files to the {@code split} sub-directory of the
+     * output directory: a root file, one file of paths per tag and one file per component schema,
+     * linked by relative references, and a manifest listing the files with their digests.
+     */
+    Property<Boolean> getSplitOutput();
+
+    /**
+     * Previously published version of the schema (JSON, YAML, CBOR or Smile) to compare the generated
+     * schema with. The differences are logged, changes that may break existing clients as warnings.
+     */
+    RegularFileProperty getBaselineDocument();
+
+    /**
+     * Fail the build when the generated schema contains changes that may break clients written
+     * against the {@link #getBaselineDocument() baseline document}.
+     */
+    Property<Boolean> getFailOnBreakingChanges();
 }
@@ -1,34 +1,9 @@
 package io.smallrye.openapi.gradleplugin;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.nio.charset.Charset;
-import java.nio.charset.IllegalCharsetNameException;
-import java.nio.charset.UnsupportedCharsetException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-
 import javax.inject.Inject;
 
-import org.eclipse.microprofile.openapi.models.Components;
-import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.gradle.api.DefaultTask;
-import org.gradle.api.GradleException;
-import org.gradle.api.NamedDomainObjectProvider;
-import org.gradle.api.artifacts.Configuration;
-import org.gradle.api.artifacts.ResolvedArtifact;
+import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.file.ProjectLayout;
@@ -39,44 +14,41 @@ import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.SetProperty;
 import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
-import org.jboss.jandex.IndexView;
+import org.gradle.workers.WorkerExecutor;
 
-import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiConfig.DuplicateOperationIdBehavior;
 import io.smallrye.openapi.api.OpenApiConfig.OperationIdStrategy;
-import io.smallrye.openapi.api.OpenApiDocument;
-import io.smallrye.openapi.runtime.OpenApiProcessor;
-import io.smallrye.openapi.runtime.OpenApiStaticFile;
-import io.smallrye.openapi.runtime.io.Format;
-import io.smallrye.openapi.runtime.io.OpenApiSerializer;
-import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
 /**
  * Schema generation task implementation.
  *
  * <p>
  * See {@link SmallryeOpenApiProperties} for information about the individual options.
+ *
+ * <p>
+ * All inputs of the task are declared, so its outputs can be restored from the build cache, and it is
+ * compatible with the configuration cache. The schema is generated by {@link SmallryeOpenApiWorkAction}
+ * in an isolated class loader.
  */
 @CacheableTask
 public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiProperties {
 
-    private final NamedDomainObjectProvider<Configuration> configProvider;
-    private final FileCollection resourcesSrcDirs;
-    private final FileCollection classesDirs;
-
-    private static final String META_INF_OPENAPI_YAML = "META-INF/openapi.yaml";
-    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YAML = "WEB-INF/classes/META-INF/openapi.yaml";
-    private static final String META_INF_OPENAPI_YML = "META-INF/openapi.yml";
-    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YML = "WEB-INF/classes/META-INF/openapi.yml";
-    private static final String META_INF_OPENAPI_JSON = "META-INF/openapi.json";
-    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_JSON = "WEB-INF/classes/META-INF/openapi.json";
+    private final WorkerExecutor workerExecutor;
+    private final ConfigurableFileCollection classpath;
+    private final ConfigurableFileCollection resourcesSrcDirs;
+    private final ConfigurableFileCollection classesDirs;
+    private final FileCollection staticFiles;
 
     /**
      * Directory where to output the schemas. If no path is specified, the schema will be printed to
@@ -91,12 +63,16 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
             SmallryeOpenApiExtension ext,
             ObjectFactory objects,
             ProjectLayout layout,
-            NamedDomainObjectProvider<Configuration> configProvider,
+            WorkerExecutor workerExecutor,
+            FileCollection classpath,
             FileCollection resourcesSrcDirs,
             FileCollection classesDirs) {
-        this.configProvider = configProvider;
-        this.resourcesSrcDirs = resourcesSrcDirs;
-        this.classesDirs = classesDirs;
+        this.workerExecutor = workerExecutor;
+        this.classpath = objects.fileCollection().from(classpath);
+        this.resourcesSrcDirs = objects.fileCollection().from(resourcesSrcDirs);
+        this.classesDirs = objects.fileCollection().from(classesDirs);
+        this.staticFiles = this.resourcesSrcDirs.getAsFileTree()
+                .matching(filter -> filter.include(SmallryeOpenApiWorkAction.STATIC_FILES));
 
         outputDirectory = objects
                 .directoryProperty()
@@ -107,239 +83,86 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
 
     @TaskAction
     public void generate() {
-        try {
-            clearOutput();
+        workerExecutor.classLoaderIsolation().submit(SmallryeOpenApiWorkAction.class, parameters -> {
+            parameters.getClasspath().from(classpath);
+            parameters.getClassesDirs().from(classesDirs);
+            parameters.getResourcesSrcDirs().from(resourcesSrcDirs);
+            parameters.getOutputDirectory().set(outputDirectory);
+            copyProperties(parameters);
+        });
+    }
+
+    private void copyProperties(SmallryeOpenApiProperties target) {
+        target.getConfigProperties().set(getConfigProperties());
+        target.getSchemaFilename().set(getSchemaFilename());
+        target.getScanDependenciesDisable().set(getScanDependenciesDisable());
+        target.getModelReader().set(getModelReader());
+        target.getFilter().set(getFilter());
+        target.getScanDisabled().set(getScanDisabled());
+        target.getScanPackages().set(getScanPackages());
+        target.getScanClasses().set(getScanClasses());
+        target.getScanExcludePackages().set(getScanExcludePackages());
+        target.getScanExcludeClasses().set(getScanExcludeClasses());
+        target.getServers().set(getServers());
+        target.getPathServers().set(getPathServers());
+        target.getOperationServers().set(getOperationServers());
+        target.getCustomSchemaRegistryClass().set(getCustomSchemaRegistryClass());
+        target.getApplicationPathDisable().set(getApplicationPathDisable());
+        target.getOpenApiVersion().set(getOpenApiVersion());
+        target.getInfoTitle().set(getInfoTitle());
+        target.getInfoVersion().set(getInfoVersion());
+        target.getInfoDescription().set(getInfoDescription());
+        target.getInfoTermsOfService().set(getInfoTermsOfService());
+        target.getInfoContactEmail().set(getInfoContactEmail());
+        target.getInfoContactName().set(getInfoContactName());
+        target.getInfoContactUrl().set(getInfoContactUrl());
+        target.getInfoLicenseName().set(getInfoLicenseName());
+        target.getInfoLicenseUrl().set(getInfoLicenseUrl());
+        target.getOperationIdStrategy().set(getOperationIdStrategy());
+        target.getDuplicateOperationIdBehavior().set(getDuplicateOperationIdBehavior());
+        target.getScanProfiles().set(getScanProfiles());
+        target.getScanExcludeProfiles().set(getScanExcludeProfiles());
+        target.getEncoding().set(getEncoding());
+        target.getWriteCbor().set(getWriteCbor());
+        target.getWriteSmile().set(getWriteSmile());
+        target.getSplitOutput().set(getSplitOutput());
+        target.getBaselineDocument().set(getBaselineDocument());
+        target.getFailOnBreakingChanges().set(getFailOnBreakingChanges());
+    }
 
-            Configuration config = configProvider.get();
+    /**
+     * Compile class path of the project. Its jars are scanned unless {@code scanDependenciesDisable} is set,
+     * it is also used to load the model reader and the filter.
+     */
+    @Classpath
+    public ConfigurableFileCollection getClasspath() {
+        return classpath;
+    }
 
-            Set<ResolvedArtifact> dependencies = properties.scanDependenciesDisable.get().booleanValue()
-                    ? Collections.emptySet()
-                    : config.getResolvedConfiguration().getResolvedArtifacts();
+    /**
+     * Class directories of the project to scan.
+     */
+    @Classpath
+    public ConfigurableFileCollection getClassesDirs() {
+        return classesDirs;
+    }
 
-            IndexView index = new GradleDependencyIndexCreator(getLogger()).createIndex(dependencies,
-                    classesDirs);
-            OpenApiDocument schema = generateSchema(index, resourcesSrcDirs, config);
-            write(schema);
-        } catch (Exception ex) {
-            throw new GradleException(
-                    "Could not generate OpenAPI Schema",
-                    ex); // TODO allow failOnError = false ?
-        }
+    /**
+     * Resources directories of the project, the static file is looked up in these.
+     */
+    @Internal
+    public ConfigurableFileCollection getResourcesSrcDirs() {
+        return resourcesSrcDirs;
     }
 
-    private OpenApiDocument generateSchema(
-            IndexView index,
-            FileCollection resourcesSrcDirs,
-            FileCollection config) throws IOException {
-        OpenApiConfig openApiConfig = properties.asOpenApiConfig();
-        ClassLoader classLoader = getClassLoader(config);
-
-        OpenAPI staticModel = generateStaticModel(openApiConfig, resourcesSrcDirs);
-        OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig, SmallryeOpenApiTask.class.getClassLoader());
-        OpenAPI readerModel = OpenApiProcessor.modelFromReader(openApiConfig, classLoader);
-
-        OpenApiDocument document = OpenApiDocument.INSTANCE;
-
-        document.reset();
-        document.config(openApiConfig);
-
-        if (annotationModel != null) {
-            addingModelDebug("annotations", annotationModel);
-            document.modelFromAnnotations(annotationModel);
-        }
-        if (readerModel != null) {
-            addingModelDebug("reader", readerModel);
-            document.modelFromReader(readerModel);
-        }
-        if (staticModel != null) {
-            addingModelDebug("static", staticModel);
-            document.modelFromStaticFile(staticModel);
-        }
-        document.filter(OpenApiProcessor.getFilter(openApiConfig, classLoader));
-        document.initialize();
-
-        return document;
-    }
-
-    private void addingModelDebug(String from, OpenAPI model) {
-        getLogger().debug("Adding model from {}...", from);
-        nullSafeMap("callbacks", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getCallbacks));
-        nullSafeMap("examples", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getExamples));
-        nullSafeMap("headers", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getHeaders));
-        nullSafeMap("links", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getLinks));
-        nullSafeMap("parameters", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getParameters));
-        nullSafeMap("request bodies", from,
-                java.util.Optional.ofNullable(model.getComponents()).map(Components::getRequestBodies));
-        nullSafeMap("responses", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getResponses));
-        nullSafeMap("schemas", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getSchemas));
-        nullSafeMap("security schemes", from,
-                java.util.Optional.ofNullable(model.getComponents()).map(Components::getSecuritySchemes));
-        nullSafeColl("servers", from, java.util.Optional.ofNullable(model.getServers()));
-        nullSafeMap("path items", from, java.util.Optional.ofNullable(model.getPaths()).map(
-                org.eclipse.microprofile.openapi.models.Paths::getPathItems));
-        nullSafeColl("security", from, java.util.Optional.ofNullable(model.getSecurity()));
-        nullSafeColl("tags", from, java.util.Optional.ofNullable(model.getTags()));
-        nullSafeMap("extensions", from, java.util.Optional.ofNullable(model.getExtensions()));
-    }
-
-    private void nullSafeMap(String what, String from, java.util.Optional<Map<?, ?>> collection) {
-        nullSafe(what, from, collection.map(Map::size));
-    }
-
-    private void nullSafeColl(String what, String from, java.util.Optional<Collection<?>> collection) {
-        nullSafe(what, from, collection.map(Collection::size));
-    }
-
-    private void nullSafe(String what, String from, java.util.Optional<Integer> collection) {
-        getLogger().debug("Adding {} {} from {}", collection.map(Object::toString).orElse("<no>"), what, from);
-    }
-
-    private ClassLoader getClassLoader(FileCollection config) throws MalformedURLException {
-        Set<URL> urls = new HashSet<>();
-
-        for (File dependency : config.getFiles()) {
-            getLogger().debug("Adding {} to annotation scanner class loader", dependency);
-            urls.add(dependency.toURI().toURL());
-        }
-
-        return URLClassLoader.newInstance(
-                urls.toArray(new URL[0]),
-                Thread.currentThread().getContextClassLoader());
-    }
-
-    private OpenAPI generateAnnotationModel(IndexView indexView, OpenApiConfig openApiConfig,
-            ClassLoader classLoader) {
-        OpenApiAnnotationScanner openApiAnnotationScanner = new OpenApiAnnotationScanner(openApiConfig,
-                classLoader, indexView);
-        return openApiAnnotationScanner.scan();
-    }
-
-    private OpenAPI generateStaticModel(OpenApiConfig openApiConfig, FileCollection resourcesSrcDirs) throws IOException {
-        Path staticFile = getStaticFile(resourcesSrcDirs);
-        if (staticFile != null) {
-            try (InputStream is = Files.newInputStream(staticFile)) {
-                try (OpenApiStaticFile openApiStaticFile = new OpenApiStaticFile(is,
-                        getFormat(staticFile))) {
-                    return OpenApiProcessor.modelFromStaticFile(openApiConfig, openApiStaticFile);
-                }
-            }
-        }
-        return null;
-    }
-
-    private Path getStaticFile(FileCollection resourcesSrcDirs) {
-        Path staticFile = resourcesSrcDirs.getFiles()
-                .stream()
-                .map(this::getStaticFile)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
-        return staticFile;
-    }
-
-    private Path getStaticFile(File dir) {
-        getLogger().debug("Checking for static file in {}", dir);
-        Path classesPath = dir.toPath();
-        if (Files.exists(classesPath)) {
-            Path resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_YAML);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_YAML);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_YML);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_YML);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_JSON);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_JSON);
-            if (Files.exists(resourcePath)) {
-                return resourcePath;
-            }
-        }
-        return null;
-    }
-
-    private Format getFormat(Path path) {
-        if (path.endsWith(".json")) {
-            return Format.JSON;
-        }
-        return Format.YAML;
-    }
-
-    private void clearOutput() {
-        File outputDir = outputDirectory.get().getAsFile();
-        deleteRecursively(outputDir);
-    }
-
-    private void deleteRecursively(File file) {
-        if (file == null) {
-            return;
-        }
-        if (file.isDirectory()) {
-            File[] contents = file.listFiles();
-            if (contents != null) {
-                for (File f : contents) {
-                    deleteRecursively(f);
-                }
-            }
-        }
-        file.delete();
-    }
-
-    private void write(OpenApiDocument schema) throws GradleException {
-        try {
-            String yaml = OpenApiSerializer.serialize(schema.get(), Format.YAML);
-            String json = OpenApiSerializer.serialize(schema.get(), Format.JSON);
-            Path directory = outputDirectory.get().getAsFile().toPath();
-
-            if (!Files.exists(directory)) {
-                Files.createDirectories(directory);
-            }
-
-            Charset charset;
-            try {
-                charset = Charset.forName(properties.encoding.get().trim());
-            } catch (IllegalCharsetNameException e) {
-                throw new GradleException("encoding parameter does not define a legal charset name", e);
-            } catch (UnsupportedCharsetException e) {
-                throw new GradleException("encoding parameter does not define a supported charset", e);
-            }
-
-            writeSchemaFile(directory, "yaml", yaml.getBytes(charset));
-
-            writeSchemaFile(directory, "json", json.getBytes(charset));
-
-            getLogger().info("Wrote the schema files to {}",
-                    outputDirectory.get().getAsFile().getAbsolutePath());
-        } catch (IOException e) {
-            throw new GradleException("Can't write the result", e);
-        }
-    }
-
-    private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
-        Path file = Paths.get(directory.toString(), properties.schemaFilename.get() + "." + type);
-        if (!Files.exists(file.getParent())) {
-            Files.createDirectories(file.getParent());
-        }
-        if (!Files.exists(file)) {
-            Files.createFile(file);
-        }
-        Files.write(
-                file,
-                contents,
-                StandardOpenOption.WRITE,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+    /**
+     * Static files in the resources directories, the only resources affecting the generated schema.
+     */
+    @InputFiles
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public FileCollection getStaticFiles() {
+        return staticFiles;
     }
 
     /**
@@ -557,4 +380,40 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
     public Property<String> getEncoding() {
         return properties.encoding;
     }
+
+    @Input
+    @Optional
+    @Override
+    public Property<Boolean> getWriteCbor() {
+        return properties.writeCbor;
+    }
+
+    @Input
+    @Optional
+    @Override
+    public Property<Boolean> getWriteSmile() {
+        return properties.writeSmile;
+    }
+
+    @Input
+    @Optional
+    @Override
+    public Property<Boolean> getSplitOutput() {
+        return properties.splitOutput;
+    }
+
+    @InputFile
+    @PathSensitive(PathSensitivity.NONE)
+    @Optional
+    @Override
+    public RegularFileProperty getBaselineDocument() {
+        return properties.baselineDocument;
+    }
+
+    @Input
+    @Optional
+    @Override
+    public Property<Boolean> getFailOnBreakingChanges() {
+        return properties.failOnBreakingChanges;
+    }
 }
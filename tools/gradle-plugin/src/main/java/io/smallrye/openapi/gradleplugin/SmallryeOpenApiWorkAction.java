@@ -0,0 +1,401 @@
+package io.smallrye.openapi.gradleplugin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiDocument;
+import io.smallrye.openapi.api.util.ModelDiff;
+import io.smallrye.openapi.runtime.OpenApiProcessor;
+import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.BinaryFormat;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+
+/**
+ * Generates the schema of a {@link SmallryeOpenApiTask} through the Gradle Worker API.
+ *
+ * <p>
+ * The action only depends on its {@link Parameters}, so it runs in a class loader isolated from
+ * the build script and the schemas of several projects are generated in parallel.
+ */
+public abstract class SmallryeOpenApiWorkAction implements WorkAction<SmallryeOpenApiWorkAction.Parameters> {
+
+    private static final Logger LOGGER = Logging.getLogger(SmallryeOpenApiWorkAction.class);
+
+    private static final String SPLIT_DIRECTORY = "split";
+
+    private static final String META_INF_OPENAPI_YAML = "META-INF/openapi.yaml";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YAML = "WEB-INF/classes/META-INF/openapi.yaml";
+    private static final String META_INF_OPENAPI_YML = "META-INF/openapi.yml";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YML = "WEB-INF/classes/META-INF/openapi.yml";
+    private static final String META_INF_OPENAPI_JSON = "META-INF/openapi.json";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_JSON = "WEB-INF/classes/META-INF/openapi.json";
+    private static final String META_INF_OPENAPI_CBOR = "META-INF/openapi.cbor";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_CBOR = "WEB-INF/classes/META-INF/openapi.cbor";
+    private static final String META_INF_OPENAPI_SMILE = "META-INF/openapi.smile";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_SMILE = "WEB-INF/classes/META-INF/openapi.smile";
+
+    /**
+     * Names of the static files, in the order they are looked up in each resources directory.
+     */
+    static final String[] STATIC_FILES = {
+            META_INF_OPENAPI_YAML,
+            WEB_INF_CLASSES_META_INF_OPENAPI_YAML,
+            META_INF_OPENAPI_YML,
+            WEB_INF_CLASSES_META_INF_OPENAPI_YML,
+            META_INF_OPENAPI_JSON,
+            WEB_INF_CLASSES_META_INF_OPENAPI_JSON,
+            META_INF_OPENAPI_CBOR,
+            WEB_INF_CLASSES_META_INF_OPENAPI_CBOR,
+            META_INF_OPENAPI_SMILE,
+            WEB_INF_CLASSES_META_INF_OPENAPI_SMILE
+    };
+
+    /**
+     * Parameters of the work action, the properties of the task plus the resolved files it reads and writes.
+     */
+    public interface Parameters extends WorkParameters, SmallryeOpenApiProperties {
+
+        /**
+         * Compile class path of the project, used to load the model reader and filter.
+         */
+        ConfigurableFileCollection getClasspath();
+
+        /**
+         * Class directories of the project, always scanned.
+         */
+        ConfigurableFileCollection getClassesDirs();
+
+        /**
+         * Resources directories of the project, searched for a static file.
+         */
+        ConfigurableFileCollection getResourcesSrcDirs();
+
+        DirectoryProperty getOutputDirectory();
+    }
+
+    @Inject
+    public abstract ObjectFactory getObjects();
+
+    @Override
+    public void execute() {
+        Parameters parameters = getParameters();
+        Configs properties = new Configs(getObjects(), parameters);
+
+        try {
+            File outputDirectory = parameters.getOutputDirectory().get().getAsFile();
+            deleteRecursively(outputDirectory);
+
+            Set<File> classpath = parameters.getClasspath().getFiles();
+            Set<File> dependencies = properties.scanDependenciesDisable.get().booleanValue()
+                    ? Collections.emptySet()
+                    : classpath;
+
+            IndexView index = new GradleDependencyIndexCreator(LOGGER).createIndex(dependencies,
+                    parameters.getClassesDirs().getFiles());
+            OpenApiDocument schema = generateSchema(properties, index, parameters.getResourcesSrcDirs().getFiles(),
+                    classpath);
+            write(properties, schema, outputDirectory.toPath());
+
+            if (properties.baselineDocument.isPresent()) {
+                compareWithBaseline(properties, schema.get());
+            }
+        } catch (GradleException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new GradleException(
+                    "Could not generate OpenAPI Schema",
+                    ex); // TODO allow failOnError = false ?
+        }
+    }
+
+    private OpenApiDocument generateSchema(
+            Configs properties,
+            IndexView index,
+            Set<File> resourcesSrcDirs,
+            Set<File> classpath) throws IOException {
+        OpenApiConfig openApiConfig = properties.asOpenApiConfig();
+        ClassLoader classLoader = getClassLoader(classpath);
+
+        OpenAPI staticModel = generateStaticModel(openApiConfig, resourcesSrcDirs);
+        OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig,
+                SmallryeOpenApiWorkAction.class.getClassLoader());
+        OpenAPI readerModel = OpenApiProcessor.modelFromReader(openApiConfig, classLoader);
+
+        // Workers of several projects may share the isolated class loader, so each uses its own document
+        OpenApiDocument document = OpenApiDocument.newInstance();
+
+        document.config(openApiConfig);
+
+        if (annotationModel != null) {
+            addingModelDebug("annotations", annotationModel);
+            document.modelFromAnnotations(annotationModel);
+        }
+        if (readerModel != null) {
+            addingModelDebug("reader", readerModel);
+            document.modelFromReader(readerModel);
+        }
+        if (staticModel != null) {
+            addingModelDebug("static", staticModel);
+            document.modelFromStaticFile(staticModel);
+        }
+        document.filter(OpenApiProcessor.getFilter(openApiConfig, classLoader));
+        document.initialize();
+
+        return document;
+    }
+
+    private void addingModelDebug(String from, OpenAPI model) {
+        LOGGER.debug("Adding model from {}...", from);
+        nullSafeMap("callbacks", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getCallbacks));
+        nullSafeMap("examples", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getExamples));
+        nullSafeMap("headers", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getHeaders));
+        nullSafeMap("links", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getLinks));
+        nullSafeMap("parameters", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getParameters));
+        nullSafeMap("request bodies", from,
+                java.util.Optional.ofNullable(model.getComponents()).map(Components::getRequestBodies));
+        nullSafeMap("responses", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getResponses));
+        nullSafeMap("schemas", from, java.util.Optional.ofNullable(model.getComponents()).map(Components::getSchemas));
+        nullSafeMap("security schemes", from,
+                java.util.Optional.ofNullable(model.getComponents()).map(Components::getSecuritySchemes));
+        nullSafeColl("servers", from, java.util.Optional.ofNullable(model.getServers()));
+        nullSafeMap("path items", from, java.util.Optional.ofNullable(model.getPaths()).map(
+                org.eclipse.microprofile.openapi.models.Paths::getPathItems));
+        nullSafeColl("security", from, java.util.Optional.ofNullable(model.getSecurity()));
+        nullSafeColl("tags", from, java.util.Optional.ofNullable(model.getTags()));
+        nullSafeMap("extensions", from, java.util.Optional.ofNullable(model.getExtensions()));
+    }
+
+    private void nullSafeMap(String what, String from, java.util.Optional<Map<?, ?>> collection) {
+        nullSafe(what, from, collection.map(Map::size));
+    }
+
+    private void nullSafeColl(String what, String from, java.util.Optional<Collection<?>> collection) {
+        nullSafe(what, from, collection.map(Collection::size));
+    }
+
+    private void nullSafe(String what, String from, java.util.Optional<Integer> collection) {
+        LOGGER.debug("Adding {} {} from {}", collection.map(Object::toString).orElse("<no>"), what, from);
+    }
+
+    private ClassLoader getClassLoader(Set<File> classpath) throws MalformedURLException {
+        Set<URL> urls = new LinkedHashSet<>();
+
+        for (File dependency : classpath) {
+            LOGGER.debug("Adding {} to annotation scanner class loader", dependency);
+            urls.add(dependency.toURI().toURL());
+        }
+
+        return URLClassLoader.newInstance(
+                urls.toArray(new URL[0]),
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    private OpenAPI generateAnnotationModel(IndexView indexView, OpenApiConfig openApiConfig,
+            ClassLoader classLoader) {
+        OpenApiAnnotationScanner openApiAnnotationScanner = new OpenApiAnnotationScanner(openApiConfig,
+                classLoader, indexView);
+        return openApiAnnotationScanner.scan();
+    }
+
+    private OpenAPI generateStaticModel(OpenApiConfig openApiConfig, Set<File> resourcesSrcDirs) throws IOException {
+        Path staticFile = getStaticFile(resourcesSrcDirs);
+        if (staticFile != null) {
+            try (InputStream is = Files.newInputStream(staticFile)) {
+                try (OpenApiStaticFile openApiStaticFile = newStaticFile(is, staticFile)) {
+                    return OpenApiProcessor.modelFromStaticFile(openApiConfig, openApiStaticFile);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Path getStaticFile(Set<File> resourcesSrcDirs) {
+        return resourcesSrcDirs
+                .stream()
+                .map(this::getStaticFile)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Path getStaticFile(File dir) {
+        LOGGER.debug("Checking for static file in {}", dir);
+        Path classesPath = dir.toPath();
+        if (Files.exists(classesPath)) {
+            for (String name : STATIC_FILES) {
+                Path resourcePath = Paths.get(classesPath.toString(), name);
+                if (Files.exists(resourcePath)) {
+                    return resourcePath;
+                }
+            }
+        }
+        return null;
+    }
+
+    private OpenApiStaticFile newStaticFile(InputStream is, Path path) {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            return new OpenApiStaticFile(is, Format.JSON);
+        }
+        if (fileName.endsWith(".cbor")) {
+            return new OpenApiStaticFile(is, BinaryFormat.CBOR);
+        }
+        if (fileName.endsWith(".smile")) {
+            return new OpenApiStaticFile(is, BinaryFormat.SMILE);
+        }
+        return new OpenApiStaticFile(is, Format.YAML);
+    }
+
+    private void deleteRecursively(File file) {
+        if (file == null) {
+            return;
+        }
+        if (file.isDirectory()) {
+            File[] contents = file.listFiles();
+            if (contents != null) {
+                for (File f : contents) {
+                    deleteRecursively(f);
+                }
+            }
+        }
+        file.delete();
+    }
+
+    private void write(Configs properties, OpenApiDocument schema, Path directory) throws GradleException {
+        try {
+            String yaml = OpenApiSerializer.serialize(schema.get(), Format.YAML);
+            String json = OpenApiSerializer.serialize(schema.get(), Format.JSON);
+
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
+            }
+
+            Charset charset;
+            try {
+                charset = Charset.forName(properties.encoding.get().trim());
+            } catch (IllegalCharsetNameException e) {
+                throw new GradleException("encoding parameter does not define a legal charset name", e);
+            } catch (UnsupportedCharsetException e) {
+                throw new GradleException("encoding parameter does not define a supported charset", e);
+            }
+
+            String schemaFilename = properties.schemaFilename.get();
+
+            writeSchemaFile(directory, schemaFilename, "yaml", yaml.getBytes(charset));
+
+            writeSchemaFile(directory, schemaFilename, "json", json.getBytes(charset));
+
+            if (properties.writeCbor.get().booleanValue()) {
+                ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+                OpenApiSerializer.serialize(schema.get(), BinaryFormat.CBOR, cbor);
+                writeSchemaFile(directory, schemaFilename, "cbor", cbor.toByteArray());
+            }
+
+            if (properties.writeSmile.get().booleanValue()) {
+                ByteArrayOutputStream smile = new ByteArrayOutputStream();
+                OpenApiSerializer.serialize(schema.get(), BinaryFormat.SMILE, smile);
+                writeSchemaFile(directory, schemaFilename, "smile", smile.toByteArray());
+            }
+
+            if (properties.splitOutput.get().booleanValue()) {
+                writeSplitFiles(schema.get(), directory.resolve(SPLIT_DIRECTORY), schemaFilename, charset);
+            }
+
+            LOGGER.info("Wrote the schema files to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            throw new GradleException("Can't write the result", e);
+        }
+    }
+
+    private void compareWithBaseline(Configs properties, OpenAPI model) throws GradleException {
+        File baselineDocument = properties.baselineDocument.get().getAsFile();
+        OpenAPI baseline;
+
+        try {
+            baseline = OpenApiParser.parse(baselineDocument.toURI().toURL());
+        } catch (IOException e) {
+            throw new GradleException("Could not read baseline OpenAPI Schema " + baselineDocument, e);
+        }
+
+        ModelDiff diff = ModelDiff.compare(baseline, model);
+
+        for (ModelDiff.Change change : diff.getChanges()) {
+            if (change.isBreaking()) {
+                LOGGER.warn("Breaking change: {} {}", change.getKind(), change.getPointer());
+            } else {
+                LOGGER.info("Change: {} {}", change.getKind(), change.getPointer());
+            }
+        }
+
+        if (diff.isBreaking() && properties.failOnBreakingChanges.get().booleanValue()) {
+            throw new GradleException(diff.getBreakingChanges().size()
+                    + " breaking change(s) of the OpenAPI Schema compared to " + baselineDocument);
+        }
+    }
+
+    private void writeSplitFiles(OpenAPI model, Path directory, String schemaFilename, Charset charset)
+            throws IOException {
+        for (Format format : new Format[] { Format.YAML, Format.JSON }) {
+            for (Map.Entry<String, String> document : OpenApiSerializer.serializeSplit(model, format, schemaFilename)
+                    .entrySet()) {
+                Path file = directory.resolve(document.getKey());
+                Files.createDirectories(file.getParent());
+                Files.write(
+                        file,
+                        document.getValue().getBytes(charset),
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+            }
+        }
+    }
+
+    private void writeSchemaFile(Path directory, String schemaFilename, String type, byte[] contents) throws IOException {
+        Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
+        if (!Files.exists(file.getParent())) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(
+                file,
+                contents,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+}
@@ -17,7 +17,9 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.testkit.runner.BuildResult;
 import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -151,7 +153,48 @@ class SmallryeOpenApiPluginTest {
         smokeProject(buildDir, true, "quarkusBuild");
     }
 
+    @Test
+    void configurationAndBuildCache(@TempDir Path buildDir) throws Exception {
+        writeProject(buildDir, false);
+        // Keep the build cache of the test project out of the user's home
+        Files.write(buildDir.resolve("settings.gradle"),
+                asList("rootProject.name = 'smoke-test-project'",
+                        "",
+                        "buildCache {",
+                        "    local {",
+                        "        directory = new File(rootDir, 'build-cache')",
+                        "    }",
+                        "}"));
+        String task = ":" + SmallryeOpenApiPlugin.TASK_NAME;
+
+        BuildResult result = runCachedGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME);
+        assertThat(result.task(task).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(result.getOutput()).contains("Configuration cache entry stored.");
+        checkGeneratedFiles(buildDir);
+
+        result = runCachedGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME);
+        assertThat(result.task(task).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+        assertThat(result.getOutput()).contains("Reusing configuration cache.");
+
+        runCachedGradleTask(buildDir, "clean");
+
+        result = runCachedGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME);
+        assertThat(result.task(task).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+        assertThat(result.getOutput()).contains("Reusing configuration cache.");
+        checkGeneratedFiles(buildDir);
+    }
+
     void smokeProject(Path buildDir, boolean withQuarkus, String taskName) throws Exception {
+        writeProject(buildDir, withQuarkus);
+
+        runGradleTask(buildDir, taskName);
+
+        checkGeneratedFiles(buildDir);
+
+        checkJarContents(buildDir);
+    }
+
+    private static void writeProject(Path buildDir, boolean withQuarkus) throws IOException {
         Files.write(buildDir.resolve("settings.gradle"),
                 singletonList("rootProject.name = 'smoke-test-project'"));
 
@@ -217,12 +260,6 @@ class SmallryeOpenApiPluginTest {
                         "        return \"foo\";",
                         "    }",
                         "}"));
-
-        runGradleTask(buildDir, taskName);
-
-        checkGeneratedFiles(buildDir);
-
-        checkJarContents(buildDir);
     }
 
     private static void checkJarContents(Path buildDir) throws Exception {
@@ -281,4 +318,16 @@ class SmallryeOpenApiPluginTest {
                 .withDebug(true)
                 .forwardOutput().build();
     }
+
+    private static BuildResult runCachedGradleTask(Path buildDir, String taskName) {
+        return GradleRunner.create()
+                .withPluginClasspath()
+                .withProjectDir(buildDir.toFile())
+                .withArguments(
+                        "--configuration-cache",
+                        "--build-cache",
+                        "--stacktrace",
+                        taskName)
+                .forwardOutput().build();
+    }
 }
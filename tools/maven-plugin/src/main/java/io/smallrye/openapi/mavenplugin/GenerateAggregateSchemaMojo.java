@@ -0,0 +1,127 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.openapi.api.util.MergeUtil;
+
+/**
+ * Generates the schemas of all modules of the reactor in a single execution and
+ * merges them into one schema.
+ *
+ * Each dependency jar is indexed only once for all modules, the class directories of
+ * modules used by other modules are indexed once per execution, and the modules are
+ * scanned concurrently. The merged schema is written to the <code>outputDirectory</code>,
+ * the schema of each module to a sub-directory named after the module's artifactId.
+ * Modules with packaging <code>pom</code> are skipped.
+ */
+@Mojo(name = "generate-aggregate-schema", aggregator = true, defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
+public class GenerateAggregateSchemaMojo extends GenerateSchemaMojo {
+
+    /**
+     * Maximum number of modules scanned concurrently. Defaults to the number of available processors.
+     */
+    @Parameter(property = "threads")
+    private Integer threads;
+
+    /**
+     * Write the schema of each module in addition to the merged schema.
+     */
+    @Parameter(defaultValue = "true", property = "writeModuleSchemas")
+    private boolean writeModuleSchemas;
+
+    @Parameter(defaultValue = "${reactorProjects}", required = true, readonly = true)
+    private List<MavenProject> reactorProjects;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            return;
+        }
+
+        List<MavenProject> modules = reactorProjects.stream()
+                .filter(project -> !"pom".equals(project.getPackaging()))
+                .collect(Collectors.toList());
+
+        if (modules.isEmpty()) {
+            getLog().info("No modules to generate the OpenAPI Schema for");
+            return;
+        }
+
+        // System properties are global, set them once before the modules are scanned concurrently
+        applySystemProperties();
+
+        int poolSize = Math.min(modules.size(), threads != null ? Math.max(1, threads)
+                : Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        ConcurrentMap<File, IndexView> moduleIndexes = new ConcurrentHashMap<>();
+
+        try {
+            List<Future<OpenAPI>> results = new ArrayList<>(modules.size());
+
+            for (MavenProject module : modules) {
+                results.add(executor.submit(() -> generateModuleSchema(module, moduleIndexes)));
+            }
+
+            OpenAPI merged = null;
+
+            // Merge in reactor order, so that the result does not depend on the order the scans complete
+            for (int i = 0; i < modules.size(); i++) {
+                MavenProject module = modules.get(i);
+                OpenAPI model = result(module, results.get(i));
+
+                if (writeModuleSchemas && outputDirectory != null) {
+                    write(model, new File(outputDirectory, module.getArtifactId()), false);
+                }
+
+                merged = merged == null ? model : MergeUtil.merge(merged, model);
+            }
+
+            write(merged, outputDirectory, attachArtifacts);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OpenAPI generateModuleSchema(MavenProject module, ConcurrentMap<File, IndexView> moduleIndexes)
+            throws Exception {
+        Map<Artifact, IndexView> jarIndexes = new LinkedHashMap<>();
+        IndexView index = mavenDependencyIndexCreator.createIndex(module, scanDependenciesDisable,
+                includeDependenciesScopes, includeDependenciesTypes, jarIndexes, moduleIndexes);
+        getLog().debug("Generating OpenAPI Schema of " + module.getArtifactId());
+        return generateSchema(module, index, jarIndexes).get();
+    }
+
+    private OpenAPI result(MavenProject module, Future<OpenAPI> result) throws MojoExecutionException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while generating the OpenAPI Schema", e);
+        } catch (ExecutionException e) {
+            getLog().error(e.getCause());
+            throw new MojoExecutionException("Could not generate OpenAPI Schema of " + module.getArtifactId(),
+                    e.getCause());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.smallrye.openapi.mavenplugin;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -15,15 +16,18 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -38,10 +42,14 @@ import org.jboss.jandex.IndexView;
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.OpenApiDocument;
 import io.smallrye.openapi.api.constants.OpenApiConstants;
+import io.smallrye.openapi.api.util.ModelDiff;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.OpenApiStaticFile;
+import io.smallrye.openapi.runtime.io.BinaryFormat;
 import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.DependencySchemaCache;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
@@ -52,7 +60,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
      * If no path is specified, the schema will be printed to the log.
      */
     @Parameter(defaultValue = "${project.build.directory}/generated/", property = "outputDirectory")
-    private File outputDirectory;
+    File outputDirectory;
 
     /**
      * Filename of the schema
@@ -67,32 +75,76 @@ public class GenerateSchemaMojo extends AbstractMojo {
      * Valid options are: compile, provided, runtime, system, test, import
      */
     @Parameter(defaultValue = "compile,system", property = "includeDependenciesScopes")
-    private List<String> includeDependenciesScopes;
+    List<String> includeDependenciesScopes;
 
     /**
      * When you include dependencies, we only look at jars (by default)
      * You can change that here.
      */
     @Parameter(defaultValue = "jar", property = "includeDependenciesTypes")
-    private List<String> includeDependenciesTypes;
+    List<String> includeDependenciesTypes;
 
     /**
      * Skip execution of the plugin.
      */
     @Parameter(defaultValue = "false", property = "skip")
-    private boolean skip;
+    boolean skip;
 
     /**
      * Disable scanning the project's dependencies for OpenAPI model classes too
      */
     @Parameter(defaultValue = "false", property = "scanDependenciesDisable")
-    private boolean scanDependenciesDisable;
+    boolean scanDependenciesDisable;
 
     /**
      * Attach the built OpenAPI schema as build artifact.
      */
     @Parameter(defaultValue = "false", property = "attachArtifacts")
-    private boolean attachArtifacts;
+    boolean attachArtifacts;
+
+    /**
+     * Also write the schema in the binary CBOR format (openapi.cbor), which is smaller
+     * and faster to load than the JSON and YAML documents.
+     */
+    @Parameter(defaultValue = "false", property = "writeCbor")
+    private boolean writeCbor;
+
+    /**
+     * Also write the schema in the binary Smile format (openapi.smile), which is smaller
+     * and faster to load than the JSON and YAML documents.
+     */
+    @Parameter(defaultValue = "false", property = "writeSmile")
+    private boolean writeSmile;
+
+    /**
+     * Also write the schema split into several files to the {@code split} sub-directory of the output directory:
+     * a root file, one file of paths per tag and one file per component schema, linked by relative references,
+     * and a manifest listing the files with their digests. Clients may then load only the parts they need.
+     */
+    @Parameter(defaultValue = "false", property = "splitOutput")
+    private boolean splitOutput;
+
+    /**
+     * Directory to cache the schemas generated for the types of dependency jars. The schemas of
+     * a jar are stored by the first run and re-used until the jar or the relevant configuration changes.
+     * If no directory is specified, the schemas are generated on every run.
+     */
+    @Parameter(property = "schemaCacheDirectory")
+    private File schemaCacheDirectory;
+
+    /**
+     * Previously published version of the schema (JSON, YAML, CBOR or Smile) to compare the generated schema with.
+     * The differences are logged, changes that may break existing clients as warnings.
+     */
+    @Parameter(property = "baselineDocument")
+    File baselineDocument;
+
+    /**
+     * Fail the build when the generated schema contains changes that may break clients written against
+     * the {@code baselineDocument}.
+     */
+    @Parameter(defaultValue = "false", property = "failOnBreakingChanges")
+    boolean failOnBreakingChanges;
 
     /**
      * Load any properties from a file. This file is loaded first, and gets overwritten by explicitly set properties in the
@@ -240,39 +292,81 @@ public class GenerateSchemaMojo extends AbstractMojo {
     private Map<String, String> systemPropertyVariables;
 
     @Component
-    private MavenDependencyIndexCreator mavenDependencyIndexCreator;
+    MavenDependencyIndexCreator mavenDependencyIndexCreator;
 
     @Component
     MavenProjectHelper mavenProjectHelper;
 
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
-    private MavenProject mavenProject;
+    MavenProject mavenProject;
 
     @Override
-    public void execute() throws MojoExecutionException {
+    public void execute() throws MojoExecutionException, MojoFailureException {
         if (!skip) {
+            OpenAPI model;
+
             try {
+                applySystemProperties();
+                Map<Artifact, IndexView> jarIndexes = new LinkedHashMap<>();
                 IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
-                        includeDependenciesScopes, includeDependenciesTypes);
-                OpenApiDocument schema = generateSchema(index);
-                write(schema);
+                        includeDependenciesScopes, includeDependenciesTypes, jarIndexes);
+                OpenApiDocument schema = generateSchema(mavenProject, index, jarIndexes);
+                model = schema.get();
+                write(model, outputDirectory, attachArtifacts);
             } catch (Exception ex) {
                 getLog().error(ex);
                 throw new MojoExecutionException("Could not generate OpenAPI Schema", ex); // TODO allow failOnError = false ?
             }
+
+            if (baselineDocument != null) {
+                compareWithBaseline(model);
+            }
         }
     }
 
-    private OpenApiDocument generateSchema(IndexView index) throws IOException, DependencyResolutionRequiredException {
+    void compareWithBaseline(OpenAPI model) throws MojoExecutionException, MojoFailureException {
+        OpenAPI baseline;
+
+        try {
+            baseline = OpenApiParser.parse(baselineDocument.toURI().toURL());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not read baseline OpenAPI Schema " + baselineDocument, e);
+        }
+
+        ModelDiff diff = ModelDiff.compare(baseline, model);
+
+        for (ModelDiff.Change change : diff.getChanges()) {
+            if (change.isBreaking()) {
+                getLog().warn("Breaking change: " + change.getKind() + " " + change.getPointer());
+            } else {
+                getLog().info("Change: " + change.getKind() + " " + change.getPointer());
+            }
+        }
+
+        if (diff.isBreaking() && failOnBreakingChanges) {
+            throw new MojoFailureException(diff.getBreakingChanges().size()
+                    + " breaking change(s) of the OpenAPI Schema compared to " + baselineDocument);
+        }
+    }
+
+    /**
+     * Set the configured <code>systemPropertyVariables</code>. Must be called before
+     * {@link #generateSchema(MavenProject, IndexView, Map)}, and only once when schemas
+     * are generated concurrently.
+     */
+    void applySystemProperties() {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
         }
+    }
 
+    OpenApiDocument generateSchema(MavenProject project, IndexView index, Map<Artifact, IndexView> jarIndexes)
+            throws IOException, DependencyResolutionRequiredException {
         OpenApiConfig openApiConfig = new MavenConfig(getProperties());
-        ClassLoader classLoader = getClassLoader();
+        ClassLoader classLoader = getClassLoader(project);
 
-        OpenAPI staticModel = generateStaticModel(openApiConfig);
-        OpenAPI annotationModel = generateAnnotationModel(index, openApiConfig, classLoader);
+        OpenAPI staticModel = generateStaticModel(project, openApiConfig);
+        OpenAPI annotationModel = generateAnnotationModel(index, jarIndexes, openApiConfig, classLoader);
         OpenAPI readerModel = OpenApiProcessor.modelFromReader(openApiConfig, classLoader);
 
         OpenApiDocument document = OpenApiDocument.newInstance();
@@ -295,10 +389,11 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return document;
     }
 
-    private ClassLoader getClassLoader() throws MalformedURLException, DependencyResolutionRequiredException {
+    private ClassLoader getClassLoader(MavenProject project)
+            throws MalformedURLException, DependencyResolutionRequiredException {
         Set<URL> urls = new HashSet<>();
 
-        for (String element : mavenProject.getCompileClasspathElements()) {
+        for (String element : project.getCompileClasspathElements()) {
             getLog().debug("Adding " + element + " to annotation scanner class loader");
             urls.add(new File(element).toURI().toURL());
         }
@@ -309,24 +404,56 @@ public class GenerateSchemaMojo extends AbstractMojo {
 
     }
 
-    private OpenAPI generateAnnotationModel(IndexView indexView, OpenApiConfig openApiConfig, ClassLoader classLoader) {
+    private OpenAPI generateAnnotationModel(IndexView indexView, Map<Artifact, IndexView> jarIndexes,
+            OpenApiConfig openApiConfig, ClassLoader classLoader) throws IOException {
         OpenApiAnnotationScanner openApiAnnotationScanner = new OpenApiAnnotationScanner(openApiConfig, classLoader, indexView);
-        return openApiAnnotationScanner.scan();
+
+        if (schemaCacheDirectory == null) {
+            return openApiAnnotationScanner.scan();
+        }
+
+        Map<String, IndexView> artifacts = new LinkedHashMap<>();
+
+        for (Map.Entry<Artifact, IndexView> entry : jarIndexes.entrySet()) {
+            artifacts.put(DependencySchemaCache.hash(entry.getKey().getFile().toPath()), entry.getValue());
+        }
+
+        DependencySchemaCache schemaCache = new DependencySchemaCache(schemaCacheDirectory.toPath(), openApiConfig,
+                artifacts);
+        int cached = 0;
+
+        for (String hash : artifacts.keySet()) {
+            if (schemaCache.load(hash)) {
+                cached++;
+            }
+        }
+
+        getLog().debug("Using cached schemas of " + cached + " of " + artifacts.size() + " dependencies");
+
+        openApiAnnotationScanner.setSchemaCache(schemaCache);
+        OpenAPI annotationModel = openApiAnnotationScanner.scan();
+
+        // Also update existing cache files, the scan may have generated schemas of other types of the artifacts
+        for (String hash : artifacts.keySet()) {
+            schemaCache.store(hash, annotationModel, openApiAnnotationScanner.getProvenance());
+        }
+
+        return annotationModel;
     }
 
-    private OpenAPI generateStaticModel(OpenApiConfig openApiConfig) throws IOException {
-        Path staticFile = getStaticFile();
+    private OpenAPI generateStaticModel(MavenProject project, OpenApiConfig openApiConfig) throws IOException {
+        Path staticFile = getStaticFile(project);
         if (staticFile != null) {
             try (InputStream is = Files.newInputStream(staticFile);
-                    OpenApiStaticFile openApiStaticFile = new OpenApiStaticFile(is, getFormat(staticFile))) {
+                    OpenApiStaticFile openApiStaticFile = newStaticFile(is, staticFile)) {
                 return OpenApiProcessor.modelFromStaticFile(openApiConfig, openApiStaticFile);
             }
         }
         return null;
     }
 
-    private Path getStaticFile() {
-        Path classesPath = new File(mavenProject.getBuild().getOutputDirectory()).toPath();
+    private Path getStaticFile(MavenProject project) {
+        Path classesPath = new File(project.getBuild().getOutputDirectory()).toPath();
 
         if (Files.exists(classesPath)) {
             Path resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_YAML);
@@ -353,15 +480,38 @@ public class GenerateSchemaMojo extends AbstractMojo {
             if (Files.exists(resourcePath)) {
                 return resourcePath;
             }
+            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_CBOR);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_CBOR);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), META_INF_OPENAPI_SMILE);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
+            resourcePath = Paths.get(classesPath.toString(), WEB_INF_CLASSES_META_INF_OPENAPI_SMILE);
+            if (Files.exists(resourcePath)) {
+                return resourcePath;
+            }
         }
         return null;
     }
 
-    private Format getFormat(Path path) {
-        if (path.endsWith(".json")) {
-            return Format.JSON;
+    private OpenApiStaticFile newStaticFile(InputStream is, Path path) {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            return new OpenApiStaticFile(is, Format.JSON);
+        }
+        if (fileName.endsWith(".cbor")) {
+            return new OpenApiStaticFile(is, BinaryFormat.CBOR);
         }
-        return Format.YAML;
+        if (fileName.endsWith(".smile")) {
+            return new OpenApiStaticFile(is, BinaryFormat.SMILE);
+        }
+        return new OpenApiStaticFile(is, Format.YAML);
     }
 
     private Map<String, String> getProperties() throws IOException {
@@ -425,10 +575,17 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
-    private void write(OpenApiDocument schema) throws MojoExecutionException {
+    /**
+     * Write the schema files to the directory, or to the log if no directory is given.
+     *
+     * @param model the schema
+     * @param outputDirectory the directory, may be null
+     * @param attach true to attach the schema files to the project as build artifacts
+     */
+    void write(OpenAPI model, File outputDirectory, boolean attach) throws MojoExecutionException {
         try {
-            String yaml = OpenApiSerializer.serialize(schema.get(), Format.YAML);
-            String json = OpenApiSerializer.serialize(schema.get(), Format.JSON);
+            String yaml = OpenApiSerializer.serialize(model, Format.YAML);
+            String json = OpenApiSerializer.serialize(model, Format.JSON);
             if (outputDirectory == null) {
                 // no destination file specified => print to stdout
                 getLog().info(yaml);
@@ -450,9 +607,25 @@ public class GenerateSchemaMojo extends AbstractMojo {
                     }
                 }
 
-                writeSchemaFile(directory, "yaml", yaml.getBytes(charset));
+                writeSchemaFile(directory, "yaml", yaml.getBytes(charset), attach);
 
-                writeSchemaFile(directory, "json", json.getBytes(charset));
+                writeSchemaFile(directory, "json", json.getBytes(charset), attach);
+
+                if (writeCbor) {
+                    ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+                    OpenApiSerializer.serialize(model, BinaryFormat.CBOR, cbor);
+                    writeSchemaFile(directory, "cbor", cbor.toByteArray(), attach);
+                }
+
+                if (writeSmile) {
+                    ByteArrayOutputStream smile = new ByteArrayOutputStream();
+                    OpenApiSerializer.serialize(model, BinaryFormat.SMILE, smile);
+                    writeSchemaFile(directory, "smile", smile.toByteArray(), attach);
+                }
+
+                if (splitOutput) {
+                    writeSplitFiles(model, directory.resolve(SPLIT_DIRECTORY), charset);
+                }
 
                 getLog().info("Wrote the schema files to " + outputDirectory.getAbsolutePath());
             }
@@ -461,7 +634,21 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
-    private void writeSchemaFile(Path directory, String type, byte[] contents) throws IOException {
+    private void writeSplitFiles(OpenAPI model, Path directory, Charset charset) throws IOException {
+        for (Format format : new Format[] { Format.YAML, Format.JSON }) {
+            for (Map.Entry<String, String> document : OpenApiSerializer.serializeSplit(model, format, schemaFilename)
+                    .entrySet()) {
+                Path file = directory.resolve(document.getKey());
+                Files.createDirectories(file.getParent());
+                Files.write(file, document.getValue().getBytes(charset),
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+            }
+        }
+    }
+
+    private void writeSchemaFile(Path directory, String type, byte[] contents, boolean attach) throws IOException {
         Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
         if (!Files.exists(file)) {
             Files.createFile(file);
@@ -472,15 +659,21 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING);
 
-        if (attachArtifacts) {
+        if (attach) {
             mavenProjectHelper.attachArtifact(mavenProject, type, schemaFilename, file.toFile());
         }
     }
 
+    private static final String SPLIT_DIRECTORY = "split";
+
     private static final String META_INF_OPENAPI_YAML = "META-INF/openapi.yaml";
     private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YAML = "WEB-INF/classes/META-INF/openapi.yaml";
     private static final String META_INF_OPENAPI_YML = "META-INF/openapi.yml";
     private static final String WEB_INF_CLASSES_META_INF_OPENAPI_YML = "WEB-INF/classes/META-INF/openapi.yml";
     private static final String META_INF_OPENAPI_JSON = "META-INF/openapi.json";
     private static final String WEB_INF_CLASSES_META_INF_OPENAPI_JSON = "WEB-INF/classes/META-INF/openapi.json";
+    private static final String META_INF_OPENAPI_CBOR = "META-INF/openapi.cbor";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_CBOR = "WEB-INF/classes/META-INF/openapi.cbor";
+    private static final String META_INF_OPENAPI_SMILE = "META-INF/openapi.smile";
+    private static final String WEB_INF_CLASSES_META_INF_OPENAPI_SMILE = "WEB-INF/classes/META-INF/openapi.smile";
 }
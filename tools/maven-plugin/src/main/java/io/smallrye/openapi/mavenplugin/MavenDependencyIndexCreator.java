@@ -1,6 +1,8 @@
 package io.smallrye.openapi.mavenplugin;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -8,10 +10,12 @@ import java.time.LocalDateTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -72,6 +76,47 @@ public class MavenDependencyIndexCreator {
 
     public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
             List<String> includeDependenciesScopes, List<String> includeDependenciesTypes) throws Exception {
+        return createIndex(mavenProject, scanDependenciesDisable, includeDependenciesScopes, includeDependenciesTypes,
+                new LinkedHashMap<>());
+    }
+
+    /**
+     * Create the index of the project's classes and dependencies.
+     *
+     * @param mavenProject the project
+     * @param scanDependenciesDisable true to index only the project's classes
+     * @param includeDependenciesScopes scopes of the dependencies to index
+     * @param includeDependenciesTypes types of the dependencies to index
+     * @param jarIndexes populated with the index of each indexed jar
+     * @return composite index of the project and its dependencies
+     * @throws Exception if an index cannot be created
+     */
+    public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes, List<String> includeDependenciesTypes,
+            Map<Artifact, IndexView> jarIndexes) throws Exception {
+        return createIndex(mavenProject, scanDependenciesDisable, includeDependenciesScopes, includeDependenciesTypes,
+                jarIndexes, null);
+    }
+
+    /**
+     * Create the index of the project's classes and dependencies. The indexes of jars are cached
+     * for the lifetime of the build, the indexes of the class directories of reactor modules are
+     * only cached in the given map (if any), e.g. while the schemas of all modules of a reactor are
+     * generated.
+     *
+     * @param mavenProject the project
+     * @param scanDependenciesDisable true to index only the project's classes
+     * @param includeDependenciesScopes scopes of the dependencies to index
+     * @param includeDependenciesTypes types of the dependencies to index
+     * @param jarIndexes populated with the index of each indexed jar
+     * @param moduleIndexes cache of the indexes of class directories, may be null. Must be thread-safe if shared
+     *        by concurrent calls.
+     * @return composite index of the project and its dependencies
+     * @throws Exception if an index cannot be created
+     */
+    public IndexView createIndex(MavenProject mavenProject, boolean scanDependenciesDisable,
+            List<String> includeDependenciesScopes, List<String> includeDependenciesTypes,
+            Map<Artifact, IndexView> jarIndexes, ConcurrentMap<File, IndexView> moduleIndexes) throws Exception {
 
         List<Map.Entry<Artifact, Duration>> indexDurations = new ArrayList<>();
 
@@ -92,7 +137,8 @@ public class MavenDependencyIndexCreator {
                     // Don't' cache local worskpace artifacts. Incremental compilation in IDE's would otherwise use the cached index instead of new one.
                     // Right now, support for incremental compilation inside eclipse is blocked by: https://github.com/eclipse-m2e/m2e-core/issues/364#issuecomment-939987848
                     // target/classes
-                    indexes.add(indexModuleClasses(artifact));
+                    indexes.add(moduleIndexes != null ? indexModuleClasses(artifact, moduleIndexes)
+                            : indexModuleClasses(artifact));
                 } else if (artifact.getFile().getName().endsWith(".jar")) {
                     IndexView artifactIndex = timeAndCache(indexDurations, artifact, () -> {
                         Result result = JarIndexer.createJarIndex(artifact.getFile(), new Indexer(),
@@ -100,6 +146,7 @@ public class MavenDependencyIndexCreator {
                         return result.getIndex();
                     });
                     indexes.add(artifactIndex);
+                    jarIndexes.put(artifact, artifactIndex);
                 }
             } catch (IOException | ExecutionException e) {
                 logger.error("Can't compute index of " + artifact.getFile().getAbsolutePath() + ", skipping", e);
@@ -149,6 +196,21 @@ public class MavenDependencyIndexCreator {
         return result;
     }
 
+    private IndexView indexModuleClasses(Artifact artifact, ConcurrentMap<File, IndexView> moduleIndexes)
+            throws IOException {
+        try {
+            return moduleIndexes.computeIfAbsent(artifact.getFile(), file -> {
+                try {
+                    return indexModuleClasses(artifact);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     // index the classes of this Maven module
     private Index indexModuleClasses(Artifact artifact) throws IOException {
 
@@ -0,0 +1,52 @@
+package io.smallrye.openapi.mavenplugin;
+
+import static com.soebes.itf.extension.assertj.MavenITAssertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.soebes.itf.jupiter.extension.MavenGoal;
+import com.soebes.itf.jupiter.extension.MavenJupiterExtension;
+import com.soebes.itf.jupiter.extension.MavenTest;
+import com.soebes.itf.jupiter.maven.MavenExecutionResult;
+
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+@MavenJupiterExtension
+@MavenGoal("process-resources")
+@MavenGoal("${project.groupId}:${project.artifactId}:${project.version}:generate-aggregate-schema")
+public class AggregateIT {
+    @MavenTest
+    void two_modules(MavenExecutionResult result) throws IOException {
+
+        assertThat(result).isSuccessful();
+
+        File generated = new File(result.getMavenProjectResult().getTargetProjectDirectory(), "target/generated");
+
+        // Schema of each module, written to a sub-directory named after the module
+        OpenAPI moduleA = read(generated, "module-a/openapi.json");
+        assertEquals(new TreeSet<>(Arrays.asList("/a")), moduleA.getPaths().getPathItems().keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("A")), moduleA.getComponents().getSchemas().keySet());
+
+        OpenAPI moduleB = read(generated, "module-b/openapi.yaml");
+        assertEquals(new TreeSet<>(Arrays.asList("/b")), moduleB.getPaths().getPathItems().keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("B")), moduleB.getComponents().getSchemas().keySet());
+
+        // Merged schema of all modules
+        OpenAPI merged = read(generated, "openapi.json");
+        assertEquals("Aggregated API", merged.getInfo().getTitle());
+        assertEquals(new TreeSet<>(Arrays.asList("/a", "/b")), merged.getPaths().getPathItems().keySet());
+        assertEquals(new TreeSet<>(Arrays.asList("A", "B")), merged.getComponents().getSchemas().keySet());
+        assertEquals("getA", merged.getPaths().getPathItem("/a").getGET().getOperationId());
+        assertEquals("getB", merged.getPaths().getPathItem("/b").getGET().getOperationId());
+    }
+
+    private static OpenAPI read(File directory, String path) throws IOException {
+        return OpenApiParser.parse(new File(directory, path).toURI().toURL());
+    }
+}
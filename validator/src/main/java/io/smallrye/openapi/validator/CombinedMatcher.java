@@ -0,0 +1,114 @@
+package io.smallrye.openapi.validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Validates a value against a schema with a <code>$ref</code>, <code>allOf</code>,
+ * <code>anyOf</code>, <code>oneOf</code> or <code>not</code>. Each token of the value is
+ * passed to the matchers of all schemas involved, so the value is read only once.
+ */
+final class CombinedMatcher implements Matcher {
+
+    private final CompiledSchema schema;
+    private final Location location;
+    private final Direction direction;
+
+    private List<Matcher> all;
+    private List<Matcher> anyOf;
+    private List<Matcher> oneOf;
+    private Matcher not;
+    private List<ValidationError> errors = Collections.emptyList();
+
+    CombinedMatcher(CompiledSchema schema, Location location, Direction direction) {
+        this.schema = schema;
+        this.location = location;
+        this.direction = direction;
+    }
+
+    @Override
+    public List<ValidationError> errors() {
+        return errors;
+    }
+
+    @Override
+    public boolean next(JsonToken token, JsonParser parser) throws IOException {
+        if (all == null) {
+            if (token == JsonToken.VALUE_NULL && schema.nullable) {
+                return true;
+            }
+            start();
+        }
+
+        boolean complete = false;
+
+        for (Matcher matcher : all) {
+            complete = matcher.next(token, parser);
+        }
+        for (Matcher matcher : anyOf) {
+            complete = matcher.next(token, parser);
+        }
+        for (Matcher matcher : oneOf) {
+            complete = matcher.next(token, parser);
+        }
+        if (not != null) {
+            complete = not.next(token, parser);
+        }
+
+        if (complete) {
+            complete();
+        }
+
+        return complete;
+    }
+
+    private void start() {
+        all = new ArrayList<>(2 + schema.allOf.size());
+        all.add(new ValueMatcher(schema, location, direction));
+
+        if (schema.ref != null) {
+            all.add(schema.ref.matcher(location, direction));
+        }
+
+        schema.allOf.forEach(s -> all.add(s.matcher(location, direction)));
+        anyOf = matchers(schema.anyOf);
+        oneOf = matchers(schema.oneOf);
+        not = schema.not != null ? schema.not.matcher(location, null) : null;
+    }
+
+    private List<Matcher> matchers(List<CompiledSchema> schemas) {
+        if (schemas.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Matcher> result = new ArrayList<>(schemas.size());
+        schemas.forEach(s -> result.add(s.matcher(location, direction)));
+        return result;
+    }
+
+    private void complete() {
+        List<ValidationError> result = new ArrayList<>();
+        all.forEach(m -> result.addAll(m.errors()));
+
+        if (!anyOf.isEmpty() && anyOf.stream().noneMatch(m -> m.errors().isEmpty())) {
+            result.add(location.error(ValidatorMessages.msg.anyOfMismatch()));
+        }
+        if (!oneOf.isEmpty()) {
+            int matches = (int) oneOf.stream().filter(m -> m.errors().isEmpty()).count();
+
+            if (matches != 1) {
+                result.add(location.error(ValidatorMessages.msg.oneOfMismatch(matches)));
+            }
+        }
+        if (not != null && not.errors().isEmpty()) {
+            result.add(location.error(ValidatorMessages.msg.notMismatch()));
+        }
+
+        errors = result;
+    }
+}
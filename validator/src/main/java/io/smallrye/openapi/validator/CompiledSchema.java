@@ -0,0 +1,192 @@
+package io.smallrye.openapi.validator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+/**
+ * A {@link Schema} prepared for validation: references are resolved, patterns compiled
+ * and enumerations normalized. Instances are immutable once compiled and may be shared
+ * by concurrent validations.
+ */
+final class CompiledSchema {
+
+    static final Object NULL = new Object();
+
+    SchemaType type;
+    boolean nullable;
+    CompiledSchema ref;
+
+    Set<Object> enumeration;
+    ValueFormat format;
+
+    Integer minLength;
+    Integer maxLength;
+    Pattern pattern;
+
+    BigDecimal minimum;
+    boolean exclusiveMinimum;
+    BigDecimal maximum;
+    boolean exclusiveMaximum;
+    BigDecimal multipleOf;
+
+    Map<String, CompiledSchema> properties = Collections.emptyMap();
+    Set<String> required = Collections.emptySet();
+    CompiledSchema additionalProperties;
+    boolean additionalPropertiesAllowed = true;
+    Integer minProperties;
+    Integer maxProperties;
+
+    CompiledSchema items;
+    Integer minItems;
+    Integer maxItems;
+
+    List<CompiledSchema> allOf = Collections.emptyList();
+    List<CompiledSchema> anyOf = Collections.emptyList();
+    List<CompiledSchema> oneOf = Collections.emptyList();
+    CompiledSchema not;
+
+    boolean readOnly;
+    boolean writeOnly;
+
+    /**
+     * True when the schema declares keywords other than a reference that apply to a value
+     */
+    private boolean constrained;
+
+    /**
+     * Copy the keywords of the schema. Nested schemas are compiled using the given function,
+     * which may return an instance that is not yet initialized for schemas being compiled
+     * (i.e. recursive references).
+     */
+    void init(Schema schema, Function<Schema, CompiledSchema> compiler, Function<String, CompiledSchema> references) {
+        type = schema.getType();
+        nullable = Boolean.TRUE.equals(schema.getNullable());
+        ref = schema.getRef() != null ? references.apply(schema.getRef()) : null;
+
+        if (schema.getEnumeration() != null) {
+            enumeration = normalize(schema.getEnumeration());
+        }
+
+        format = schema.getFormat() != null ? ValueFormat.of(schema.getFormat()) : null;
+        minLength = schema.getMinLength();
+        maxLength = schema.getMaxLength();
+        pattern = schema.getPattern() != null ? Pattern.compile(schema.getPattern()) : null;
+
+        minimum = schema.getMinimum();
+        exclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+        maximum = schema.getMaximum();
+        exclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+        multipleOf = schema.getMultipleOf();
+
+        if (schema.getProperties() != null && !schema.getProperties().isEmpty()) {
+            properties = new LinkedHashMap<>();
+            schema.getProperties().forEach((name, property) -> properties.put(name, compiler.apply(property)));
+        }
+        if (schema.getRequired() != null && !schema.getRequired().isEmpty()) {
+            required = new LinkedHashSet<>(schema.getRequired());
+        }
+        if (schema.getAdditionalPropertiesSchema() != null) {
+            additionalProperties = compiler.apply(schema.getAdditionalPropertiesSchema());
+        }
+        additionalPropertiesAllowed = !Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean());
+        minProperties = schema.getMinProperties();
+        maxProperties = schema.getMaxProperties();
+
+        items = schema.getItems() != null ? compiler.apply(schema.getItems()) : null;
+        minItems = schema.getMinItems();
+        maxItems = schema.getMaxItems();
+
+        allOf = compile(schema.getAllOf(), compiler);
+        anyOf = compile(schema.getAnyOf(), compiler);
+        oneOf = compile(schema.getOneOf(), compiler);
+        not = schema.getNot() != null ? compiler.apply(schema.getNot()) : null;
+
+        readOnly = Boolean.TRUE.equals(schema.getReadOnly());
+        writeOnly = Boolean.TRUE.equals(schema.getWriteOnly());
+
+        constrained = type != null || enumeration != null || format != null
+                || minLength != null || maxLength != null || pattern != null
+                || minimum != null || maximum != null || multipleOf != null
+                || !properties.isEmpty() || !required.isEmpty() || additionalProperties != null || !additionalPropertiesAllowed
+                || minProperties != null || maxProperties != null
+                || items != null || minItems != null || maxItems != null;
+    }
+
+    private static List<CompiledSchema> compile(List<Schema> schemas, Function<Schema, CompiledSchema> compiler) {
+        if (schemas == null || schemas.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CompiledSchema> result = new ArrayList<>(schemas.size());
+        schemas.forEach(s -> result.add(compiler.apply(s)));
+        return result;
+    }
+
+    /**
+     * Normalize the scalar values of an enumeration for comparison with parsed values. Returns
+     * null (no restriction) if the enumeration contains objects or arrays, those are not compared.
+     */
+    private static Set<Object> normalize(List<Object> values) {
+        Set<Object> result = new HashSet<>(values.size());
+
+        for (Object value : values) {
+            if (value == null) {
+                result.add(NULL);
+            } else if (value instanceof Number) {
+                result.add(normalize(new BigDecimal(value.toString())));
+            } else if (value instanceof String || value instanceof Boolean) {
+                result.add(value);
+            } else if (value instanceof Map || value instanceof List) {
+                return null;
+            } else {
+                result.add(value.toString());
+            }
+        }
+
+        return result;
+    }
+
+    static BigDecimal normalize(BigDecimal value) {
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    boolean isReadOnly() {
+        return readOnly || (ref != null && ref.isReadOnly());
+    }
+
+    boolean isWriteOnly() {
+        return writeOnly || (ref != null && ref.isWriteOnly());
+    }
+
+    boolean allowsNull() {
+        return type == null || nullable;
+    }
+
+    /**
+     * Create a matcher for a value at the given location.
+     */
+    Matcher matcher(Location location, Direction direction) {
+        boolean combined = ref != null || !allOf.isEmpty() || !anyOf.isEmpty() || !oneOf.isEmpty() || not != null;
+
+        if (!combined) {
+            return constrained ? new ValueMatcher(this, location, direction) : new Matcher.Any();
+        }
+        if (!constrained && ref != null && allOf.isEmpty() && anyOf.isEmpty() && oneOf.isEmpty() && not == null) {
+            return ref.matcher(location, direction);
+        }
+
+        return new CombinedMatcher(this, location, direction);
+    }
+}
@@ -0,0 +1,10 @@
+package io.smallrye.openapi.validator;
+
+/**
+ * The direction of the message being validated. Properties marked <code>readOnly</code>
+ * may only be sent in responses, properties marked <code>writeOnly</code> only in requests.
+ */
+public enum Direction {
+    REQUEST,
+    RESPONSE
+}
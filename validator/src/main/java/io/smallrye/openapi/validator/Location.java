@@ -0,0 +1,49 @@
+package io.smallrye.openapi.validator;
+
+/**
+ * Location of a value within the JSON document being validated. The JSON pointer
+ * is only created when a violation is reported.
+ */
+final class Location {
+
+    static final Location ROOT = new Location(null, null, -1);
+
+    private final Location parent;
+    private final String name;
+    private final int index;
+
+    private Location(Location parent, String name, int index) {
+        this.parent = parent;
+        this.name = name;
+        this.index = index;
+    }
+
+    Location property(String name) {
+        return new Location(this, name, -1);
+    }
+
+    Location item(int index) {
+        return new Location(this, null, index);
+    }
+
+    ValidationError error(String message) {
+        return new ValidationError(toString(), message);
+    }
+
+    @Override
+    public String toString() {
+        if (parent == null) {
+            return "";
+        }
+
+        StringBuilder pointer = new StringBuilder(parent.toString()).append('/');
+
+        if (name != null) {
+            pointer.append(name.replace("~", "~0").replace("/", "~1"));
+        } else {
+            pointer.append(index);
+        }
+
+        return pointer.toString();
+    }
+}
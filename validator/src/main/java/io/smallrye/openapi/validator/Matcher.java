@@ -0,0 +1,51 @@
+package io.smallrye.openapi.validator;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Validates a single JSON value, receiving the tokens of the value one at a time.
+ */
+interface Matcher {
+
+    /**
+     * Receive the next token of the value.
+     *
+     * @param token the current token
+     * @param parser the parser, positioned at the token
+     * @return true if the token completes the value
+     * @throws IOException if the value of the token cannot be read
+     */
+    boolean next(JsonToken token, JsonParser parser) throws IOException;
+
+    /**
+     * @return the violations found, available once the value is complete
+     */
+    List<ValidationError> errors();
+
+    /**
+     * Matcher of a value that is not constrained, only consuming its tokens.
+     */
+    final class Any implements Matcher {
+        private int depth;
+
+        @Override
+        public boolean next(JsonToken token, JsonParser parser) {
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            return depth == 0;
+        }
+
+        @Override
+        public List<ValidationError> errors() {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.smallrye.openapi.validator;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+
+import io.smallrye.openapi.api.constants.OpenApiConstants;
+
+/**
+ * Validators for the request and response bodies described by an OpenAPI document, e.g.
+ * the final model produced by <code>SmallRyeOpenAPI</code>.
+ *
+ * The schemas of the document are compiled into validators once: references to
+ * <code>#/components/schemas</code> are resolved and patterns are compiled. The
+ * supported keywords are <code>type</code>, <code>format</code> (<code>date</code>,
+ * <code>date-time</code>, <code>uuid</code>, <code>byte</code>, <code>int32</code>,
+ * <code>int64</code>), <code>nullable</code>, <code>enum</code>, string length and
+ * <code>pattern</code>, numeric ranges and <code>multipleOf</code>, <code>properties</code>,
+ * <code>required</code>, <code>additionalProperties</code>, property counts, <code>items</code>,
+ * item counts, <code>allOf</code>, <code>anyOf</code>, <code>oneOf</code>, <code>not</code>,
+ * <code>readOnly</code> and <code>writeOnly</code>.
+ *
+ * The document must not be modified after the validator is created. Instances are safe for
+ * use by concurrent threads.
+ */
+public final class OpenApiValidator {
+
+    private static final String DEFAULT_RESPONSE = "default";
+
+    private final Map<String, Schema> components;
+    private final Map<Schema, CompiledSchema> compiled = new IdentityHashMap<>();
+    private final Map<Schema, SchemaValidator> validators;
+    private final OpenAPI model;
+
+    private OpenApiValidator(OpenAPI model) {
+        this.model = model;
+        this.components = model.getComponents() != null && model.getComponents().getSchemas() != null
+                ? model.getComponents().getSchemas()
+                : Collections.emptyMap();
+
+        components.values().forEach(this::compileSchema);
+
+        if (model.getPaths() != null && model.getPaths().getPathItems() != null) {
+            model.getPaths()
+                    .getPathItems()
+                    .values()
+                    .stream()
+                    .filter(pathItem -> pathItem.getOperations() != null)
+                    .flatMap(pathItem -> pathItem.getOperations().values().stream())
+                    .forEach(this::compileBodies);
+        }
+
+        Map<Schema, SchemaValidator> result = new IdentityHashMap<>(compiled.size());
+        compiled.forEach((schema, compiledSchema) -> result.put(schema, new SchemaValidator(compiledSchema)));
+        this.validators = Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Create the validators for a document, compiling all schemas of the
+     * document's components and of the request and response bodies of its
+     * operations.
+     *
+     * @param model the OpenAPI document
+     * @return validators for the document
+     * @throws IllegalArgumentException if a schema reference cannot be resolved
+     */
+    public static OpenApiValidator compile(OpenAPI model) {
+        return new OpenApiValidator(model);
+    }
+
+    private void compileBodies(Operation operation) {
+        if (operation.getRequestBody() != null) {
+            compileContent(operation.getRequestBody().getContent());
+        }
+        if (operation.getResponses() != null && operation.getResponses().getAPIResponses() != null) {
+            operation.getResponses()
+                    .getAPIResponses()
+                    .values()
+                    .forEach(response -> compileContent(response.getContent()));
+        }
+    }
+
+    private void compileContent(Content content) {
+        if (content != null && content.getMediaTypes() != null) {
+            content.getMediaTypes()
+                    .values()
+                    .stream()
+                    .map(MediaType::getSchema)
+                    .filter(Objects::nonNull)
+                    .forEach(this::compileSchema);
+        }
+    }
+
+    /**
+     * Retrieve the validator for a schema in <code>#/components/schemas</code>.
+     *
+     * @param name name of the schema
+     * @return the validator, or null if the document has no such schema
+     */
+    public SchemaValidator getComponentValidator(String name) {
+        Schema schema = components.get(name);
+        return schema != null ? getValidator(schema) : null;
+    }
+
+    /**
+     * Retrieve the validator for the body of a request to an operation.
+     *
+     * @param path the path of the operation as given in the document, e.g. <code>/pets/{id}</code>
+     * @param method HTTP method of the operation
+     * @param mediaType the media type of the body
+     * @return the validator, or null if the document has no schema for the body
+     */
+    public SchemaValidator getRequestValidator(String path, PathItem.HttpMethod method, String mediaType) {
+        Operation operation = getOperation(path, method);
+
+        if (operation == null || operation.getRequestBody() == null) {
+            return null;
+        }
+
+        return getValidator(operation.getRequestBody().getContent(), mediaType);
+    }
+
+    /**
+     * Retrieve the validator for the body of a response of an operation. The
+     * <code>default</code> response is used if the status code has no response.
+     *
+     * @param path the path of the operation as given in the document, e.g. <code>/pets/{id}</code>
+     * @param method HTTP method of the operation
+     * @param status the response status code, e.g. <code>200</code>
+     * @param mediaType the media type of the body
+     * @return the validator, or null if the document has no schema for the body
+     */
+    public SchemaValidator getResponseValidator(String path, PathItem.HttpMethod method, String status, String mediaType) {
+        Operation operation = getOperation(path, method);
+
+        if (operation == null || operation.getResponses() == null) {
+            return null;
+        }
+
+        APIResponse response = operation.getResponses().getAPIResponse(status);
+
+        if (response == null) {
+            response = operation.getResponses().getAPIResponse(DEFAULT_RESPONSE);
+        }
+
+        return response != null ? getValidator(response.getContent(), mediaType) : null;
+    }
+
+    private Operation getOperation(String path, PathItem.HttpMethod method) {
+        if (model.getPaths() == null) {
+            return null;
+        }
+
+        PathItem pathItem = model.getPaths().getPathItem(path);
+
+        if (pathItem == null || pathItem.getOperations() == null) {
+            return null;
+        }
+
+        return pathItem.getOperations().get(method);
+    }
+
+    private SchemaValidator getValidator(Content content, String mediaType) {
+        if (content == null || content.getMediaTypes() == null) {
+            return null;
+        }
+
+        MediaType type = content.getMediaType(mediaType);
+
+        return type != null && type.getSchema() != null ? getValidator(type.getSchema()) : null;
+    }
+
+    /**
+     * Retrieve the validator for a schema of the document. Validators of the schemas
+     * compiled with the document are looked up without locking, other schemas are
+     * compiled on each call.
+     *
+     * @param schema the schema
+     * @return the validator for the schema
+     * @throws IllegalArgumentException if a schema reference cannot be resolved
+     */
+    public SchemaValidator getValidator(Schema schema) {
+        SchemaValidator validator = validators.get(schema);
+        return validator != null ? validator : compileValidator(schema);
+    }
+
+    private synchronized SchemaValidator compileValidator(Schema schema) {
+        return new SchemaValidator(compileSchema(schema));
+    }
+
+    private CompiledSchema compileSchema(Schema schema) {
+        CompiledSchema result = compiled.get(schema);
+
+        if (result == null) {
+            result = new CompiledSchema();
+            // Register before initialization to support recursive schemas
+            compiled.put(schema, result);
+            result.init(schema, this::compileSchema, this::resolve);
+        }
+
+        return result;
+    }
+
+    private CompiledSchema resolve(String ref) {
+        Schema target = ref.startsWith(OpenApiConstants.REF_PREFIX_SCHEMA)
+                ? components.get(ref.substring(OpenApiConstants.REF_PREFIX_SCHEMA.length()))
+                : null;
+
+        if (target == null) {
+            throw ValidatorMessages.msg.unresolvableReference(ref);
+        }
+
+        return compileSchema(target);
+    }
+}
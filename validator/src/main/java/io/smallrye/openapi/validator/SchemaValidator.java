@@ -0,0 +1,84 @@
+package io.smallrye.openapi.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Validates JSON values against a compiled schema. The value is validated while it is read
+ * from the parser, without building a tree of the value in memory.
+ *
+ * Instances are obtained from an {@link OpenApiValidator} and are safe for use by
+ * concurrent threads.
+ */
+public final class SchemaValidator {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final CompiledSchema schema;
+
+    SchemaValidator(CompiledSchema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Validate the JSON value at the current position of the parser, or the next value if
+     * the parser has no current token. When this method returns, the parser is positioned at
+     * the last token of the value.
+     *
+     * @param parser the parser to read the value from
+     * @param direction whether the value is sent in a request or a response, or null to
+     *        ignore <code>readOnly</code> and <code>writeOnly</code>
+     * @return the result of the validation
+     * @throws IOException if the value cannot be read
+     */
+    public ValidationResult validate(JsonParser parser, Direction direction) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        Matcher matcher = schema.matcher(Location.ROOT, direction);
+
+        while (token != null) {
+            if (matcher.next(token, parser)) {
+                return ValidationResult.of(matcher.errors());
+            }
+            token = parser.nextToken();
+        }
+
+        ValidationError incomplete = Location.ROOT.error(ValidatorMessages.msg.unexpectedEndOfInput());
+        return ValidationResult.of(Collections.singletonList(incomplete));
+    }
+
+    /**
+     * Validate the JSON value read from a stream. The stream is not closed.
+     *
+     * @param stream the stream to read the value from
+     * @param direction whether the value is sent in a request or a response, or null to
+     *        ignore <code>readOnly</code> and <code>writeOnly</code>
+     * @return the result of the validation
+     * @throws IOException if the value cannot be read or is not well-formed JSON
+     */
+    public ValidationResult validate(InputStream stream, Direction direction) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(stream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return validate(parser, direction);
+        }
+    }
+
+    /**
+     * Validate a JSON value.
+     *
+     * @param json the JSON text of the value
+     * @param direction whether the value is sent in a request or a response, or null to
+     *        ignore <code>readOnly</code> and <code>writeOnly</code>
+     * @return the result of the validation
+     * @throws IOException if the value is not well-formed JSON
+     */
+    public ValidationResult validate(String json, Direction direction) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            return validate(parser, direction);
+        }
+    }
+}
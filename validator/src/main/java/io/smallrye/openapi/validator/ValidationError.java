@@ -0,0 +1,34 @@
+package io.smallrye.openapi.validator;
+
+/**
+ * A violation of a schema by a JSON value.
+ */
+public final class ValidationError {
+
+    private final String pointer;
+    private final String message;
+
+    ValidationError(String pointer, String message) {
+        this.pointer = pointer;
+        this.message = message;
+    }
+
+    /**
+     * @return JSON pointer to the value in violation of the schema, empty for the root value
+     */
+    public String getPointer() {
+        return pointer;
+    }
+
+    /**
+     * @return description of the violation
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return pointer.isEmpty() ? message : pointer + ": " + message;
+    }
+}
@@ -0,0 +1,41 @@
+package io.smallrye.openapi.validator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a JSON value against a schema.
+ */
+public final class ValidationResult {
+
+    static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<ValidationError> errors;
+
+    private ValidationResult(List<ValidationError> errors) {
+        this.errors = errors;
+    }
+
+    static ValidationResult of(List<ValidationError> errors) {
+        return errors.isEmpty() ? VALID : new ValidationResult(Collections.unmodifiableList(errors));
+    }
+
+    /**
+     * @return true if the value conforms to the schema
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return the violations found, in the order of the values in the input
+     */
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : errors.toString();
+    }
+}
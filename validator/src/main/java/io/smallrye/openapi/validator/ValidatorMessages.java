@@ -0,0 +1,84 @@
+package io.smallrye.openapi.validator;
+
+import java.math.BigDecimal;
+
+import org.jboss.logging.Messages;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageBundle;
+
+@MessageBundle(projectCode = "SROAP", length = 5)
+interface ValidatorMessages {
+    ValidatorMessages msg = Messages.getBundle(ValidatorMessages.class);
+
+    @Message(id = 17000, value = "Expected %s but found %s")
+    String typeMismatch(String expected, String actual);
+
+    @Message(id = 17001, value = "Value is not one of the allowed values")
+    String notInEnumeration();
+
+    @Message(id = 17002, value = "String is shorter than %d characters")
+    String stringTooShort(int minLength);
+
+    @Message(id = 17003, value = "String is longer than %d characters")
+    String stringTooLong(int maxLength);
+
+    @Message(id = 17004, value = "String does not match pattern %s")
+    String patternMismatch(String pattern);
+
+    @Message(id = 17005, value = "Value is not a valid %s")
+    String formatMismatch(String format);
+
+    @Message(id = 17006, value = "Value is less than the minimum of %s")
+    String lessThanMinimum(BigDecimal minimum);
+
+    @Message(id = 17007, value = "Value must be greater than %s")
+    String notGreaterThanMinimum(BigDecimal minimum);
+
+    @Message(id = 17008, value = "Value is greater than the maximum of %s")
+    String greaterThanMaximum(BigDecimal maximum);
+
+    @Message(id = 17009, value = "Value must be less than %s")
+    String notLessThanMaximum(BigDecimal maximum);
+
+    @Message(id = 17010, value = "Value is not a multiple of %s")
+    String notMultipleOf(BigDecimal multipleOf);
+
+    @Message(id = 17011, value = "Array has fewer than %d items")
+    String tooFewItems(int minItems);
+
+    @Message(id = 17012, value = "Array has more than %d items")
+    String tooManyItems(int maxItems);
+
+    @Message(id = 17013, value = "Object has fewer than %d properties")
+    String tooFewProperties(int minProperties);
+
+    @Message(id = 17014, value = "Object has more than %d properties")
+    String tooManyProperties(int maxProperties);
+
+    @Message(id = 17015, value = "Required property %s is missing")
+    String missingRequiredProperty(String name);
+
+    @Message(id = 17016, value = "Property %s is not allowed")
+    String unexpectedProperty(String name);
+
+    @Message(id = 17017, value = "Read-only property %s is not allowed in a request")
+    String readOnlyProperty(String name);
+
+    @Message(id = 17018, value = "Write-only property %s is not allowed in a response")
+    String writeOnlyProperty(String name);
+
+    @Message(id = 17019, value = "Value does not match any of the anyOf schemas")
+    String anyOfMismatch();
+
+    @Message(id = 17020, value = "Value matches %d of the oneOf schemas, expected exactly one")
+    String oneOfMismatch(int matches);
+
+    @Message(id = 17021, value = "Value must not match the schema of not")
+    String notMismatch();
+
+    @Message(id = 17022, value = "Unexpected end of input")
+    String unexpectedEndOfInput();
+
+    @Message(id = 17023, value = "Schema reference %s cannot be resolved")
+    IllegalArgumentException unresolvableReference(String ref);
+}
@@ -0,0 +1,101 @@
+package io.smallrye.openapi.validator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * Formats of string and number values that are validated. Other formats are accepted
+ * without validation.
+ */
+enum ValueFormat {
+
+    DATE("date") {
+        @Override
+        boolean test(String value) {
+            try {
+                LocalDate.parse(value);
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+    },
+    DATE_TIME("date-time") {
+        @Override
+        boolean test(String value) {
+            try {
+                OffsetDateTime.parse(value);
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+    },
+    UUID("uuid") {
+        @Override
+        boolean test(String value) {
+            return UUID_PATTERN.matcher(value).matches();
+        }
+    },
+    BYTE("byte") {
+        @Override
+        boolean test(String value) {
+            return value.length() % 4 == 0 && BASE64_PATTERN.matcher(value).matches();
+        }
+    },
+    INT32("int32") {
+        @Override
+        boolean test(BigDecimal value) {
+            return isIntegral(value) && value.compareTo(INT32_MIN) >= 0 && value.compareTo(INT32_MAX) <= 0;
+        }
+    },
+    INT64("int64") {
+        @Override
+        boolean test(BigDecimal value) {
+            return isIntegral(value) && value.compareTo(INT64_MIN) >= 0 && value.compareTo(INT64_MAX) <= 0;
+        }
+    };
+
+    static final Pattern UUID_PATTERN = Pattern
+            .compile("[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}");
+    static final Pattern BASE64_PATTERN = Pattern.compile("[A-Za-z0-9+/]*={0,2}");
+    static final BigDecimal INT32_MIN = BigDecimal.valueOf(Integer.MIN_VALUE);
+    static final BigDecimal INT32_MAX = BigDecimal.valueOf(Integer.MAX_VALUE);
+    static final BigDecimal INT64_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    static final BigDecimal INT64_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final String name;
+
+    ValueFormat(String name) {
+        this.name = name;
+    }
+
+    static ValueFormat of(String name) {
+        for (ValueFormat format : values()) {
+            if (format.name.equals(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    static boolean isIntegral(BigDecimal value) {
+        return value.signum() == 0 || value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    boolean test(String value) {
+        return true;
+    }
+
+    boolean test(BigDecimal value) {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
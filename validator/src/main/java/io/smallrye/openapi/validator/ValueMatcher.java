@@ -0,0 +1,327 @@
+package io.smallrye.openapi.validator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Validates a value against the keywords of a single schema, excluding the
+ * references and combinations handled by {@link CombinedMatcher}.
+ */
+final class ValueMatcher implements Matcher {
+
+    private static final int START = 0;
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 2;
+    private static final int SKIP = 3;
+
+    private final CompiledSchema schema;
+    private final Location location;
+    private final Direction direction;
+
+    private int state = START;
+    private List<ValidationError> errors;
+    private Matcher child;
+    private int count;
+    private Set<String> present;
+
+    ValueMatcher(CompiledSchema schema, Location location, Direction direction) {
+        this.schema = schema;
+        this.location = location;
+        this.direction = direction;
+    }
+
+    @Override
+    public List<ValidationError> errors() {
+        return errors != null ? errors : Collections.emptyList();
+    }
+
+    private void error(Location at, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>();
+        }
+        errors.add(at.error(message));
+    }
+
+    private void error(String message) {
+        error(location, message);
+    }
+
+    private void childComplete() {
+        List<ValidationError> childErrors = child.errors();
+
+        if (!childErrors.isEmpty()) {
+            if (errors == null) {
+                errors = new ArrayList<>();
+            }
+            errors.addAll(childErrors);
+        }
+
+        child = null;
+    }
+
+    @Override
+    public boolean next(JsonToken token, JsonParser parser) throws IOException {
+        if (child != null) {
+            if (child.next(token, parser)) {
+                childComplete();
+                return state == SKIP;
+            }
+            return false;
+        }
+
+        switch (state) {
+            case OBJECT:
+                return nextProperty(token, parser);
+            case ARRAY:
+                return nextItem(token, parser);
+            default:
+                return start(token, parser);
+        }
+    }
+
+    private boolean start(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                if (schema.type == null || schema.type == SchemaType.OBJECT) {
+                    state = OBJECT;
+                } else {
+                    skip(token, "object");
+                }
+                return false;
+
+            case START_ARRAY:
+                if (schema.type == null || schema.type == SchemaType.ARRAY) {
+                    state = ARRAY;
+                } else {
+                    skip(token, "array");
+                }
+                return false;
+
+            case VALUE_STRING:
+                if (isType(SchemaType.STRING, "string")) {
+                    validateString(parser.getText());
+                }
+                return true;
+
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                validateNumber(token, parser);
+                return true;
+
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (isType(SchemaType.BOOLEAN, "boolean")) {
+                    validateEnumeration(token == JsonToken.VALUE_TRUE ? Boolean.TRUE : Boolean.FALSE);
+                }
+                return true;
+
+            case VALUE_NULL:
+                if (!schema.allowsNull()) {
+                    error(ValidatorMessages.msg.typeMismatch(String.valueOf(schema.type), "null"));
+                } else if (!schema.nullable) {
+                    validateEnumeration(CompiledSchema.NULL);
+                }
+                return true;
+
+            default:
+                // Embedded objects, not produced when parsing JSON text
+                return true;
+        }
+    }
+
+    private void skip(JsonToken token, String actualType) throws IOException {
+        error(ValidatorMessages.msg.typeMismatch(String.valueOf(schema.type), actualType));
+        state = SKIP;
+        child = new Matcher.Any();
+        child.next(token, null);
+    }
+
+    private boolean isType(SchemaType expected, String actualType) {
+        if (schema.type == null || schema.type == expected) {
+            return true;
+        }
+        error(ValidatorMessages.msg.typeMismatch(String.valueOf(schema.type), actualType));
+        return false;
+    }
+
+    private void validateEnumeration(Object value) {
+        if (schema.enumeration != null && !schema.enumeration.contains(value)) {
+            error(ValidatorMessages.msg.notInEnumeration());
+        }
+    }
+
+    private void validateString(String value) {
+        validateEnumeration(value);
+
+        if (schema.minLength != null || schema.maxLength != null) {
+            int length = value.codePointCount(0, value.length());
+
+            if (schema.minLength != null && length < schema.minLength) {
+                error(ValidatorMessages.msg.stringTooShort(schema.minLength));
+            }
+            if (schema.maxLength != null && length > schema.maxLength) {
+                error(ValidatorMessages.msg.stringTooLong(schema.maxLength));
+            }
+        }
+        if (schema.pattern != null && !schema.pattern.matcher(value).find()) {
+            error(ValidatorMessages.msg.patternMismatch(schema.pattern.pattern()));
+        }
+        if (schema.format != null && !schema.format.test(value)) {
+            error(ValidatorMessages.msg.formatMismatch(schema.format.toString()));
+        }
+    }
+
+    private void validateNumber(JsonToken token, JsonParser parser) throws IOException {
+        boolean integral = token == JsonToken.VALUE_NUMBER_INT;
+        BigDecimal value = null;
+
+        if (schema.type == SchemaType.INTEGER && !integral) {
+            value = parser.getDecimalValue();
+            integral = ValueFormat.isIntegral(value);
+        }
+
+        if (schema.type != null && schema.type != SchemaType.NUMBER && !(schema.type == SchemaType.INTEGER && integral)) {
+            error(ValidatorMessages.msg.typeMismatch(String.valueOf(schema.type), integral ? "integer" : "number"));
+            return;
+        }
+
+        if (schema.enumeration == null && schema.format == null && schema.minimum == null && schema.maximum == null
+                && schema.multipleOf == null) {
+            return;
+        }
+
+        if (value == null) {
+            value = parser.getDecimalValue();
+        }
+
+        if (schema.enumeration != null) {
+            validateEnumeration(CompiledSchema.normalize(value));
+        }
+        if (schema.format != null && !schema.format.test(value)) {
+            error(ValidatorMessages.msg.formatMismatch(schema.format.toString()));
+        }
+        if (schema.minimum != null) {
+            int comparison = value.compareTo(schema.minimum);
+
+            if (schema.exclusiveMinimum && comparison <= 0) {
+                error(ValidatorMessages.msg.notGreaterThanMinimum(schema.minimum));
+            } else if (comparison < 0) {
+                error(ValidatorMessages.msg.lessThanMinimum(schema.minimum));
+            }
+        }
+        if (schema.maximum != null) {
+            int comparison = value.compareTo(schema.maximum);
+
+            if (schema.exclusiveMaximum && comparison >= 0) {
+                error(ValidatorMessages.msg.notLessThanMaximum(schema.maximum));
+            } else if (comparison > 0) {
+                error(ValidatorMessages.msg.greaterThanMaximum(schema.maximum));
+            }
+        }
+        if (schema.multipleOf != null && schema.multipleOf.signum() != 0
+                && value.remainder(schema.multipleOf).signum() != 0) {
+            error(ValidatorMessages.msg.notMultipleOf(schema.multipleOf));
+        }
+    }
+
+    private boolean nextProperty(JsonToken token, JsonParser parser) throws IOException {
+        if (token == JsonToken.END_OBJECT) {
+            completeObject();
+            return true;
+        }
+
+        String name = parser.getCurrentName();
+        Location at = location.property(name);
+        CompiledSchema property = schema.properties.get(name);
+        count++;
+
+        if (!schema.required.isEmpty()) {
+            if (present == null) {
+                present = new HashSet<>();
+            }
+            present.add(name);
+        }
+
+        if (property != null) {
+            if (direction == Direction.REQUEST && property.isReadOnly()) {
+                error(at, ValidatorMessages.msg.readOnlyProperty(name));
+            } else if (direction == Direction.RESPONSE && property.isWriteOnly()) {
+                error(at, ValidatorMessages.msg.writeOnlyProperty(name));
+            }
+            child = property.matcher(at, direction);
+        } else if (schema.additionalProperties != null) {
+            child = schema.additionalProperties.matcher(at, direction);
+        } else {
+            if (!schema.additionalPropertiesAllowed) {
+                error(at, ValidatorMessages.msg.unexpectedProperty(name));
+            }
+            child = new Matcher.Any();
+        }
+
+        return false;
+    }
+
+    private void completeObject() {
+        for (String name : schema.required) {
+            if (present != null && present.contains(name)) {
+                continue;
+            }
+
+            CompiledSchema property = schema.properties.get(name);
+
+            // readOnly properties are only required in responses, writeOnly properties in requests
+            if (property != null && ((direction == Direction.REQUEST && property.isReadOnly())
+                    || (direction == Direction.RESPONSE && property.isWriteOnly()))) {
+                continue;
+            }
+
+            error(ValidatorMessages.msg.missingRequiredProperty(name));
+        }
+
+        if (schema.minProperties != null && count < schema.minProperties) {
+            error(ValidatorMessages.msg.tooFewProperties(schema.minProperties));
+        }
+        if (schema.maxProperties != null && count > schema.maxProperties) {
+            error(ValidatorMessages.msg.tooManyProperties(schema.maxProperties));
+        }
+    }
+
+    private boolean nextItem(JsonToken token, JsonParser parser) throws IOException {
+        if (token == JsonToken.END_ARRAY) {
+            if (schema.minItems != null && count < schema.minItems) {
+                error(ValidatorMessages.msg.tooFewItems(schema.minItems));
+            }
+            if (schema.maxItems != null && count > schema.maxItems) {
+                error(ValidatorMessages.msg.tooManyItems(schema.maxItems));
+            }
+            return true;
+        }
+
+        int index = count++;
+
+        if (schema.items == null) {
+            if (!token.isScalarValue()) {
+                child = new Matcher.Any();
+                child.next(token, parser);
+            }
+        } else {
+            child = schema.items.matcher(location.item(index), direction);
+
+            if (child.next(token, parser)) {
+                childComplete();
+            }
+        }
+
+        return false;
+    }
+}
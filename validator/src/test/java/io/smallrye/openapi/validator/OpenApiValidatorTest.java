@@ -0,0 +1,169 @@
+package io.smallrye.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.PathItemImpl;
+import io.smallrye.openapi.api.models.PathsImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.parameters.RequestBodyImpl;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiParser;
+
+class OpenApiValidatorTest {
+
+    static final String VALID_PET = "{ \"name\": \"Felix\", \"kind\": { \"lives\": 9 }, \"status\": \"sold\","
+            + " \"born\": \"2020-02-29\", \"weight\": 4.5, \"tags\": [ \"black\", \"cat\" ], \"secret\": \"x\","
+            + " \"category\": { \"name\": \"Cats\", \"parent\": { \"name\": \"Pets\" } },"
+            + " \"attributes\": { \"legs\": 4 } }";
+
+    static OpenApiValidator validator;
+
+    @BeforeAll
+    static void compile() throws IOException {
+        try (InputStream stream = OpenApiValidatorTest.class.getResourceAsStream("petstore.json")) {
+            validator = OpenApiValidator.compile(OpenApiParser.parse(stream, Format.JSON));
+        }
+    }
+
+    static List<String> errors(ValidationResult result) {
+        return result.getErrors().stream().map(ValidationError::toString).collect(Collectors.toList());
+    }
+
+    static List<String> validateRequest(String json) throws IOException {
+        return errors(validator.getRequestValidator("/pets", HttpMethod.POST, "application/json")
+                .validate(json, Direction.REQUEST));
+    }
+
+    @Test
+    void testValidRequest() throws IOException {
+        assertEquals(Arrays.asList(), validateRequest(VALID_PET));
+    }
+
+    @Test
+    void testScalarConstraints() throws IOException {
+        List<String> errors = validateRequest("{ \"name\": \"felix\", \"kind\": { \"lives\": 10 }, \"status\": \"lost\","
+                + " \"born\": \"2021-02-29\", \"weight\": 0, \"tags\": [ \"\", 1 ] }");
+
+        assertEquals(Arrays.asList(
+                "/name: SROAP17004: String does not match pattern ^[A-Z][a-z]+$",
+                "/kind: SROAP17020: Value matches 0 of the oneOf schemas, expected exactly one",
+                "/status: SROAP17001: Value is not one of the allowed values",
+                "/born: SROAP17005: Value is not a valid date",
+                "/weight: SROAP17007: Value must be greater than 0",
+                "/tags/0: SROAP17002: String is shorter than 1 characters",
+                "/tags/1: SROAP17000: Expected string but found integer"), errors);
+    }
+
+    @Test
+    void testObjectConstraints() throws IOException {
+        List<String> errors = validateRequest("{ \"id\": 1, \"kind\": { \"lives\": 1, \"bark\": true },"
+                + " \"color\": { \"nested\": [ 1, 2 ] }, \"tags\": [ \"a\", \"b\", \"c\" ],"
+                + " \"category\": { \"parent\": {} }, \"attributes\": { \"legs\": \"four\" } }");
+
+        assertEquals(Arrays.asList(
+                "/id: SROAP17017: Read-only property id is not allowed in a request",
+                "/kind: SROAP17020: Value matches 2 of the oneOf schemas, expected exactly one",
+                "/color: SROAP17016: Property color is not allowed",
+                "/tags: SROAP17012: Array has more than 2 items",
+                "/category/parent: SROAP17015: Required property name is missing",
+                "/category: SROAP17015: Required property name is missing",
+                "/attributes/legs: SROAP17000: Expected integer but found string",
+                "SROAP17015: Required property name is missing"), errors);
+    }
+
+    @Test
+    void testNullable() throws IOException {
+        assertEquals(Arrays.asList(),
+                validateRequest("{ \"name\": \"Rex\", \"kind\": { \"bark\": true }, \"category\": null }"));
+        assertEquals(Arrays.asList("/name: SROAP17000: Expected string but found null"),
+                validateRequest("{ \"name\": null, \"kind\": { \"bark\": false } }"));
+    }
+
+    @Test
+    void testResponse() throws IOException {
+        SchemaValidator created = validator.getResponseValidator("/pets", HttpMethod.POST, "201", "application/json");
+
+        assertEquals(Arrays.asList(
+                "/secret: SROAP17018: Write-only property secret is not allowed in a response",
+                "SROAP17015: Required property id is missing"),
+                errors(created.validate(VALID_PET, Direction.RESPONSE)));
+
+        SchemaValidator error = validator.getResponseValidator("/pets", HttpMethod.POST, "500", "application/json");
+        assertNotNull(error);
+        assertTrue(error.validate("{ \"message\": \"Failure\" }", Direction.RESPONSE).isValid());
+
+        assertNull(validator.getResponseValidator("/pets", HttpMethod.GET, "200", "application/json"));
+        assertNull(validator.getRequestValidator("/pets", HttpMethod.POST, "application/xml"));
+    }
+
+    @Test
+    void testBodyValidatorsPrecompiled() {
+        SchemaValidator request = validator.getRequestValidator("/pets", HttpMethod.POST, "application/json");
+        SchemaValidator response = validator.getResponseValidator("/pets", HttpMethod.POST, "201", "application/json");
+
+        assertSame(request, validator.getRequestValidator("/pets", HttpMethod.POST, "application/json"));
+        assertSame(response, validator.getResponseValidator("/pets", HttpMethod.POST, "201", "application/json"));
+    }
+
+    @Test
+    void testValueWithinStream() throws IOException {
+        SchemaValidator category = validator.getComponentValidator("Category");
+
+        try (JsonParser parser = new JsonFactory()
+                .createParser("[ { \"name\": \"Cats\" }, { \"parent\": { \"name\": \"Pets\" } } ]")) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            assertTrue(category.validate(parser, null).isValid());
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            assertEquals(Arrays.asList("SROAP17015: Required property name is missing"),
+                    errors(category.validate(parser, null)));
+            assertEquals(JsonToken.END_ARRAY, parser.nextToken());
+        }
+
+        assertEquals(Arrays.asList("SROAP17022: Unexpected end of input"),
+                errors(category.validate("", Direction.REQUEST)));
+    }
+
+    @Test
+    void testUnresolvableReference() {
+        OpenAPI model = new OpenAPIImpl();
+        OpenApiValidator empty = OpenApiValidator.compile(model);
+        SchemaImpl schema = new SchemaImpl();
+        schema.setRef("Missing");
+
+        assertThrows(IllegalArgumentException.class, () -> empty.getValidator(schema));
+        assertNotNull(empty.getValidator(new SchemaImpl()));
+
+        OpenAPI withBody = new OpenAPIImpl()
+                .paths(new PathsImpl().addPathItem("/pets", new PathItemImpl()
+                        .POST(new OperationImpl().requestBody(new RequestBodyImpl()
+                                .content(new ContentImpl().addMediaType("application/json",
+                                        new MediaTypeImpl().schema(schema)))))));
+        assertThrows(IllegalArgumentException.class, () -> OpenApiValidator.compile(withBody));
+    }
+}
@@ -0,0 +1,179 @@
+package io.smallrye.openapi.vertx.web;
+
+import java.util.Locale;
+
+import io.smallrye.openapi.runtime.io.BinaryFormat;
+import io.smallrye.openapi.runtime.io.Format;
+
+/**
+ * Parsing of the request headers selecting the representation of a resource: the format
+ * of the document (Accept), its encoding (Accept-Encoding) and conditional requests
+ * (If-None-Match).
+ */
+final class Negotiation {
+
+    /**
+     * Media type of the document when neither requested by the format query parameter nor
+     * by the Accept header, as required by the MicroProfile OpenAPI specification.
+     */
+    static final String DEFAULT_MEDIA_TYPE = Format.YAML.getMimeType();
+
+    private Negotiation() {
+    }
+
+    /**
+     * Select the media type of the document, one of the {@link Format text formats} or of the
+     * {@link BinaryFormat#isAvailable() available} binary formats. The format query parameter
+     * takes precedence over the Accept header, and the supported media type with the highest
+     * quality is selected from the Accept header.
+     *
+     * @param formatParameter value of the format query parameter, may be null
+     * @param accept value of the Accept header, may be null
+     * @return the media type, never null
+     */
+    static String documentMediaType(String formatParameter, String accept) {
+        if (formatParameter != null) {
+            String extension = formatParameter.toLowerCase(Locale.ROOT);
+
+            switch (extension) {
+                case "json":
+                    return Format.JSON.getMimeType();
+                case "yaml":
+                case "yml":
+                    return Format.YAML.getMimeType();
+                default:
+                    BinaryFormat format = BinaryFormat.fromExtension(extension);
+                    if (format != null && format.isAvailable()) {
+                        return format.getMimeType();
+                    }
+                    break;
+            }
+        }
+
+        if (accept == null) {
+            return DEFAULT_MEDIA_TYPE;
+        }
+
+        String selected = null;
+        double selectedQuality = 0;
+
+        for (String element : accept.split(",")) {
+            String mediaType = mediaType(value(element));
+            double quality = quality(element);
+
+            if (mediaType != null && quality > selectedQuality) {
+                selected = mediaType;
+                selectedQuality = quality;
+            }
+        }
+
+        return selected != null ? selected : DEFAULT_MEDIA_TYPE;
+    }
+
+    /**
+     * @param acceptEncoding value of the Accept-Encoding header, may be null
+     * @return true if the gzip content coding is acceptable
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        double gzip = -1;
+        double any = -1;
+
+        for (String element : acceptEncoding.split(",")) {
+            String coding = value(element);
+
+            if (RenderedResource.GZIP.equals(coding)) {
+                gzip = quality(element);
+            } else if ("*".equals(coding)) {
+                any = quality(element);
+            }
+        }
+
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    /**
+     * Weak comparison of the entity tags of a conditional request with the current
+     * entity tag of a resource.
+     *
+     * @param ifNoneMatch value of the If-None-Match header, may be null
+     * @param etag the current entity tag
+     * @return true if the client's copy of the resource is current
+     */
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String element : ifNoneMatch.split(",")) {
+            String tag = element.trim();
+
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The supported media type of the document matching an element of the Accept header, or null.
+     */
+    private static String mediaType(String value) {
+        switch (value) {
+            case "application/json":
+                return Format.JSON.getMimeType();
+            case "application/yaml":
+            case "application/x-yaml":
+            case "text/yaml":
+            case "text/x-yaml":
+                return Format.YAML.getMimeType();
+            default:
+                for (BinaryFormat format : BinaryFormat.values()) {
+                    if (format.getMimeType().equals(value) && format.isAvailable()) {
+                        return format.getMimeType();
+                    }
+                }
+                return null;
+        }
+    }
+
+    /**
+     * The value of an element of a header, without parameters.
+     */
+    private static String value(String element) {
+        int parameters = element.indexOf(';');
+        return (parameters < 0 ? element : element.substring(0, parameters)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The quality (q parameter) of an element of a header, 1 by default and 0 if invalid.
+     */
+    private static double quality(String element) {
+        int parameters = element.indexOf(';');
+
+        while (parameters >= 0) {
+            int next = element.indexOf(';', parameters + 1);
+            String parameter = (next < 0 ? element.substring(parameters + 1) : element.substring(parameters + 1, next))
+                    .trim();
+
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+
+            parameters = next;
+        }
+
+        return 1;
+    }
+}
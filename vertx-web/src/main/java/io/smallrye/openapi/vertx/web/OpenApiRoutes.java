@@ -0,0 +1,365 @@
+package io.smallrye.openapi.vertx.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import io.smallrye.openapi.runtime.OpenApiDocumentHolder;
+import io.smallrye.openapi.runtime.io.BinaryFormat;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Vert.x Web routes serving the OpenAPI document and the OpenAPI UI.
+ * <p>
+ * The document is served at the {@link #DEFAULT_DOCUMENT_PATH document path} in the format
+ * selected by the {@code format} query parameter or the Accept header (YAML by default), in
+ * JSON, YAML, or the {@link BinaryFormat binary formats} whose data format module is on the
+ * class path.
+ * Each format is rendered once, on a worker thread, as soon as the document is ready, and
+ * compressed at the same time. Requests are then answered from the rendered buffers, with
+ * an entity tag for conditional requests. Until the document is ready the route responds
+ * with 503 (Service Unavailable), see {@link OpenApiDocumentHolder}.
+ * <p>
+ * The UI is served at the {@link #DEFAULT_UI_PATH UI path} from the {@value #UI_RESOURCES}
+ * resources of the class path, e.g. those of the {@code smallrye-open-api-ui} artifact. Its
+ * index may be replaced by a page created with {@code IndexHtmlCreator}. Resources are loaded
+ * on a worker thread on first use and kept, rendered the same way as the document.
+ *
+ * <pre>
+ * OpenApiDocumentHolder document = new OpenApiDocumentHolder(OpenApiProcessor.bootstrapAsync(config, index));
+ * OpenApiRoutes.builder(vertx, document)
+ *         .uiIndexHtml(IndexHtmlCreator.createIndexHtml(options))
+ *         .build()
+ *         .mount(router);
+ * </pre>
+ */
+public class OpenApiRoutes {
+
+    public static final String DEFAULT_DOCUMENT_PATH = "/openapi";
+    public static final String DEFAULT_UI_PATH = "/openapi-ui";
+    public static final String UI_RESOURCES = "META-INF/resources/openapi-ui/";
+
+    static final String INDEX_HTML = "index.html";
+    static final String VARY_UI_RESOURCE = "Accept-Encoding";
+    static final String VARY_DOCUMENT = "Accept, Accept-Encoding";
+
+    private final Vertx vertx;
+    private final OpenApiDocumentHolder document;
+    private final String documentPath;
+    private final String uiPath;
+    private final byte[] uiIndexHtml;
+    private final ClassLoader classLoader;
+    private final Future<Map<String, RenderedResource>> renderedDocument;
+    private final ConcurrentMap<String, Future<RenderedResource>> uiResources = new ConcurrentHashMap<>();
+
+    private OpenApiRoutes(Builder builder) {
+        this.vertx = builder.vertx;
+        this.document = builder.document;
+        this.documentPath = builder.documentPath;
+        this.uiPath = builder.uiPath;
+        this.uiIndexHtml = builder.uiIndexHtml;
+        this.classLoader = builder.classLoader;
+        this.renderedDocument = Future.fromCompletionStage(document.getDocument())
+                .compose(model -> vertx.executeBlocking(promise -> complete(promise, () -> render(model)), false));
+        this.renderedDocument.onFailure(VertxWebLogging.logger::documentNotRendered);
+    }
+
+    /**
+     * Create a builder of the routes.
+     *
+     * @param vertx the Vert.x instance, rendering on its worker threads
+     * @param document holder of the document to serve
+     * @return the builder
+     */
+    public static Builder builder(Vertx vertx, OpenApiDocumentHolder document) {
+        return new Builder(vertx, document);
+    }
+
+    /**
+     * Add the routes to the router.
+     *
+     * @param router the router
+     */
+    public void mount(Router router) {
+        router.route(documentPath).method(HttpMethod.GET).method(HttpMethod.HEAD).handler(this::handleDocument);
+
+        if (uiPath != null) {
+            // Also matches the UI path itself
+            router.route(uiPath + "/*").method(HttpMethod.GET).method(HttpMethod.HEAD).handler(this::handleUi);
+        }
+    }
+
+    /**
+     * @return the future completed with the rendered document, by media type
+     */
+    Future<Map<String, RenderedResource>> getRenderedDocument() {
+        return renderedDocument;
+    }
+
+    void handleDocument(RoutingContext context) {
+        HttpServerRequest request = context.request();
+
+        switch (document.getStatus()) {
+            case PENDING:
+                request.response()
+                        .setStatusCode(document.getHttpStatus())
+                        .putHeader(HttpHeaders.RETRY_AFTER, Integer.toString(document.getRetryAfterSeconds()))
+                        .end();
+                return;
+            case FAILED:
+                request.response().setStatusCode(document.getHttpStatus()).end();
+                return;
+            default:
+                break;
+        }
+
+        String mediaType = Negotiation.documentMediaType(request.getParam("format"),
+                request.getHeader(HttpHeaders.ACCEPT));
+
+        whenComplete(context, renderedDocument, result -> {
+            if (result.succeeded()) {
+                result.result().get(mediaType).send(request, VARY_DOCUMENT);
+            } else {
+                context.fail(500, result.cause());
+            }
+        });
+    }
+
+    void handleUi(RoutingContext context) {
+        String path = context.normalizedPath();
+
+        if (path.length() <= uiPath.length()) {
+            // Relative references of the index are resolved against the directory
+            context.response().setStatusCode(302).putHeader(HttpHeaders.LOCATION, uiPath + '/').end();
+            return;
+        }
+
+        String name = path.substring(uiPath.length() + 1);
+
+        if (name.isEmpty()) {
+            name = INDEX_HTML;
+        }
+        if (!isResourceName(name)) {
+            context.response().setStatusCode(404).end();
+            return;
+        }
+
+        final String resourceName = name;
+        Future<RenderedResource> resource = uiResources.computeIfAbsent(resourceName,
+                n -> vertx.executeBlocking(promise -> complete(promise, () -> loadUiResource(n)), false));
+
+        whenComplete(context, resource, result -> {
+            if (result.failed() || result.result() == null) {
+                // Only found resources are kept
+                uiResources.remove(resourceName, resource);
+            }
+
+            if (result.failed()) {
+                VertxWebLogging.logger.uiResourceNotLoaded(resourceName, result.cause());
+                context.response().setStatusCode(500).end();
+            } else if (result.result() == null) {
+                context.response().setStatusCode(404).end();
+            } else {
+                result.result().send(context.request(), VARY_UI_RESOURCE);
+            }
+        });
+    }
+
+    /**
+     * Render the document in each format, by media type. Runs on a worker thread.
+     */
+    static Map<String, RenderedResource> render(OpenAPI model) throws IOException {
+        long start = System.nanoTime();
+        Map<String, RenderedResource> rendered = new HashMap<>();
+
+        for (Format format : Format.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            OpenApiSerializer.serialize(model, format, out);
+            rendered.put(format.getMimeType(),
+                    RenderedResource.of(format.getMimeType() + ";charset=UTF-8", out.toByteArray(), true));
+        }
+
+        for (BinaryFormat format : BinaryFormat.values()) {
+            if (format.isAvailable()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                OpenApiSerializer.serialize(model, format, out);
+                rendered.put(format.getMimeType(), RenderedResource.of(format.getMimeType(), out.toByteArray(), false));
+            }
+        }
+
+        VertxWebLogging.logger.documentRendered(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                rendered.get(Format.JSON.getMimeType()).length());
+
+        return rendered;
+    }
+
+    /**
+     * Load and render a resource of the UI, or null if it does not exist. Runs on a worker thread.
+     */
+    RenderedResource loadUiResource(String name) throws IOException {
+        String contentType = contentType(name);
+
+        if (INDEX_HTML.equals(name) && uiIndexHtml != null) {
+            return RenderedResource.of(contentType, uiIndexHtml, true);
+        }
+
+        URL url = classLoader.getResource(UI_RESOURCES + name);
+
+        if (url == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (InputStream in = url.openStream()) {
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) >= 0;) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+
+        return RenderedResource.of(contentType, bytes.toByteArray(), isCompressible(contentType));
+    }
+
+    /**
+     * Whether the name is the name of a file of the UI directory or of one of its
+     * sub-directories, not leaving the directory.
+     */
+    static boolean isResourceName(String name) {
+        return !name.startsWith("/")
+                && !name.endsWith("/")
+                && !name.contains("//")
+                && !name.contains("\\")
+                && !name.contains("..")
+                && !name.contains(":");
+    }
+
+    static String contentType(String name) {
+        int extension = name.lastIndexOf('.');
+
+        switch (extension < 0 ? "" : name.substring(extension + 1).toLowerCase(Locale.ROOT)) {
+            case "html":
+                return "text/html;charset=UTF-8";
+            case "css":
+                return "text/css;charset=UTF-8";
+            case "js":
+                return "text/javascript;charset=UTF-8";
+            case "json":
+            case "map":
+                return "application/json";
+            case "svg":
+                return "image/svg+xml";
+            case "png":
+                return "image/png";
+            case "ico":
+                return "image/x-icon";
+            default:
+                return "application/octet-stream";
+        }
+    }
+
+    static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/") || contentType.startsWith("application/json")
+                || contentType.startsWith("image/svg");
+    }
+
+    private static <T> void complete(Promise<T> promise, Callable<T> task) {
+        try {
+            promise.complete(task.call());
+        } catch (Exception e) {
+            promise.fail(e);
+        }
+    }
+
+    /**
+     * Handle the result of a future on the context of the request, the future possibly
+     * being completed by a worker thread.
+     */
+    private static <T> void whenComplete(RoutingContext context, Future<T> future, Handler<AsyncResult<T>> handler) {
+        if (future.isComplete()) {
+            handler.handle(future);
+        } else {
+            Context requestContext = context.vertx().getOrCreateContext();
+            future.onComplete(result -> requestContext.runOnContext(v -> handler.handle(result)));
+        }
+    }
+
+    public static final class Builder {
+        private final Vertx vertx;
+        private final OpenApiDocumentHolder document;
+        private String documentPath = DEFAULT_DOCUMENT_PATH;
+        private String uiPath = DEFAULT_UI_PATH;
+        private byte[] uiIndexHtml;
+        private ClassLoader classLoader = OpenApiRoutes.class.getClassLoader();
+
+        private Builder(Vertx vertx, OpenApiDocumentHolder document) {
+            this.vertx = Objects.requireNonNull(vertx);
+            this.document = Objects.requireNonNull(document);
+        }
+
+        /**
+         * @param documentPath path of the document, {@value OpenApiRoutes#DEFAULT_DOCUMENT_PATH} by default
+         * @return this builder
+         */
+        public Builder documentPath(String documentPath) {
+            this.documentPath = Objects.requireNonNull(documentPath);
+            return this;
+        }
+
+        /**
+         * @param uiPath path of the UI, {@value OpenApiRoutes#DEFAULT_UI_PATH} by default, or null to
+         *        not serve the UI
+         * @return this builder
+         */
+        public Builder uiPath(String uiPath) {
+            this.uiPath = uiPath != null && uiPath.endsWith("/") ? uiPath.substring(0, uiPath.length() - 1) : uiPath;
+            return this;
+        }
+
+        /**
+         * @param uiIndexHtml content of the index page of the UI, e.g. created by {@code IndexHtmlCreator},
+         *        replacing the {@value OpenApiRoutes#INDEX_HTML} resource
+         * @return this builder
+         */
+        public Builder uiIndexHtml(byte[] uiIndexHtml) {
+            this.uiIndexHtml = uiIndexHtml != null ? uiIndexHtml.clone() : null;
+            return this;
+        }
+
+        /**
+         * @param classLoader class loader of the UI resources, the class loader of this module by default
+         * @return this builder
+         */
+        public Builder classLoader(ClassLoader classLoader) {
+            this.classLoader = Objects.requireNonNull(classLoader);
+            return this;
+        }
+
+        public OpenApiRoutes build() {
+            return new OpenApiRoutes(this);
+        }
+    }
+}
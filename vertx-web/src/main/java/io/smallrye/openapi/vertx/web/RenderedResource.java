@@ -0,0 +1,143 @@
+package io.smallrye.openapi.vertx.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Content rendered once and then sent as is for every request: the plain and the gzip
+ * compressed bytes are held in {@link Buffer}s that are written without being copied, and
+ * the entity tags of both representations are computed up front.
+ */
+final class RenderedResource {
+
+    static final String GZIP = "gzip";
+    static final String NO_CACHE = "no-cache";
+
+    private static final int HASH_BYTES = 12;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String contentType;
+    private final Buffer content;
+    private final String etag;
+    private final Buffer gzipContent;
+    private final String gzipEtag;
+
+    private RenderedResource(String contentType, Buffer content, String etag, Buffer gzipContent, String gzipEtag) {
+        this.contentType = contentType;
+        this.content = content;
+        this.etag = etag;
+        this.gzipContent = gzipContent;
+        this.gzipEtag = gzipEtag;
+    }
+
+    /**
+     * Render a resource, compressing it when it is compressible and the compressed form is
+     * smaller. Expensive, not to be called on an event loop.
+     *
+     * @param contentType value of the Content-Type header
+     * @param bytes the content
+     * @param compressible whether compressing the content is worthwhile (e.g. text)
+     * @return the rendered resource
+     */
+    static RenderedResource of(String contentType, byte[] bytes, boolean compressible) {
+        String hash = hash(bytes);
+        Buffer gzipContent = null;
+        String gzipEtag = null;
+
+        if (compressible) {
+            byte[] compressed = gzip(bytes);
+
+            if (compressed.length < bytes.length) {
+                gzipContent = Buffer.buffer(compressed);
+                // A distinct tag for each representation of the resource (RFC 9110, 8.8.3)
+                gzipEtag = '"' + hash + '-' + GZIP + '"';
+            }
+        }
+
+        return new RenderedResource(contentType, Buffer.buffer(bytes), '"' + hash + '"', gzipContent, gzipEtag);
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    int length() {
+        return content.length();
+    }
+
+    /**
+     * Respond with the resource, compressed if the client accepts it, or with 304 (Not Modified)
+     * if the client's copy matches.
+     *
+     * @param request the request
+     * @param vary value of the Vary header
+     */
+    void send(HttpServerRequest request, String vary) {
+        HttpServerResponse response = request.response();
+        boolean compressed = gzipContent != null && Negotiation.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String tag = compressed ? gzipEtag : etag;
+
+        response.putHeader(HttpHeaders.ETAG, tag)
+                .putHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+
+        if (vary != null) {
+            response.putHeader(HttpHeaders.VARY, vary);
+        }
+
+        if (Negotiation.matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), tag)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+
+        response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+
+        if (compressed) {
+            // Also keeps a compressing server from compressing the content again
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        response.end(compressed ? gzipContent : content);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            char[] hex = new char[HASH_BYTES * 2];
+
+            for (int i = 0; i < HASH_BYTES; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+            }
+
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return compressed.toByteArray();
+    }
+}
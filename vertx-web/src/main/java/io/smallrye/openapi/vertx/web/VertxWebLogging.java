@@ -0,0 +1,25 @@
+package io.smallrye.openapi.vertx.web;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "SROAP", length = 5)
+interface VertxWebLogging extends BasicLogger {
+    VertxWebLogging logger = Logger.getMessageLogger(VertxWebLogging.class, VertxWebLogging.class.getPackage().getName());
+
+    @LogMessage(level = Logger.Level.ERROR)
+    @Message(id = 18000, value = "Failed to render the OpenAPI document")
+    void documentNotRendered(@Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 18001, value = "Rendered the OpenAPI document in %d ms (%d bytes of JSON)")
+    void documentRendered(long elapsedMillis, int jsonBytes);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 18002, value = "Failed to load the OpenAPI UI resource %s")
+    void uiResourceNotLoaded(String name, @Cause Throwable cause);
+}
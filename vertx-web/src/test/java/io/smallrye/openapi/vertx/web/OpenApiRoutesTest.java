@@ -0,0 +1,316 @@
+package io.smallrye.openapi.vertx.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.info.InfoImpl;
+import io.smallrye.openapi.runtime.OpenApiDocumentHolder;
+import io.smallrye.openapi.runtime.io.BinaryFormat;
+import io.smallrye.openapi.runtime.io.Format;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+class OpenApiRoutesTest {
+
+    private static final String INDEX_HTML = "<html><body>Custom index</body></html>";
+
+    private Vertx vertx;
+    private HttpServer server;
+    private HttpClient client;
+    private Context clientContext;
+
+    @AfterEach
+    void close() throws Exception {
+        if (vertx != null) {
+            await(vertx.close());
+        }
+    }
+
+    @Test
+    void testDocumentFormatNegotiation() {
+        assertEquals(Format.YAML.getMimeType(), Negotiation.documentMediaType(null, null));
+        assertEquals(Format.JSON.getMimeType(), Negotiation.documentMediaType(null, "application/json"));
+        assertEquals(Format.YAML.getMimeType(), Negotiation.documentMediaType(null, "text/html, */*"));
+        assertEquals(Format.YAML.getMimeType(),
+                Negotiation.documentMediaType(null, "application/json;q=0.5, application/yaml"));
+        assertEquals(Format.JSON.getMimeType(),
+                Negotiation.documentMediaType(null, "application/yaml;q=0.1, application/json;q=0.9"));
+        assertEquals(Format.YAML.getMimeType(), Negotiation.documentMediaType(null, "application/json;q=0"));
+        assertEquals(Format.JSON.getMimeType(), Negotiation.documentMediaType("JSON", "application/yaml"));
+        assertEquals(Format.YAML.getMimeType(), Negotiation.documentMediaType("yml", "application/json"));
+        assertEquals(Format.JSON.getMimeType(), Negotiation.documentMediaType("xml", "application/json"));
+        assertEquals(BinaryFormat.CBOR.getMimeType(),
+                Negotiation.documentMediaType(null, "application/cbor, application/json;q=0.5"));
+        assertEquals(BinaryFormat.SMILE.getMimeType(), Negotiation.documentMediaType("smile", null));
+        assertEquals(BinaryFormat.SMILE.getMimeType(), Negotiation.documentMediaType(null, "application/x-jackson-smile"));
+    }
+
+    @Test
+    void testEncodingAndEtagNegotiation() {
+        assertFalse(Negotiation.acceptsGzip(null));
+        assertTrue(Negotiation.acceptsGzip("gzip, deflate, br"));
+        assertTrue(Negotiation.acceptsGzip("*"));
+        assertFalse(Negotiation.acceptsGzip("gzip;q=0, *"));
+        assertFalse(Negotiation.acceptsGzip("identity"));
+
+        assertTrue(Negotiation.matchesEtag("\"a\", \"b\"", "\"b\""));
+        assertTrue(Negotiation.matchesEtag("W/\"b\"", "\"b\""));
+        assertTrue(Negotiation.matchesEtag("*", "\"b\""));
+        assertFalse(Negotiation.matchesEtag("\"a\"", "\"b\""));
+        assertFalse(Negotiation.matchesEtag(null, "\"b\""));
+    }
+
+    @Test
+    void testDocument() throws Exception {
+        start(OpenApiDocumentHolder.of(document()));
+
+        Response yaml = request("/openapi", null);
+        assertEquals(200, yaml.status);
+        assertEquals("application/yaml;charset=UTF-8", yaml.headers.get(HttpHeaders.CONTENT_TYPE));
+        assertTrue(yaml.text().contains("title: Routes test"), yaml.text());
+        assertNotNull(yaml.headers.get(HttpHeaders.ETAG));
+        assertEquals("Accept, Accept-Encoding", yaml.headers.get(HttpHeaders.VARY));
+
+        Response json = request("/openapi", MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.ACCEPT, "application/json"));
+        assertEquals(200, json.status);
+        assertEquals("application/json;charset=UTF-8", json.headers.get(HttpHeaders.CONTENT_TYPE));
+        assertTrue(json.text().contains("\"title\" : \"Routes test\""), json.text());
+
+        Response query = request("/openapi?format=json", null);
+        assertEquals(json.text(), query.text());
+        assertEquals(json.headers.get(HttpHeaders.ETAG), query.headers.get(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testDocumentConditionalAndCompressed() throws Exception {
+        start(OpenApiDocumentHolder.of(document()));
+
+        Response plain = request("/openapi", null);
+        String etag = plain.headers.get(HttpHeaders.ETAG);
+
+        Response notModified = request("/openapi",
+                MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(304, notModified.status);
+        assertEquals(0, notModified.body.length);
+
+        Response compressed = request("/openapi",
+                MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        assertEquals(200, compressed.status);
+        assertEquals("gzip", compressed.headers.get(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(plain.body, gunzip(compressed.body));
+        assertFalse(etag.equals(compressed.headers.get(HttpHeaders.ETAG)));
+
+        // The tag of the plain representation does not match the compressed one
+        Response modified = request("/openapi", MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .add(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(200, modified.status);
+    }
+
+    @Test
+    void testDocumentPending() throws Exception {
+        CompletableFuture<org.eclipse.microprofile.openapi.models.OpenAPI> model = new CompletableFuture<>();
+        OpenApiRoutes routes = start(new OpenApiDocumentHolder(model, 7));
+
+        Response pending = request("/openapi", null);
+        assertEquals(503, pending.status);
+        assertEquals("7", pending.headers.get(HttpHeaders.RETRY_AFTER));
+
+        model.complete(document());
+        await(routes.getRenderedDocument());
+
+        Response ready = request("/openapi", null);
+        assertEquals(200, ready.status);
+    }
+
+    @Test
+    void testUi() throws Exception {
+        start(OpenApiDocumentHolder.of(document()));
+
+        Response redirect = request("/openapi-ui", null);
+        assertEquals(302, redirect.status);
+        assertEquals("/openapi-ui/", redirect.headers.get(HttpHeaders.LOCATION));
+
+        Response index = request("/openapi-ui/", null);
+        assertEquals(200, index.status);
+        assertEquals("text/html;charset=UTF-8", index.headers.get(HttpHeaders.CONTENT_TYPE));
+        assertEquals(INDEX_HTML, index.text());
+        assertEquals(INDEX_HTML, request("/openapi-ui/index.html", null).text());
+
+        Response script = request("/openapi-ui/ui.js", null);
+        assertEquals(200, script.status);
+        assertEquals("text/javascript;charset=UTF-8", script.headers.get(HttpHeaders.CONTENT_TYPE));
+        assertTrue(script.text().contains("OpenAPI UI"));
+
+        Response notModified = request("/openapi-ui/ui.js",
+                MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.IF_NONE_MATCH, script.headers.get(HttpHeaders.ETAG)));
+        assertEquals(304, notModified.status);
+
+        assertEquals(404, request("/openapi-ui/missing.js", null).status);
+        assertEquals(404, request("/openapi-ui/%2e%2e/secret.txt", null).status);
+        assertEquals(404, request("/openapi-ui/..%5csecret.txt", null).status);
+    }
+
+    @Test
+    void testUiIndexFromClassPath() throws Exception {
+        vertx = Vertx.vertx();
+        OpenApiRoutes routes = OpenApiRoutes.builder(vertx, OpenApiDocumentHolder.of(document())).build();
+
+        RenderedResource index = routes.loadUiResource("index.html");
+        assertEquals("text/html;charset=UTF-8", index.getContentType());
+        assertTrue(index.length() > 0);
+        assertNull(routes.loadUiResource("missing.js"));
+    }
+
+    @Test
+    void testConcurrentRequests() throws Exception {
+        start(OpenApiDocumentHolder.of(document()));
+
+        String etag = request("/openapi?format=json", null).headers.get(HttpHeaders.ETAG);
+        List<Future> responses = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+
+            switch (i % 4) {
+                case 0:
+                    headers.add(HttpHeaders.ACCEPT, "application/json");
+                    break;
+                case 1:
+                    headers.add(HttpHeaders.ACCEPT_ENCODING, "gzip");
+                    break;
+                case 2:
+                    headers.add(HttpHeaders.ACCEPT, "application/json").add(HttpHeaders.IF_NONE_MATCH, etag);
+                    break;
+                default:
+                    break;
+            }
+
+            String uri = i % 10 == 9 ? "/openapi-ui/ui.js" : "/openapi";
+            responses.add(send(uri, headers).map(response -> {
+                int expected = uri.equals("/openapi") && headers.contains(HttpHeaders.IF_NONE_MATCH) ? 304 : 200;
+                assertEquals(expected, response.status, uri);
+                return response;
+            }));
+        }
+
+        await(CompositeFuture.all(responses));
+    }
+
+    private OpenApiRoutes start(OpenApiDocumentHolder document) throws Exception {
+        vertx = Vertx.vertx();
+        client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(32));
+        clientContext = vertx.getOrCreateContext();
+
+        OpenApiRoutes routes = OpenApiRoutes.builder(vertx, document)
+                .uiIndexHtml(INDEX_HTML.getBytes(StandardCharsets.UTF_8))
+                .build();
+        Router router = Router.router(vertx);
+        routes.mount(router);
+
+        server = await(vertx.createHttpServer().requestHandler(router).listen(0));
+
+        if (document.isReady()) {
+            await(routes.getRenderedDocument());
+        }
+
+        return routes;
+    }
+
+    private Response request(String uri, MultiMap headers) throws Exception {
+        return await(send(uri, headers));
+    }
+
+    private Future<Response> send(String uri, MultiMap headers) {
+        // Requests are sent from the context of the client, its responses are then handled before they end
+        Promise<Response> response = Promise.promise();
+        clientContext.runOnContext(v -> exchange(uri, headers).onComplete(response));
+        return response.future();
+    }
+
+    private Future<Response> exchange(String uri, MultiMap headers) {
+        return client.request(HttpMethod.GET, server.actualPort(), "localhost", uri)
+                .compose(request -> {
+                    if (headers != null) {
+                        request.headers().addAll(headers);
+                    }
+                    return request.send();
+                })
+                .compose(response -> response.body()
+                        .map(body -> new Response(response.statusCode(), response.headers(), body.getBytes())));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+    }
+
+    private static org.eclipse.microprofile.openapi.models.OpenAPI document() {
+        StringBuilder description = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            description.append("Compressible description of the API. ");
+        }
+
+        return new OpenAPIImpl()
+                .openapi("3.0.3")
+                .info(new InfoImpl().title("Routes test").version("1.0").description(description.toString()));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) >= 0;) {
+                out.write(buffer, 0, read);
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    static class Response {
+        final int status;
+        final MultiMap headers;
+        final byte[] body;
+
+        Response(int status, MultiMap headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        String text() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+window.onload = function () {
+    document.getElementById("openapi-ui").textContent = "OpenAPI UI";
+};